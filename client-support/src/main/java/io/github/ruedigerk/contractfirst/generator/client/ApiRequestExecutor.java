@@ -10,6 +10,8 @@ import io.github.ruedigerk.contractfirst.generator.client.internal.MultipartRequ
 import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
 import io.github.ruedigerk.contractfirst.generator.client.internal.OperationRequestBody;
 import io.github.ruedigerk.contractfirst.generator.client.internal.Parameter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ByteArrayGsonTypeAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ByteBufferGsonTypeAdapter;
 import io.github.ruedigerk.contractfirst.generator.support.gson.LocalDateGsonTypeAdapter;
 import io.github.ruedigerk.contractfirst.generator.support.gson.OffsetDateTimeGsonTypeAdapter;
 import okhttp3.FormBody;
@@ -31,6 +33,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.Collection;
@@ -110,6 +113,8 @@ public class ApiRequestExecutor {
     return new GsonBuilder()
         .registerTypeAdapter(LocalDate.class, new LocalDateGsonTypeAdapter())
         .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeGsonTypeAdapter())
+        .registerTypeAdapter(byte[].class, new ByteArrayGsonTypeAdapter())
+        .registerTypeHierarchyAdapter(ByteBuffer.class, new ByteBufferGsonTypeAdapter())
         .create();
   }
 
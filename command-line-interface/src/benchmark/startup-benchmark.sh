@@ -0,0 +1,66 @@
+#!/bin/sh
+#
+# Benchmark of the startup of the command line interface distribution, comparing cold runs with and without the AppCDS archive.
+#
+# Not run as part of the build. Build the module with a JDK 13+ first, then run this script from the directory of the command-line-interface module:
+#
+#   sh src/benchmark/startup-benchmark.sh [runs]
+#
+# Each run starts a new JVM and generates the client for the minimal contract of the integration tests, which is dominated by loading classes.
+
+set -e
+
+runs=${1:-10}
+launcher=target/distribution/bin/contractfirst-generator
+contract=../integration-test/src/test/contract/minimal.yaml
+output_dir=target/startup-benchmark
+
+if [ ! -x "$launcher" ]; then
+  echo "Launcher $launcher not found, build the module first" >&2
+  exit 1
+fi
+if [ ! -f target/distribution/lib/contractfirst-generator-cli.jsa ]; then
+  echo "Warning: No AppCDS archive found, both variants run without it" >&2
+fi
+
+now_millis() {
+  # date +%3N is a GNU extension, fall back to Python elsewhere.
+  ms=$(date +%s%3N)
+  case "$ms" in
+    *N) python3 -c 'import time; print(int(time.time() * 1000))' ;;
+    *) echo "$ms" ;;
+  esac
+}
+
+measure() {
+  appcds=$1
+  total=0
+  min=
+
+  # One run that is not measured, to warm up the file system cache.
+  CONTRACTFIRST_GENERATOR_APPCDS=$appcds "$launcher" --quiet --generator client --input-contract-file "$contract" --output-dir "$output_dir" \
+    --output-java-base-package benchmark
+
+  i=0
+  while [ "$i" -lt "$runs" ]; do
+    start=$(now_millis)
+    CONTRACTFIRST_GENERATOR_APPCDS=$appcds "$launcher" --quiet --generator client --input-contract-file "$contract" --output-dir "$output_dir" \
+      --output-java-base-package benchmark
+    elapsed=$(($(now_millis) - start))
+
+    total=$((total + elapsed))
+    if [ -z "$min" ] || [ "$elapsed" -lt "$min" ]; then
+      min=$elapsed
+    fi
+    i=$((i + 1))
+  done
+
+  echo "$((total / runs)) $min"
+}
+
+without=$(measure false)
+with=$(measure true)
+
+echo "Startup of the command line interface, $runs cold runs each:"
+printf "  %-20s average %6s ms, minimum %6s ms\n" "without AppCDS" ${without}
+printf "  %-20s average %6s ms, minimum %6s ms\n" "with AppCDS" ${with}
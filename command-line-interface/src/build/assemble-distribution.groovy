@@ -0,0 +1,74 @@
+/*
+ * Assembles the distribution of the command line interface in target/distribution and creates the AppCDS archive for it.
+ *
+ * The dependencies are copied to target/distribution/lib by the maven-dependency-plugin beforehand. This script adds the JAR of this module and the
+ * launcher script. Then, if the JDK running the build supports dynamic AppCDS archives (JDK 13+), it runs a training generation with the contracts of the
+ * integration tests and archives the classes loaded by it. The archive can only be used by the same JDK, so the java home of the training run is recorded
+ * next to it, for the launcher to check.
+ */
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.nio.file.StandardCopyOption
+import java.util.concurrent.TimeUnit
+
+Path basedir = project.basedir.toPath()
+Path distributionDir = Paths.get(project.build.directory, "distribution")
+Path libDir = distributionDir.resolve("lib")
+Path binDir = distributionDir.resolve("bin")
+Path jar = libDir.resolve("contractfirst-generator-cli.jar")
+Path archive = libDir.resolve("contractfirst-generator-cli.jsa")
+Path archiveJavaHome = libDir.resolve("contractfirst-generator-cli.jsa.java-home")
+
+Files.createDirectories(binDir)
+Files.copy(project.artifact.file.toPath(), jar, StandardCopyOption.REPLACE_EXISTING)
+
+Path launcher = binDir.resolve("contractfirst-generator")
+Files.copy(basedir.resolve("src/main/distribution/bin/contractfirst-generator"), launcher, StandardCopyOption.REPLACE_EXISTING)
+launcher.toFile().setExecutable(true, false)
+
+Files.deleteIfExists(archive)
+Files.deleteIfExists(archiveJavaHome)
+
+if (Boolean.parseBoolean(appcdsSkip)) {
+  log.info("Skipping creation of the AppCDS archive")
+  return
+}
+
+int javaVersion = System.getProperty("java.specification.version").replaceFirst(/^1\./, "").toInteger()
+if (javaVersion < 13) {
+  log.info("Skipping creation of the AppCDS archive, as it needs JDK 13 or later, but the build runs with JDK $javaVersion")
+  return
+}
+
+Path javaHome = Paths.get(System.getProperty("java.home")).toRealPath()
+Path trainingLog = Paths.get(project.build.directory, "appcds", "training.log")
+Files.createDirectories(trainingLog.parent)
+
+// The archive records the class path, so the training run uses the same canonical JAR path as the launcher.
+List<String> command = [
+    javaHome.resolve("bin/java").toString(),
+    "-XX:ArchiveClassesAtExit=" + archive,
+    "-jar", jar.toRealPath().toString(),
+    "--manifest-file", "src/build/appcds-training-manifest.txt",
+    "--quiet"
+]
+
+log.info("Creating AppCDS archive with a training generation: $archive")
+
+Process process = new ProcessBuilder(command)
+    .directory(basedir.toFile())
+    .redirectErrorStream(true)
+    .redirectOutput(trainingLog.toFile())
+    .start()
+
+if (!process.waitFor(5, TimeUnit.MINUTES)) {
+  process.destroyForcibly()
+  throw new IllegalStateException("Training generation for the AppCDS archive timed out, see $trainingLog")
+}
+if (process.exitValue() != 0 || !Files.exists(archive)) {
+  throw new IllegalStateException("Training generation for the AppCDS archive failed with exit code ${process.exitValue()}, see $trainingLog")
+}
+
+Files.write(archiveJavaHome, [javaHome.toString()])
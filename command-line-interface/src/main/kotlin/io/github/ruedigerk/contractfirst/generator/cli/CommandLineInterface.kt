@@ -1,12 +1,16 @@
 package io.github.ruedigerk.contractfirst.generator.cli
 
 import com.xenomachina.argparser.ArgParser
+import com.xenomachina.argparser.SystemExitException
 import com.xenomachina.argparser.default
 import io.github.ruedigerk.contractfirst.generator.*
 import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
 import io.github.ruedigerk.contractfirst.generator.logging.Slf4jLogAdapter
 import org.slf4j.LoggerFactory
 import java.io.File
+import java.io.IOException
+import java.io.StringWriter
 import kotlin.system.exitProcess
 
 /**
@@ -14,27 +18,163 @@ import kotlin.system.exitProcess
  */
 object CommandLineInterface {
 
-  private val logAdapter = Slf4jLogAdapter(LoggerFactory.getLogger("Contractfirst-Generator"))
-  private val log = Log(logAdapter)
+  private val logAdapter by lazy { Slf4jLogAdapter(LoggerFactory.getLogger("Contractfirst-Generator")) }
 
   @JvmStatic
   fun main(args: Array<String>) {
+    // The client of the daemon does not parse the arguments, so that it does not load more classes than necessary.
+    val clientOptions = try {
+      DaemonClient.Options.extract(args)
+    } catch (e: IllegalArgumentException) {
+      Log(logAdapter).error { "Parameters invalid: ${e.message}" }
+      exitProcess(1)
+    }
+    if (clientOptions != null) {
+      val exitCode = DaemonClient(clientOptions.port) { logAdapter }.forward(clientOptions)
+      exitIfFailed(exitCode ?: runLocally(clientOptions.remainingArgs))
+      return
+    }
+
+    if (args.contains("--daemon")) {
+      runDaemon(args)
+      return
+    }
+
+    exitIfFailed(runLocally(args))
+  }
+
+  private fun runLocally(args: Array<String>): Int = CliRunner(File("").absoluteFile) { verbosity ->
+    // Initializing the log adapter configures Logback, before the verbosity can be applied.
+    logAdapter.also { LogbackConfigurator.applyLoggingVerbosity(verbosity) }
+  }.run(args)
+
+  private fun runDaemon(args: Array<String>) {
+    val log = Log(logAdapter)
+    val cliConfig = try {
+      ArgParser(args).parseInto(::CliConfiguration)
+    } catch (e: InvalidConfigurationException) {
+      log.error { "Parameters invalid: ${e.message}" }
+      exitProcess(1)
+    }
+
+    LogbackConfigurator.applyLoggingVerbosity(toLoggingVerbosity(cliConfig))
+
+    try {
+      GeneratorDaemon(cliConfig.daemonPort, logAdapter).serve()
+    } catch (e: IOException) {
+      log.error { "Generator daemon failed: ${e.message}" }
+      exitProcess(1)
+    }
+  }
+
+  private fun exitIfFailed(exitCode: Int) {
+    if (exitCode != 0) {
+      exitProcess(exitCode)
+    }
+  }
+}
+
+/**
+ * Runs the code generator for the arguments of one invocation of the CLI, either in the process of the CLI or in the generator daemon. Relative paths are
+ * resolved against the supplied working directory. The log adapter is requested from the supplied function, as soon as the verbosity is known.
+ */
+internal class CliRunner(
+    private val workingDirectory: File,
+    private val logAdapterForVerbosity: (LoggingVerbosity) -> LogAdapter,
+) {
+
+  private var logAdapter: LogAdapter = logAdapterForVerbosity(LoggingVerbosity.NORMAL)
+  private var log = Log(logAdapter)
+
+  /**
+   * Runs the generator and returns the exit code of the invocation.
+   */
+  fun run(args: Array<String>): Int = try {
     val cliConfig = readConfiguration(args)
 
-    val verbosity = toLoggingVerbosity(cliConfig)
-    LogbackConfigurator.applyLoggingVerbosity(verbosity)
+    logAdapter = logAdapterForVerbosity(toLoggingVerbosity(cliConfig))
+    log = Log(logAdapter)
 
-    log.info { "Generating code for contract '${cliConfig.inputContractFile}' in output directory '${cliConfig.outputDir}', package '${cliConfig.outputJavaBasePackage}'" }
+    if (cliConfig.manifestFile != null) {
+      generateAll(readManifest(cliConfig.manifestFile!!), cliConfig.parallelism)
+    } else {
+      log.info { "Generating code for contract '${cliConfig.inputContractFile}' in output directory '${cliConfig.outputDir}', package '${cliConfig.outputJavaBasePackage}'" }
 
-    val generatorConfig = mapToConfiguration(cliConfig)
-    generate(generatorConfig)
+      val generatorConfig = mapToConfiguration(cliConfig)
+      generate(generatorConfig)
+    }
+
+    0
+  } catch (e: CliExitException) {
+    e.exitCode
   }
 
   private fun readConfiguration(args: Array<String>): CliConfiguration {
     return try {
-      ArgParser(args).parseInto(::CliConfiguration)
+      ArgParser(args).parseInto(::CliConfiguration).also {
+        if (it.daemon) {
+          throw InvalidConfigurationException("Option --daemon must not be used together with --use-daemon")
+        }
+      }
     } catch (e: InvalidConfigurationException) {
       exit(1) { "Parameters invalid: ${e.message}" }
+    } catch (e: SystemExitException) {
+      val message = StringWriter().also { e.printUserMessage(it, "contractfirst-generator", 120) }.toString().trimEnd()
+      if (e.returnCode == 0) {
+        log.info { message }
+        throw CliExitException(0)
+      }
+      exit(e.returnCode) { message }
+    }
+  }
+
+  /**
+   * Reads the contracts of a manifest file. Each line of a manifest file contains the options for one contract, like on the command line. Empty lines and
+   * lines starting with # are ignored.
+   */
+  private fun readManifest(manifestFile: String): List<Configuration> {
+    val lines = try {
+      resolve(manifestFile).readLines()
+    } catch (e: IOException) {
+      exit(1) { "Could not read manifest file '$manifestFile': ${e.message}" }
+    }
+
+    return lines.withIndex()
+        .filter { (_, line) -> line.isNotBlank() && !line.trimStart().startsWith("#") }
+        .map { (index, line) -> mapToConfiguration(readManifestLine(manifestFile, index + 1, line)) }
+  }
+
+  private fun readManifestLine(manifestFile: String, lineNumber: Int, line: String): CliConfiguration {
+    return try {
+      ArgParser(splitArguments(line)).parseInto(::CliConfiguration).also {
+        if (it.manifestFile != null) {
+          throw InvalidConfigurationException("Option --manifest-file must not be used in a manifest file")
+        }
+      }
+    } catch (e: InvalidConfigurationException) {
+      exit(1) { "Line $lineNumber of manifest file '$manifestFile' is invalid: ${e.message}" }
+    } catch (e: SystemExitException) {
+      exit(1) { "Line $lineNumber of manifest file '$manifestFile' is invalid: ${e.message}" }
+    }
+  }
+
+  /**
+   * Splits a line of a manifest file into arguments at whitespace. Arguments containing whitespace can be enclosed in double quotes.
+   */
+  private fun splitArguments(line: String): Array<String> = Regex("\"([^\"]*)\"|(\\S+)").findAll(line)
+      .map { it.groupValues[1].ifEmpty { it.groupValues[2] } }
+      .toList()
+      .toTypedArray()
+
+  private fun generateAll(configs: List<Configuration>, parallelism: Int) {
+    log.info { "Generating code for ${configs.size} contracts of the manifest file" }
+
+    try {
+      ContractfirstGenerator(logAdapter).generateAll(configs, parallelism)
+    } catch (e: BatchGenerationException) {
+      exit(5) { e.message!! }
+    } catch (e: io.github.ruedigerk.contractfirst.generator.InvalidConfigurationException) {
+      exit(4) { "Invalid configuration ${e.message}" }
     }
   }
 
@@ -45,18 +185,20 @@ object CommandLineInterface {
       exit(2) { "Could not parse contract: ${e.message}" }
     } catch (e: NotSupportedException) {
       exit(3) { "Contract contains unsupported usage: ${e.message}" }
-    } catch (e: InvalidConfigurationException) {
+    } catch (e: io.github.ruedigerk.contractfirst.generator.InvalidConfigurationException) {
       exit(4) { "Invalid configuration ${e.message}" }
     }
   }
 
   private fun exit(errorCode: Int, msg: () -> String): Nothing {
     log.error(msg)
-    exitProcess(errorCode)
+    throw CliExitException(errorCode)
   }
 
+  private fun resolve(path: String): File = File(path).let { if (it.isAbsolute) it else File(workingDirectory, path) }
+
   private fun mapToConfiguration(cliConfiguration: CliConfiguration): Configuration {
-    val effectiveInputContractFile = determineInputContractFile(cliConfiguration.inputContractFile)
+    val effectiveInputContractFile = determineInputContractFile(cliConfiguration.inputContractFile!!)
     val effectiveOutputJavaPackageSchemaDirectoryPrefix = determineOutputJavaPackageSchemaDirectoryPrefix(
         effectiveInputContractFile,
         cliConfiguration.outputJavaPackageSchemaDirectoryPrefix
@@ -64,58 +206,82 @@ object CommandLineInterface {
 
     return Configuration(
         effectiveInputContractFile,
-        determineGenerator(cliConfiguration.generator),
-        cliConfiguration.outputDir,
+        determineGenerator(cliConfiguration.generator!!),
+        resolve(cliConfiguration.outputDir!!).path,
         cliConfiguration.outputContract,
         cliConfiguration.outputContractFile,
-        cliConfiguration.outputJavaBasePackage,
+        cliConfiguration.outputJavaBasePackage!!,
         cliConfiguration.outputJavaPackageMirrorsSchemaDirectory,
         effectiveOutputJavaPackageSchemaDirectoryPrefix,
         cliConfiguration.outputJavaModelNamePrefix,
-        cliConfiguration.outputJavaModelUseJsr305NullabilityAnnotations
+        cliConfiguration.outputJavaModelUseJsr305NullabilityAnnotations,
+        cliConfiguration.inputContractLazyLoading,
+        cliConfiguration.outputJavaModelDeduplicateInlineSchemas,
+        cliConfiguration.outputJavaModelImmutable,
+        cliConfiguration.outputJavaModelUsePrimitiveTypes,
+        cliConfiguration.outputJavaModelLazyCollections,
+        cliConfiguration.outputJavaUnformattedNumbersAsDoubleAndLong,
+        cliConfiguration.outputJavaModelValidateMethods,
+        cliConfiguration.outputJavaModelByteBuffers,
+        cliConfiguration.outputJavaServerAsyncMethods,
+        cliConfiguration.incrementalGeneration
     )
   }
 
-  private fun determineInputContractFile(inputContractFile: String): String = File(inputContractFile).canonicalPath
+  private fun determineInputContractFile(inputContractFile: String): String = resolve(inputContractFile).canonicalPath
 
   private fun determineOutputJavaPackageSchemaDirectoryPrefix(inputContractFile: String, outputJavaPackageSchemaDirectoryPrefix: String?): String =
-      outputJavaPackageSchemaDirectoryPrefix?.let { File(it).absolutePath }
+      outputJavaPackageSchemaDirectoryPrefix?.let { resolve(it).absolutePath }
           ?: File(inputContractFile).let { if (it.isDirectory) it.path else it.parent }
 
   private fun determineGenerator(generator: String): GeneratorType = when (generator) {
     "client" -> GeneratorType.CLIENT
     "server" -> GeneratorType.SERVER
+    "spring-webflux" -> GeneratorType.SPRING_WEBFLUX
+    "router" -> GeneratorType.ROUTER
     "model-only" -> GeneratorType.MODEL_ONLY
-    else -> throw InvalidConfigurationException("Option --generator has invalid value: '$generator', allowed values are 'client', 'server'")
+    else -> throw InvalidConfigurationException("Option --generator has invalid value: '$generator', allowed values are 'client', 'server', 'spring-webflux', 'router', 'model-only'")
   }
 
-  private fun toLoggingVerbosity(config: CliConfiguration): LoggingVerbosity = when {
-    config.verbose -> LoggingVerbosity.VERBOSE
-    config.quiet -> LoggingVerbosity.QUIET
-    else -> LoggingVerbosity.NORMAL
-  }
 }
 
+private fun toLoggingVerbosity(config: CliConfiguration): LoggingVerbosity = when {
+  config.verbose -> LoggingVerbosity.VERBOSE
+  config.quiet -> LoggingVerbosity.QUIET
+  else -> LoggingVerbosity.NORMAL
+}
+
+/**
+ * Thrown for ending an invocation of the CLI with the supplied exit code.
+ */
+private class CliExitException(val exitCode: Int) : RuntimeException(null, null, false, false)
+
 private class CliConfiguration(parser: ArgParser) {
 
-  val inputContractFile: String by parser.storing(
+  val inputContractFile: String? by parser.storing(
       "--input-contract-file",
-      help = "the path to the file containing the OpenAPI contract to use as input; in case of the model-only generator, this should point to a single JSON-Schema file in YAML or JSON format or to a directory, which is recursively searched for JSON-Schema files"
-  )
+      help = "the path to the file containing the OpenAPI contract to use as input; in case of the model-only generator, this should point to a single JSON-Schema file in YAML or JSON format or to a directory, which is recursively searched for JSON-Schema files; required, unless --manifest-file is used"
+  ).default<String?>(null)
 
-  val generator: String by parser.storing(
+  val generator: String? by parser.storing(
       "--generator",
-      help = "the type of generator to use for code generation; allowed values are: \"server\", \"client\", \"model-only\""
-  )
+      help = "the type of generator to use for code generation; allowed values are: \"server\", \"client\", \"spring-webflux\", \"router\", \"model-only\"; required, unless --manifest-file is used"
+  ).default<String?>(null)
 
-  val outputDir: String by parser.storing("--output-dir", help = "the path to the directory where the generated code is written to")
+  val outputDir: String? by parser.storing(
+      "--output-dir",
+      help = "the path to the directory where the generated code is written to; required, unless --manifest-file is used"
+  ).default<String?>(null)
 
   val outputContract: Boolean by parser.flagging("--output-contract", help = "whether to output the parsed contract as an all-in-one contract").default(true)
 
   val outputContractFile: String by parser.storing("--output-contract-file", help = "the location to output the 'all in one' contract file to")
       .default("openapi.yaml")
 
-  val outputJavaBasePackage: String by parser.storing("--output-java-base-package", help = "the Java package to put generated classes into")
+  val outputJavaBasePackage: String? by parser.storing(
+      "--output-java-base-package",
+      help = "the Java package to put generated classes into; required, unless --manifest-file is used"
+  ).default<String?>(null)
 
   val outputJavaPackageMirrorsSchemaDirectory: Boolean by parser.flagging(
       "--output-java-package-mirrors-schema-directory",
@@ -125,7 +291,7 @@ private class CliConfiguration(parser: ArgParser) {
   val outputJavaPackageSchemaDirectoryPrefix: String? by parser.storing(
       "--output-java-package-schema-directory-prefix",
       help = "the path prefix to cut from the schema file directories when determining Java packages for model files; defaults to the directory of the inputContractFile; this is only used, when outputJavaPackageMirrorsSchemaDirectory is true"
-  )
+  ).default<String?>(null)
 
   val outputJavaModelNamePrefix: String by parser.storing("--output-java-model-name-prefix", help = "the prefix for Java model class names").default("")
 
@@ -134,6 +300,85 @@ private class CliConfiguration(parser: ArgParser) {
       help = "whether to generate JSR-305 nullability annotations for the getter and setter methods of the model classes"
   )
 
+  val inputContractLazyLoading: Boolean by parser.flagging(
+      "--input-contract-lazy-loading",
+      help = "whether to only load the parts of the contract files into memory that are used for code generation; examples and specification extensions are skipped"
+  )
+
+  val outputJavaModelDeduplicateInlineSchemas: Boolean by parser.flagging(
+      "--output-java-model-deduplicate-inline-schemas",
+      help = "whether to generate a single model class for inline schemas that are structurally identical, instead of one class per inline schema"
+  )
+
+  val outputJavaModelImmutable: Boolean by parser.flagging(
+      "--output-java-model-immutable",
+      help = "whether to generate the model classes as final, immutable classes with an all-args constructor instead of mutable beans"
+  )
+
+  val outputJavaModelUsePrimitiveTypes: Boolean by parser.flagging(
+      "--output-java-model-use-primitive-types",
+      help = "whether to use primitive types instead of wrapper types for required boolean, int32, int64, float and double properties of model classes"
+  )
+
+  val outputJavaModelLazyCollections: Boolean by parser.flagging(
+      "--output-java-model-lazy-collections",
+      help = "whether collection fields of mutable model classes are only allocated when the first element is added, instead of when the object is created"
+  )
+
+  val outputJavaUnformattedNumbersAsDoubleAndLong: Boolean by parser.flagging(
+      "--output-java-unformatted-numbers-as-double-and-long",
+      help = "whether to map schemas of type number without a format to Double and schemas of type integer without a format to Long, instead of BigDecimal and BigInteger; can be overridden per schema with extension x-contractfirst-arbitrary-precision"
+  )
+
+  val outputJavaModelValidateMethods: Boolean by parser.flagging(
+      "--output-java-model-validate-methods",
+      help = "whether to generate validate methods in model classes, which check the constraints of the schemas without reflection"
+  )
+
+  val outputJavaModelByteBuffers: Boolean by parser.flagging(
+      "--output-java-model-byte-buffers",
+      help = "whether to map string schemas of format byte (Base64 encoded binary data) to ByteBuffer instead of byte[]"
+  )
+
+  val outputJavaServerAsyncMethods: Boolean by parser.flagging(
+      "--output-java-server-async-methods",
+      help = "whether the methods of the generated server stubs return a CompletionStage of their response class, for implementing them asynchronously"
+  )
+
+  val incrementalGeneration: Boolean by parser.flagging(
+      "--incremental-generation",
+      help = "whether to generate incrementally, based on the state of the previous generation kept in the output directory; only the schema files that changed and the schemas depending on them are parsed again, and only the model files whose content changed are written"
+  )
+
+  val manifestFile: String? by parser.storing(
+      "--manifest-file",
+      help = "the path to a manifest file for generating code for several contracts in one run, instead of a single contract; each line of the manifest file contains the options for one contract, like on the command line; schema files referenced by several contracts are parsed only once"
+  ).default<String?>(null)
+
+  val parallelism: Int by parser.storing(
+      "--parallelism",
+      help = "the maximum number of contracts of the manifest file that are generated concurrently; defaults to the number of available processors"
+  ) { toInt() }.default(Runtime.getRuntime().availableProcessors())
+
+  val daemon: Boolean by parser.flagging(
+      "--daemon",
+      help = "run as a generator daemon, that keeps running and generates code for the invocations of the CLI with the option --use-daemon, saving the startup time of the JVM for each of them; it listens on the loopback interface only"
+  )
+
+  val daemonPort: Int by parser.storing(
+      "--daemon-port",
+      help = "the port of the generator daemon; defaults to ${DaemonProtocol.DEFAULT_PORT}"
+  ) { toInt() }.default(DaemonProtocol.DEFAULT_PORT)
+
+  @Suppress("unused") // Handled by DaemonClient, declared for the help text.
+  val useDaemon: Boolean by parser.flagging(
+      "--use-daemon",
+      help = "let the generator daemon generate the code, streaming back its output; when no daemon is running, the code is generated by this process"
+  )
+
+  @Suppress("unused") // Handled by DaemonClient, declared for the help text.
+  val stopDaemon: Boolean by parser.flagging("--stop-daemon", help = "stop the generator daemon")
+
   val verbose: Boolean by parser.flagging("--verbose", "-v", help = "verbose output")
 
   val quiet: Boolean by parser.flagging("--quiet", "-q", help = "quiet output")
@@ -142,6 +387,27 @@ private class CliConfiguration(parser: ArgParser) {
     if (verbose && quiet) {
       throw InvalidConfigurationException("Options -q (--quiet) and -v (--verbose) must not be used together")
     }
+
+    val contractOptions = mapOf(
+        "--input-contract-file" to inputContractFile,
+        "--generator" to generator,
+        "--output-dir" to outputDir,
+        "--output-java-base-package" to outputJavaBasePackage
+    )
+
+    if (daemon) {
+      (contractOptions + ("--manifest-file" to manifestFile)).filterValues { it != null }.keys.firstOrNull()?.let {
+        throw InvalidConfigurationException("Option $it must not be used together with --daemon")
+      }
+    } else if (manifestFile != null) {
+      contractOptions.filterValues { it != null }.keys.firstOrNull()?.let {
+        throw InvalidConfigurationException("Option $it must not be used together with --manifest-file")
+      }
+    } else {
+      contractOptions.filterValues { it == null }.keys.firstOrNull()?.let {
+        throw InvalidConfigurationException("Option $it is required")
+      }
+    }
   }
 }
 
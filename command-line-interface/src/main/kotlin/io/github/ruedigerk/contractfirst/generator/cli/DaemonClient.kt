@@ -0,0 +1,118 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.IOException
+import java.net.ConnectException
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.Socket
+
+/**
+ * The thin client of the generator daemon, forwarding the arguments of an invocation of the CLI to the daemon and printing its output. The log adapter is
+ * only requested when there is something to log, as initializing the logging would slow down the start of the client.
+ */
+internal class DaemonClient(private val port: Int, logAdapter: () -> LogAdapter) {
+
+  private val log by lazy { Log(logAdapter()) }
+
+  /**
+   * Returns the exit code of the invocation, or null, when no daemon is running on the port.
+   */
+  fun forward(options: Options): Int? {
+    val token = DaemonProtocol.readToken(port) ?: return notRunning(options)
+
+    return try {
+      Socket().use { socket ->
+        socket.connect(InetSocketAddress(InetAddress.getLoopbackAddress(), port), CONNECT_TIMEOUT_MILLIS)
+
+        val output = DataOutputStream(BufferedOutputStream(socket.getOutputStream()))
+        DaemonProtocol.writeString(output, token)
+
+        if (options.stop) {
+          DaemonProtocol.writeString(output, DaemonProtocol.COMMAND_STOP)
+        } else {
+          DaemonProtocol.writeString(output, DaemonProtocol.COMMAND_RUN)
+          DaemonProtocol.writeString(output, File("").absolutePath)
+          output.writeInt(options.remainingArgs.size)
+          options.remainingArgs.forEach { DaemonProtocol.writeString(output, it) }
+        }
+        output.flush()
+
+        readResponse(DataInputStream(BufferedInputStream(socket.getInputStream())))
+      }
+    } catch (e: ConnectException) {
+      notRunning(options)
+    } catch (e: IOException) {
+      log.error { "Connection to the generator daemon on port $port failed: ${e.message}" }
+      1
+    }
+  }
+
+  private fun readResponse(input: DataInputStream): Int {
+    while (true) {
+      when (input.readByte()) {
+        DaemonProtocol.FRAME_OUTPUT -> print(DaemonProtocol.readString(input))
+        DaemonProtocol.FRAME_EXIT -> return input.readInt()
+        else -> throw IOException("Invalid response from the generator daemon")
+      }
+    }
+  }
+
+  private fun notRunning(options: Options): Int? {
+    if (options.stop) {
+      log.info { "No generator daemon is running on port $port" }
+      return 0
+    }
+
+    log.warn { "No generator daemon is running on port $port, generating code in this process" }
+    return null
+  }
+
+  /**
+   * The options of the client, extracted from the arguments of the CLI without parsing the other arguments.
+   */
+  class Options(val port: Int, val stop: Boolean, val remainingArgs: Array<String>) {
+
+    companion object {
+
+      /**
+       * Returns the options of the client, or null when the CLI is not invoked as a client of the daemon.
+       */
+      fun extract(args: Array<String>): Options? {
+        if (!args.contains("--use-daemon") && !args.contains("--stop-daemon")) {
+          return null
+        }
+
+        var port = DaemonProtocol.DEFAULT_PORT
+        val remainingArgs = mutableListOf<String>()
+        var index = 0
+
+        while (index < args.size) {
+          val arg = args[index]
+          when {
+            arg == "--use-daemon" || arg == "--stop-daemon" -> {}
+            arg == "--daemon-port" && index + 1 < args.size -> port = parsePort(args[++index])
+            arg.startsWith("--daemon-port=") -> port = parsePort(arg.substringAfter('='))
+            else -> remainingArgs.add(arg)
+          }
+          index++
+        }
+
+        return Options(port, args.contains("--stop-daemon"), remainingArgs.toTypedArray())
+      }
+
+      private fun parsePort(value: String): Int = value.toIntOrNull() ?: throw IllegalArgumentException("Option --daemon-port has invalid value: '$value'")
+    }
+  }
+
+  private companion object {
+
+    const val CONNECT_TIMEOUT_MILLIS = 2000
+  }
+}
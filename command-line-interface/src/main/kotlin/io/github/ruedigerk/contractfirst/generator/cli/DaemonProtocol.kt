@@ -0,0 +1,103 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.IOException
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.Files
+import java.nio.file.attribute.PosixFilePermissions
+import java.security.SecureRandom
+
+/**
+ * The protocol between the generator daemon and its clients on the loopback interface.
+ *
+ * A client sends the secret token of the daemon, which is stored in a file only readable by the user, a command, and for RUN its working directory and its
+ * arguments. The daemon answers with a sequence of frames containing the log output, ending with a frame containing the exit code.
+ */
+internal object DaemonProtocol {
+
+  const val DEFAULT_PORT = 17300
+
+  const val COMMAND_RUN = "RUN"
+  const val COMMAND_STOP = "STOP"
+
+  const val FRAME_OUTPUT: Byte = 1
+  const val FRAME_EXIT: Byte = 2
+
+  /**
+   * The length of the token, 32 random bytes in hex, which is also the maximum length of the first string a daemon reads from an unauthenticated client.
+   */
+  const val TOKEN_LENGTH = 64
+
+  /**
+   * Creates a new token for the daemon on the supplied port and writes it to the token file.
+   */
+  fun createToken(port: Int): String {
+    val bytes = ByteArray(TOKEN_LENGTH / 2).also { SecureRandom().nextBytes(it) }
+    val token = bytes.joinToString("") { "%02x".format(it) }
+    val file = tokenFile(port)
+
+    file.parentFile.mkdirs()
+    file.delete()
+    Files.createFile(file.toPath())
+    restrictToOwner(file)
+    file.writeText(token, UTF_8)
+
+    return token
+  }
+
+  /**
+   * Reads the token of the daemon on the supplied port, or returns null when there is no daemon running.
+   */
+  fun readToken(port: Int): String? = tokenFile(port).takeIf { it.isFile }?.readText(UTF_8)
+
+  fun deleteToken(port: Int) {
+    tokenFile(port).delete()
+  }
+
+  private fun tokenFile(port: Int) = File(System.getProperty("user.home"), ".contractfirst-generator/daemon-$port.token")
+
+  private fun restrictToOwner(file: File) {
+    try {
+      Files.setPosixFilePermissions(file.toPath(), PosixFilePermissions.fromString("rw-------"))
+    } catch (e: UnsupportedOperationException) {
+      // Not a POSIX file system, fall back to the permissions of the user's home directory.
+      file.setReadable(false, false)
+      file.setReadable(true, true)
+    }
+  }
+
+  /**
+   * Writes a frame with output of an invocation.
+   */
+  @Throws(IOException::class)
+  fun writeFrame(output: DataOutputStream, text: String) {
+    output.writeByte(FRAME_OUTPUT.toInt())
+    writeString(output, text)
+  }
+
+  /**
+   * Strings are written with their length, as DataOutputStream.writeUTF is limited to 64 KiB.
+   */
+  @Throws(IOException::class)
+  fun writeString(output: DataOutputStream, value: String) {
+    val bytes = value.toByteArray(UTF_8)
+    output.writeInt(bytes.size)
+    output.write(bytes)
+  }
+
+  /**
+   * Reads a string, rejecting strings longer than the supplied maximum length in bytes before reading them.
+   */
+  @Throws(IOException::class)
+  fun readString(input: DataInputStream, maxLength: Int = MAX_STRING_LENGTH): String {
+    val length = input.readInt()
+    if (length < 0 || length > maxLength) {
+      throw IOException("Invalid string length: $length")
+    }
+    return ByteArray(length).also { input.readFully(it) }.toString(UTF_8)
+  }
+
+  private const val MAX_STRING_LENGTH = 16 * 1024 * 1024
+}
@@ -0,0 +1,52 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
+import java.io.DataOutputStream
+import java.io.IOException
+import java.io.PrintWriter
+import java.io.StringWriter
+
+/**
+ * LogAdapter of the generator daemon, forwarding the log output of an invocation to its client, formatted like the LoggingLayout of the CLI.
+ */
+internal class ForwardingLogAdapter(private val verbosity: LoggingVerbosity, private val output: DataOutputStream) : LogAdapter {
+
+  override fun isDebugEnabled(): Boolean = verbosity == LoggingVerbosity.VERBOSE
+
+  override fun debug(msg: String) = forward("", msg, null)
+
+  override fun debug(msg: String, error: Throwable) = forward("", msg, error)
+
+  override fun isInfoEnabled(): Boolean = verbosity != LoggingVerbosity.QUIET
+
+  override fun info(msg: String) = forward("", msg, null)
+
+  override fun info(msg: String, error: Throwable) = forward("", msg, error)
+
+  override fun isWarnEnabled(): Boolean = true
+
+  override fun warn(msg: String) = forward("Warning: ", msg, null)
+
+  override fun warn(msg: String, error: Throwable) = forward("Warning: ", msg, error)
+
+  override fun isErrorEnabled(): Boolean = true
+
+  override fun error(msg: String) = forward("Error: ", msg, null)
+
+  override fun error(msg: String, error: Throwable) = forward("Error: ", msg, error)
+
+  private fun forward(prefix: String, msg: String, error: Throwable?) {
+    val text = StringWriter()
+    text.append(prefix).append(msg).append(System.lineSeparator())
+    error?.printStackTrace(PrintWriter(text))
+
+    try {
+      synchronized(output) {
+        DaemonProtocol.writeFrame(output, text.toString())
+        output.flush()
+      }
+    } catch (e: IOException) {
+      // The client has gone away, the invocation still runs to completion.
+    }
+  }
+}
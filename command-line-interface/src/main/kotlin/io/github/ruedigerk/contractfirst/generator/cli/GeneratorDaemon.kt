@@ -0,0 +1,145 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.IOException
+import java.net.InetAddress
+import java.net.ServerSocket
+import java.net.Socket
+import java.net.SocketException
+import java.nio.charset.StandardCharsets.UTF_8
+import java.security.MessageDigest
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.SynchronousQueue
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+/**
+ * The generator daemon, which keeps a warm JVM running and generates code for the invocations of its clients. Only accepts connections on the loopback
+ * interface from clients knowing its token. Invocations are run concurrently, each of them with its own working directory and log output.
+ *
+ * Until a client is authenticated, the daemon reads at most the length of the token from it, and waits at most the authentication timeout for it. The number
+ * of concurrent connections is limited, further connections are closed right away.
+ */
+internal class GeneratorDaemon(
+    private val port: Int,
+    logAdapter: LogAdapter,
+    private val authenticationTimeoutMillis: Int = AUTHENTICATION_TIMEOUT_MILLIS
+) {
+
+  private val log = Log(logAdapter)
+  private val executor = ThreadPoolExecutor(0, MAX_CONNECTIONS, 60, TimeUnit.SECONDS, SynchronousQueue()) { runnable ->
+    Thread(runnable, "generator-daemon-invocation").apply { isDaemon = true }
+  }
+
+  @Volatile
+  private var serverSocket: ServerSocket? = null
+
+  @Throws(IOException::class)
+  fun serve() {
+    ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress()).use { socket ->
+      serverSocket = socket
+      val token = DaemonProtocol.createToken(port)
+
+      log.info { "Generator daemon listening on ${socket.inetAddress.hostAddress}:$port" }
+
+      try {
+        acceptConnections(socket, token)
+      } finally {
+        DaemonProtocol.deleteToken(port)
+        executor.shutdown()
+        executor.awaitTermination(1, TimeUnit.MINUTES)
+      }
+    }
+
+    log.info { "Generator daemon stopped" }
+  }
+
+  private fun acceptConnections(socket: ServerSocket, token: String) {
+    while (true) {
+      val connection = try {
+        socket.accept()
+      } catch (e: SocketException) {
+        // The server socket was closed by the STOP command.
+        return
+      }
+
+      try {
+        executor.execute { handle(connection, token) }
+      } catch (e: RejectedExecutionException) {
+        log.warn { "Rejected a connection, as $MAX_CONNECTIONS connections are already open" }
+        connection.close()
+      }
+    }
+  }
+
+  private fun handle(connection: Socket, token: String) {
+    try {
+      connection.use {
+        val input = DataInputStream(BufferedInputStream(connection.getInputStream()))
+        val output = DataOutputStream(BufferedOutputStream(connection.getOutputStream()))
+
+        if (!authenticate(connection, input, token)) {
+          log.warn { "Rejected a connection with an invalid token" }
+          return
+        }
+
+        when (DaemonProtocol.readString(input)) {
+          DaemonProtocol.COMMAND_RUN -> run(input, output)
+          DaemonProtocol.COMMAND_STOP -> stop(output)
+        }
+      }
+    } catch (e: IOException) {
+      log.warn { "Connection to a client failed: ${e.message}" }
+    }
+  }
+
+  /**
+   * Compares the tokens in constant time, so that the time taken does not reveal the length of the matching prefix.
+   */
+  private fun authenticate(connection: Socket, input: DataInputStream, token: String): Boolean {
+    connection.soTimeout = authenticationTimeoutMillis
+    val clientToken = DaemonProtocol.readString(input, DaemonProtocol.TOKEN_LENGTH)
+    connection.soTimeout = 0
+
+    return MessageDigest.isEqual(clientToken.toByteArray(UTF_8), token.toByteArray(UTF_8))
+  }
+
+  private fun run(input: DataInputStream, output: DataOutputStream) {
+    val workingDirectory = File(DaemonProtocol.readString(input))
+    val args = Array(input.readInt()) { DaemonProtocol.readString(input) }
+
+    val exitCode = CliRunner(workingDirectory) { verbosity -> ForwardingLogAdapter(verbosity, output) }.run(args)
+
+    synchronized(output) {
+      output.writeByte(DaemonProtocol.FRAME_EXIT.toInt())
+      output.writeInt(exitCode)
+      output.flush()
+    }
+  }
+
+  private fun stop(output: DataOutputStream) {
+    log.info { "Stopping generator daemon" }
+
+    synchronized(output) {
+      DaemonProtocol.writeFrame(output, "Stopping generator daemon on port $port\n")
+      output.writeByte(DaemonProtocol.FRAME_EXIT.toInt())
+      output.writeInt(0)
+      output.flush()
+    }
+
+    serverSocket?.close()
+  }
+
+  private companion object {
+
+    const val BACKLOG = 50
+    const val MAX_CONNECTIONS = 32
+    const val AUTHENTICATION_TIMEOUT_MILLIS = 10_000
+  }
+}
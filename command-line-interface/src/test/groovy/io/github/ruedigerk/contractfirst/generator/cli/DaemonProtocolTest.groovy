@@ -0,0 +1,47 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import spock.lang.Specification
+
+class DaemonProtocolTest extends Specification {
+
+  def "Strings are written and read with their length"() {
+    given:
+    def bytes = new ByteArrayOutputStream()
+    DaemonProtocol.INSTANCE.writeString(new DataOutputStream(bytes), "Grüße")
+
+    expect:
+    DaemonProtocol.INSTANCE.readString(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), 100) == "Grüße"
+  }
+
+  def "A string longer than the maximum length is rejected before reading it"() {
+    given:
+    def bytes = new ByteArrayOutputStream()
+    DaemonProtocol.INSTANCE.writeString(new DataOutputStream(bytes), "x" * (DaemonProtocol.TOKEN_LENGTH + 1))
+    def input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))
+
+    when:
+    DaemonProtocol.INSTANCE.readString(input, DaemonProtocol.TOKEN_LENGTH)
+
+    then:
+    def e = thrown(IOException)
+    e.message == "Invalid string length: ${DaemonProtocol.TOKEN_LENGTH + 1}"
+    input.available() == DaemonProtocol.TOKEN_LENGTH + 1
+  }
+
+  def "A token has the token length"() {
+    given:
+    def userHome = System.getProperty("user.home")
+    System.setProperty("user.home", File.createTempDir().absolutePath)
+
+    when:
+    def token = DaemonProtocol.INSTANCE.createToken(1)
+
+    then:
+    token.length() == DaemonProtocol.TOKEN_LENGTH
+    DaemonProtocol.INSTANCE.readToken(1) == token
+
+    cleanup:
+    DaemonProtocol.INSTANCE.deleteToken(1)
+    System.setProperty("user.home", userHome)
+  }
+}
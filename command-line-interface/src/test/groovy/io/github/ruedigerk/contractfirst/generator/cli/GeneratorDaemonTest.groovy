@@ -0,0 +1,103 @@
+package io.github.ruedigerk.contractfirst.generator.cli
+
+import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
+import kotlin.jvm.functions.Function0
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Path
+
+class GeneratorDaemonTest extends Specification {
+
+  static final int AUTHENTICATION_TIMEOUT_MILLIS = 500
+
+  @TempDir
+  Path userHome
+
+  LogAdapter logAdapter = Stub()
+  String originalUserHome
+  int port
+  Thread daemonThread
+
+  def setup() {
+    originalUserHome = System.getProperty("user.home")
+    System.setProperty("user.home", userHome.toString())
+
+    port = new ServerSocket(0).withCloseable { it.localPort }
+    def daemon = new GeneratorDaemon(port, logAdapter, AUTHENTICATION_TIMEOUT_MILLIS)
+    daemonThread = Thread.start { daemon.serve() }
+
+    while (DaemonProtocol.INSTANCE.readToken(port)?.length() != DaemonProtocol.TOKEN_LENGTH) {
+      Thread.sleep(10)
+    }
+  }
+
+  def cleanup() {
+    if (daemonThread.alive) {
+      newClient().forward(stopOptions())
+      daemonThread.join(10_000)
+    }
+    System.setProperty("user.home", originalUserHome)
+  }
+
+  def "The daemon stops on the STOP command of a client knowing the token"() {
+    when:
+    def exitCode = newClient().forward(stopOptions())
+    daemonThread.join(10_000)
+
+    then:
+    exitCode == 0
+    !daemonThread.alive
+    DaemonProtocol.INSTANCE.readToken(port) == null
+  }
+
+  def "A connection with an invalid token is closed"() {
+    when:
+    def closed = connect { output -> DaemonProtocol.INSTANCE.writeString(output, "0" * DaemonProtocol.TOKEN_LENGTH) }
+
+    then:
+    closed
+    daemonThread.alive
+  }
+
+  def "A connection announcing a token longer than the token length is closed without reading the token"() {
+    when:
+    def closed = connect { output -> output.writeInt(16 * 1024 * 1024) }
+
+    then:
+    closed
+    daemonThread.alive
+  }
+
+  def "A connection not sending the token within the authentication timeout is closed"() {
+    when:
+    def closed = connect { output -> }
+
+    then:
+    closed
+    daemonThread.alive
+  }
+
+  /**
+   * Connects to the daemon, writes to it with the supplied closure, and returns whether the daemon closed the connection without answering.
+   */
+  private boolean connect(Closure write) {
+    new Socket(InetAddress.loopbackAddress, port).withCloseable { socket ->
+      socket.soTimeout = 10 * AUTHENTICATION_TIMEOUT_MILLIS
+
+      def output = new DataOutputStream(socket.outputStream)
+      write(output)
+      output.flush()
+
+      socket.inputStream.read() == -1
+    }
+  }
+
+  private DaemonClient newClient() {
+    new DaemonClient(port, { logAdapter } as Function0<LogAdapter>)
+  }
+
+  private DaemonClient.Options stopOptions() {
+    new DaemonClient.Options(port, true, [] as String[])
+  }
+}
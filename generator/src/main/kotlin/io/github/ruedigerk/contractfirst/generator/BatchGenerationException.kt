@@ -0,0 +1,15 @@
+package io.github.ruedigerk.contractfirst.generator
+
+/**
+ * This exception is thrown when generating code for some of the contracts of a batch failed. The other contracts of the batch have been generated.
+ */
+class BatchGenerationException(val failures: Map<Configuration, Exception>) : RuntimeException(toMessage(failures), failures.values.firstOrNull()) {
+
+  private companion object {
+
+    fun toMessage(failures: Map<Configuration, Exception>): String = failures.entries.joinToString(
+        separator = "\n",
+        prefix = "Code generation failed for ${failures.size} contract(s):\n"
+    ) { (configuration, exception) -> "\t${configuration.inputContractFile}: ${exception.message}" }
+  }
+}
@@ -14,6 +14,16 @@ data class Configuration(
     val outputJavaPackageSchemaDirectoryPrefix: String,
     val outputJavaModelNamePrefix: String,
     val outputJavaModelUseJsr305NullabilityAnnotations: Boolean,
+    val inputContractLazyLoading: Boolean,
+    val outputJavaModelDeduplicateInlineSchemas: Boolean,
+    val outputJavaModelImmutable: Boolean,
+    val outputJavaModelUsePrimitiveTypes: Boolean,
+    val outputJavaModelLazyCollections: Boolean,
+    val outputJavaUnformattedNumbersAsDoubleAndLong: Boolean,
+    val outputJavaModelValidateMethods: Boolean,
+    val outputJavaModelByteBuffers: Boolean,
+    val outputJavaServerAsyncMethods: Boolean,
+    val incrementalGeneration: Boolean,
 ) {
 
   fun prettyPrint(indent: String = "\t"): String =
@@ -24,5 +34,15 @@ data class Configuration(
          |outputContractFile='$outputContractFile'
          |outputJavaBasePackage='$outputJavaBasePackage'
          |outputJavaModelNamePrefix='$outputJavaModelNamePrefix'
-         |outputJavaModelUseJsr305NullabilityAnnotations='$outputJavaModelUseJsr305NullabilityAnnotations'""".trimMargin().prependIndent(indent)
+         |outputJavaModelUseJsr305NullabilityAnnotations='$outputJavaModelUseJsr305NullabilityAnnotations'
+         |inputContractLazyLoading='$inputContractLazyLoading'
+         |outputJavaModelDeduplicateInlineSchemas='$outputJavaModelDeduplicateInlineSchemas'
+         |outputJavaModelImmutable='$outputJavaModelImmutable'
+         |outputJavaModelUsePrimitiveTypes='$outputJavaModelUsePrimitiveTypes'
+         |outputJavaModelLazyCollections='$outputJavaModelLazyCollections'
+         |outputJavaUnformattedNumbersAsDoubleAndLong='$outputJavaUnformattedNumbersAsDoubleAndLong'
+         |outputJavaModelValidateMethods='$outputJavaModelValidateMethods'
+         |outputJavaModelByteBuffers='$outputJavaModelByteBuffers'
+         |outputJavaServerAsyncMethods='$outputJavaServerAsyncMethods'
+         |incrementalGeneration='$incrementalGeneration'""".trimMargin().prependIndent(indent)
 }
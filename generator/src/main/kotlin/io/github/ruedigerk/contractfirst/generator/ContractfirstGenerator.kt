@@ -4,7 +4,16 @@ import io.github.ruedigerk.contractfirst.generator.allinonecontract.SerializerEx
 import io.github.ruedigerk.contractfirst.generator.java.Identifiers.toJavaTypeIdentifier
 import io.github.ruedigerk.contractfirst.generator.logging.Log
 import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
+import io.github.ruedigerk.contractfirst.generator.output.DirectoryOutputSink
+import io.github.ruedigerk.contractfirst.generator.output.OutputSink
+import io.github.ruedigerk.contractfirst.generator.parser.SharedFileCache
+import java.io.File
 import java.io.IOException
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.atomic.AtomicInteger
 
 /**
  * The Contractfirst-Generator code generator.
@@ -22,13 +31,120 @@ class ContractfirstGenerator(logAdapter: LogAdapter) {
    */
   @Throws(NotSupportedException::class, ParserException::class, InvalidConfigurationException::class, SerializerException::class)
   fun generate(configuration: Configuration) {
+    generate(configuration, DirectoryOutputSink(File(configuration.outputDir)))
+  }
+
+  /**
+   * Generate the source code according to the supplied configuration, writing it to the supplied output sink instead of the output directory, e.g., to
+   * memory or to a zip file. The sink is not closed.
+   * @throws NotSupportedException when an OpenAPI feature is used in the input contract that is not supported by the generator.
+   * @throws ParserException when the input contract is invalid and cannot be parsed.
+   * @throws InvalidConfigurationException some option in the supplied configuration is invalid.
+   * @throws SerializerException when the option to write an output contract is on and there is an error serializing it.
+   */
+  @Throws(NotSupportedException::class, ParserException::class, InvalidConfigurationException::class, SerializerException::class)
+  fun generate(configuration: Configuration, outputSink: OutputSink) {
     log.debug { "Configuration:\n${configuration.prettyPrint()}" }
 
     validateConfiguration(configuration)
+    generate(configuration, null, outputSink)
+  }
+
+  /**
+   * Generate the source code for several contracts in this JVM, running up to the supplied number of them concurrently. Schema files referenced by several
+   * contracts are parsed only once, unless lazy loading is configured. All contracts are generated, even when some of them fail.
+   * @throws InvalidConfigurationException some option in one of the supplied configurations is invalid. No code has been generated in this case.
+   * @throws BatchGenerationException when generating some of the contracts failed, containing the exception for each of them.
+   */
+  @JvmOverloads
+  @Throws(InvalidConfigurationException::class, BatchGenerationException::class)
+  fun generateAll(configurations: List<Configuration>, parallelism: Int = Runtime.getRuntime().availableProcessors()) {
+    generateAll(configurations, parallelism) { DirectoryOutputSink(File(it.outputDir)) }
+  }
+
+  /**
+   * Generate the source code for several contracts like generateAll, writing all of it to the supplied output sink instead of the output directories. The
+   * contracts should use different packages and, when writing output contracts, different relative output contract files. The sink is not closed.
+   * @throws InvalidConfigurationException some option in one of the supplied configurations is invalid, or several contracts write the same output
+   * contract file. No code has been generated in this case.
+   * @throws BatchGenerationException when generating some of the contracts failed, containing the exception for each of them.
+   */
+  @Throws(InvalidConfigurationException::class, BatchGenerationException::class)
+  fun generateAll(configurations: List<Configuration>, parallelism: Int, outputSink: OutputSink) {
+    validateOutputContractFiles(configurations)
+    generateAll(configurations, parallelism) { outputSink }
+  }
+
+  private fun generateAll(configurations: List<Configuration>, parallelism: Int, outputSinkFor: (Configuration) -> OutputSink) {
+    if (parallelism < 1) {
+      throw InvalidConfigurationException("parallelism must be at least 1, but is $parallelism")
+    }
+
+    configurations.forEach(::validateConfiguration)
 
+    val sharedFileCache = SharedFileCache()
+    val executor = Executors.newFixedThreadPool(parallelism.coerceAtMost(configurations.size.coerceAtLeast(1)), BatchThreadFactory())
+
+    try {
+      val futures: List<Pair<Configuration, Future<*>>> = configurations.map { configuration ->
+        configuration to executor.submit {
+          log.info { "Generating code for contract '${configuration.inputContractFile}' in output directory '${configuration.outputDir}'" }
+          log.debug { "Configuration:\n${configuration.prettyPrint()}" }
+          generate(configuration, sharedFileCache, outputSinkFor(configuration))
+        }
+      }
+
+      val failures = futures.mapNotNull { (configuration, future) -> awaitFailure(future)?.let { configuration to it } }.toMap()
+
+      log.info { "Generated code for ${configurations.size - failures.size} of ${configurations.size} contract(s)" }
+      log.debug { "Parsed ${sharedFileCache.size} distinct file(s) shared between the contracts" }
+
+      if (failures.isNotEmpty()) {
+        throw BatchGenerationException(failures)
+      }
+    } finally {
+      executor.shutdownNow()
+    }
+  }
+
+  /**
+   * Returns all files read for generating the source code according to the supplied configuration, i.e., the contract file and all files transitively
+   * referenced by it, without generating code. This is meant for build tools that need to know the inputs of a generation in advance, e.g., for
+   * up-to-date checks.
+   * @throws ParserException when the input contract is invalid and cannot be parsed.
+   * @throws InvalidConfigurationException some option in the supplied configuration is invalid.
+   */
+  @Throws(ParserException::class, InvalidConfigurationException::class)
+  fun findInputFiles(configuration: Configuration): Set<File> {
+    validateConfiguration(configuration)
+
+    return try {
+      when (configuration.generator) {
+        GeneratorType.CLIENT, GeneratorType.SERVER, GeneratorType.SPRING_WEBFLUX, GeneratorType.ROUTER -> RecipeForFullSpecification(log, configuration).findInputFiles()
+        GeneratorType.MODEL_ONLY -> RecipeForModelOnly(log, configuration).findInputFiles()
+      }
+    } catch (e: IOException) {
+      throw ParserIoException("IO error during parsing ${e.message}", e)
+    }
+  }
+
+  private fun awaitFailure(future: Future<*>): Exception? = try {
+    future.get()
+    null
+  } catch (e: ExecutionException) {
+    when (val cause = e.cause) {
+      is Exception -> cause
+      is Error -> throw cause
+      else -> e
+    }
+  }
+
+  private fun generate(configuration: Configuration, sharedFileCache: SharedFileCache?, outputSink: OutputSink) {
     val recipe = when (configuration.generator) {
-      GeneratorType.CLIENT, GeneratorType.SERVER -> RecipeForFullSpecification(log, configuration)
-      GeneratorType.MODEL_ONLY -> RecipeForModelOnly(log, configuration)
+      GeneratorType.CLIENT, GeneratorType.SERVER, GeneratorType.SPRING_WEBFLUX, GeneratorType.ROUTER ->
+        RecipeForFullSpecification(log, configuration, sharedFileCache, outputSink)
+
+      GeneratorType.MODEL_ONLY -> RecipeForModelOnly(log, configuration, sharedFileCache, outputSink)
     }
 
     try {
@@ -48,4 +164,32 @@ class ContractfirstGenerator(logAdapter: LogAdapter) {
       )
     }
   }
+
+  /**
+   * Relative output contract files are written to the output sink, so that contracts sharing a sink must not use the same one.
+   */
+  @Throws(InvalidConfigurationException::class)
+  private fun validateOutputContractFiles(configurations: List<Configuration>) {
+    val relativeOutputContractFiles = configurations
+        .filter { it.outputContract && it.generator != GeneratorType.MODEL_ONLY && !File(it.outputContractFile).isAbsolute }
+        .map { File(it.outputContractFile).normalize().invariantSeparatorsPath }
+    val duplicate = relativeOutputContractFiles.groupingBy { it }.eachCount().entries.firstOrNull { it.value > 1 }?.key
+
+    if (duplicate != null) {
+      throw InvalidConfigurationException(
+          "parameter outputContractFile: \"$duplicate\" is written by several contracts to the same output sink, " +
+              "e.g. use a different relative path for each contract or an absolute path."
+      )
+    }
+  }
+
+  /**
+   * Creates named daemon threads, so that a batch run does not keep the JVM alive, e.g., when the Maven build is aborted.
+   */
+  private class BatchThreadFactory : ThreadFactory {
+
+    private val threadCount = AtomicInteger()
+
+    override fun newThread(runnable: Runnable): Thread = Thread(runnable, "contractfirst-generator-${threadCount.incrementAndGet()}").apply { isDaemon = true }
+  }
 }
\ No newline at end of file
@@ -7,5 +7,7 @@ enum class GeneratorType {
 
   CLIENT,
   SERVER,
+  SPRING_WEBFLUX,
+  ROUTER,
   MODEL_ONLY
 }
@@ -3,6 +3,8 @@ package io.github.ruedigerk.contractfirst.generator
 import io.github.ruedigerk.contractfirst.generator.allinonecontract.SwaggerParser
 import io.github.ruedigerk.contractfirst.generator.allinonecontract.YamlSerializer
 import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.output.DirectoryOutputSink
+import io.github.ruedigerk.contractfirst.generator.output.OutputSink
 import io.swagger.v3.oas.models.OpenAPI
 import java.io.File
 
@@ -12,6 +14,7 @@ import java.io.File
 class RecipeForAllInOneContract(
     private val log: Log,
     private val configuration: Configuration,
+    private val outputSink: OutputSink = DirectoryOutputSink(File(configuration.outputDir)),
 ) : () -> Unit {
 
   override operator fun invoke() {
@@ -20,13 +23,17 @@ class RecipeForAllInOneContract(
   }
 
   private fun writeParsedContract(configuration: Configuration, openApi: OpenAPI) {
-    val outputDir = File(configuration.outputDir)
     val contractOutputFile = File(configuration.outputContractFile)
-    val outputFile = if (contractOutputFile.isAbsolute) contractOutputFile else outputDir.resolve(contractOutputFile)
+    val contract = YamlSerializer.toYaml(openApi)
 
-    log.info { "Writing all-in-one contract to: $outputFile" }
+    log.info { "Writing all-in-one contract to: $contractOutputFile" }
 
-    outputFile.parentFile.mkdirs()
-    outputFile.writeText(YamlSerializer.toYaml(openApi))
+    // An absolute contract output file is written to that file, a relative one is part of the output.
+    if (contractOutputFile.isAbsolute) {
+      contractOutputFile.parentFile.mkdirs()
+      contractOutputFile.writeText(contract)
+    } else {
+      outputSink.write(contractOutputFile.normalize().invariantSeparatorsPath, contract.toByteArray(Charsets.UTF_8))
+    }
   }
 }
\ No newline at end of file
@@ -1,13 +1,21 @@
 package io.github.ruedigerk.contractfirst.generator
 
+import io.github.ruedigerk.contractfirst.generator.incremental.IncrementalGeneration
 import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
 import io.github.ruedigerk.contractfirst.generator.java.generator.ClientGenerator
 import io.github.ruedigerk.contractfirst.generator.java.generator.ModelGenerator
+import io.github.ruedigerk.contractfirst.generator.java.generator.RouterGenerator
 import io.github.ruedigerk.contractfirst.generator.java.generator.ServerStubGenerator
+import io.github.ruedigerk.contractfirst.generator.java.generator.SpringWebFluxGenerator
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaSpecification
 import io.github.ruedigerk.contractfirst.generator.java.transform.JavaTransformer
 import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.output.DirectoryOutputSink
+import io.github.ruedigerk.contractfirst.generator.output.OutputSink
 import io.github.ruedigerk.contractfirst.generator.parser.ContractParser
+import io.github.ruedigerk.contractfirst.generator.parser.ParseableCache
+import io.github.ruedigerk.contractfirst.generator.parser.SharedFileCache
+import java.io.File
 
 /**
  * A recipe for generating REST-operation and model code from an OpenAPI specification file.
@@ -15,31 +23,62 @@ import io.github.ruedigerk.contractfirst.generator.parser.ContractParser
 class RecipeForFullSpecification(
     private val log: Log,
     private val configuration: Configuration,
+    private val sharedFileCache: SharedFileCache? = null,
+    private val outputSink: OutputSink = DirectoryOutputSink(File(configuration.outputDir)),
 ) : () -> Unit {
 
   override operator fun invoke() {
-    val specification = ContractParser(log).toSpecification(configuration.inputContractFile)
+    val incrementalGeneration = if (configuration.incrementalGeneration) IncrementalGeneration(log, configuration, outputSink) else null
+    val contractParser = ContractParser(
+        log,
+        ParseableCache(configuration.inputContractLazyLoading, sharedFileCache),
+        incrementalGeneration?.reusableSchemas ?: emptyMap()
+    )
+    val specification = contractParser.toSpecification(configuration.inputContractFile)
     val javaConfiguration = JavaConfiguration.forFullSpecification(configuration, apiPackagePrefix(configuration))
     val javaSpecification = JavaTransformer(log, javaConfiguration).transform(specification)
 
     val generator = getGenerator(javaConfiguration)
     generator(javaSpecification)
-    ModelGenerator(javaConfiguration).generateCode(javaSpecification.modelFiles)
+
+    if (incrementalGeneration != null) {
+      // The operation code is always generated, as it depends on the whole contract, only unchanged model files are skipped.
+      val fingerprints = ModelGenerator(javaConfiguration, outputSink).generateCode(javaSpecification.modelFiles, incrementalGeneration.previousModelFiles)
+      incrementalGeneration.complete(contractParser.schemaDependencyGraph, fingerprints)
+    } else {
+      ModelGenerator(javaConfiguration, outputSink).generateCode(javaSpecification.modelFiles)
+    }
 
     if (configuration.outputContract) {
-      RecipeForAllInOneContract(log, configuration).invoke()
+      RecipeForAllInOneContract(log, configuration, outputSink).invoke()
     }
   }
 
+  /**
+   * Parses the contract without generating code, and returns all files read, i.e., the contract file and the files referenced by it.
+   */
+  fun findInputFiles(): Set<File> {
+    val parseableCache = ParseableCache(configuration.inputContractLazyLoading, sharedFileCache)
+    val files = mutableSetOf<File>()
+
+    parseableCache.trackingAccessedFiles(files) {
+      ContractParser(log, parseableCache).toSpecification(configuration.inputContractFile)
+    }
+
+    return files
+  }
+
   private fun getGenerator(javaConfiguration: JavaConfiguration): (JavaSpecification) -> Unit = when (configuration.generator) {
-    GeneratorType.CLIENT -> ClientGenerator(javaConfiguration)
-    GeneratorType.SERVER -> ServerStubGenerator(javaConfiguration, log)
+    GeneratorType.CLIENT -> ClientGenerator(javaConfiguration, outputSink)
+    GeneratorType.SERVER -> ServerStubGenerator(javaConfiguration, log, outputSink)
+    GeneratorType.SPRING_WEBFLUX -> SpringWebFluxGenerator(javaConfiguration, log, outputSink)
+    GeneratorType.ROUTER -> RouterGenerator(javaConfiguration, log, outputSink)
     GeneratorType.MODEL_ONLY -> error("Illegal generator type: ${configuration.generator}")
   }
 
   private fun apiPackagePrefix(configuration: Configuration): String = when (configuration.generator) {
     GeneratorType.CLIENT -> ".api"
-    GeneratorType.SERVER -> ".resources"
+    GeneratorType.SERVER, GeneratorType.SPRING_WEBFLUX, GeneratorType.ROUTER -> ".resources"
     GeneratorType.MODEL_ONLY -> error("Illegal generator type: ${configuration.generator}")
   }
 }
\ No newline at end of file
@@ -1,11 +1,20 @@
 package io.github.ruedigerk.contractfirst.generator
 
+import io.github.ruedigerk.contractfirst.generator.incremental.IncrementalGeneration
 import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
 import io.github.ruedigerk.contractfirst.generator.java.generator.ModelGenerator
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaSourceFile
 import io.github.ruedigerk.contractfirst.generator.java.transform.JavaSchemaToSourceTransformer
 import io.github.ruedigerk.contractfirst.generator.java.transform.JavaSchemaToTypeTransformer
 import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.output.DirectoryOutputSink
+import io.github.ruedigerk.contractfirst.generator.output.OutputSink
+import io.github.ruedigerk.contractfirst.generator.model.Position
+import io.github.ruedigerk.contractfirst.generator.model.Schema
+import io.github.ruedigerk.contractfirst.generator.model.SchemaId
+import io.github.ruedigerk.contractfirst.generator.parser.ParseableCache
 import io.github.ruedigerk.contractfirst.generator.parser.ResolvingSchemaParser
+import io.github.ruedigerk.contractfirst.generator.parser.SharedFileCache
 import java.io.File
 
 /**
@@ -13,18 +22,51 @@ import java.io.File
  */
 class RecipeForModelOnly(
     private val log: Log,
-    private val configuration: Configuration
+    private val configuration: Configuration,
+    private val sharedFileCache: SharedFileCache? = null,
+    private val outputSink: OutputSink = DirectoryOutputSink(File(configuration.outputDir)),
 ) : () -> Unit {
 
   override operator fun invoke() {
     val modelFiles = findModelFiles(configuration)
-    val parsedSchemas = ResolvingSchemaParser.parseAndResolveAll(log, modelFiles)
     
+    if (configuration.incrementalGeneration) {
+      generateIncrementally(modelFiles)
+    } else {
+      val parsedSchemas = ResolvingSchemaParser.parseAndResolveAll(log, modelFiles, configuration.inputContractLazyLoading, sharedFileCache)
+      val javaConfiguration = JavaConfiguration.forModelOnly(configuration)
+      ModelGenerator(javaConfiguration, outputSink).generateCode(toSourceFiles(parsedSchemas, javaConfiguration))
+    }
+  }
+
+  private fun generateIncrementally(modelFiles: List<File>) {
+    val incrementalGeneration = IncrementalGeneration(log, configuration, outputSink)
+    val parser = ResolvingSchemaParser(log, ParseableCache(configuration.inputContractLazyLoading, sharedFileCache), incrementalGeneration.reusableSchemas)
+    val parsedSchemas = parser.parseAndResolveAllAt(modelFiles.map { Position(it) })
+
     val javaConfiguration = JavaConfiguration.forModelOnly(configuration)
-    val types = JavaSchemaToTypeTransformer(log, parsedSchemas, javaConfiguration, emptyMap()).transform()
-    val sourceFiles = JavaSchemaToSourceTransformer(parsedSchemas, types).transform()
+    val fingerprints = ModelGenerator(javaConfiguration, outputSink).generateCode(toSourceFiles(parsedSchemas, javaConfiguration), incrementalGeneration.previousModelFiles)
+
+    incrementalGeneration.complete(parser.dependencyGraph, fingerprints)
+  }
 
-    ModelGenerator(javaConfiguration).generateCode(sourceFiles)
+  /**
+   * Parses the schema files without generating code, and returns all files read, i.e., the schema files and the files referenced by them.
+   */
+  fun findInputFiles(): Set<File> {
+    val parseableCache = ParseableCache(configuration.inputContractLazyLoading, sharedFileCache)
+    val files = mutableSetOf<File>()
+
+    parseableCache.trackingAccessedFiles(files) {
+      ResolvingSchemaParser(log, parseableCache).parseAndResolveAllAt(findModelFiles(configuration).map { Position(it) })
+    }
+
+    return files
+  }
+
+  private fun toSourceFiles(parsedSchemas: Map<SchemaId, Schema>, javaConfiguration: JavaConfiguration): List<JavaSourceFile> {
+    val types = JavaSchemaToTypeTransformer(log, parsedSchemas, javaConfiguration, emptyMap()).transform()
+    return JavaSchemaToSourceTransformer(parsedSchemas, types).transform()
   }
 
   private fun findModelFiles(configuration: Configuration): List<File> {
@@ -0,0 +1,176 @@
+package io.github.ruedigerk.contractfirst.generator.incremental
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.node.ObjectNode
+import io.github.ruedigerk.contractfirst.generator.Configuration
+import io.github.ruedigerk.contractfirst.generator.ContractfirstGenerator
+import io.github.ruedigerk.contractfirst.generator.InvalidConfigurationException
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.model.SchemaId
+import io.github.ruedigerk.contractfirst.generator.output.DirectoryOutputSink
+import io.github.ruedigerk.contractfirst.generator.output.OutputSink
+import io.github.ruedigerk.contractfirst.generator.parser.ParsedSchema
+import io.github.ruedigerk.contractfirst.generator.parser.SchemaDependencyGraph
+import java.io.File
+import java.io.IOException
+import java.security.MessageDigest
+
+/**
+ * Supports generating a contract incrementally, based on the state of its previous generation, which is persisted in the output directory. The state
+ * consists of the dependency graph of the schemas, the hashes of the files they were parsed from, and the fingerprints of the generated model files.
+ *
+ * Only the changed files and the files depending on them are parsed again, the schemas of all other files are reused. Model files are only written, when
+ * their fingerprint changed. Model files of the previous generation, that are not generated anymore, are deleted.
+ *
+ * The previous state is discarded, when the configuration or the generator changed. Incremental generation is only supported when writing to a directory.
+ */
+class IncrementalGeneration(
+    private val log: Log,
+    configuration: Configuration,
+    outputSink: OutputSink,
+) {
+
+  private val outputDir = (outputSink as? DirectoryOutputSink)?.directory
+      ?: throw InvalidConfigurationException("parameter incrementalGeneration: incremental generation is only supported when writing to a directory.")
+  private val stateFile = outputDir.resolve(".contractfirst-generator/${configuration.outputJavaBasePackage}.${configuration.generator.name.lowercase()}.json")
+  private val configurationFingerprint = fingerprint("$configuration ${generatorFingerprint()}")
+  private val fileHashes = mutableMapOf<File, String>()
+  private val previousState = readPreviousState()
+
+  /**
+   * The schemas of the previous generation, that are not affected by changed files.
+   */
+  val reusableSchemas: Map<SchemaId, ParsedSchema> = previousState?.let(::determineReusableSchemas) ?: emptyMap()
+
+  /**
+   * The fingerprints of the model files of the previous generation, by their paths relative to the output directory.
+   */
+  val previousModelFiles: Map<String, String> = previousState?.modelFiles ?: emptyMap()
+
+  init {
+    // When the generation fails, the output is in an unknown state, so the next generation must not be based on the previous state.
+    stateFile.delete()
+  }
+
+  /**
+   * Records the state of the completed generation, and deletes the model files of the previous generation that were not generated again.
+   */
+  fun complete(dependencyGraph: SchemaDependencyGraph, modelFiles: Map<String, String>) {
+    (previousModelFiles.keys - modelFiles.keys).forEach { path ->
+      log.debug { "Deleting model file $path, as it is not generated anymore" }
+      outputDir.resolve(path).delete()
+    }
+
+    val hashes = dependencyGraph.files.associateWith(::hashOf)
+    writeState(State(configurationFingerprint, hashes, dependencyGraph.parsedSchemas, modelFiles))
+
+    log.info {
+      "Reused ${dependencyGraph.parsedSchemas.keys.count { it in reusableSchemas }} of ${dependencyGraph.parsedSchemas.size} parsed schemas, " +
+          "${modelFiles.count { (path, fingerprint) -> previousModelFiles[path] != fingerprint }} of ${modelFiles.size} model files changed"
+    }
+  }
+
+  private fun determineReusableSchemas(state: State): Map<SchemaId, ParsedSchema> {
+    val changedFiles = state.fileHashes.filter { (file, hash) -> hashOf(file) != hash }.keys
+    log.debug { "Changed files since the previous generation: $changedFiles" }
+
+    return SchemaDependencyGraph(state.parsedSchemas).unaffectedSchemas(changedFiles)
+  }
+
+  private fun readPreviousState(): State? {
+    if (!stateFile.exists()) {
+      log.info { "No state of a previous generation found, generating everything" }
+      return null
+    }
+
+    val state = try {
+      stateFromJson(objectMapper.readTree(stateFile))
+    } catch (e: Exception) {
+      log.warn { "Could not read state of the previous generation from '$stateFile', generating everything: ${e.message}" }
+      return null
+    }
+
+    if (state.configurationFingerprint != configurationFingerprint) {
+      log.info { "Configuration or generator changed since the previous generation, generating everything" }
+      return null
+    }
+
+    return state
+  }
+
+  private fun writeState(state: State) {
+    try {
+      stateFile.parentFile.mkdirs()
+      objectMapper.writeValue(stateFile, stateToJson(state))
+    } catch (e: IOException) {
+      log.warn { "Could not write state of the generation to '$stateFile', the next generation is not incremental: ${e.message}" }
+    }
+  }
+
+  private fun stateToJson(state: State): ObjectNode = objectMapper.createObjectNode().apply {
+    put("formatVersion", FORMAT_VERSION)
+    put("configuration", state.configurationFingerprint)
+    set<JsonNode>("files", objectMapper.createObjectNode().apply { state.fileHashes.forEach { (file, hash) -> put(file.path, hash) } })
+    set<JsonNode>("schemas", objectMapper.createArrayNode().addAll(state.parsedSchemas.map { (id, parsedSchema) -> SchemaCodec.toJson(id, parsedSchema) }))
+    set<JsonNode>("modelFiles", objectMapper.createObjectNode().apply { state.modelFiles.forEach { (path, fingerprint) -> put(path, fingerprint) } })
+  }
+
+  private fun stateFromJson(json: JsonNode): State {
+    val formatVersion = json.required("formatVersion").intValue()
+    if (formatVersion != FORMAT_VERSION) {
+      throw IllegalArgumentException("unsupported format version $formatVersion")
+    }
+
+    return State(
+        json.required("configuration").textValue(),
+        json.required("files").fields().asSequence().associate { (path, hash) -> File(path) to hash.textValue() },
+        json.required("schemas").associate(SchemaCodec::fromJson),
+        json.required("modelFiles").fields().asSequence().associate { (path, fingerprint) -> path to fingerprint.textValue() }
+    )
+  }
+
+  /**
+   * Identifies the build of the generator, so that the output is generated completely after updating the generator.
+   */
+  private fun generatorFingerprint(): String {
+    val location = ContractfirstGenerator::class.java.protectionDomain?.codeSource?.location ?: return "unknown"
+
+    return try {
+      val file = File(location.toURI())
+      "$location ${file.lastModified()} ${file.length()}"
+    } catch (e: Exception) {
+      location.toString()
+    }
+  }
+
+  private fun hashOf(file: File): String = fileHashes.getOrPut(file) {
+    try {
+      fingerprint(file.readBytes())
+    } catch (e: IOException) {
+      // Deleted files are treated as changed.
+      ""
+    }
+  }
+
+  private class State(
+      val configurationFingerprint: String,
+      val fileHashes: Map<File, String>,
+      val parsedSchemas: Map<SchemaId, ParsedSchema>,
+      val modelFiles: Map<String, String>,
+  )
+
+  companion object {
+
+    private const val FORMAT_VERSION = 1
+
+    private val objectMapper = ObjectMapper()
+
+    /**
+     * Returns a fingerprint of the supplied content, as a hex-encoded SHA-256 hash.
+     */
+    fun fingerprint(content: String): String = fingerprint(content.toByteArray(Charsets.UTF_8))
+
+    private fun fingerprint(content: ByteArray): String = MessageDigest.getInstance("SHA-256").digest(content).joinToString("") { "%02x".format(it) }
+  }
+}
@@ -0,0 +1,156 @@
+package io.github.ruedigerk.contractfirst.generator.incremental
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.node.JsonNodeFactory
+import com.fasterxml.jackson.databind.node.ObjectNode
+import io.github.ruedigerk.contractfirst.generator.model.*
+import io.github.ruedigerk.contractfirst.generator.parser.ParsedSchema
+import java.io.File
+import java.math.BigDecimal
+
+/**
+ * Converts parsed schemas to and from JSON trees, for persisting them in the state of an incremental generation.
+ */
+internal object SchemaCodec {
+
+  private val nodes = JsonNodeFactory.instance
+
+  fun toJson(id: SchemaId, parsedSchema: ParsedSchema): ObjectNode = nodes.objectNode().apply {
+    set<JsonNode>("id", toJson(id.position))
+    set<JsonNode>("references", nodes.arrayNode().addAll(parsedSchema.references.map { toJson(it.position) }))
+    set<JsonNode>("files", nodes.arrayNode().addAll(parsedSchema.files.map { nodes.textNode(it.path) }))
+    set<JsonNode>("schema", toJson(parsedSchema.schema))
+  }
+
+  fun fromJson(json: JsonNode): Pair<SchemaId, ParsedSchema> {
+    val id = SchemaId(positionFromJson(json.required("id")))
+    val references = json.required("references").map { SchemaId(positionFromJson(it)) }
+    val files = json.required("files").mapTo(mutableSetOf()) { File(it.textValue()) }
+
+    return id to ParsedSchema(schemaFromJson(json.required("schema")), references, files)
+  }
+
+  private fun toJson(position: Position): ObjectNode = nodes.objectNode().apply {
+    put("file", position.file.path)
+    set<JsonNode>("path", nodes.arrayNode().addAll(position.path.map(nodes::textNode)))
+  }
+
+  private fun positionFromJson(json: JsonNode): Position = Position.restore(File(json.required("file").textValue()), json.required("path").map { it.textValue() })
+
+  private fun toJson(schema: Schema): ObjectNode = nodes.objectNode().apply {
+    put("title", schema.title)
+    put("description", schema.description)
+    set<JsonNode>("position", toJson(schema.position))
+
+    when (schema) {
+      is ObjectSchema -> {
+        put("kind", "object")
+        set<JsonNode>("properties", nodes.arrayNode().addAll(schema.properties.map { property ->
+          nodes.objectNode().put("name", property.name).put("required", property.required).set<JsonNode>("schema", toJson(property.schema.position))
+        }))
+      }
+
+      is ArraySchema -> {
+        put("kind", "array")
+        set<JsonNode>("itemSchema", toJson(schema.itemSchema.position))
+        put("uniqueItems", schema.uniqueItems)
+        put("minItems", schema.minItems)
+        put("maxItems", schema.maxItems)
+      }
+
+      is MapSchema -> {
+        put("kind", "map")
+        set<JsonNode>("valuesSchema", toJson(schema.valuesSchema.position))
+        put("minItems", schema.minItems)
+        put("maxItems", schema.maxItems)
+      }
+
+      is PolymorphicSchema -> {
+        put("kind", "polymorphic")
+        put("discriminatorPropertyName", schema.discriminatorPropertyName)
+        set<JsonNode>("alternatives", nodes.arrayNode().addAll(schema.alternatives.map { alternative ->
+          nodes.objectNode().put("discriminatorValue", alternative.discriminatorValue).set<JsonNode>("schema", toJson(alternative.schema.position))
+        }))
+      }
+
+      is EnumSchema -> {
+        put("kind", "enum")
+        set<JsonNode>("values", nodes.arrayNode().addAll(schema.values.map(nodes::textNode)))
+      }
+
+      is PrimitiveSchema -> {
+        put("kind", "primitive")
+        put("type", schema.type.name)
+        put("format", schema.format)
+        // Decimals are stored as strings, so that their scale is preserved.
+        put("minimum", schema.minimum?.toString())
+        put("maximum", schema.maximum?.toString())
+        put("exclusiveMinimum", schema.exclusiveMinimum)
+        put("exclusiveMaximum", schema.exclusiveMaximum)
+        put("minLength", schema.minLength)
+        put("maxLength", schema.maxLength)
+        put("pattern", schema.pattern)
+        put("arbitraryPrecision", schema.arbitraryPrecision)
+      }
+    }
+  }
+
+  private fun schemaFromJson(json: JsonNode): Schema {
+    val title = json.required("title").textValue()
+    val description = json.required("description").textValue()
+    val position = positionFromJson(json.required("position"))
+
+    return when (val kind = json.required("kind").textValue()) {
+      "object" -> ObjectSchema(
+          title,
+          description,
+          json.required("properties").map { SchemaProperty(it.required("name").textValue(), it.required("required").booleanValue(), schemaIdFromJson(it.required("schema"))) },
+          position
+      )
+
+      "array" -> ArraySchema(
+          title,
+          description,
+          schemaIdFromJson(json.required("itemSchema")),
+          json.required("uniqueItems").booleanValue(),
+          json.intOrNull("minItems"),
+          json.intOrNull("maxItems"),
+          position
+      )
+
+      "map" -> MapSchema(title, description, schemaIdFromJson(json.required("valuesSchema")), json.intOrNull("minItems"), json.intOrNull("maxItems"), position)
+
+      "polymorphic" -> PolymorphicSchema(
+          title,
+          description,
+          json.required("discriminatorPropertyName").textValue(),
+          json.required("alternatives").map { DiscriminatedAlternative(it.required("discriminatorValue").textValue(), schemaIdFromJson(it.required("schema"))) },
+          position
+      )
+
+      "enum" -> EnumSchema(title, description, json.required("values").map { it.textValue() }, position)
+
+      "primitive" -> PrimitiveSchema(
+          title,
+          description,
+          PrimitiveType.valueOf(json.required("type").textValue()),
+          json.required("format").textValue(),
+          json.required("minimum").textValue()?.let(::BigDecimal),
+          json.required("maximum").textValue()?.let(::BigDecimal),
+          json.required("exclusiveMinimum").booleanValue(),
+          json.required("exclusiveMaximum").booleanValue(),
+          json.intOrNull("minLength"),
+          json.intOrNull("maxLength"),
+          json.required("pattern").textValue(),
+          json.required("arbitraryPrecision").takeUnless { it.isNull }?.booleanValue(),
+          position
+      )
+
+      else -> throw IllegalArgumentException("Unknown schema kind '$kind'")
+    }
+  }
+
+  private fun schemaIdFromJson(json: JsonNode): SchemaId = SchemaId(positionFromJson(json))
+
+  private fun JsonNode.intOrNull(fieldName: String): Int? = required(fieldName).takeUnless { it.isNull }?.intValue()
+}
@@ -5,14 +5,23 @@ package io.github.ruedigerk.contractfirst.generator.java
  */
 object Identifiers {
 
+  /**
+   * The maximum number of conversions remembered per kind of identifier. The same names, e.g., property names, are converted over and over again.
+   */
+  private const val CACHE_SIZE = 10_000
+
+  private val javaIdentifiers = BoundedCache<String, String>(CACHE_SIZE)
+  private val javaTypeIdentifiers = BoundedCache<String, String>(CACHE_SIZE)
+  private val javaConstants = BoundedCache<String, String>(CACHE_SIZE)
+
   @JvmStatic
-  fun String.toJavaIdentifier(): String = toCamelCase(false).prefixUnderscoreIfFirstCharIsNotValid()
+  fun String.toJavaIdentifier(): String = javaIdentifiers.getOrPut(this) { toCamelCase(false).prefixUnderscoreIfFirstCharIsNotValid() }
 
   @JvmStatic
-  fun String.toJavaTypeIdentifier(): String = toCamelCase().prefixUnderscoreIfFirstCharIsNotValid()
+  fun String.toJavaTypeIdentifier(): String = javaTypeIdentifiers.getOrPut(this) { toCamelCase().prefixUnderscoreIfFirstCharIsNotValid() }
 
   @JvmStatic
-  fun String.toJavaConstant(): String = toUpperSnakeCase().prefixUnderscoreIfFirstCharIsNotValid()
+  fun String.toJavaConstant(): String = javaConstants.getOrPut(this) { toUpperSnakeCase().prefixUnderscoreIfFirstCharIsNotValid() }
 
   @JvmStatic
   fun String.mediaTypeToJavaIdentifier(): String = this
@@ -72,3 +81,17 @@ object Identifiers {
     return builder.toString()
   }
 }
+
+
+/**
+ * A thread-safe cache, which evicts the least recently used entry when exceeding its maximum size.
+ */
+private class BoundedCache<K, V>(private val maxSize: Int) {
+
+  private val entries = object : LinkedHashMap<K, V>(16, 0.75f, true) {
+    override fun removeEldestEntry(eldest: MutableMap.MutableEntry<K, V>?): Boolean = size > maxSize
+  }
+
+  @Synchronized
+  fun getOrPut(key: K, compute: () -> V): V = entries.getOrPut(key, compute)
+}
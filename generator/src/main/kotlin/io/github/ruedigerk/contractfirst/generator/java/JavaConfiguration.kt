@@ -6,7 +6,6 @@ import io.github.ruedigerk.contractfirst.generator.Configuration
  * The configuration for the Java generators.
  */
 data class JavaConfiguration(
-    val outputDir: String,
     val apiPackage: String,
     val modelPackage: String,
     val supportPackage: String,
@@ -14,12 +13,19 @@ data class JavaConfiguration(
     val outputJavaPackageSchemaDirectoryPrefix: String,
     val modelNamePrefix: String,
     val useJsr305NullabilityAnnotations: Boolean,
+    val deduplicateInlineSchemas: Boolean,
+    val immutableModel: Boolean,
+    val usePrimitiveTypes: Boolean,
+    val lazyCollections: Boolean,
+    val unformattedNumbersAsDoubleAndLong: Boolean,
+    val generateValidateMethods: Boolean,
+    val byteBuffers: Boolean,
+    val asyncServerMethods: Boolean,
 ) {
 
   companion object {
 
     fun forFullSpecification(configuration: Configuration, apiPackagePrefix: String) = JavaConfiguration(
-        configuration.outputDir,
         configuration.outputJavaBasePackage + apiPackagePrefix,
         configuration.outputJavaBasePackage + ".model",
         configuration.outputJavaBasePackage + apiPackagePrefix + ".support",
@@ -27,17 +33,32 @@ data class JavaConfiguration(
         configuration.outputJavaPackageSchemaDirectoryPrefix,
         configuration.outputJavaModelNamePrefix,
         configuration.outputJavaModelUseJsr305NullabilityAnnotations,
+        configuration.outputJavaModelDeduplicateInlineSchemas,
+        configuration.outputJavaModelImmutable,
+        configuration.outputJavaModelUsePrimitiveTypes,
+        configuration.outputJavaModelLazyCollections,
+        configuration.outputJavaUnformattedNumbersAsDoubleAndLong,
+        configuration.outputJavaModelValidateMethods,
+        configuration.outputJavaModelByteBuffers,
+        configuration.outputJavaServerAsyncMethods,
     )
 
     fun forModelOnly(configuration: Configuration) = JavaConfiguration(
-        configuration.outputDir,
         configuration.outputJavaBasePackage,
         configuration.outputJavaBasePackage,
         configuration.outputJavaBasePackage,
         configuration.outputJavaPackageMirrorsSchemaDirectory,
         configuration.outputJavaPackageSchemaDirectoryPrefix,
         configuration.outputJavaModelNamePrefix,
-        configuration.outputJavaModelUseJsr305NullabilityAnnotations
+        configuration.outputJavaModelUseJsr305NullabilityAnnotations,
+        configuration.outputJavaModelDeduplicateInlineSchemas,
+        configuration.outputJavaModelImmutable,
+        configuration.outputJavaModelUsePrimitiveTypes,
+        configuration.outputJavaModelLazyCollections,
+        configuration.outputJavaUnformattedNumbersAsDoubleAndLong,
+        configuration.outputJavaModelValidateMethods,
+        configuration.outputJavaModelByteBuffers,
+        configuration.outputJavaServerAsyncMethods,
     )
   }
 }
\ No newline at end of file
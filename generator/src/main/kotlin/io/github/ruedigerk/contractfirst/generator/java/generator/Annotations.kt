@@ -51,7 +51,7 @@ object Annotations {
   /**
    * Returns whether the supplied value is outside the range of values representable with Java type long.
    */
-  private fun isRepresentableAsLong(value: BigInteger) = value <= BigInteger.valueOf(Long.MAX_VALUE) && value >= BigInteger.valueOf(Long.MIN_VALUE)
+  fun isRepresentableAsLong(value: BigInteger) = value <= BigInteger.valueOf(Long.MAX_VALUE) && value >= BigInteger.valueOf(Long.MIN_VALUE)
 
   private fun createMinMaxAnnotation(validation: IntegralValidation): AnnotationSpec {
     val name = when (validation.type) {
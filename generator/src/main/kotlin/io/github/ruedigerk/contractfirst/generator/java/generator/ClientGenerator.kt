@@ -30,19 +30,23 @@ import io.github.ruedigerk.contractfirst.generator.java.model.JavaRegularParamet
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaSpecification
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaType
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaTypeName
+import io.github.ruedigerk.contractfirst.generator.java.model.ValidatedValidation
 import io.github.ruedigerk.contractfirst.generator.model.DefaultStatusCode
 import io.github.ruedigerk.contractfirst.generator.model.StatusCode
-import java.io.File
+import io.github.ruedigerk.contractfirst.generator.output.OutputSink
 import java.util.Optional
 import javax.lang.model.element.Modifier
 
 /**
  * Generates the contract-specific code for an API client in Java.
  */
-class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) -> Unit {
+class ClientGenerator(
+    configuration: JavaConfiguration,
+    private val outputSink: OutputSink
+) : (JavaSpecification) -> Unit {
 
-  private val outputDir = File(configuration.outputDir)
   private val apiPackage = configuration.apiPackage
+  private val generateValidateMethods = configuration.generateValidateMethods
 
   override operator fun invoke(specification: JavaSpecification) {
     // The client does not generate cookie parameters. They have to be supplied by cookies in the HTTP client itself.
@@ -62,7 +66,7 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
   private fun generateApiClientClasses(specification: JavaSpecification) {
     specification.operationGroups.asSequence()
         .map(::createApiClientClass)
-        .forEach { it.writeTo(outputDir) }
+        .forEach(outputSink::write)
   }
 
   private fun generateErrorWithEntityExceptionClasses(specification: JavaSpecification) {
@@ -71,7 +75,7 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
         .flatMap { it.failureTypes }
         .distinct()
         .map { createClassForErrorWithEntityException(it) }
-        .forEach { it.writeTo(outputDir) }
+        .forEach(outputSink::write)
   }
 
   private fun createApiClientClass(operationGroup: JavaOperationGroup): JavaFile {
@@ -125,17 +129,28 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
         .toSet()
   }
 
+  /**
+   * Uses TypeToken.getParameterized instead of anonymous subclasses of TypeToken, so that no additional class has to be loaded for each constant.
+   */
   private fun generateTypeTokenConstant(type: JavaAnyType): FieldSpec {
-    val initializer = CodeBlock.of(
-        "new \$T<\$T>(){}.getType()",
-        "com.google.gson.reflect.TypeToken".toClassName(),
-        type.toTypeName()
-    )
     return FieldSpec.builder("java.lang.reflect.Type".toClassName(), constantsNameForGenericType(type), Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
-        .initializer(initializer)
+        .initializer(toReflectTypeExpression(type))
         .build()
   }
 
+  private fun toReflectTypeExpression(type: JavaAnyType): CodeBlock = when (type) {
+    is JavaCollectionType -> toParameterizedTypeExpression(type.name.toClassName(), toReflectTypeExpression(type.elementType))
+    is JavaMapType -> toParameterizedTypeExpression(type.name.toClassName(), CodeBlock.of("\$T.class", String::class.java), toReflectTypeExpression(type.valuesType))
+    is JavaType -> CodeBlock.of("\$T.class", type.name.toTypeName())
+  }
+
+  private fun toParameterizedTypeExpression(rawType: ClassName, vararg typeArguments: CodeBlock): CodeBlock = CodeBlock.of(
+      "\$T.getParameterized(\$T.class, \$L).getType()",
+      "com.google.gson.reflect.TypeToken".toClassName(),
+      rawType,
+      CodeBlock.join(typeArguments.toList(), ", ")
+  )
+
   private fun constantsNameForGenericType(type: JavaAnyType): String = when (type) {
     is JavaCollectionType -> type.name.simpleName.toJavaConstant() + "_OF_" + constantsNameForGenericType(type.elementType)
     is JavaMapType -> type.name.simpleName.toJavaConstant() + "_OF_" + constantsNameForGenericType(type.valuesType)
@@ -173,6 +188,13 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
     val codeBuilder = CodeBlock.builder()
 
     codeBuilder.add("\n")
+
+    if (generateValidateMethods) {
+      operation.parameters.filterIsInstance<JavaBodyParameter>()
+          .filter { it.javaType is JavaType && ValidatedValidation in it.javaType.validations }
+          .forEach { codeBuilder.add(createCodeForValidatingRequestBody(it)) }
+    }
+
     codeBuilder.addStatement("\$1T builder = new \$1T(\$2S, \$3S)", SupportTypes.OperationBuilder, operation.path, operation.httpMethod)
     codeBuilder.add("\n")
 
@@ -240,6 +262,19 @@ class ClientGenerator(configuration: JavaConfiguration) : (JavaSpecification) ->
     return codeBuilder.build()
   }
 
+  /**
+   * Validates a request body of a generated model type with its validate method, before sending it.
+   */
+  private fun createCodeForValidatingRequestBody(parameter: JavaBodyParameter): CodeBlock = CodeBlock.builder()
+      .beginControlFlow("if (\$N != null)", parameter.javaParameterName)
+      .addStatement("\$T violations = \$N.validate()", ParameterizedTypeName.get(List::class.java, String::class.java), parameter.javaParameterName)
+      .beginControlFlow("if (!violations.isEmpty())")
+      .addStatement("throw new \$T(\"Request body is invalid: \" + violations)", SupportTypes.ApiClientValidationException)
+      .endControlFlow()
+      .endControlFlow()
+      .add("\n")
+      .build()
+
   private fun typeNameOfResultClass(operation: JavaOperation): ClassName {
     return (operation.javaMethodName.toJavaTypeIdentifier() + "Result").toClassName()
   }
@@ -8,11 +8,30 @@ import javax.lang.model.element.Modifier
  * Used for generating the methods inherited from Object: equals, hashCode and toString.
  */
 object MethodsFromObject {
-  
-  fun generateEqualsHashCodeAndToString(thisClassName: ClassName, fields: List<FieldSpec>): List<MethodSpec> =
-      listOf(generateEquals(thisClassName, fields), generateHashCode(fields), generateToString(thisClassName, fields))
 
-  private fun generateEquals(thisTypeName: TypeName, fields: List<FieldSpec>): MethodSpec {
+  private val BOXED_PRIMITIVE_TYPES: Set<TypeName> = setOf(
+      TypeName.BOOLEAN.box(), TypeName.BYTE.box(), TypeName.SHORT.box(), TypeName.INT.box(), TypeName.LONG.box(), TypeName.CHAR.box(),
+      TypeName.FLOAT.box(), TypeName.DOUBLE.box()
+  )
+
+  /**
+   * Generates equals, hashCode and toString. The supplied enum types are used for comparing the cheapest fields first in equals. If a hash code cache
+   * field is supplied, hashCode stores the computed hash code in that field, which is only correct for immutable classes. Fields with an entry in
+   * fieldAccessors are accessed via the named getter instead of directly.
+   */
+  fun generateEqualsHashCodeAndToString(
+      thisClassName: ClassName,
+      fields: List<FieldSpec>,
+      enumTypes: Set<TypeName> = emptySet(),
+      hashCodeCacheField: FieldSpec? = null,
+      fieldAccessors: Map<FieldSpec, String> = emptyMap()
+  ): List<MethodSpec> = listOf(
+      generateEquals(thisClassName, fields, enumTypes, fieldAccessors),
+      generateHashCode(fields, hashCodeCacheField, fieldAccessors),
+      generateToString(thisClassName, fields, fieldAccessors)
+  )
+
+  private fun generateEquals(thisTypeName: TypeName, fields: List<FieldSpec>, enumTypes: Set<TypeName>, fieldAccessors: Map<FieldSpec, String>): MethodSpec {
     val localNameAllocator = NameAllocator()
     fields.forEach { localNameAllocator.newName(it.name, it) }
 
@@ -34,13 +53,14 @@ object MethodsFromObject {
     result.addStatement("if (\$1N == null || getClass() != \$1N.getClass()) return false", parameterName)
     result.addStatement("\$T \$N = (\$T) \$N", thisTypeName, otherName, thisTypeName, parameterName)
 
-    val firstFieldName = localNameAllocator[fields[0]]
-    result.addCode("\$[return $1T.equals($2L, $3N.$2L)", Objects::class.java, firstFieldName, otherName)
+    // Compare the fields that are cheapest to compare first, so that unequal objects are detected early. The sort is stable.
+    val comparisons = fields.sortedBy { equalsCost(it.type, enumTypes) }
+        .map { toEqualsComparison(it, access(it, localNameAllocator[it], fieldAccessors), otherName, enumTypes) }
 
-    for (index in 1..fields.lastIndex) {
-      val field = fields[index]
-      val fieldName = localNameAllocator[field]
-      result.addCode("\n&& $1T.equals($2L, $3N.$2L)", Objects::class.java, fieldName, otherName)
+    result.addCode("\$[return \$L", comparisons.first())
+
+    for (comparison in comparisons.drop(1)) {
+      result.addCode("\n&& \$L", comparison)
     }
 
     result.addCode(";\n$]")
@@ -48,7 +68,33 @@ object MethodsFromObject {
     return result.build()
   }
 
-  private fun generateHashCode(fields: List<FieldSpec>): MethodSpec {
+  private fun equalsCost(type: TypeName, enumTypes: Set<TypeName>): Int = when {
+    type.isPrimitive -> 0
+    type in enumTypes -> 1
+    type in BOXED_PRIMITIVE_TYPES -> 2
+    type is ParameterizedTypeName -> 4
+    type is ArrayTypeName -> 5
+    else -> 3
+  }
+
+  private fun toEqualsComparison(field: FieldSpec, access: CodeBlock, otherName: String, enumTypes: Set<TypeName>): CodeBlock = when {
+    field.type == TypeName.FLOAT -> CodeBlock.of("\$T.compare(\$L, \$N.\$L) == 0", Float::class.javaObjectType, access, otherName, access)
+    field.type == TypeName.DOUBLE -> CodeBlock.of("\$T.compare(\$L, \$N.\$L) == 0", Double::class.javaObjectType, access, otherName, access)
+    field.type.isPrimitive || field.type in enumTypes -> CodeBlock.of("\$L == \$N.\$L", access, otherName, access)
+    field.type is ArrayTypeName -> CodeBlock.of("\$T.equals(\$L, \$N.\$L)", Arrays::class.java, access, otherName, access)
+    else -> CodeBlock.of("\$T.equals(\$L, \$N.\$L)", Objects::class.java, access, otherName, access)
+  }
+
+  private fun access(field: FieldSpec, fieldName: String, fieldAccessors: Map<FieldSpec, String>): CodeBlock =
+      fieldAccessors[field]?.let { CodeBlock.of("\$N()", it) } ?: CodeBlock.of("\$L", fieldName)
+
+  /**
+   * Generates an unrolled hashCode computation, which does not allocate a varargs array like Objects.hash and does not box primitive fields. The result
+   * is the same as the one of Objects.hash.
+   *
+   * When caching, zero marks a hash code that has not been computed yet, like in String.hashCode. As the field is an int, racy writes are harmless.
+   */
+  private fun generateHashCode(fields: List<FieldSpec>, hashCodeCacheField: FieldSpec?, fieldAccessors: Map<FieldSpec, String>): MethodSpec {
     val localNameAllocator = NameAllocator()
     fields.forEach { localNameAllocator.newName(it.name, it) }
 
@@ -62,19 +108,37 @@ object MethodsFromObject {
       return result.build()
     }
 
-    result.addCode("\$[return Objects.hash(")
+    hashCodeCacheField?.let { localNameAllocator.newName(it.name, it) }
+    val resultName = localNameAllocator.newName("result")
 
-    for (index in 0 until fields.lastIndex) {
-      val field = fields[index]
-      result.addCode("\$N, ", field)
+    if (hashCodeCacheField != null) {
+      result.addStatement("int \$N = \$N", resultName, hashCodeCacheField)
+      result.beginControlFlow("if (\$N == 0)", resultName)
+      result.addStatement("\$N = 1", resultName)
+    } else {
+      result.addStatement("int \$N = 1", resultName)
     }
 
-    result.addCode("\$N", fields.last())
-    result.addCode(");\n\$]")
+    for (field in fields) {
+      result.addStatement("\$1N = 31 * \$1N + \$2L", resultName, toHashCodeExpression(field, access(field, localNameAllocator[field], fieldAccessors)))
+    }
+
+    if (hashCodeCacheField != null) {
+      result.addStatement("\$N = \$N", hashCodeCacheField, resultName)
+      result.endControlFlow()
+    }
+
+    result.addStatement("return \$N", resultName)
 
     return result.build()
   }
 
+  private fun toHashCodeExpression(field: FieldSpec, access: CodeBlock): CodeBlock = when {
+    field.type.isPrimitive -> CodeBlock.of("\$T.hashCode(\$L)", field.type.box(), access)
+    field.type is ArrayTypeName -> CodeBlock.of("\$T.hashCode(\$L)", Arrays::class.java, access)
+    else -> CodeBlock.of("\$T.hashCode(\$L)", Objects::class.java, access)
+  }
+
   /**
    * TODO: Generate more fancy indented toString like OpenAPI-Generator? Example:
    *
@@ -95,7 +159,7 @@ object MethodsFromObject {
    *    return o.toString().replace("\n", "\n    ");
    *  }
    */
-  private fun generateToString(thisClassName: ClassName, fields: List<FieldSpec>): MethodSpec {
+  private fun generateToString(thisClassName: ClassName, fields: List<FieldSpec>, fieldAccessors: Map<FieldSpec, String>): MethodSpec {
     val nameAllocator = NameAllocator()
     fields.forEach { nameAllocator.newName(it.name, it) }
 
@@ -107,9 +171,11 @@ object MethodsFromObject {
     val builderName = nameAllocator.newName("builder")
     result.addStatement("$1T $2N = new $1T()", StringBuilder::class.java, builderName)
 
+    // Arrays can hold large binary data, so only their length is included.
     for (field in fields) {
-      val fieldName = nameAllocator[field]
-      result.addStatement("\$N.append(\", \$N=\").append(\$L)", builderName, field.name, fieldName)
+      val access = access(field, nameAllocator[field], fieldAccessors)
+      val value = if (field.type is ArrayTypeName) CodeBlock.of("\$1L == null ? null : \$1L.length + \" bytes\"", access) else access
+      result.addStatement("\$N.append(\", \$N=\").append(\$L)", builderName, field.name, value)
     }
 
     result.addStatement("return builder.replace(0, 2, \"\$L{\").append('}').toString()", thisClassName.simpleName())
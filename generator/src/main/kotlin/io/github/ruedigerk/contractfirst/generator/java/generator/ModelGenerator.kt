@@ -1,6 +1,7 @@
 package io.github.ruedigerk.contractfirst.generator.java.generator
 
 import com.squareup.javapoet.*
+import io.github.ruedigerk.contractfirst.generator.incremental.IncrementalGeneration
 import io.github.ruedigerk.contractfirst.generator.java.Identifiers.capitalize
 import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
 import io.github.ruedigerk.contractfirst.generator.java.generator.Annotations.jsr305NullabilityAnnotation
@@ -10,31 +11,68 @@ import io.github.ruedigerk.contractfirst.generator.java.generator.JavapoetExtens
 import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toClassName
 import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toTypeName
 import io.github.ruedigerk.contractfirst.generator.java.model.*
-import java.io.File
+import io.github.ruedigerk.contractfirst.generator.output.OutputSink
+import java.util.*
+import javax.lang.model.element.Modifier
 import javax.lang.model.element.Modifier.*
 
 /**
  * Generates the code for the model classes.
  */
-class ModelGenerator(configuration: JavaConfiguration) {
+class ModelGenerator(
+    configuration: JavaConfiguration,
+    private val outputSink: OutputSink
+) {
 
-  private val outputDir = File(configuration.outputDir)
   private val useJsr305Nullability = configuration.useJsr305NullabilityAnnotations
+  private val immutableModel = configuration.immutableModel
+  private val usePrimitiveTypes = configuration.usePrimitiveTypes
+  private val lazyCollections = configuration.lazyCollections
+  private val generateValidateMethods = configuration.generateValidateMethods
 
   fun generateCode(javaSourceFiles: List<JavaSourceFile>) {
+    val enumTypes = javaSourceFiles.filterIsInstance<JavaEnumFile>().map { it.typeName.toClassName() }.toSet<TypeName>()
+
     javaSourceFiles.asSequence()
-        .map(::toJavaFile)
-        .forEach(::writeFile)
+        .map { toJavaFile(it, enumTypes) }
+        .forEach(outputSink::write)
   }
 
-  private fun writeFile(javaFile: JavaFile) {
-    javaFile.writeTo(outputDir)
+  /**
+   * Generates the code for the supplied source files, except for those whose generated file exists and whose fingerprint equals the supplied previous
+   * fingerprint. Returns the fingerprints of all source files, by the paths of their generated files relative to the output directory.
+   */
+  fun generateCode(javaSourceFiles: List<JavaSourceFile>, previousFingerprints: Map<String, String>): Map<String, String> {
+    val enumTypes = javaSourceFiles.filterIsInstance<JavaEnumFile>().map { it.typeName.toClassName() }.toSet<TypeName>()
+    val fingerprints = linkedMapOf<String, String>()
+
+    javaSourceFiles.forEach { sourceFile ->
+      val path = OutputSink.pathOf(sourceFile.typeName.packageName, sourceFile.typeName.simpleName + ".java")
+      val fingerprint = fingerprintOf(sourceFile, enumTypes)
+      fingerprints[path] = fingerprint
+
+      if (previousFingerprints[path] != fingerprint || !outputSink.exists(path)) {
+        outputSink.write(toJavaFile(sourceFile, enumTypes))
+      }
+    }
+
+    return fingerprints
   }
 
-  private fun toJavaFile(sourceFile: JavaSourceFile): JavaFile {
+  /**
+   * The fingerprint covers everything the generated code depends on, i.e., the source file and which of its property types are enums. The configuration is
+   * not covered.
+   */
+  private fun fingerprintOf(sourceFile: JavaSourceFile, enumTypes: Set<TypeName>): String {
+    val enumProperties = if (sourceFile is JavaClassFile) sourceFile.properties.filter { it.type.name.toTypeName() in enumTypes }.map { it.javaName } else emptyList()
+    return IncrementalGeneration.fingerprint("$sourceFile $enumProperties")
+  }
+
+  private fun toJavaFile(sourceFile: JavaSourceFile, enumTypes: Set<TypeName>): JavaFile {
     val typeSpec = when (sourceFile) {
-      is JavaClassFile -> toJavaClass(sourceFile)
+      is JavaClassFile -> toJavaClass(sourceFile, enumTypes)
       is JavaEnumFile -> toJavaEnum(sourceFile)
+      is JavaInterfaceFile -> toJavaInterface(sourceFile)
     }
 
     return JavaFile.builder(sourceFile.typeName.packageName, typeSpec)
@@ -42,30 +80,262 @@ class ModelGenerator(configuration: JavaConfiguration) {
         .build()
   }
 
-  private fun toJavaClass(classFile: JavaClassFile): TypeSpec {
+  private fun toJavaClass(classFile: JavaClassFile, enumTypes: Set<TypeName>): TypeSpec =
+      if (immutableModel) toImmutableJavaClass(classFile, enumTypes) else toMutableJavaClass(classFile, enumTypes)
+
+  private fun toMutableJavaClass(classFile: JavaClassFile, enumTypes: Set<TypeName>): TypeSpec {
     val fields = classFile.properties.map(::toField)
     val accessors = classFile.properties.flatMap { generateAccessorMethods(it, classFile.typeName) }
-    val equalsHashCodeAndToString = MethodsFromObject.generateEqualsHashCodeAndToString(classFile.typeName.toClassName(), fields)
 
-    return TypeSpec.classBuilder(classFile.typeName.toClassName())
+    // Lazily initialized collections are compared via their getters, so that a missing collection equals an empty one, like with eager initialization.
+    val lazyCollectionGetters = fields.zip(classFile.properties)
+        .filter { (_, property) -> isLazyCollection(property) }
+        .associate { (field, property) -> field to getterName(property) }
+    val equalsHashCodeAndToString = MethodsFromObject.generateEqualsHashCodeAndToString(
+        classFile.typeName.toClassName(), fields, enumTypes, fieldAccessors = lazyCollectionGetters
+    )
+
+    val (validationConstants, validateMethods) = generateValidateMethods(classFile)
+    val typeAdapterFactory = if (needsModelTypeAdapterFactory(classFile)) toModelTypeAdapterFactory(classFile, toSetterNewInstanceCode(classFile)) else null
+    val className = classFile.typeName.toClassName()
+
+    return TypeSpec.classBuilder(className)
         .doIfNotNull(classFile.javadoc) { addJavadoc("\$L", it) }
         .addModifiers(PUBLIC)
+        .doIf(typeAdapterFactory != null) { addAnnotation(jsonAdapterAnnotation(className.nestedClass("GsonTypeAdapterFactory"))) }
+        .addSuperinterfaces(classFile.interfaces.map { it.toClassName() })
+        .addFields(validationConstants)
         .addFields(fields)
         .addMethods(accessors)
+        .addMethods(validateMethods)
+        .addMethods(equalsHashCodeAndToString)
+        .doIfNotNull(typeAdapterFactory) { addType(it) }
+        .build()
+  }
+
+  /**
+   * Mutable classes need a generated type adapter factory to reject missing primitive properties, and to be read and written by
+   * DiscriminatorTypeAdapterFactory without buffering the properties following the discriminator property. As Gson prefers the factory of an
+   * implementation over the one of the polymorphic type when writing it as an element of a collection, the factory writes its discriminator properties too.
+   */
+  private fun needsModelTypeAdapterFactory(classFile: JavaClassFile): Boolean = classFile.interfaces.isNotEmpty() || classFile.properties.any(::isPrimitive)
+
+  /**
+   * Generates the code creating an instance of a mutable class with the no-args constructor and setting the properties present in the JSON with their
+   * setters. Properties missing in the JSON keep their initial values, like when Gson reads the class reflectively.
+   */
+  private fun toSetterNewInstanceCode(classFile: JavaClassFile): CodeBlock = CodeBlock.builder()
+      .addStatement("\$1T instance = new \$1T()", classFile.typeName.toClassName())
+      .apply {
+        classFile.properties.forEachIndexed { index, property ->
+          beginControlFlow("if (values.isPresent(\$L))", index)
+          addStatement("instance.set\$L(values.get(\$L))", property.javaName.capitalize(), index)
+          endControlFlow()
+        }
+      }
+      .addStatement("return instance")
+      .build()
+
+  /**
+   * Generates a final class with final fields, that are set by an all-args constructor, and without setters. As instances can not change, the hash code
+   * is cached. Gson reads the class with a nested type adapter factory, that passes the values read to the all-args constructor, so that collections are
+   * copied like when calling it directly.
+   */
+  private fun toImmutableJavaClass(classFile: JavaClassFile, enumTypes: Set<TypeName>): TypeSpec {
+    val className = classFile.typeName.toClassName()
+    val fields = classFile.properties.map(::toFinalField)
+    val hashCodeCacheField = toHashCodeCacheField(classFile.properties)
+    val constructor = generateConstructor(classFile.properties)
+    val getters = classFile.properties.map { generateGetter(it, toPropertyTypeName(it)) }
+    val equalsHashCodeAndToString = MethodsFromObject.generateEqualsHashCodeAndToString(classFile.typeName.toClassName(), fields, enumTypes, hashCodeCacheField)
+    val (validationConstants, validateMethods) = generateValidateMethods(classFile)
+
+    val newInstanceCode = CodeBlock.builder()
+        .addStatement("return new \$T(\$L)", className, CodeBlock.join(classFile.properties.indices.map { CodeBlock.of("values.get(\$L)", it) }, ",\$W"))
+        .build()
+    val typeAdapterFactory = toModelTypeAdapterFactory(classFile, newInstanceCode)
+
+    return TypeSpec.classBuilder(className)
+        .doIfNotNull(classFile.javadoc) { addJavadoc("\$L", it) }
+        .addModifiers(PUBLIC, FINAL)
+        .addAnnotation(jsonAdapterAnnotation(className.nestedClass(typeAdapterFactory.name)))
+        .addSuperinterfaces(classFile.interfaces.map { it.toClassName() })
+        .addFields(validationConstants)
+        .addFields(fields)
+        .doIf(classFile.properties.isNotEmpty()) { addField(hashCodeCacheField) }
+        .addMethod(constructor)
+        .addMethods(getters)
+        .addMethods(validateMethods)
         .addMethods(equalsHashCodeAndToString)
+        .addType(typeAdapterFactory)
+        .build()
+  }
+
+  /**
+   * Generates the nested subclass of ModelTypeAdapterFactory, with which Gson reads and writes the class. It registers the properties in the order of the
+   * fields and the discriminator values of the polymorphic types, creates the instance with the supplied code of the newInstance method from the values
+   * read, and returns the values of the fields for writing.
+   */
+  private fun toModelTypeAdapterFactory(classFile: JavaClassFile, newInstanceCode: CodeBlock): TypeSpec {
+    val className = classFile.typeName.toClassName()
+
+    val constructor = MethodSpec.constructorBuilder()
+        .addModifiers(PUBLIC)
+        .addStatement("super(\$T.class)", className)
+        .apply {
+          classFile.properties.forEach { property ->
+            if (isPrimitive(property)) {
+              addStatement("registerPrimitiveProperty(\$S, \$T.class)", property.originalName, toPropertyTypeName(property))
+            } else {
+              addStatement("registerProperty(\$S, \$L)", property.originalName, toReflectTypeExpression(property.type))
+            }
+          }
+          classFile.discriminatorValues.forEach { (propertyName, value) -> addStatement("registerDiscriminator(\$S, \$S)", propertyName, value) }
+        }
+        .build()
+
+    val newInstanceMethod = MethodSpec.methodBuilder("newInstance")
+        .addAnnotation(Override::class.java)
+        .addModifiers(PROTECTED)
+        .returns(className)
+        .addParameter(MODEL_TYPE_ADAPTER_FACTORY.nestedClass("PropertyValues"), "values")
+        .addCode(newInstanceCode)
+        .build()
+
+    val valuesOfMethod = MethodSpec.methodBuilder("valuesOf")
+        .addAnnotation(Override::class.java)
+        .addModifiers(PROTECTED)
+        .returns(ArrayTypeName.of(Object::class.java))
+        .addParameter(className, "instance")
+        .addStatement("return new \$T[] {\$L}", Object::class.java, CodeBlock.join(classFile.properties.map { CodeBlock.of("instance.\$N", it.javaName) }, ",\$W"))
+        .build()
+
+    return TypeSpec.classBuilder(className.nestedClass("GsonTypeAdapterFactory"))
+        .addJavadoc("Reads and writes \$T by the values of its properties.\n", className)
+        .addModifiers(PUBLIC, STATIC, FINAL)
+        .superclass(ParameterizedTypeName.get(MODEL_TYPE_ADAPTER_FACTORY, className))
+        .addMethod(constructor)
+        .addMethod(newInstanceMethod)
+        .addMethod(valuesOfMethod)
         .build()
   }
 
+  private fun jsonAdapterAnnotation(typeAdapterFactoryName: ClassName): AnnotationSpec =
+      AnnotationSpec.builder(JSON_ADAPTER).addMember("value", "\$T.class", typeAdapterFactoryName).build()
+
+  private fun toReflectTypeExpression(type: JavaAnyType): CodeBlock = when (type) {
+    is JavaCollectionType -> toParameterizedTypeExpression(type.name.toClassName(), toReflectTypeExpression(type.elementType))
+    is JavaMapType -> toParameterizedTypeExpression(type.name.toClassName(), CodeBlock.of("\$T.class", String::class.java), toReflectTypeExpression(type.valuesType))
+    is JavaType -> CodeBlock.of("\$T.class", type.name.toTypeName())
+  }
+
+  private fun toParameterizedTypeExpression(rawType: ClassName, vararg typeArguments: CodeBlock): CodeBlock = CodeBlock.of(
+      "\$T.getParameterized(\$T.class, \$L).getType()",
+      ClassName.get("com.google.gson.reflect", "TypeToken"),
+      rawType,
+      CodeBlock.join(typeArguments.toList(), ", ")
+  )
+
+  private fun generateValidateMethods(classFile: JavaClassFile): Pair<List<FieldSpec>, List<MethodSpec>> =
+      if (generateValidateMethods) ValidateMethodGenerator(classFile.properties, ::isPrimitive).generate() else emptyList<FieldSpec>() to emptyList()
+
+  /**
+   * The hash code cache field is transient, so that Gson neither serializes nor deserializes it.
+   */
+  private fun toHashCodeCacheField(properties: List<JavaProperty>): FieldSpec {
+    val nameAllocator = NameAllocator()
+    properties.forEach { nameAllocator.newName(it.javaName) }
+
+    return FieldSpec.builder(TypeName.INT, nameAllocator.newName("cachedHashCode"), PRIVATE, TRANSIENT).build()
+  }
+
+  /**
+   * Generates the all-args constructor. Gson reads the class with its type adapter factory, which calls it as well.
+   */
+  private fun generateConstructor(properties: List<JavaProperty>): MethodSpec = MethodSpec.constructorBuilder()
+      .addModifiers(PUBLIC)
+      .addParameters(properties.map { toSetterParameterSpec(toPropertyTypeName(it), it) })
+      .apply { properties.forEach { addStatement("this.\$N = \$L", it.javaName, toConstructorAssignedValue(it)) } }
+      .build()
+
+  /**
+   * Collections are copied into unmodifiable collections, so that the caller can not modify them afterwards.
+   */
+  private fun toConstructorAssignedValue(property: JavaProperty): CodeBlock {
+    val initializerType = property.initializerType?.toTypeName() ?: return CodeBlock.of("\$N", property.javaName)
+    val unmodifiableMethod = when (property.type.name) {
+      JavaTypeName.SET -> "unmodifiableSet"
+      JavaTypeName.MAP -> "unmodifiableMap"
+      else -> "unmodifiableList"
+    }
+
+    return CodeBlock.of(
+        "\$1N == null\$W? \$2L\$W: \$3T.\$4L(new \$5T<>(\$1N))", property.javaName, emptyCollection(property), COLLECTIONS, unmodifiableMethod, initializerType
+    )
+  }
+
+  private fun emptyCollection(property: JavaProperty): CodeBlock {
+    val emptyMethod = when (property.type.name) {
+      JavaTypeName.SET -> "emptySet"
+      JavaTypeName.MAP -> "emptyMap"
+      else -> "emptyList"
+    }
+
+    return CodeBlock.of("\$T.\$L()", COLLECTIONS, emptyMethod)
+  }
+
   private fun generateAccessorMethods(property: JavaProperty, declaringTypeName: JavaTypeName): List<MethodSpec> {
-    val propertyTypeName = property.type.toTypeName()
+    val propertyTypeName = toPropertyTypeName(property)
 
     val getter = generateGetter(property, propertyTypeName)
     val setter = generateSetter(property, propertyTypeName)
     val builder = generateBuilderSetter(property, declaringTypeName, propertyTypeName)
 
+    if (isLazyCollection(property)) {
+      return listOf(builder, generateAddOrPutMethod(property, declaringTypeName), getter, setter)
+    }
+
     return listOf(builder, getter, setter)
   }
 
+  /**
+   * Generates an add method for a List or Set and a put method for a Map, that allocates the collection on demand.
+   */
+  private fun generateAddOrPutMethod(property: JavaProperty, declaringTypeName: JavaTypeName): MethodSpec {
+    val builder = MethodSpec.methodBuilder(if (property.type is JavaMapType) "put${property.javaName.capitalize()}Item" else "add${property.javaName.capitalize()}Item")
+        .addModifiers(PUBLIC)
+        .returns(declaringTypeName.toClassName())
+
+    val nameAllocator = NameAllocator()
+    nameAllocator.newName(property.javaName)
+
+    when (val type = property.type) {
+      is JavaMapType -> {
+        val keyName = nameAllocator.newName("key")
+        val valueName = nameAllocator.newName("value")
+        builder.addParameter(String::class.java, keyName)
+        builder.addParameter(type.valuesType.toTypeName(), valueName)
+        addLazyInitialization(builder, property)
+        builder.addStatement("this.\$N.put(\$N, \$N)", property.javaName, keyName, valueName)
+      }
+      is JavaCollectionType -> {
+        val itemName = nameAllocator.newName("item")
+        builder.addParameter(type.elementType.toTypeName(), itemName)
+        addLazyInitialization(builder, property)
+        builder.addStatement("this.\$N.add(\$N)", property.javaName, itemName)
+      }
+      is JavaType -> error("Property ${property.javaName} is not a collection: $type")
+    }
+
+    return builder.addStatement("return this").build()
+  }
+
+  private fun addLazyInitialization(builder: MethodSpec.Builder, property: JavaProperty) {
+    builder.beginControlFlow("if (this.\$N == null)", property.javaName)
+        .addStatement("this.\$N = new \$T<>()", property.javaName, property.initializerType!!.toTypeName())
+        .endControlFlow()
+  }
+
   private fun generateSetter(property: JavaProperty, propertyTypeName: TypeName): MethodSpec =
       MethodSpec.methodBuilder("set${property.javaName.capitalize()}")
           .addModifiers(PUBLIC)
@@ -84,30 +354,60 @@ class ModelGenerator(configuration: JavaConfiguration) {
 
   private fun toSetterParameterSpec(propertyTypeName: TypeName, property: JavaProperty): ParameterSpec =
       ParameterSpec.builder(propertyTypeName, property.javaName)
-          .doIf(useJsr305Nullability) { addAnnotation(jsr305NullabilityAnnotation(property.required)) }
+          .doIf(useJsr305Nullability && !isPrimitive(property)) { addAnnotation(jsr305NullabilityAnnotation(property.required)) }
           .build()
 
   private fun generateGetter(property: JavaProperty, propertyTypeName: TypeName): MethodSpec {
-    return MethodSpec.methodBuilder("get${property.javaName.capitalize()}")
-        .doIf(useJsr305Nullability) { addAnnotation(jsr305NullabilityAnnotation(property.required)) }
+    // Lazily initialized collections are never returned as null.
+    val getter = MethodSpec.methodBuilder(getterName(property))
+        .doIf(useJsr305Nullability && !isPrimitive(property)) { addAnnotation(jsr305NullabilityAnnotation(property.required || isLazyCollection(property))) }
         .addModifiers(PUBLIC)
         .returns(propertyTypeName)
-        .addStatement("return \$N", property.javaName)
-        .build()
+
+    if (isLazyCollection(property)) {
+      getter.addStatement("return \$1N == null ? \$2L : \$1N", property.javaName, emptyCollection(property))
+    } else {
+      getter.addStatement("return \$N", property.javaName)
+    }
+
+    return getter.build()
   }
 
-  private fun toField(property: JavaProperty): FieldSpec {
+  private fun getterName(property: JavaProperty): String = "get${property.javaName.capitalize()}"
+
+  private fun toField(property: JavaProperty): FieldSpec = toFieldBuilder(property, PRIVATE)
+      .doIf(!isLazyCollection(property)) { doIfNotNull(property.initializerType) { initializer("new \$T<>()", it.toTypeName()) } }
+      .build()
+
+  /**
+   * Only optional collections are initialized lazily, so that required collections are never null, like with eager initialization. Immutable classes
+   * already share the empty collections.
+   */
+  private fun isLazyCollection(property: JavaProperty): Boolean = lazyCollections && !immutableModel && !property.required && property.initializerType != null
+
+  private fun toFinalField(property: JavaProperty): FieldSpec = toFieldBuilder(property, PRIVATE, FINAL).build()
+
+  private fun toFieldBuilder(property: JavaProperty, vararg modifiers: Modifier): FieldSpec.Builder {
     val typeValidationAnnotations = property.type.validations.map(Annotations::toAnnotation)
 
-    return FieldSpec.builder(property.type.toTypeName(true), property.javaName, PRIVATE)
+    return FieldSpec.builder(toPropertyTypeName(property, true), property.javaName, *modifiers)
         .doIfNotNull(property.javadoc) { addJavadoc("\$L", it) }
-        .doIf(property.required) { addAnnotation(Annotations.NOT_NULL_ANNOTATION) }
+        .doIf(property.required && !isPrimitive(property)) { addAnnotation(Annotations.NOT_NULL_ANNOTATION) }
         .doIf(property.javaName != property.originalName) { addAnnotation(serializedNameAnnotation(property.originalName)) }
         .addAnnotations(typeValidationAnnotations)
-        .doIfNotNull(property.initializerType) { initializer("new \$T<>()", it.toTypeName()) }
-        .build()
   }
 
+  private fun toPropertyTypeName(property: JavaProperty, withValidationAnnotations: Boolean = false): TypeName {
+    val typeName = property.type.toTypeName(withValidationAnnotations)
+    return if (isPrimitive(property)) typeName.unbox() else typeName
+  }
+
+  /**
+   * Required properties can not be null, so they are represented by primitive types, if configured. Gson does not reject missing primitive properties by
+   * itself, so classes with primitive properties are read with a generated subclass of ModelTypeAdapterFactory, that does.
+   */
+  private fun isPrimitive(property: JavaProperty): Boolean = usePrimitiveTypes && property.required && property.type.name in PRIMITIVE_WRAPPER_TYPES
+
   private fun toJavaEnum(enumFile: JavaEnumFile): TypeSpec {
     // If any of the enum constants has a name, that is not equal to its java name, then generate a "complex" enum, where the toString method returns the
     // original name, so that enums are properly serialized for x-www-form-urlencoded request bodies.
@@ -167,5 +467,68 @@ class ModelGenerator(configuration: JavaConfiguration) {
     return builder.build()
   }
 
+  /**
+   * Generates the interface of a polymorphic type. Gson reads and writes it with a nested subclass of DiscriminatorTypeAdapterFactory, that registers
+   * the implementing classes with their discriminator values.
+   */
+  private fun toJavaInterface(interfaceFile: JavaInterfaceFile): TypeSpec {
+    val interfaceName = interfaceFile.typeName.toClassName()
+    val factoryName = interfaceName.nestedClass("GsonTypeAdapterFactory")
+
+    val factoryConstructor = MethodSpec.constructorBuilder()
+        .addModifiers(PUBLIC)
+        .addStatement("super(\$T.class, \$S)", interfaceName, interfaceFile.discriminatorPropertyName)
+        .apply {
+          interfaceFile.subtypes.forEach {
+            val subtypeName = it.typeName.toClassName()
+            addStatement("registerSubtype(\$S, \$T.class, new \$T())", it.discriminatorValue, subtypeName, subtypeName.nestedClass("GsonTypeAdapterFactory"))
+          }
+        }
+        .build()
+
+    val factory = TypeSpec.classBuilder(factoryName)
+        .addJavadoc("Reads and writes the implementations of \$T, telling them apart by discriminator property \$S.\n", interfaceName, interfaceFile.discriminatorPropertyName)
+        .addModifiers(PUBLIC, STATIC, FINAL)
+        .superclass(ParameterizedTypeName.get(DISCRIMINATOR_TYPE_ADAPTER_FACTORY, interfaceName))
+        .addMethod(factoryConstructor)
+        .build()
+
+    return TypeSpec.interfaceBuilder(interfaceName)
+        .doIfNotNull(interfaceFile.javadoc) { addJavadoc("\$L", it) }
+        .addModifiers(PUBLIC)
+        .addAnnotation(jsonAdapterAnnotation(factoryName))
+        .doIf(generateValidateMethods) { addMethods(abstractValidateMethods()) }
+        .addType(factory)
+        .build()
+  }
+
+  /**
+   * The validate methods of the implementing classes, declared in the interface, so that properties of a polymorphic type can be validated.
+   */
+  private fun abstractValidateMethods(): List<MethodSpec> {
+    val violationsType = ParameterizedTypeName.get(ClassName.get(List::class.java), ClassName.get(String::class.java))
+
+    return listOf(
+        MethodSpec.methodBuilder("validate")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .returns(violationsType)
+            .build(),
+        MethodSpec.methodBuilder("validate")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .addParameter(String::class.java, "path")
+            .addParameter(violationsType, "violations")
+            .build()
+    )
+  }
+
   private fun serializedNameAnnotation(originalName: String) = toAnnotation("com.google.gson.annotations.SerializedName", originalName)
+
+  companion object {
+
+    private val COLLECTIONS = ClassName.get(Collections::class.java)
+    private val JSON_ADAPTER = ClassName.get("com.google.gson.annotations", "JsonAdapter")
+    private val DISCRIMINATOR_TYPE_ADAPTER_FACTORY = ClassName.get("io.github.ruedigerk.contractfirst.generator.support.gson", "DiscriminatorTypeAdapterFactory")
+    private val MODEL_TYPE_ADAPTER_FACTORY = ClassName.get("io.github.ruedigerk.contractfirst.generator.support.gson", "ModelTypeAdapterFactory")
+    private val PRIMITIVE_WRAPPER_TYPES = setOf(JavaTypeName.BOOLEAN, JavaTypeName.INTEGER, JavaTypeName.LONG, JavaTypeName.FLOAT, JavaTypeName.DOUBLE)
+  }
 }
\ No newline at end of file
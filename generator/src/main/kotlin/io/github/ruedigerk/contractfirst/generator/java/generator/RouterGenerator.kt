@@ -0,0 +1,383 @@
+package io.github.ruedigerk.contractfirst.generator.java.generator
+
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
+import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterSpec
+import com.squareup.javapoet.TypeSpec
+import io.github.ruedigerk.contractfirst.generator.java.Identifiers.capitalize
+import io.github.ruedigerk.contractfirst.generator.java.Identifiers.mediaTypeToJavaIdentifier
+import io.github.ruedigerk.contractfirst.generator.java.Identifiers.toJavaConstant
+import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
+import io.github.ruedigerk.contractfirst.generator.java.generator.JavapoetExtensions.doIfNotNull
+import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toClassName
+import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toTypeName
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaAnyType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaBodyParameter
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaCollectionType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaContent
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaEnumFile
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaMapType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaMultipartBodyParameter
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaOperation
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaOperationGroup
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaParameter
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaRegularParameter
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaResponse
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaSpecification
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaTypeName
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.model.DefaultStatusCode
+import io.github.ruedigerk.contractfirst.generator.model.ParameterLocation.COOKIE
+import io.github.ruedigerk.contractfirst.generator.model.ParameterLocation.HEADER
+import io.github.ruedigerk.contractfirst.generator.model.ParameterLocation.PATH
+import io.github.ruedigerk.contractfirst.generator.model.ParameterLocation.QUERY
+import io.github.ruedigerk.contractfirst.generator.model.StatusCode
+import io.github.ruedigerk.contractfirst.generator.output.OutputSink
+import javax.lang.model.element.Modifier.ABSTRACT
+import javax.lang.model.element.Modifier.FINAL
+import javax.lang.model.element.Modifier.PRIVATE
+import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.element.Modifier.STATIC
+
+/**
+ * Generates server stubs, that do not need a JAX-RS container, and a router dispatching requests directly to them. The generated interfaces have the same
+ * structure as those of the JAX-RS server stubs, but without annotations, and their typesafe response classes extend the RouterResponse of the router
+ * support module. The generated router adds a route for each operation to a path trie, and converts parameters and entities with generated code instead of
+ * reflection.
+ */
+class RouterGenerator(
+    private val configuration: JavaConfiguration,
+    private val log: Log,
+    private val outputSink: OutputSink
+) : (JavaSpecification) -> Unit {
+
+  private val apiPackage = configuration.apiPackage
+
+  override operator fun invoke(specification: JavaSpecification) {
+    val enumTypes = specification.modelFiles.filterIsInstance<JavaEnumFile>().map { it.typeName }.toSet()
+    val supportedOperationsByGroup = specification.operationGroups.associateWith { group -> group.operations.filter { isSupported(it, enumTypes) } }
+
+    supportedOperationsByGroup.asSequence()
+        .map { (operationGroup, operations) -> toJavaInterface(operationGroup, operations) }
+        .forEach(outputSink::write)
+
+    outputSink.write(toRouterClass(supportedOperationsByGroup, enumTypes))
+  }
+
+  /**
+   * Form and multipart request bodies, parameters of types that can not be converted from strings, and path templates with more than one variable in a
+   * segment are not supported by the router.
+   */
+  private fun isSupported(operation: JavaOperation, enumTypes: Set<JavaTypeName>): Boolean {
+    val reason = when {
+      operation.parameters.any { it is JavaMultipartBodyParameter } -> "Request body media type ${operation.requestBodyMediaType} is not supported"
+      operation.parameters.any { it is JavaRegularParameter && converter(it.javaType, enumTypes) == null } -> "A parameter type is not supported"
+      operation.path.split('/').any { segment -> segment.count { it == '{' } > 1 } -> "Path segments with multiple parameters are not supported"
+      else -> return true
+    }
+
+    log.warn { "$reason in the router generator for operation '${operation.httpMethod} ${operation.path}'. No method will be generated." }
+    return false
+  }
+
+  private fun toJavaInterface(operationGroup: JavaOperationGroup, operations: List<JavaOperation>): JavaFile {
+    val operationsToTypesafeResponseClass = operations.associateWith(::toTypesafeResponseClass)
+    val methodSpecs = operationsToTypesafeResponseClass.map { (operation, typesafeClass) -> toOperationMethod(operation, typesafeClass) }
+
+    val interfaceSpec = TypeSpec.interfaceBuilder(operationGroup.javaIdentifier)
+        .addModifiers(PUBLIC)
+        .addMethods(methodSpecs)
+        .addTypes(operationsToTypesafeResponseClass.values)
+        .build()
+
+    return JavaFile.builder(apiPackage, interfaceSpec)
+        .skipJavaLangImports(true)
+        .build()
+  }
+
+  private fun toOperationMethod(operation: JavaOperation, typesafeResponseClass: TypeSpec): MethodSpec {
+    val parameters = operation.parameters.map { ParameterSpec.builder(it.javaType.toTypeName(), it.javaParameterName).build() }
+
+    return MethodSpec.methodBuilder(operation.javaMethodName)
+        .doIfNotNull(operation.javadoc) { addJavadoc("\$L", it) }
+        .addModifiers(PUBLIC, ABSTRACT)
+        .returns(typesafeResponseClass.name.toClassName())
+        .addParameters(parameters)
+        .build()
+  }
+
+  private fun toTypesafeResponseClass(operation: JavaOperation): TypeSpec {
+    val className = operation.javaMethodName.capitalize() + "Response"
+
+    val responseMethodsWithStatusCode = operation.responses
+        .filter { it.statusCode is StatusCode }
+        .flatMap { response ->
+          if (response.contents.isEmpty()) {
+            listOf(toTypesafeEmptyResponseMethod(response, className))
+          } else {
+            response.contents.map { content -> toTypesafeResponseMethod(response, content, className) }
+          }
+        }
+
+    val defaultResponseMethods = operation.responses
+        .filter { it.statusCode is DefaultStatusCode }
+        .flatMap { response -> response.contents.map { content -> toTypesafeDefaultResponseMethod(content, className) } }
+
+    val customResponseMethod = MethodSpec.methodBuilder("withCustomResponse")
+        .addModifiers(PUBLIC, STATIC)
+        .returns(className.toClassName())
+        .addParameter(Integer.TYPE, "status")
+        .addParameter(String::class.java, "contentType")
+        .addParameter(Object::class.java, "entity")
+        .addStatement("return new \$N(status, contentType, entity)", className)
+        .build()
+
+    val constructor = MethodSpec.constructorBuilder()
+        .addModifiers(PRIVATE)
+        .addParameter(Integer.TYPE, "status")
+        .addParameter(String::class.java, "contentType")
+        .addParameter(Object::class.java, "entity")
+        .addStatement("super(status, contentType, entity)")
+        .build()
+
+    return TypeSpec.classBuilder(className)
+        .addModifiers(PUBLIC, STATIC)
+        .superclass(ROUTER_RESPONSE)
+        .addMethod(constructor)
+        .addMethods(responseMethodsWithStatusCode)
+        .addMethods(defaultResponseMethods)
+        .addMethod(customResponseMethod)
+        .build()
+  }
+
+  private fun toTypesafeResponseMethod(response: JavaResponse, content: JavaContent, className: String): MethodSpec {
+    val statusCode = (response.statusCode as StatusCode).code
+    val mediaTypeAsIdentifier = content.mediaType.mediaTypeToJavaIdentifier()
+    val methodName = "with$statusCode$mediaTypeAsIdentifier"
+
+    return MethodSpec.methodBuilder(methodName)
+        .addModifiers(PUBLIC, STATIC)
+        .returns(className.toClassName())
+        .addParameter(content.javaType.toTypeName(), "entity")
+        .addStatement("return new \$N(\$L, \$S, entity)", className, statusCode, content.mediaType)
+        .build()
+  }
+
+  private fun toTypesafeEmptyResponseMethod(response: JavaResponse, className: String): MethodSpec {
+    val statusCode = (response.statusCode as StatusCode).code
+    val methodName = "with$statusCode"
+
+    return MethodSpec.methodBuilder(methodName)
+        .addModifiers(PUBLIC, STATIC)
+        .returns(className.toClassName())
+        .addStatement("return new \$N(\$L, null, null)", className, statusCode)
+        .build()
+  }
+
+  private fun toTypesafeDefaultResponseMethod(content: JavaContent, className: String): MethodSpec {
+    val mediaTypeAsIdentifier = content.mediaType.mediaTypeToJavaIdentifier()
+    val methodName = "with$mediaTypeAsIdentifier"
+
+    return MethodSpec.methodBuilder(methodName)
+        .addModifiers(PUBLIC, STATIC)
+        .returns(className.toClassName())
+        .addParameter(Integer.TYPE, "status")
+        .addParameter(content.javaType.toTypeName(), "entity")
+        .addStatement("return new \$N(status, \$S, entity)", className, content.mediaType)
+        .build()
+  }
+
+  private fun toRouterClass(supportedOperationsByGroup: Map<JavaOperationGroup, List<JavaOperation>>, enumTypes: Set<JavaTypeName>): JavaFile {
+    val routerClassName = ClassName.get(apiPackage, ROUTER_CLASS_NAME)
+
+    val genericBodyTypes = supportedOperationsByGroup.values.flatten()
+        .flatMap { it.parameters }
+        .filterIsInstance<JavaBodyParameter>()
+        .map { it.javaType }
+        .filter { it.isGenericType }
+        .distinct()
+
+    val defaultConstructor = MethodSpec.constructorBuilder()
+        .addModifiers(PUBLIC)
+        .addJavadoc("Creates a router, that reads and writes entities with a GsonBodyCodec.\n")
+        .addStatement("super(new \$T())", GSON_BODY_CODEC)
+        .build()
+
+    val codecConstructor = MethodSpec.constructorBuilder()
+        .addModifiers(PUBLIC)
+        .addParameter(BODY_CODEC, "codec")
+        .addStatement("super(codec)")
+        .build()
+
+    val registerMethods = supportedOperationsByGroup.map { (operationGroup, operations) ->
+      toRegisterMethod(routerClassName, operationGroup, operations, enumTypes)
+    }
+
+    val classSpec = TypeSpec.classBuilder(routerClassName)
+        .addModifiers(PUBLIC)
+        .superclass(ROUTER)
+        .addJavadoc(
+            "Dispatches requests to the registered implementations of the generated interfaces.\n" +
+                "Mount it with a RouterHttpHandler on the JDK's HttpServer, or with a RouterServlet in a servlet container.\n"
+        )
+        .addFields(genericBodyTypes.map(::toTypeConstant))
+        .addMethod(defaultConstructor)
+        .addMethod(codecConstructor)
+        .addMethods(registerMethods)
+        .build()
+
+    return JavaFile.builder(apiPackage, classSpec)
+        .skipJavaLangImports(true)
+        .build()
+  }
+
+  private fun toRegisterMethod(
+      routerClassName: ClassName,
+      operationGroup: JavaOperationGroup,
+      operations: List<JavaOperation>,
+      enumTypes: Set<JavaTypeName>
+  ): MethodSpec {
+    val builder = MethodSpec.methodBuilder("register${operationGroup.javaIdentifier}")
+        .addModifiers(PUBLIC)
+        .returns(routerClassName)
+        .addJavadoc("Adds the routes for the operations of the supplied implementation.\n")
+        .addParameter(ClassName.get(apiPackage, operationGroup.javaIdentifier), "implementation")
+
+    operations.forEach { operation -> builder.addCode(toAddRouteStatement(operation, enumTypes)) }
+
+    return builder.addStatement("return this").build()
+  }
+
+  private fun toAddRouteStatement(operation: JavaOperation, enumTypes: Set<JavaTypeName>): CodeBlock {
+    val arguments = operation.parameters.map { toArgumentExpression(it, enumTypes) }
+    val consumedMediaType = operation.requestBodyMediaType?.let { CodeBlock.of("\$S", it) } ?: CodeBlock.of("null")
+
+    val argumentList = if (arguments.isEmpty()) {
+      CodeBlock.of("")
+    } else {
+      CodeBlock.of("\n\$L", CodeBlock.join(arguments, ",\n"))
+    }
+
+    return CodeBlock.builder()
+        .addStatement(
+            "addRoute(\$S, \$S, \$L, (request, pathParameters) -> implementation.\$N(\$L))",
+            operation.httpMethod.name,
+            operation.path,
+            consumedMediaType,
+            operation.javaMethodName,
+            argumentList
+        )
+        .build()
+  }
+
+  private fun toArgumentExpression(parameter: JavaParameter, enumTypes: Set<JavaTypeName>): CodeBlock = when (parameter) {
+    is JavaRegularParameter -> toParameterExpression(parameter, enumTypes)
+    is JavaBodyParameter -> CodeBlock.of("readBody(request, \$L, \$L)", toTypeExpression(parameter.javaType), parameter.required)
+    is JavaMultipartBodyParameter -> error("Unsupported parameter: $parameter")
+  }
+
+  private fun toParameterExpression(parameter: JavaRegularParameter, enumTypes: Set<JavaTypeName>): CodeBlock {
+    val name = parameter.originalName
+    val type = parameter.javaType
+    val isCollection = type is JavaCollectionType
+
+    val rawValue = when (parameter.location) {
+      PATH -> CodeBlock.of("pathParameters.get(\$S)", name)
+      QUERY -> if (isCollection) CodeBlock.of("request.getQueryParameters(\$S)", name) else CodeBlock.of("request.getQueryParameter(\$S)", name)
+      HEADER -> if (isCollection) CodeBlock.of("request.getHeaders(\$S)", name) else CodeBlock.of("request.getHeader(\$S)", name)
+      COOKIE -> CodeBlock.of("request.getCookie(\$S)", name)
+    }
+
+    // Arrays in path and cookie parameters are serialized as comma-separated values.
+    val value = if (isCollection && (parameter.location == PATH || parameter.location == COOKIE)) {
+      CodeBlock.of("\$T.split(\$L)", PARAMETERS, rawValue)
+    } else {
+      rawValue
+    }
+
+    val conversionMethod = when {
+      type !is JavaCollectionType -> "single"
+      type.name == JavaTypeName.SET -> "set"
+      else -> "list"
+    }
+
+    val converter = converter(type, enumTypes) ?: error("Unsupported parameter type: $type")
+
+    return if (converter.isEmpty) {
+      CodeBlock.of("\$T.\$L(\$S, \$L, \$L)", PARAMETERS, conversionMethod, name, value, parameter.required)
+    } else {
+      CodeBlock.of("\$T.\$L(\$S, \$L, \$L, \$L)", PARAMETERS, conversionMethod, name, value, converter, parameter.required)
+    }
+  }
+
+  /**
+   * Returns the expression of the function converting a parameter value from a string, an empty CodeBlock for strings, or null, if the type is not
+   * supported.
+   */
+  private fun converter(type: JavaAnyType, enumTypes: Set<JavaTypeName>): CodeBlock? {
+    val elementType = when (type) {
+      is JavaType -> type
+      is JavaCollectionType -> type.elementType as? JavaType ?: return null
+      is JavaMapType -> return null
+    }
+
+    return when (val typeName = elementType.name) {
+      JavaTypeName.STRING -> CodeBlock.of("")
+      JavaTypeName.BOOLEAN -> CodeBlock.of("\$T::toBoolean", PARAMETERS)
+      JavaTypeName.INTEGER, JavaTypeName.LONG, JavaTypeName.FLOAT, JavaTypeName.DOUBLE -> CodeBlock.of("\$T::valueOf", typeName.toClassName())
+      JavaTypeName.BIG_INTEGER, JavaTypeName.BIG_DECIMAL -> CodeBlock.of("\$T::new", typeName.toClassName())
+      JavaTypeName.LOCAL_DATE, JavaTypeName.OFFSET_DATE_TIME -> CodeBlock.of("\$T::parse", typeName.toClassName())
+      in enumTypes -> CodeBlock.of("\$T.toEnum(\$T.class)", PARAMETERS, typeName.toClassName())
+      else -> null
+    }
+  }
+
+  private fun toTypeExpression(type: JavaAnyType): CodeBlock = when {
+    type.isGenericType -> CodeBlock.of("\$N", constantsNameForGenericType(type))
+    else -> CodeBlock.of("\$T.class", type.toTypeName())
+  }
+
+  /**
+   * Uses TypeToken.getParameterized instead of anonymous subclasses of TypeToken, so that no additional class has to be loaded for each constant.
+   */
+  private fun toTypeConstant(type: JavaAnyType): FieldSpec =
+      FieldSpec.builder(ClassName.get("java.lang.reflect", "Type"), constantsNameForGenericType(type), PRIVATE, STATIC, FINAL)
+          .initializer(toReflectTypeExpression(type))
+          .build()
+
+  private fun toReflectTypeExpression(type: JavaAnyType): CodeBlock = when (type) {
+    is JavaCollectionType -> toParameterizedTypeExpression(type.name.toClassName(), toReflectTypeExpression(type.elementType))
+    is JavaMapType -> toParameterizedTypeExpression(type.name.toClassName(), CodeBlock.of("\$T.class", String::class.java), toReflectTypeExpression(type.valuesType))
+    is JavaType -> CodeBlock.of("\$T.class", type.toTypeName())
+  }
+
+  private fun toParameterizedTypeExpression(rawType: ClassName, vararg typeArguments: CodeBlock): CodeBlock = CodeBlock.of(
+      "\$T.getParameterized(\$T.class, \$L).getType()",
+      ClassName.get("com.google.gson.reflect", "TypeToken"),
+      rawType,
+      CodeBlock.join(typeArguments.toList(), ", ")
+  )
+
+  private fun constantsNameForGenericType(type: JavaAnyType): String = when (type) {
+    is JavaCollectionType -> type.name.simpleName.toJavaConstant() + "_OF_" + constantsNameForGenericType(type.elementType)
+    is JavaMapType -> type.name.simpleName.toJavaConstant() + "_OF_" + constantsNameForGenericType(type.valuesType)
+    is JavaType -> type.name.simpleName.toJavaConstant()
+  }
+
+  companion object {
+
+    const val ROUTER_CLASS_NAME = "ApiRouter"
+
+    private const val ROUTER_SUPPORT_PACKAGE = "io.github.ruedigerk.contractfirst.generator.server.router"
+
+    private val ROUTER = ClassName.get(ROUTER_SUPPORT_PACKAGE, "Router")
+    private val ROUTER_RESPONSE = ClassName.get(ROUTER_SUPPORT_PACKAGE, "RouterResponse")
+    private val BODY_CODEC = ClassName.get(ROUTER_SUPPORT_PACKAGE, "BodyCodec")
+    private val GSON_BODY_CODEC = ClassName.get(ROUTER_SUPPORT_PACKAGE, "GsonBodyCodec")
+    private val PARAMETERS = ClassName.get(ROUTER_SUPPORT_PACKAGE, "Parameters")
+  }
+}
@@ -2,9 +2,12 @@ package io.github.ruedigerk.contractfirst.generator.java.generator
 
 import com.squareup.javapoet.AnnotationSpec
 import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
 import com.squareup.javapoet.JavaFile
 import com.squareup.javapoet.MethodSpec
 import com.squareup.javapoet.ParameterSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
 import com.squareup.javapoet.TypeSpec
 import io.github.ruedigerk.contractfirst.generator.java.Identifiers.capitalize
 import io.github.ruedigerk.contractfirst.generator.java.Identifiers.mediaTypeToJavaIdentifier
@@ -15,14 +18,21 @@ import io.github.ruedigerk.contractfirst.generator.java.generator.JavapoetExtens
 import io.github.ruedigerk.contractfirst.generator.java.generator.JavapoetExtensions.doIfNotNull
 import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toClassName
 import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toTypeName
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaAnyType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaCollectionType
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaContent
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaMapType
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaMultipartBodyParameter
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaMultipartBodyParameter.BodyPartType.ATTACHMENT
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaMultipartBodyParameter.BodyPartType.PRIMITIVE
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaOperation
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaOperationGroup
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaParameter
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaRegularParameter
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaResponse
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaSpecification
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaTypeName
 import io.github.ruedigerk.contractfirst.generator.logging.Log
 import io.github.ruedigerk.contractfirst.generator.model.DefaultStatusCode
 import io.github.ruedigerk.contractfirst.generator.model.HttpMethod
@@ -31,7 +41,8 @@ import io.github.ruedigerk.contractfirst.generator.model.ParameterLocation.HEADE
 import io.github.ruedigerk.contractfirst.generator.model.ParameterLocation.PATH
 import io.github.ruedigerk.contractfirst.generator.model.ParameterLocation.QUERY
 import io.github.ruedigerk.contractfirst.generator.model.StatusCode
-import java.io.File
+import io.github.ruedigerk.contractfirst.generator.output.OutputSink
+import java.util.concurrent.CompletionStage
 import javax.lang.model.element.Modifier.ABSTRACT
 import javax.lang.model.element.Modifier.PRIVATE
 import javax.lang.model.element.Modifier.PUBLIC
@@ -42,17 +53,17 @@ import javax.lang.model.element.Modifier.STATIC
  */
 class ServerStubGenerator(
     private val configuration: JavaConfiguration,
-    private val log: Log
+    private val log: Log,
+    private val outputSink: OutputSink
 ) : (JavaSpecification) -> Unit {
 
-  private val outputDir = File(configuration.outputDir)
   private val apiPackage = configuration.apiPackage
   private val supportPackage = configuration.supportPackage
 
   override operator fun invoke(specification: JavaSpecification) {
     specification.operationGroups.asSequence()
         .map(::toJavaInterface)
-        .forEach { it.writeTo(outputDir) }
+        .forEach(outputSink::write)
 
     writeResponseWrapperClass()
   }
@@ -60,12 +71,16 @@ class ServerStubGenerator(
   private fun toJavaInterface(operationGroup: JavaOperationGroup): JavaFile {
     val operationsToTypesafeResponseClass = operationGroup.operations.associateWith(::toTypesafeResponseClass)
     val methodSpecs = operationsToTypesafeResponseClass.mapNotNull { (operation, typesafeClass) -> toOperationMethod(operation, typesafeClass) }
+    val multipartRequestBodyClasses = operationGroup.operations
+        .filter { it.requestBodyMediaType == MULTIPART_FORM_DATA }
+        .map(::toMultipartRequestBodyClass)
 
     val interfaceSpec = TypeSpec.interfaceBuilder(operationGroup.javaIdentifier)
         .addModifiers(PUBLIC)
         .addAnnotation(pathAnnotation(""))
         .addMethods(methodSpecs)
         .addTypes(operationsToTypesafeResponseClass.values)
+        .addTypes(multipartRequestBodyClasses)
         .build()
 
     return JavaFile.builder(apiPackage, interfaceSpec)
@@ -74,7 +89,7 @@ class ServerStubGenerator(
   }
 
   private fun toOperationMethod(operation: JavaOperation, typesafeResponseClass: TypeSpec): MethodSpec? {
-    if (operation.requestBodyMediaType?.startsWith("multipart/") == true) {
+    if (operation.requestBodyMediaType?.startsWith("multipart/") == true && operation.requestBodyMediaType != MULTIPART_FORM_DATA) {
       log.warn {
         "Request body media type ${operation.requestBodyMediaType} is not supported in the server generator for operation " +
             "'${operation.httpMethod} ${operation.path}'. No method will be generated."
@@ -82,20 +97,118 @@ class ServerStubGenerator(
       return null
     }
 
-    val parameters = operation.parameters.map(::toParameterSpec)
+    val multipart = operation.requestBodyMediaType == MULTIPART_FORM_DATA
+    val parameters = if (multipart) {
+      operation.parameters.filter { it !is JavaMultipartBodyParameter }.map(::toParameterSpec) + multipartRequestBodyParameter(operation)
+    } else {
+      operation.parameters.map(::toParameterSpec)
+    }
+    val javadoc = if (multipart) multipartOperationJavadoc(operation) else operation.javadoc
 
     return MethodSpec.methodBuilder(operation.javaMethodName)
-        .doIfNotNull(operation.javadoc) { addJavadoc("\$L", it) }
+        .doIfNotNull(javadoc) { addJavadoc("\$L", it) }
         .addAnnotation(httpMethodAnnotation(operation.httpMethod))
         .addAnnotation(pathAnnotation(operation.path))
         .doIfNotNull(operation.requestBodyMediaType) { addAnnotation(consumesAnnotation(it)) }
         .addAnnotation(producesAnnotation(operation.responses))
+        .addAnnotation(contractOperationAnnotation(operation))
         .addModifiers(PUBLIC, ABSTRACT)
-        .returns(typesafeResponseClass.name.toClassName())
+        .returns(returnType(typesafeResponseClass.name.toClassName()))
         .addParameters(parameters)
         .build()
   }
 
+  /**
+   * The parts of a multipart request body are passed as a single parameter, as JAX-RS has no standard way of binding them to method parameters. Its class
+   * has a getter for each part.
+   */
+  private fun multipartRequestBodyParameter(operation: JavaOperation): ParameterSpec {
+    return ParameterSpec.builder(multipartRequestBodyClassName(operation).toClassName(), "requestBody")
+        .addAnnotation(NOT_NULL_ANNOTATION)
+        .build()
+  }
+
+  /**
+   * The Javadoc of the parts is moved to the getters of the request body class.
+   */
+  private fun multipartOperationJavadoc(operation: JavaOperation): String? {
+    val partNames = operation.parameters.filterIsInstance<JavaMultipartBodyParameter>().map { it.javaParameterName }.toSet()
+    val javadoc = operation.javadoc
+        ?.lines()
+        ?.filterNot { line -> partNames.any { line.startsWith("@param $it ") } }
+        ?.joinToString("\n")
+        ?.trim()
+        ?: ""
+    val requestBodyParam = "@param requestBody the parts of the multipart request body"
+
+    return if (javadoc.isEmpty()) requestBodyParam else javadoc + (if (javadoc.contains("@param ")) "\n" else "\n\n") + requestBodyParam
+  }
+
+  private fun multipartRequestBodyClassName(operation: JavaOperation) = operation.javaMethodName.capitalize() + "RequestBody"
+
+  /**
+   * Generates the class of a multipart request body, which is read by the StreamingMultipartFeature of the server support. Attachments are streamed from
+   * memory or from temporary files, complex parts are parsed with Gson, when their getters are called.
+   */
+  private fun toMultipartRequestBodyClass(operation: JavaOperation): TypeSpec {
+    val className = multipartRequestBodyClassName(operation)
+    val parts = operation.parameters.filterIsInstance<JavaMultipartBodyParameter>()
+    val requiredPartNames = parts.filter { it.required }.map { CodeBlock.of("\$S", it.originalName) }
+
+    val constructor = MethodSpec.constructorBuilder()
+        .addModifiers(PUBLIC)
+        .addParameter(MULTIPART_FORM_DATA_CLASS, "formData")
+        .addStatement("super(\$L)", CodeBlock.join(listOf(CodeBlock.of("formData")) + requiredPartNames, ", "))
+        .build()
+
+    return TypeSpec.classBuilder(className)
+        .addModifiers(PUBLIC, STATIC)
+        .superclass(MULTIPART_REQUEST_BODY_CLASS)
+        .addMethod(constructor)
+        .addMethods(parts.map(::toPartGetter))
+        .build()
+  }
+
+  private fun toPartGetter(part: JavaMultipartBodyParameter): MethodSpec {
+    val type = part.javaType
+    val statement = when {
+      part.bodyPartType == ATTACHMENT && type is JavaCollectionType -> CodeBlock.of("return getAttachments(\$S)", part.originalName)
+      part.bodyPartType == ATTACHMENT -> CodeBlock.of("return getAttachment(\$S)", part.originalName)
+      part.bodyPartType == PRIMITIVE && type is JavaCollectionType -> CodeBlock.of("return getPrimitives(\$S, \$L)", part.originalName, toReflectTypeExpression(type.elementType))
+      part.bodyPartType == PRIMITIVE -> CodeBlock.of("return getPrimitive(\$S, \$L)", part.originalName, toReflectTypeExpression(type))
+      else -> CodeBlock.of("return getComplex(\$S, \$L)", part.originalName, toReflectTypeExpression(type))
+    }
+
+    return MethodSpec.methodBuilder("get" + part.javaParameterName.capitalize())
+        .doIfNotNull(part.javadoc) { addJavadoc("\$L", it) }
+        .addModifiers(PUBLIC)
+        .returns(type.toTypeName())
+        .addStatement(statement)
+        .build()
+  }
+
+  private fun toReflectTypeExpression(type: JavaAnyType): CodeBlock = when (type) {
+    is JavaCollectionType -> toParameterizedTypeExpression(type.name.toClassName(), toReflectTypeExpression(type.elementType))
+    is JavaMapType -> toParameterizedTypeExpression(type.name.toClassName(), CodeBlock.of("\$T.class", String::class.java), toReflectTypeExpression(type.valuesType))
+    is JavaType -> CodeBlock.of("\$T.class", type.name.toTypeName())
+  }
+
+  private fun toParameterizedTypeExpression(rawType: ClassName, vararg typeArguments: CodeBlock): CodeBlock = CodeBlock.of(
+      "\$T.getParameterized(\$T.class, \$L).getType()",
+      "com.google.gson.reflect.TypeToken".toClassName(),
+      rawType,
+      CodeBlock.join(typeArguments.toList(), ", ")
+  )
+
+  /**
+   * Asynchronous methods return a CompletionStage of the response class, which JAX-RS 2.1 resolves without blocking a container thread.
+   */
+  private fun returnType(responseClassName: ClassName): TypeName = if (configuration.asyncServerMethods) {
+    ParameterizedTypeName.get(ClassName.get(CompletionStage::class.java), responseClassName)
+  } else {
+    responseClassName
+  }
+
   private fun toParameterSpec(parameter: JavaParameter): ParameterSpec {
     val typeValidationAnnotations = parameter.javaType.validations.map(Annotations::toAnnotation)
 
@@ -132,6 +245,17 @@ class ServerStubGenerator(
     return toAnnotation("javax.ws.rs.Produces", mediaTypes)
   }
 
+  /**
+   * Identifies the operation of the contract at runtime, e.g., for recording metrics per operation, as JAX-RS itself only knows the Java method.
+   */
+  private fun contractOperationAnnotation(operation: JavaOperation): AnnotationSpec {
+    return AnnotationSpec.builder(CONTRACT_OPERATION_ANNOTATION)
+        .addMember("operationId", "\$S", operation.operationId ?: operation.javaMethodName)
+        .addMember("method", "\$S", operation.httpMethod.name.uppercase())
+        .addMember("path", "\$S", operation.path)
+        .build()
+  }
+
   private fun consumesAnnotation(mediaType: String): AnnotationSpec {
     return toAnnotation("javax.ws.rs.Consumes", mediaType)
   }
@@ -146,7 +270,9 @@ class ServerStubGenerator(
           if (response.contents.isEmpty()) {
             listOf(toTypesafeEmptyResponseMethod(response, className))
           } else {
-            response.contents.map { content -> toTypesafeResponseMethod(response, content, className) }
+            response.contents.flatMap { content ->
+              listOfNotNull(toTypesafeResponseMethod(response, content, className), toPrecompressedResponseMethod(response, content, className))
+            }
           }
         }
 
@@ -190,6 +316,26 @@ class ServerStubGenerator(
         .build()
   }
 
+  /**
+   * Hot static resources can be responded with an entity serialized and compressed only once. Not generated for binary contents, that are streams anyway.
+   */
+  private fun toPrecompressedResponseMethod(response: JavaResponse, content: JavaContent, className: String): MethodSpec? {
+    if (content.javaType is JavaType && content.javaType.name == JavaTypeName.INPUT_STREAM) {
+      return null
+    }
+
+    val statusCode = (response.statusCode as StatusCode).code
+    val mediaTypeAsIdentifier = content.mediaType.mediaTypeToJavaIdentifier()
+    val methodName = "with$statusCode${mediaTypeAsIdentifier}Precompressed"
+
+    return MethodSpec.methodBuilder(methodName)
+        .addModifiers(PUBLIC, STATIC)
+        .returns(className.toClassName())
+        .addParameter(PRECOMPRESSED_ENTITY, "entity")
+        .addStatement("return new \$N(Response.status(\$L).header(\"Content-Type\", \$S).entity(entity).build())", className, statusCode, content.mediaType)
+        .build()
+  }
+
   private fun toTypesafeEmptyResponseMethod(response: JavaResponse, className: String): MethodSpec {
     val statusCode = (response.statusCode as StatusCode).code
     val methodName = "with$statusCode"
@@ -215,11 +361,17 @@ class ServerStubGenerator(
   }
 
   private fun writeResponseWrapperClass() {
-    TemplateFileWriter(configuration).writeTemplateFile(supportPackage, "$RESPONSE_WRAPPER_CLASS_NAME.java")
+    TemplateFileWriter(outputSink).writeTemplateFile(supportPackage, "$RESPONSE_WRAPPER_CLASS_NAME.java")
   }
 
   companion object {
 
     const val RESPONSE_WRAPPER_CLASS_NAME = "ResponseWrapper"
+
+    private val CONTRACT_OPERATION_ANNOTATION = ClassName.get("io.github.ruedigerk.contractfirst.generator.server", "ContractOperation")
+    private const val MULTIPART_FORM_DATA = "multipart/form-data"
+    private val MULTIPART_FORM_DATA_CLASS = ClassName.get("io.github.ruedigerk.contractfirst.generator.server.multipart", "MultipartFormData")
+    private val MULTIPART_REQUEST_BODY_CLASS = ClassName.get("io.github.ruedigerk.contractfirst.generator.server.multipart", "MultipartRequestBody")
+    private val PRECOMPRESSED_ENTITY = ClassName.get("io.github.ruedigerk.contractfirst.generator.server.encoding", "PrecompressedEntity")
   }
 }
@@ -0,0 +1,330 @@
+package io.github.ruedigerk.contractfirst.generator.java.generator
+
+import com.squareup.javapoet.AnnotationSpec
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeSpec
+import com.squareup.javapoet.WildcardTypeName
+import io.github.ruedigerk.contractfirst.generator.java.Identifiers.capitalize
+import io.github.ruedigerk.contractfirst.generator.java.Identifiers.mediaTypeToJavaIdentifier
+import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
+import io.github.ruedigerk.contractfirst.generator.java.generator.Annotations.NOT_NULL_ANNOTATION
+import io.github.ruedigerk.contractfirst.generator.java.generator.Annotations.toAnnotation
+import io.github.ruedigerk.contractfirst.generator.java.generator.JavapoetExtensions.doIf
+import io.github.ruedigerk.contractfirst.generator.java.generator.JavapoetExtensions.doIfNotNull
+import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toClassName
+import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toTypeName
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaAnyType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaBodyParameter
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaCollectionType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaContent
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaMultipartBodyParameter
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaOperation
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaOperationGroup
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaRegularParameter
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaResponse
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaSpecification
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaTypeName
+import io.github.ruedigerk.contractfirst.generator.java.model.ValidatedValidation
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.model.DefaultStatusCode
+import io.github.ruedigerk.contractfirst.generator.model.ParameterLocation.COOKIE
+import io.github.ruedigerk.contractfirst.generator.model.ParameterLocation.HEADER
+import io.github.ruedigerk.contractfirst.generator.model.ParameterLocation.PATH
+import io.github.ruedigerk.contractfirst.generator.model.ParameterLocation.QUERY
+import io.github.ruedigerk.contractfirst.generator.model.StatusCode
+import io.github.ruedigerk.contractfirst.generator.output.OutputSink
+import javax.lang.model.element.Modifier.ABSTRACT
+import javax.lang.model.element.Modifier.PRIVATE
+import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.element.Modifier.STATIC
+
+/**
+ * Generates the code for reactive Spring WebFlux server stubs. The generated interfaces have the same structure as those of the JAX-RS server stubs, but
+ * their methods return a Mono of the typesafe response class, which is a Spring ResponseEntity. Request bodies are passed as Mono or, for arrays and
+ * binary data, as Flux. Array response entities can be supplied as Flux, to stream them.
+ */
+class SpringWebFluxGenerator(
+    private val configuration: JavaConfiguration,
+    private val log: Log,
+    private val outputSink: OutputSink
+) : (JavaSpecification) -> Unit {
+
+  private val apiPackage = configuration.apiPackage
+  private val supportPackage = configuration.supportPackage
+
+  override operator fun invoke(specification: JavaSpecification) {
+    specification.operationGroups.asSequence()
+        .map(::toJavaInterface)
+        .forEach(outputSink::write)
+
+    writeResponseEntityWrapperClass()
+  }
+
+  private fun toJavaInterface(operationGroup: JavaOperationGroup): JavaFile {
+    val supportedOperations = operationGroup.operations.filter(::isSupported)
+    val operationsToTypesafeResponseClass = supportedOperations.associateWith(::toTypesafeResponseClass)
+    val methodSpecs = operationsToTypesafeResponseClass.map { (operation, typesafeClass) -> toOperationMethod(operation, typesafeClass) }
+
+    val interfaceSpec = TypeSpec.interfaceBuilder(operationGroup.javaIdentifier)
+        .addModifiers(PUBLIC)
+        .addAnnotation(REQUEST_MAPPING)
+        .addMethods(methodSpecs)
+        .addTypes(operationsToTypesafeResponseClass.values)
+        .build()
+
+    return JavaFile.builder(apiPackage, interfaceSpec)
+        .skipJavaLangImports(true)
+        .build()
+  }
+
+  /**
+   * Form and multipart request bodies are not bound to method parameters by Spring WebFlux, but have to be read from the exchange.
+   */
+  private fun isSupported(operation: JavaOperation): Boolean {
+    if (operation.parameters.none { it is JavaMultipartBodyParameter }) {
+      return true
+    }
+
+    log.warn {
+      "Request body media type ${operation.requestBodyMediaType} is not supported in the Spring WebFlux generator for operation " +
+          "'${operation.httpMethod} ${operation.path}'. No method will be generated."
+    }
+    return false
+  }
+
+  private fun toOperationMethod(operation: JavaOperation, typesafeResponseClass: TypeSpec): MethodSpec {
+    val parameters = operation.parameters.map { parameter ->
+      when (parameter) {
+        is JavaRegularParameter -> toParameterSpec(parameter)
+        is JavaBodyParameter -> toBodyParameterSpec(parameter)
+        is JavaMultipartBodyParameter -> error("Unsupported parameter: $parameter")
+      }
+    }
+
+    return MethodSpec.methodBuilder(operation.javaMethodName)
+        .doIfNotNull(operation.javadoc) { addJavadoc("\$L", it) }
+        .addAnnotation(requestMappingAnnotation(operation))
+        .addModifiers(PUBLIC, ABSTRACT)
+        .returns(ParameterizedTypeName.get(MONO, typesafeResponseClass.name.toClassName()))
+        .addParameters(parameters)
+        .build()
+  }
+
+  private fun toParameterSpec(parameter: JavaRegularParameter): ParameterSpec {
+    val typeValidationAnnotations = parameter.javaType.validations.map(Annotations::toAnnotation)
+
+    return ParameterSpec.builder(parameter.javaType.toTypeName(), parameter.javaParameterName)
+        .addAnnotation(paramAnnotation(parameter))
+        .doIfNotNull(dateTimeFormatAnnotation(parameter.javaType)) { addAnnotation(it) }
+        .doIf(parameter.required) { addAnnotation(NOT_NULL_ANNOTATION) }
+        .addAnnotations(typeValidationAnnotations)
+        .build()
+  }
+
+  /**
+   * Spring validates the values of a Mono or Flux request body, when the parameter is annotated with @Valid. Other constraints are not applicable.
+   *
+   * Spring rejects an empty Flux as a missing body, when the body is required. As an empty array or empty binary data is a valid body, a Flux is never
+   * marked as required.
+   */
+  private fun toBodyParameterSpec(parameter: JavaBodyParameter): ParameterSpec {
+    val publisherType = publisherType(parameter.javaType)
+    val requestBodyAnnotation = AnnotationSpec.builder(REQUEST_BODY)
+        .doIf(!parameter.required || publisherType.rawType == FLUX) { addMember("required", "\$L", false) }
+        .build()
+
+    return ParameterSpec.builder(publisherType, parameter.javaParameterName)
+        .addAnnotation(requestBodyAnnotation)
+        .doIf(isValidated(parameter.javaType)) { addAnnotation(VALID) }
+        .build()
+  }
+
+  private fun isValidated(type: JavaAnyType): Boolean =
+      type.validations.any { it is ValidatedValidation } || (type is JavaCollectionType && type.elementType.validations.any { it is ValidatedValidation })
+
+  /**
+   * Arrays and binary data are published as Flux of their elements or of data buffers. All other types are published as Mono.
+   */
+  private fun publisherType(type: JavaAnyType): ParameterizedTypeName = when {
+    type is JavaType && type.name == JavaTypeName.INPUT_STREAM -> ParameterizedTypeName.get(FLUX, DATA_BUFFER)
+    type is JavaCollectionType -> ParameterizedTypeName.get(FLUX, type.elementType.toTypeName())
+    else -> ParameterizedTypeName.get(MONO, type.toTypeName())
+  }
+
+  private fun paramAnnotation(parameter: JavaRegularParameter): AnnotationSpec {
+    val annotationName = when (parameter.location) {
+      QUERY -> "RequestParam"
+      HEADER -> "RequestHeader"
+      PATH -> "PathVariable"
+      COOKIE -> "CookieValue"
+    }
+
+    val builder = AnnotationSpec.builder(ClassName.get(BIND_ANNOTATION_PACKAGE, annotationName))
+
+    return if (parameter.required) {
+      builder.addMember("value", "\$S", parameter.originalName).build()
+    } else {
+      builder.addMember("name", "\$S", parameter.originalName).addMember("required", "\$L", false).build()
+    }
+  }
+
+  /**
+   * Spring does not parse dates and date-times of parameters in ISO format, unless told to.
+   */
+  private fun dateTimeFormatAnnotation(type: JavaAnyType): AnnotationSpec? {
+    val simpleTypeName = if (type is JavaCollectionType) type.elementType.name else type.name
+    val iso = when (simpleTypeName) {
+      JavaTypeName.LOCAL_DATE -> "DATE"
+      JavaTypeName.OFFSET_DATE_TIME -> "DATE_TIME"
+      else -> return null
+    }
+
+    return AnnotationSpec.builder(DATE_TIME_FORMAT).addMember("iso", "\$T.ISO.\$L", DATE_TIME_FORMAT, iso).build()
+  }
+
+  private fun requestMappingAnnotation(operation: JavaOperation): AnnotationSpec {
+    val producedMediaTypes = operation.responses.flatMap { response -> response.contents.map { it.mediaType } }
+        .sorted()
+        .distinct()
+
+    return AnnotationSpec.builder(REQUEST_MAPPING)
+        .addMember("method", "\$T.\$L", REQUEST_METHOD, operation.httpMethod.name)
+        .addMember("path", "\$S", operation.path)
+        .doIfNotNull(operation.requestBodyMediaType) { addMember("consumes", "\$S", it) }
+        .doIf(producedMediaTypes.isNotEmpty()) { addMember("produces", stringArrayLiteral(producedMediaTypes)) }
+        .build()
+  }
+
+  private fun stringArrayLiteral(values: List<String>): CodeBlock = if (values.size == 1) {
+    CodeBlock.of("\$S", values.single())
+  } else {
+    CodeBlock.of("{\$L}", CodeBlock.join(values.map { CodeBlock.of("\$S", it) }, ", "))
+  }
+
+  private fun toTypesafeResponseClass(operation: JavaOperation): TypeSpec {
+    val className = operation.javaMethodName.capitalize() + "Response"
+
+    val responseMethodsWithStatusCode = operation.responses
+        .filter { it.statusCode is StatusCode }
+        .flatMap { response ->
+          if (response.contents.isEmpty()) {
+            listOf(toTypesafeEmptyResponseMethod(response, className))
+          } else {
+            response.contents.flatMap { content -> toTypesafeResponseMethods(response, content, className) }
+          }
+        }
+
+    val defaultResponseMethods = operation.responses
+        .filter { it.statusCode is DefaultStatusCode }
+        .flatMap { response -> response.contents.flatMap { content -> toTypesafeDefaultResponseMethods(content, className) } }
+
+    val customResponseMethod = MethodSpec.methodBuilder("withCustomResponse")
+        .addModifiers(PUBLIC, STATIC)
+        .returns(className.toClassName())
+        .addParameter(ParameterizedTypeName.get(RESPONSE_ENTITY, WildcardTypeName.subtypeOf(Object::class.java)), "response")
+        .addStatement("return new \$N(response)", className)
+        .build()
+
+    val constructor = MethodSpec.constructorBuilder()
+        .addModifiers(PRIVATE)
+        .addParameter(Integer.TYPE, "status")
+        .addParameter(String::class.java, "contentType")
+        .addParameter(Object::class.java, "entity")
+        .addStatement("super(status, contentType, entity)")
+        .build()
+
+    val delegatingConstructor = MethodSpec.constructorBuilder()
+        .addModifiers(PRIVATE)
+        .addParameter(ParameterizedTypeName.get(RESPONSE_ENTITY, WildcardTypeName.subtypeOf(Object::class.java)), "delegate")
+        .addStatement("super(delegate)")
+        .build()
+
+    return TypeSpec.classBuilder(className)
+        .addModifiers(PUBLIC, STATIC)
+        .superclass(ClassName.get(supportPackage, RESPONSE_ENTITY_WRAPPER_CLASS_NAME))
+        .addMethod(constructor)
+        .addMethod(delegatingConstructor)
+        .addMethods(responseMethodsWithStatusCode)
+        .addMethods(defaultResponseMethods)
+        .addMethod(customResponseMethod)
+        .build()
+  }
+
+  /**
+   * Returns the types an entity can be supplied as. Arrays can also be supplied as Flux, which is written as a JSON array while it is being published.
+   */
+  private fun entityTypes(type: JavaAnyType): List<TypeName> = when {
+    type is JavaType && type.name == JavaTypeName.INPUT_STREAM -> listOf(ParameterizedTypeName.get(FLUX, DATA_BUFFER))
+    type is JavaCollectionType -> listOf(type.toTypeName(), ParameterizedTypeName.get(FLUX, type.elementType.toTypeName()))
+    else -> listOf(type.toTypeName())
+  }
+
+  private fun toTypesafeResponseMethods(response: JavaResponse, content: JavaContent, className: String): List<MethodSpec> {
+    val statusCode = (response.statusCode as StatusCode).code
+    val mediaTypeAsIdentifier = content.mediaType.mediaTypeToJavaIdentifier()
+    val methodName = "with$statusCode$mediaTypeAsIdentifier"
+
+    return entityTypes(content.javaType).map { entityType ->
+      MethodSpec.methodBuilder(methodName)
+          .addModifiers(PUBLIC, STATIC)
+          .returns(className.toClassName())
+          .addParameter(entityType, "entity")
+          .addStatement("return new \$N(\$L, \$S, entity)", className, statusCode, content.mediaType)
+          .build()
+    }
+  }
+
+  private fun toTypesafeEmptyResponseMethod(response: JavaResponse, className: String): MethodSpec {
+    val statusCode = (response.statusCode as StatusCode).code
+    val methodName = "with$statusCode"
+
+    return MethodSpec.methodBuilder(methodName)
+        .addModifiers(PUBLIC, STATIC)
+        .returns(className.toClassName())
+        .addStatement("return new \$N(\$L, null, null)", className, statusCode)
+        .build()
+  }
+
+  private fun toTypesafeDefaultResponseMethods(content: JavaContent, className: String): List<MethodSpec> {
+    val mediaTypeAsIdentifier = content.mediaType.mediaTypeToJavaIdentifier()
+    val methodName = "with$mediaTypeAsIdentifier"
+
+    return entityTypes(content.javaType).map { entityType ->
+      MethodSpec.methodBuilder(methodName)
+          .addModifiers(PUBLIC, STATIC)
+          .returns(className.toClassName())
+          .addParameter(Integer.TYPE, "status")
+          .addParameter(entityType, "entity")
+          .addStatement("return new \$N(status, \$S, entity)", className, content.mediaType)
+          .build()
+    }
+  }
+
+  private fun writeResponseEntityWrapperClass() {
+    TemplateFileWriter(outputSink).writeTemplateFile(supportPackage, "$RESPONSE_ENTITY_WRAPPER_CLASS_NAME.java")
+  }
+
+  companion object {
+
+    const val RESPONSE_ENTITY_WRAPPER_CLASS_NAME = "ResponseEntityWrapper"
+
+    private const val BIND_ANNOTATION_PACKAGE = "org.springframework.web.bind.annotation"
+
+    private val REQUEST_MAPPING = ClassName.get(BIND_ANNOTATION_PACKAGE, "RequestMapping")
+    private val REQUEST_METHOD = ClassName.get(BIND_ANNOTATION_PACKAGE, "RequestMethod")
+    private val REQUEST_BODY = ClassName.get(BIND_ANNOTATION_PACKAGE, "RequestBody")
+    private val DATE_TIME_FORMAT = ClassName.get("org.springframework.format.annotation", "DateTimeFormat")
+    private val RESPONSE_ENTITY = ClassName.get("org.springframework.http", "ResponseEntity")
+    private val DATA_BUFFER = ClassName.get("org.springframework.core.io.buffer", "DataBuffer")
+    private val MONO = ClassName.get("reactor.core.publisher", "Mono")
+    private val FLUX = ClassName.get("reactor.core.publisher", "Flux")
+    private val VALID = toAnnotation("javax.validation.Valid")
+  }
+}
@@ -1,33 +1,20 @@
 package io.github.ruedigerk.contractfirst.generator.java.generator
 
-import io.github.ruedigerk.contractfirst.generator.java.JavaConfiguration
-import java.io.BufferedOutputStream
-import java.io.File
+import io.github.ruedigerk.contractfirst.generator.output.OutputSink
 import java.io.InputStream
 
 /**
  * Used for writing template source files. Template source files are static resource files that get added a package statement, when being written.
  */
-class TemplateFileWriter(private val configuration: JavaConfiguration) {
+class TemplateFileWriter(private val outputSink: OutputSink) {
 
   fun writeTemplateFile(destinationPackage: String, templateFileName: String) {
-    val packageAsDirectory = destinationPackage.replace('.', '/')
-    val destinationDirectory = File(configuration.outputDir).resolve(packageAsDirectory)
     val templateInputStream = loadResource("/io/github/ruedigerk/contractfirst/generator/templates/${templateFileName}")
-    
-    destinationDirectory.mkdirs()
+    val template = templateInputStream.use { it.readBytes() }
 
-    destinationDirectory.resolve(templateFileName).outputStream().buffered().use { outputStream ->
-      outputStream.writePackageStatement(destinationPackage)
-      templateInputStream.use { it.copyTo(outputStream) }
-    }
+    outputSink.write(OutputSink.pathOf(destinationPackage, templateFileName), "package $destinationPackage;\n\n".toByteArray() + template)
   }
 
   private fun loadResource(location: String): InputStream = javaClass.getResourceAsStream(location)
       ?: throw IllegalStateException("Resource file $location not found")
-
-  private fun BufferedOutputStream.writePackageStatement(destinationPackage: String) = with(this.writer()) {
-    write("package $destinationPackage;\n\n")
-    flush()
-  }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package io.github.ruedigerk.contractfirst.generator.java.generator
 
+import com.squareup.javapoet.ArrayTypeName
 import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.ParameterizedTypeName
 import com.squareup.javapoet.TypeName
@@ -10,24 +11,31 @@ import io.github.ruedigerk.contractfirst.generator.java.model.*
  */
 object TypeNames {
 
-  fun JavaTypeName.toClassName(): ClassName = ClassName.get(this.packageName, this.simpleName)
+  fun JavaTypeName.toClassName(): ClassName {
+    require(!isArray && !isPrimitive) { "Not a class: $this" }
+    return ClassName.get(this.packageName, this.simpleName)
+  }
+
+  /**
+   * Returns the TypeName of a class, a primitive type or an array type.
+   */
+  fun JavaTypeName.toTypeName(): TypeName {
+    val componentType = if (isPrimitive) primitiveTypeName(simpleName) else ClassName.get(packageName, simpleName)
+    return if (isArray) ArrayTypeName.of(componentType) else componentType
+  }
 
   fun String.toClassName(): ClassName = ClassName.bestGuess(this)
   
-  fun JavaAnyType.toTypeName(withValidationAnnotations: Boolean = false): TypeName {
-    val baseType = name.toClassName()
-
-    return when (this) {
-      is JavaType -> baseType
-      is JavaCollectionType -> {
-        val elementTypeName = toOptionallyValidatedTypeName(elementType, withValidationAnnotations)
-        ParameterizedTypeName.get(baseType, elementTypeName)
-      }
-      is JavaMapType -> {
-        val keysTypeName = ClassName.get("java.lang", "String")
-        val valuesTypeName = toOptionallyValidatedTypeName(valuesType, withValidationAnnotations)
-        ParameterizedTypeName.get(baseType, keysTypeName, valuesTypeName)
-      }
+  fun JavaAnyType.toTypeName(withValidationAnnotations: Boolean = false): TypeName = when (this) {
+    is JavaType -> name.toTypeName()
+    is JavaCollectionType -> {
+      val elementTypeName = toOptionallyValidatedTypeName(elementType, withValidationAnnotations)
+      ParameterizedTypeName.get(name.toClassName(), elementTypeName)
+    }
+    is JavaMapType -> {
+      val keysTypeName = ClassName.get("java.lang", "String")
+      val valuesTypeName = toOptionallyValidatedTypeName(valuesType, withValidationAnnotations)
+      ParameterizedTypeName.get(name.toClassName(), keysTypeName, valuesTypeName)
     }
   }
 
@@ -37,4 +45,16 @@ object TypeNames {
       } else {
         javaType.toTypeName()
       }
-}
\ No newline at end of file
+
+  private fun primitiveTypeName(name: String): TypeName = when (name) {
+    "boolean" -> TypeName.BOOLEAN
+    "byte" -> TypeName.BYTE
+    "short" -> TypeName.SHORT
+    "int" -> TypeName.INT
+    "long" -> TypeName.LONG
+    "char" -> TypeName.CHAR
+    "float" -> TypeName.FLOAT
+    "double" -> TypeName.DOUBLE
+    else -> throw IllegalArgumentException("Not a primitive type: $name")
+  }
+}
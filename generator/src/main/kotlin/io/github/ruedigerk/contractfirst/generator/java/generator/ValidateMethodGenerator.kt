@@ -0,0 +1,251 @@
+package io.github.ruedigerk.contractfirst.generator.java.generator
+
+import com.squareup.javapoet.*
+import io.github.ruedigerk.contractfirst.generator.java.Identifiers.toJavaConstant
+import io.github.ruedigerk.contractfirst.generator.java.generator.TypeNames.toTypeName
+import io.github.ruedigerk.contractfirst.generator.java.model.*
+import java.math.BigDecimal
+import java.util.regex.Pattern
+import javax.lang.model.element.Modifier.*
+
+/**
+ * Generates the validate methods of a model class. They check the same constraints as the BeanValidation annotations of the class, but with inlined
+ * code and precompiled patterns instead of reflection. The messages are those of the default messages of Hibernate Validator, prefixed with the property
+ * path.
+ *
+ * This class is stateful, as it collects the constants needed by the generated code. Use a new instance for each class.
+ */
+class ValidateMethodGenerator(
+    private val properties: List<JavaProperty>,
+    private val isPrimitive: (JavaProperty) -> Boolean
+) {
+
+  private val constantNameAllocator = NameAllocator()
+  private val constants = mutableListOf<FieldSpec>()
+  private val localNameAllocator = NameAllocator()
+
+  private val pathName: String
+  private val violationsName: String
+
+  init {
+    properties.forEach { localNameAllocator.newName(it.javaName, it) }
+    pathName = localNameAllocator.newName("path")
+    violationsName = localNameAllocator.newName("violations")
+  }
+
+  /**
+   * Returns the validate methods and the constants they use.
+   */
+  fun generate(): Pair<List<FieldSpec>, List<MethodSpec>> {
+    val stringType = ClassName.get(String::class.java)
+    val violationsType = ParameterizedTypeName.get(ClassName.get(List::class.java), stringType)
+
+    val validate = MethodSpec.methodBuilder("validate")
+        .addJavadoc("Validates this object against the constraints of its schema. Returns the violations found, or an empty list, if this object is valid.\n")
+        .addModifiers(PUBLIC)
+        .returns(violationsType)
+        .addStatement("\$T violations = new \$T<>()", violationsType, ClassName.get(ArrayList::class.java))
+        .addStatement("validate(\"\", violations)")
+        .addStatement("return violations")
+        .build()
+
+    val body = CodeBlock.builder()
+    properties.forEach { addPropertyChecks(body, it) }
+
+    val validateWithPath = MethodSpec.methodBuilder("validate")
+        .addJavadoc("Validates this object against the constraints of its schema, adding the violations found to the supplied list. The supplied path is\n")
+        .addJavadoc("prepended to the property paths in the messages.\n")
+        .addModifiers(PUBLIC)
+        .addParameter(stringType, pathName)
+        .addParameter(violationsType, violationsName)
+        .addCode(body.build())
+        .build()
+
+    return constants.toList() to listOf(validate, validateWithPath)
+  }
+
+  private fun addPropertyChecks(code: CodeBlock.Builder, property: JavaProperty) {
+    val value = CodeBlock.of("\$N", property.javaName)
+    val path = listOf(CodeBlock.of("\$N", pathName), property.originalName)
+    val constantBaseName = property.javaName.toJavaConstant()
+
+    if (isPrimitive(property)) {
+      addValueChecks(code, value, property.type, path, constantBaseName)
+      return
+    }
+
+    if (property.required) {
+      code.beginControlFlow("if (\$L == null)", value)
+      addViolation(code, path, "must not be null")
+
+      if (hasChecks(property.type)) {
+        code.nextControlFlow("else")
+        addValueChecks(code, value, property.type, path, constantBaseName)
+      }
+
+      code.endControlFlow()
+    } else if (hasChecks(property.type)) {
+      code.beginControlFlow("if (\$L != null)", value)
+      addValueChecks(code, value, property.type, path, constantBaseName)
+      code.endControlFlow()
+    }
+  }
+
+  private fun hasChecks(type: JavaAnyType): Boolean = when (type) {
+    is JavaType -> type.validations.isNotEmpty()
+    is JavaCollectionType -> type.validations.any { it is SizeValidation } || hasChecks(type.elementType)
+    is JavaMapType -> type.validations.any { it is SizeValidation } || hasChecks(type.valuesType)
+  }
+
+  /**
+   * Adds the checks for a value, that is known to be not null. The value is a simple expression, that can be evaluated repeatedly.
+   */
+  private fun addValueChecks(code: CodeBlock.Builder, value: CodeBlock, type: JavaAnyType, path: List<Any>, constantBaseName: String) {
+    type.validations.forEach { validation ->
+      when (validation) {
+        is SizeValidation -> addSizeCheck(code, value, type, path, validation)
+        is PatternValidation -> addPatternCheck(code, value, path, validation, constantBaseName)
+        is IntegralValidation -> addNumericCheck(code, value, type, path, validation.type, validation.value.toBigDecimal(), true, constantBaseName)
+        is DecimalValidation -> addNumericCheck(code, value, type, path, validation.type, validation.value, validation.inclusive, constantBaseName)
+        is ValidatedValidation -> if (type is JavaType) addNestedValidation(code, value, path)
+      }
+    }
+
+    when (type) {
+      is JavaCollectionType -> if (hasChecks(type.elementType)) addElementChecks(code, value, type, path, constantBaseName)
+      is JavaMapType -> if (hasChecks(type.valuesType)) addMapValueChecks(code, value, type, path, constantBaseName)
+      is JavaType -> {}
+    }
+  }
+
+  private fun addSizeCheck(code: CodeBlock.Builder, value: CodeBlock, type: JavaAnyType, path: List<Any>, validation: SizeValidation) {
+    val size = if (type.name == JavaTypeName.STRING) CodeBlock.of("\$L.length()", value) else CodeBlock.of("\$L.size()", value)
+    val conditions = listOfNotNull(
+        validation.min?.let { CodeBlock.of("\$L < \$L", size, it) },
+        validation.max?.let { CodeBlock.of("\$L > \$L", size, it) }
+    )
+
+    code.beginControlFlow("if (\$L)", CodeBlock.join(conditions, " || "))
+    addViolation(code, path, "size must be between ${validation.min ?: 0} and ${validation.max ?: Int.MAX_VALUE}")
+    code.endControlFlow()
+  }
+
+  private fun addPatternCheck(code: CodeBlock.Builder, value: CodeBlock, path: List<Any>, validation: PatternValidation, constantBaseName: String) {
+    val constant = addConstant(ClassName.get(Pattern::class.java), "${constantBaseName}_PATTERN", CodeBlock.of("\$T.compile(\$S)", Pattern::class.java, validation.pattern))
+
+    code.beginControlFlow("if (!\$N.matcher(\$L).matches())", constant, value)
+    addViolation(code, path, "must match \"${validation.pattern}\"")
+    code.endControlFlow()
+  }
+
+  private fun addNumericCheck(
+      code: CodeBlock.Builder,
+      value: CodeBlock,
+      type: JavaAnyType,
+      path: List<Any>,
+      validationType: NumericValidationType,
+      bound: BigDecimal,
+      inclusive: Boolean,
+      constantBaseName: String
+  ) {
+    val violatingComparison = when (validationType) {
+      NumericValidationType.MIN -> if (inclusive) "<" else "<="
+      NumericValidationType.MAX -> if (inclusive) ">" else ">="
+    }
+
+    val condition = when (type.name) {
+      JavaTypeName.BIG_DECIMAL, JavaTypeName.BIG_INTEGER -> {
+        val boundType = type.toTypeName()
+        val constantName = "${constantBaseName}_${validationType.name}IMUM"
+        val constant = addConstant(boundType, constantName, CodeBlock.of("new \$T(\$S)", boundType, bigNumberLiteral(type.name, bound)))
+        CodeBlock.of("\$L.compareTo(\$N) \$L 0", value, constant, violatingComparison)
+      }
+      JavaTypeName.INTEGER, JavaTypeName.LONG -> CodeBlock.of("\$L \$L \$L", value, violatingComparison, integralLiteral(bound))
+      else -> CodeBlock.of("\$L \$L \$L", value, violatingComparison, bound.toDouble())
+    }
+
+    val message = when (validationType) {
+      NumericValidationType.MIN -> if (inclusive) "must be greater than or equal to" else "must be greater than"
+      NumericValidationType.MAX -> if (inclusive) "must be less than or equal to" else "must be less than"
+    }
+
+    code.beginControlFlow("if (\$L)", condition)
+    addViolation(code, path, "$message ${bound.toPlainString()}")
+    code.endControlFlow()
+  }
+
+  /**
+   * Bounds outside the range of long are compared as double, as there is no literal for them.
+   */
+  private fun integralLiteral(bound: BigDecimal): String {
+    val integralBound = bound.toBigInteger()
+    return if (bound.signum() == 0 || (bound.stripTrailingZeros().scale() <= 0 && Annotations.isRepresentableAsLong(integralBound))) {
+      "${integralBound}L"
+    } else {
+      "${bound.toDouble()}"
+    }
+  }
+
+  private fun bigNumberLiteral(typeName: JavaTypeName, bound: BigDecimal): String =
+      if (typeName == JavaTypeName.BIG_INTEGER) bound.toBigInteger().toString() else bound.toPlainString()
+
+  private fun addNestedValidation(code: CodeBlock.Builder, value: CodeBlock, path: List<Any>) {
+    code.addStatement("\$L.validate(\$L, \$N)", value, toStringExpression(path + "."), violationsName)
+  }
+
+  private fun addElementChecks(code: CodeBlock.Builder, value: CodeBlock, type: JavaCollectionType, path: List<Any>, constantBaseName: String) {
+    val indexName = localNameAllocator.newName("index")
+    val elementName = localNameAllocator.newName("element")
+    val elementPath = path + "[" + CodeBlock.of("\$N", indexName) + "]"
+
+    code.addStatement("int \$N = 0", indexName)
+    code.beginControlFlow("for (\$T \$N : \$L)", type.elementType.toTypeName(), elementName, value)
+    code.beginControlFlow("if (\$N != null)", elementName)
+    addValueChecks(code, CodeBlock.of("\$N", elementName), type.elementType, elementPath, "${constantBaseName}_ITEM")
+    code.endControlFlow()
+    code.addStatement("\$N++", indexName)
+    code.endControlFlow()
+  }
+
+  private fun addMapValueChecks(code: CodeBlock.Builder, value: CodeBlock, type: JavaMapType, path: List<Any>, constantBaseName: String) {
+    val entryName = localNameAllocator.newName("entry")
+    val entryValueName = localNameAllocator.newName("entryValue")
+    val valuesTypeName = type.valuesType.toTypeName()
+    val entryType = ParameterizedTypeName.get(ClassName.get(Map.Entry::class.java), ClassName.get(String::class.java), valuesTypeName)
+    val entryPath = path + "[" + CodeBlock.of("\$N.getKey()", entryName) + "]"
+
+    code.beginControlFlow("for (\$T \$N : \$L.entrySet())", entryType, entryName, value)
+    code.addStatement("\$T \$N = \$N.getValue()", valuesTypeName, entryValueName, entryName)
+    code.beginControlFlow("if (\$N != null)", entryValueName)
+    addValueChecks(code, CodeBlock.of("\$N", entryValueName), type.valuesType, entryPath, "${constantBaseName}_VALUE")
+    code.endControlFlow()
+    code.endControlFlow()
+  }
+
+  private fun addViolation(code: CodeBlock.Builder, path: List<Any>, message: String) {
+    code.addStatement("\$N.add(\$L)", violationsName, toStringExpression(path + ": $message"))
+  }
+
+  private fun addConstant(type: TypeName, name: String, initializer: CodeBlock): FieldSpec {
+    val constant = FieldSpec.builder(type, constantNameAllocator.newName(name), PRIVATE, STATIC, FINAL)
+        .initializer(initializer)
+        .build()
+
+    constants.add(constant)
+    return constant
+  }
+
+  /**
+   * Renders a path, consisting of String literals and expressions, as a String concatenation. Adjacent literals are merged.
+   */
+  private fun toStringExpression(parts: List<Any>): CodeBlock {
+    val merged = mutableListOf<Any>()
+
+    parts.forEach { part ->
+      val last = merged.lastOrNull()
+      if (part is String && last is String) merged[merged.lastIndex] = last + part else merged.add(part)
+    }
+
+    return CodeBlock.join(merged.map { if (it is String) CodeBlock.of("\$S", it) else it as CodeBlock }, " + ")
+  }
+}
@@ -9,6 +9,7 @@ import io.github.ruedigerk.contractfirst.generator.model.StatusCode
  */
 data class JavaOperation(
     val javaMethodName: String,
+    val operationId: String?,
     val javadoc: String?,
     val path: String,
     val httpMethod: HttpMethod,
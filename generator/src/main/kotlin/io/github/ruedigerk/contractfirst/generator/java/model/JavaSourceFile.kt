@@ -15,8 +15,36 @@ data class JavaClassFile(
     override val typeName: JavaTypeName,
     override val javadoc: String?,
     val properties: List<JavaProperty>,
+
+    /**
+     * The interfaces of the polymorphic types, that this class is an alternative of.
+     */
+    val interfaces: List<JavaTypeName> = emptyList(),
+
+    /**
+     * The values of the discriminator properties identifying this class as an alternative of the polymorphic types, by the names of the properties.
+     */
+    val discriminatorValues: Map<String, String> = emptyMap(),
+) : JavaSourceFile
+
+/**
+ * Represents the data necessary to generate the Java interface of a polymorphic type, which is implemented by the classes of its alternatives.
+ */
+data class JavaInterfaceFile(
+    override val typeName: JavaTypeName,
+    override val javadoc: String?,
+    val discriminatorPropertyName: String,
+    val subtypes: List<JavaSubtype>
 ) : JavaSourceFile
 
+/**
+ * Represents a class implementing the interface of a polymorphic type, together with the discriminator value identifying it.
+ */
+data class JavaSubtype(
+    val discriminatorValue: String,
+    val typeName: JavaTypeName
+)
+
 /**
  * Represents a property of a Java class, i.e. a field with its getters and setters.
  */
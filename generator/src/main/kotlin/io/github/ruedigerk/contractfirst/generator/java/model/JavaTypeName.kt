@@ -1,14 +1,22 @@
 package io.github.ruedigerk.contractfirst.generator.java.model
 
 /**
- * A Java type name, i.e. the combination of a package name and a simple name.
+ * A Java type name, i.e. the combination of a package name and a simple name. If isArray is true, it names the array type of that component type. Primitive
+ * types have an empty package name.
  */
-data class JavaTypeName(
+data class JavaTypeName @JvmOverloads constructor(
     val packageName: String,
-    val simpleName: String
+    val simpleName: String,
+    val isArray: Boolean = false
 ) {
 
-  override fun toString(): String = "$packageName.$simpleName"
+  val isPrimitive: Boolean
+    get() = packageName.isEmpty()
+
+  override fun toString(): String {
+    val componentName = if (isPrimitive) simpleName else "$packageName.$simpleName"
+    return if (isArray) "$componentName[]" else componentName
+  }
 
   /**
    * Defines the names of commonly used Java types.
@@ -32,6 +40,9 @@ data class JavaTypeName(
     val INPUT_STREAM = JavaTypeName("java.io", "InputStream")
     val STRING = JavaTypeName("java.lang", "String")
 
+    val BYTE_ARRAY = JavaTypeName("", "byte", isArray = true)
+    val BYTE_BUFFER = JavaTypeName("java.nio", "ByteBuffer")
+
     val LIST = JavaTypeName("java.util", "List")
     val MAP = JavaTypeName("java.util", "Map")
     val SET = JavaTypeName("java.util", "Set")
@@ -59,4 +59,4 @@ data class PatternValidation(val pattern: String) : TypeValidation
 /**
  * Represents a validation on complex values that themselves are defined with validations on their properties. 
  */
-object ValidatedValidation : TypeValidation
\ No newline at end of file
+data object ValidatedValidation : TypeValidation
\ No newline at end of file
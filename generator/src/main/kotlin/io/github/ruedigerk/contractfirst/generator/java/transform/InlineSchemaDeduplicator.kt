@@ -0,0 +1,99 @@
+package io.github.ruedigerk.contractfirst.generator.java.transform
+
+import io.github.ruedigerk.contractfirst.generator.model.ArraySchema
+import io.github.ruedigerk.contractfirst.generator.model.EnumSchema
+import io.github.ruedigerk.contractfirst.generator.model.MapSchema
+import io.github.ruedigerk.contractfirst.generator.model.ObjectSchema
+import io.github.ruedigerk.contractfirst.generator.model.PolymorphicSchema
+import io.github.ruedigerk.contractfirst.generator.model.PrimitiveSchema
+import io.github.ruedigerk.contractfirst.generator.model.Schema
+import io.github.ruedigerk.contractfirst.generator.model.SchemaId
+
+/**
+ * Finds inline schemas that are structurally identical to other schemas, so that they can share a single generated Java type.
+ *
+ * Schemas are compared by everything that influences the generated code, but not by their positions. Schemas that are named in the contract, i.e.,
+ * component schemas and the root schemas of schema files, are never replaced by another schema, because their names are chosen explicitly.
+ *
+ * Of several structurally identical schemas, the canonical one is a named schema, if there is one, and otherwise the first by position. It does not depend
+ * on the order in which the schemas are parsed or transformed, so that the generated type names are stable.
+ */
+class InlineSchemaDeduplicator(
+    private val schemas: Map<SchemaId, Schema>
+) {
+
+  private val keys = mutableMapOf<SchemaId, StructuralKey>()
+  private val keysInProgress = mutableSetOf<SchemaId>()
+
+  private val canonicalIds: Map<StructuralKey, SchemaId> = schemas.keys
+      .sortedWith(NAMED_FIRST_BY_POSITION)
+      .groupBy(::keyOf)
+      .mapValues { (_, ids) -> ids.first() }
+
+  /**
+   * Returns the ID of the canonical schema that is structurally identical to the schema with the supplied ID, or the supplied ID itself.
+   */
+  fun canonicalIdOf(id: SchemaId): SchemaId = if (isNamed(id)) id else canonicalIds[keyOf(id)] ?: id
+
+  private fun keyOf(id: SchemaId): StructuralKey {
+    keys[id]?.let { return it }
+
+    // Schemas can reference themselves. In that case, fall back to the identity of the schema.
+    if (!keysInProgress.add(id)) {
+      return StructuralKey(listOf("reference", id.position))
+    }
+
+    val key = computeKey(schemaFor(id))
+    keysInProgress.remove(id)
+    keys[id] = key
+    return key
+  }
+
+  private fun computeKey(schema: Schema): StructuralKey = when (schema) {
+    is ObjectSchema -> StructuralKey(listOf("object", schema.title, schema.description, schema.properties.map { listOf(it.name, it.required, childKeyOf(it.schema)) }))
+    is EnumSchema -> StructuralKey(listOf("enum", schema.title, schema.description, schema.values))
+    is ArraySchema -> StructuralKey(listOf("array", schema.title, schema.description, childKeyOf(schema.itemSchema), schema.uniqueItems, schema.minItems, schema.maxItems))
+    is MapSchema -> StructuralKey(listOf("map", schema.title, schema.description, childKeyOf(schema.valuesSchema), schema.minItems, schema.maxItems))
+    is PolymorphicSchema -> StructuralKey(
+        listOf(
+            "polymorphic", schema.title, schema.description, schema.discriminatorPropertyName,
+            schema.alternatives.map { listOf(it.discriminatorValue, childKeyOf(it.schema)) }
+        )
+    )
+    is PrimitiveSchema -> StructuralKey(
+        listOf(
+            "primitive", schema.title, schema.description, schema.type, schema.format, schema.minimum, schema.maximum, schema.exclusiveMinimum,
+            schema.exclusiveMaximum, schema.minLength, schema.maxLength, schema.pattern, schema.arbitraryPrecision
+        )
+    )
+  }
+
+  /**
+   * Named schemas are generated as types of their own, so they are identified by their position when nested into other schemas.
+   */
+  private fun childKeyOf(id: SchemaId): StructuralKey = if (isNamed(id)) StructuralKey(listOf("reference", id.position)) else keyOf(id)
+
+  private fun schemaFor(schemaId: SchemaId): Schema = schemas[schemaId] ?: error("Unknown schema ID: $schemaId")
+
+  /**
+   * The structure of a schema. Caches its hash code, as keys are nested into each other.
+   */
+  private class StructuralKey(val parts: List<Any?>) {
+
+    private val hashCode = parts.hashCode()
+
+    override fun equals(other: Any?): Boolean = this === other || (other is StructuralKey && hashCode == other.hashCode && parts == other.parts)
+
+    override fun hashCode(): Int = hashCode
+  }
+
+  private companion object {
+
+    private val NAMED_FIRST_BY_POSITION = compareBy<SchemaId>({ !isNamed(it) }, { it.position.file.path }, { it.position.path.joinToString("/") })
+
+    private fun isNamed(id: SchemaId): Boolean {
+      val path = id.position.path
+      return path.isEmpty() || (path.size == 3 && path[0] == "components" && path[1] == "schemas")
+    }
+  }
+}
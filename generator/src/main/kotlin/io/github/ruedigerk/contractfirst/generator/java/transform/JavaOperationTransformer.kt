@@ -18,6 +18,7 @@ import io.github.ruedigerk.contractfirst.generator.java.model.JavaOperationGroup
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaParameter
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaRegularParameter
 import io.github.ruedigerk.contractfirst.generator.java.model.JavaResponse
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaTypeName
 import io.github.ruedigerk.contractfirst.generator.java.transform.OperationNaming.getJavaMethodName
 import io.github.ruedigerk.contractfirst.generator.model.ArraySchema
 import io.github.ruedigerk.contractfirst.generator.model.Content
@@ -27,6 +28,7 @@ import io.github.ruedigerk.contractfirst.generator.model.MapSchema
 import io.github.ruedigerk.contractfirst.generator.model.ObjectSchema
 import io.github.ruedigerk.contractfirst.generator.model.Operation
 import io.github.ruedigerk.contractfirst.generator.model.Parameter
+import io.github.ruedigerk.contractfirst.generator.model.PolymorphicSchema
 import io.github.ruedigerk.contractfirst.generator.model.PrimitiveSchema
 import io.github.ruedigerk.contractfirst.generator.model.RequestBody
 import io.github.ruedigerk.contractfirst.generator.model.Response
@@ -69,6 +71,7 @@ class JavaOperationTransformer(
 
     return JavaOperation(
         operationMethodNames.getJavaMethodName(operation.pathAndMethod),
+        operation.operationId,
         toOperationJavadoc(operation, parameters),
         operation.path,
         operation.method,
@@ -136,12 +139,14 @@ class JavaOperationTransformer(
       is EnumSchema -> PRIMITIVE
       is ObjectSchema -> COMPLEX
       is MapSchema -> COMPLEX
+      is PolymorphicSchema -> COMPLEX
       is ArraySchema -> {
         when (val itemSchema = schemaFor(schema.itemSchema)) {
           is PrimitiveSchema -> if (itemSchema.dataType == BINARY) ATTACHMENT else PRIMITIVE
           is EnumSchema -> PRIMITIVE
           is ObjectSchema -> COMPLEX
           is MapSchema -> COMPLEX
+          is PolymorphicSchema -> COMPLEX
           is ArraySchema -> COMPLEX
         }
       }
@@ -205,7 +210,13 @@ class JavaOperationTransformer(
       typeFor(content.schemaId)
   )
 
-  private fun typeFor(schemaId: SchemaId): JavaAnyType = types[schemaId] ?: error("Unknown schema ID: $schemaId")
+  /**
+   * Base64 encoded binary data is only decoded in model classes. Parameters and bodies keep the encoded String, e.g., as JAX-RS can not convert
+   * parameters to byte[] or ByteBuffer.
+   */
+  private fun typeFor(schemaId: SchemaId): JavaAnyType = (types[schemaId] ?: error("Unknown schema ID: $schemaId"))
+      .rewriteSimpleType(JavaTypeName.BYTE_ARRAY, JavaTypeName.STRING)
+      .rewriteSimpleType(JavaTypeName.BYTE_BUFFER, JavaTypeName.STRING)
 
   private fun schemaFor(schemaId: SchemaId): Schema = schemas[schemaId] ?: error("Unknown schema ID: $schemaId")
 
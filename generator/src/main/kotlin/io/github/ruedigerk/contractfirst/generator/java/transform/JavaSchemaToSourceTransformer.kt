@@ -1,5 +1,6 @@
 package io.github.ruedigerk.contractfirst.generator.java.transform
 
+import io.github.ruedigerk.contractfirst.generator.NotSupportedException
 import io.github.ruedigerk.contractfirst.generator.java.Identifiers.toJavaConstant
 import io.github.ruedigerk.contractfirst.generator.java.Identifiers.toJavaIdentifier
 import io.github.ruedigerk.contractfirst.generator.java.model.*
@@ -13,13 +14,28 @@ class JavaSchemaToSourceTransformer(
     private val types: Map<SchemaId, JavaAnyType>
 ) {
 
-  fun transform(): List<JavaSourceFile> = schemas.mapNotNull { (id, schema) -> toJavaSourceFile(id, schema) }
+  private val interfacesOfAlternatives: Map<SchemaId, List<JavaTypeName>> = schemas.entries
+      .filter { (_, schema) -> schema is PolymorphicSchema }
+      .flatMap { (id, schema) -> (schema as PolymorphicSchema).alternatives.map { it.schema to types[id]!!.name } }
+      .distinct()
+      .groupBy({ it.first }, { it.second })
+
+  // An alternative of several polymorphic types with the same discriminator property is identified by the value of the first one.
+  private val discriminatorValuesOfAlternatives: Map<SchemaId, Map<String, String>> = schemas.values
+      .filterIsInstance<PolymorphicSchema>()
+      .flatMap { schema -> schema.alternatives.map { it.schema to (schema.discriminatorPropertyName to it.discriminatorValue) } }
+      .groupBy({ it.first }, { it.second })
+      .mapValues { (_, discriminators) -> discriminators.distinctBy { it.first }.toMap() }
+
+  // Structurally identical schemas can share a single type, see InlineSchemaDeduplicator.
+  fun transform(): List<JavaSourceFile> = schemas.mapNotNull { (id, schema) -> toJavaSourceFile(id, schema) }.distinctBy { it.typeName }
 
   private fun toJavaSourceFile(id: SchemaId, schema: Schema): JavaSourceFile? = when (schema) {
     is ObjectSchema -> toJavaClassFile(id, schema)
     is EnumSchema -> toJavaEnumFile(id, schema)
     is ArraySchema -> null
     is MapSchema -> null
+    is PolymorphicSchema -> toJavaInterfaceFile(id, schema)
     is PrimitiveSchema -> null
   }
 
@@ -33,7 +49,28 @@ class JavaSchemaToSourceTransformer(
       return null
     }
 
-    return JavaClassFile(className, JavadocHelper.toJavadoc(schema), properties)
+    return JavaClassFile(
+        className,
+        JavadocHelper.toJavadoc(schema),
+        properties,
+        interfacesOfAlternatives[id] ?: emptyList(),
+        discriminatorValuesOfAlternatives[id] ?: emptyMap()
+    )
+  }
+
+  private fun toJavaInterfaceFile(id: SchemaId, schema: PolymorphicSchema): JavaInterfaceFile {
+    val type = types[id]!!
+    val subtypes = schema.alternatives.map { alternative ->
+      val alternativeSchema = schemas[alternative.schema]!!
+
+      if (alternativeSchema !is ObjectSchema || alternativeSchema.properties.isEmpty()) {
+        throw NotSupportedException("Currently only object schemas with properties are supported as alternatives of polymorphic schemas at ${alternative.schema.position}")
+      }
+
+      JavaSubtype(alternative.discriminatorValue, types[alternative.schema]!!.name)
+    }
+
+    return JavaInterfaceFile(type.name, JavadocHelper.toJavadoc(schema), schema.discriminatorPropertyName, subtypes)
   }
 
   private fun toJavaProperty(property: SchemaProperty): JavaProperty {
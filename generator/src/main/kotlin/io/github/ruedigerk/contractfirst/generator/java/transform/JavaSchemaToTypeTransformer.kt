@@ -21,6 +21,7 @@ import io.github.ruedigerk.contractfirst.generator.model.EnumSchema
 import io.github.ruedigerk.contractfirst.generator.model.MapSchema
 import io.github.ruedigerk.contractfirst.generator.model.ObjectSchema
 import io.github.ruedigerk.contractfirst.generator.model.Operation
+import io.github.ruedigerk.contractfirst.generator.model.PolymorphicSchema
 import io.github.ruedigerk.contractfirst.generator.model.PrimitiveSchema
 import io.github.ruedigerk.contractfirst.generator.model.Schema
 import io.github.ruedigerk.contractfirst.generator.model.SchemaId
@@ -38,6 +39,9 @@ class JavaSchemaToTypeTransformer(
 
   private val nameGenerator = JavaTypeNameGenerator(log, configuration, operationMethodNames)
   private val typeNameUniquifier = TypeNameUniquifier()
+  private val deduplicator = if (configuration.deduplicateInlineSchemas) InlineSchemaDeduplicator(schemas) else null
+  private val unformattedNumbersAsDoubleAndLong = configuration.unformattedNumbersAsDoubleAndLong
+  private val byteBuffers = configuration.byteBuffers
   private val types = mutableMapOf<SchemaId, JavaAnyType>()
 
   fun transform(): Map<SchemaId, JavaAnyType> = schemas.mapValues { (id, _) -> toJavaType(id) }
@@ -47,15 +51,23 @@ class JavaSchemaToTypeTransformer(
 
     return types.getOrPut(schemaId) {
       when (val schema = schemaFor(schemaId)) {
-        is ObjectSchema -> toGeneratedJavaType(schema, false)
-        is EnumSchema -> toGeneratedJavaType(schema, true)
+        is ObjectSchema -> typeOfIdenticalSchema(schemaId) ?: toGeneratedJavaType(schema, false)
+        is EnumSchema -> typeOfIdenticalSchema(schemaId) ?: toGeneratedJavaType(schema, true)
         is ArraySchema -> toJavaCollectionType(schema)
         is MapSchema -> toJavaMapType(schema)
+        is PolymorphicSchema -> typeOfIdenticalSchema(schemaId) ?: toGeneratedJavaType(schema, false)
         is PrimitiveSchema -> toJavaPredefinedType(schema)
       }
     }
   }
 
+  /**
+   * Returns the type of a previously encountered schema that is structurally identical, if inline schemas are deduplicated.
+   */
+  private fun typeOfIdenticalSchema(schemaId: SchemaId): JavaAnyType? {
+    return deduplicator?.canonicalIdOf(schemaId)?.takeIf { it != schemaId }?.let { toJavaType(it) }
+  }
+
   private fun toGeneratedJavaType(schema: Schema, isEnum: Boolean): JavaType {
     // Objects without properties seem to be used in the wild. Special-case to java.lang.Object.
     if (schema is ObjectSchema && schema.properties.isEmpty()) {
@@ -94,17 +106,28 @@ class JavaSchemaToTypeTransformer(
 
     DataType.INT_32 -> JavaType(JavaTypeName.INTEGER, integralValidations(schema))
     DataType.INT_64 -> JavaType(JavaTypeName.LONG, integralValidations(schema))
-    DataType.INTEGER -> JavaType(JavaTypeName.BIG_INTEGER, integralValidations(schema))
+    DataType.INTEGER -> JavaType(if (isArbitraryPrecision(schema)) JavaTypeName.BIG_INTEGER else JavaTypeName.LONG, integralValidations(schema))
 
     DataType.FLOAT -> JavaType(JavaTypeName.FLOAT, decimalValidations(schema))
     DataType.DOUBLE -> JavaType(JavaTypeName.DOUBLE, decimalValidations(schema))
-    DataType.NUMBER -> JavaType(JavaTypeName.BIG_DECIMAL, decimalValidations(schema))
+    DataType.NUMBER -> JavaType(if (isArbitraryPrecision(schema)) JavaTypeName.BIG_DECIMAL else JavaTypeName.DOUBLE, decimalValidations(schema))
 
     DataType.DATE -> JavaType(JavaTypeName.LOCAL_DATE)
     DataType.DATE_TIME -> JavaType(JavaTypeName.OFFSET_DATE_TIME)
     DataType.BINARY -> JavaType(JavaTypeName.INPUT_STREAM)
+    DataType.BYTE -> toJavaBinaryType()
   }
 
+  /**
+   * The length and pattern of a schema of format byte restrict the Base64 encoded string, not the decoded bytes, so they are not mapped to validations.
+   */
+  private fun toJavaBinaryType(): JavaType = JavaType(if (byteBuffers) JavaTypeName.BYTE_BUFFER else JavaTypeName.BYTE_ARRAY)
+
+  /**
+   * Integers and numbers without format are mapped to BigInteger and BigDecimal, unless configured otherwise for the contract or the schema.
+   */
+  private fun isArbitraryPrecision(schema: PrimitiveSchema): Boolean = schema.arbitraryPrecision ?: !unformattedNumbersAsDoubleAndLong
+
   private fun integralValidations(schema: PrimitiveSchema): List<TypeValidation> {
     val validations = mutableListOf<TypeValidation>()
 
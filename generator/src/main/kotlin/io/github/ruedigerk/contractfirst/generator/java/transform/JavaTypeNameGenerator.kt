@@ -71,7 +71,7 @@ class JavaTypeNameGenerator(
   private fun String.toPackageName(): String = split('/').filter { it.isNotEmpty() }.joinToString(".") { it.toJavaIdentifier() }
 
   private fun nameForContractDefinedType(position: Position): JavaTypeName? {
-    return anyMatchesStart(pathMatchers, position.path)?.let { (matcherName, matchResult) ->
+    return pathMatchers.matchesStart(position.path)?.let { (matcherName, matchResult) ->
       val typeName = nameForPathCategory(matcherName, matchResult.match)
 
       return if (matchResult.rest.isEmpty()) {
@@ -87,7 +87,7 @@ class JavaTypeNameGenerator(
     val suffix = StringBuilder()
 
     do {
-      val (matcherName, result) = anyMatchesStart(nestedMatchers, remaining)
+      val (matcherName, result) = nestedMatchers.matchesStart(remaining)
           ?: throw IllegalArgumentException("Unsupported nesting for type, parent: $parent, nesting: $rest")
 
       remaining = result.rest
@@ -95,6 +95,7 @@ class JavaTypeNameGenerator(
       when (matcherName) {
         "arrayItems" -> suffix.append("Item")
         "objectProperty" -> suffix.append(result.match["propertyName"]!!.toJavaTypeIdentifier())
+        "allOfSubschema" -> {} // The subschemas of allOf schemas are merged into the parent, so they do not contribute to the name.
         else -> throw IllegalArgumentException("Unknown matcherName $matcherName")
       }
     } while (remaining.isNotEmpty())
@@ -102,13 +103,6 @@ class JavaTypeNameGenerator(
     return JavaTypeName(parent.packageName, parent.simpleName + suffix)
   }
 
-  private fun anyMatchesStart(matchers: Map<String, PositionPathMatcher>, path: List<String>): Pair<String, PositionPathMatcher.Result>? {
-    return matchers.mapValues { (_, matcher) -> matcher.matchesStart(path) }
-        .mapNotNull { (matcherName, matchResult) -> matchResult?.let { matcherName to it } }
-        .also { if (it.size > 1) throw IllegalStateException("List of match results has multiple entries: $it") }
-        .firstOrNull()
-  }
-
   private fun nameForPathCategory(matcherName: String, result: Map<String, String>): JavaTypeName {
     val rawTypeName: String = when (matcherName) {
       "componentSchema" -> result["typeName"]!!
@@ -128,17 +122,22 @@ class JavaTypeNameGenerator(
 
   private companion object {
 
-    private val pathMatchers = mapOf(
-        "componentSchema" to PositionPathMatcher.of("components,schemas,<typeName>"),
-        "pathParameter" to PositionPathMatcher.of("paths,<path>,parameters,<parameterName>,schema"),
-        "operationParameter" to PositionPathMatcher.of("paths,<path>,<method>,parameters,<parameterName>,schema"),
-        "requestBody" to PositionPathMatcher.of("paths,<path>,<method>,requestBody,content,<mediaType>,schema"),
-        "response" to PositionPathMatcher.of("paths,<path>,<method>,responses,<statusCode>,content,<mediaType>,schema"),
+    private val pathMatchers = PositionPathMatcherTrie.of(
+        mapOf(
+            "componentSchema" to "components,schemas,<typeName>",
+            "pathParameter" to "paths,<path>,parameters,<parameterName>,schema",
+            "operationParameter" to "paths,<path>,<method>,parameters,<parameterName>,schema",
+            "requestBody" to "paths,<path>,<method>,requestBody,content,<mediaType>,schema",
+            "response" to "paths,<path>,<method>,responses,<statusCode>,content,<mediaType>,schema",
+        )
     )
 
-    private val nestedMatchers = mapOf(
-        "objectProperty" to PositionPathMatcher.of("properties,<propertyName>"),
-        "arrayItems" to PositionPathMatcher.of("items"),
+    private val nestedMatchers = PositionPathMatcherTrie.of(
+        mapOf(
+            "objectProperty" to "properties,<propertyName>",
+            "arrayItems" to "items",
+            "allOfSubschema" to "allOf,<index>",
+        )
     )
   }
 }
\ No newline at end of file
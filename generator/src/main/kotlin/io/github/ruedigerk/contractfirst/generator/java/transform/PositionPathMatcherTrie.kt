@@ -0,0 +1,89 @@
+package io.github.ruedigerk.contractfirst.generator.java.transform
+
+/**
+ * A Regex-inspired matcher for the path of a [io.github.ruedigerk.contractfirst.generator.model.Position], i.e. a list of strings. A set of named patterns
+ * is compiled into a single prefix trie, so that a path is matched against all patterns in a single walk of the trie.
+ *
+ * A pattern is a comma-separated list of segments. A segment in angle brackets, e.g. "<typeName>", matches any string and binds it to its name, every
+ * other segment only matches itself.
+ */
+class PositionPathMatcherTrie private constructor(
+    private val root: Node
+) {
+
+  /**
+   * Returns the name of the pattern matching the start of the input together with the match result, or null if no pattern matches. Throws an
+   * IllegalStateException, if multiple patterns match.
+   */
+  fun matchesStart(input: List<String>): Pair<String, Result>? {
+    val matches = mutableListOf<Pair<String, Result>>()
+    collectMatches(root, input, 0, mutableListOf(), matches)
+
+    if (matches.size > 1) {
+      throw IllegalStateException("List of match results has multiple entries: $matches")
+    }
+
+    return matches.firstOrNull()
+  }
+
+  private fun collectMatches(
+      node: Node,
+      input: List<String>,
+      index: Int,
+      bindings: MutableList<Pair<String, String>>,
+      matches: MutableList<Pair<String, Result>>
+  ) {
+    node.patternName?.let { matches.add(it to Result(bindings.toMap(), input.drop(index))) }
+
+    if (index == input.size) {
+      return
+    }
+
+    val segment = input[index]
+
+    node.constantChildren[segment]?.let { child ->
+      bindings.add(segment to segment)
+      collectMatches(child, input, index + 1, bindings, matches)
+      bindings.removeAt(bindings.lastIndex)
+    }
+
+    node.variableChildren.forEach { (variableName, child) ->
+      bindings.add(variableName to segment)
+      collectMatches(child, input, index + 1, bindings, matches)
+      bindings.removeAt(bindings.lastIndex)
+    }
+  }
+
+  data class Result(val match: Map<String, String>, val rest: List<String>)
+
+  private class Node {
+
+    val constantChildren: MutableMap<String, Node> = mutableMapOf()
+    val variableChildren: MutableMap<String, Node> = mutableMapOf()
+    var patternName: String? = null
+  }
+
+  companion object {
+
+    /**
+     * Compiles the supplied patterns, given as a map from pattern name to pattern.
+     */
+    @JvmStatic
+    fun of(patterns: Map<String, String>): PositionPathMatcherTrie {
+      val root = Node()
+
+      patterns.forEach { (patternName, pattern) ->
+        val terminal = pattern.split(',').fold(root) { node, segment ->
+          when {
+            segment.startsWith('<') && segment.endsWith('>') -> node.variableChildren.getOrPut(segment.slice(1 until segment.lastIndex)) { Node() }
+            else -> node.constantChildren.getOrPut(segment) { Node() }
+          }
+        }
+
+        terminal.patternName = patternName
+      }
+
+      return PositionPathMatcherTrie(root)
+    }
+  }
+}
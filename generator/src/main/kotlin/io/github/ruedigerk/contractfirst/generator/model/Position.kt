@@ -63,5 +63,10 @@ data class Position private constructor(
     operator fun invoke(path: String) = Position(File(path))
 
     operator fun invoke(file: File) = Position(file.canonicalFile, emptyList())
+
+    /**
+     * Restores a position from its file and path, e.g., when reading the state of a previous generation. The file must already be canonical.
+     */
+    fun restore(file: File, path: List<String>) = Position(file, path)
   }
 }
@@ -70,6 +70,33 @@ data class MapSchema(
   override var embeddedIn: Schema? = null
 }
 
+/**
+ * Represents a oneOf or anyOf schema with a discriminator. Its alternatives are object schemas, that are told apart by the value of the discriminator
+ * property. As the alternatives can not overlap, oneOf and anyOf are treated the same.
+ */
+data class PolymorphicSchema(
+    override val title: String?,
+    override val description: String?,
+    val discriminatorPropertyName: String,
+
+    /**
+     * The alternatives with their discriminator values. An alternative can be listed with several values.
+     */
+    val alternatives: List<DiscriminatedAlternative>,
+    override val position: Position,
+) : Schema {
+
+  override var embeddedIn: Schema? = null
+}
+
+/**
+ * Represents an alternative of a polymorphic schema together with the discriminator value identifying it.
+ */
+data class DiscriminatedAlternative(
+    val discriminatorValue: String,
+    val schema: SchemaId
+)
+
 /**
  * Represents an enum schema.
  * Currently, enums are always assumed to have type "string".
@@ -99,6 +126,12 @@ data class PrimitiveSchema(
     val minLength: Int?,
     val maxLength: Int?,
     val pattern: String?,
+
+    /**
+     * Whether an integer or number without format is mapped to an arbitrary-precision type, as set by extension "x-contractfirst-arbitrary-precision".
+     * Null, if not set in the contract.
+     */
+    val arbitraryPrecision: Boolean?,
     override val position: Position,
 ) : Schema {
 
@@ -126,6 +159,7 @@ data class PrimitiveSchema(
       "date" -> DataType.DATE
       "date-time" -> DataType.DATE_TIME
       "binary" -> DataType.BINARY
+      "byte" -> DataType.BYTE
       else -> DataType.STRING
     }
   }
@@ -153,6 +187,7 @@ enum class DataType {
 
   BINARY,
   BOOLEAN,
+  BYTE,
 
   DATE,
   DATE_TIME,
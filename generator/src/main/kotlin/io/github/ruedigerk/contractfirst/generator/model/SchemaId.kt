@@ -5,9 +5,8 @@ import io.github.ruedigerk.contractfirst.generator.parser.Parseable
 /**
  * Represents the unique identifier of a schema, using the schema position to uniquely identify it. 
  */
-class SchemaId private constructor(
-    val position: Position,
-    val source: Parseable
+class SchemaId(
+    val position: Position
 ) {
 
   override fun equals(other: Any?): Boolean {
@@ -31,6 +30,6 @@ class SchemaId private constructor(
 
   companion object {
 
-    operator fun invoke(parseable: Parseable) = SchemaId(parseable.position, parseable)
+    operator fun invoke(parseable: Parseable) = SchemaId(parseable.position)
   }
 }
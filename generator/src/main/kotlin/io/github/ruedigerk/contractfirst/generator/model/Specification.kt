@@ -1,12 +1,9 @@
 package io.github.ruedigerk.contractfirst.generator.model
 
-import io.github.ruedigerk.contractfirst.generator.parser.Parseable
-
 /**
  * Represents the contents of a contract.
  */
 data class Specification(
     val operations: List<Operation>,
-    val schemas: Map<SchemaId, Schema>,
-    val source: Parseable
+    val schemas: Map<SchemaId, Schema>
 )
\ No newline at end of file
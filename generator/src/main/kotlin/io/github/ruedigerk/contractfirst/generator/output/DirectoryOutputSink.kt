@@ -0,0 +1,17 @@
+package io.github.ruedigerk.contractfirst.generator.output
+
+import java.io.File
+
+/**
+ * Writes the generated files to a directory. This is the default sink, writing to the output directory of the configuration.
+ */
+class DirectoryOutputSink(val directory: File) : OutputSink {
+
+  override fun write(path: String, content: ByteArray) {
+    val file = directory.resolve(path)
+    file.parentFile.mkdirs()
+    file.writeBytes(content)
+  }
+
+  override fun exists(path: String): Boolean = directory.resolve(path).exists()
+}
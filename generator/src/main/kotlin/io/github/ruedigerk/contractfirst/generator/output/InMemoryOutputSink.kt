@@ -0,0 +1,23 @@
+package io.github.ruedigerk.contractfirst.generator.output
+
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Keeps the generated files in memory, e.g., for tests or tools that process the generated sources without writing them to disk.
+ */
+class InMemoryOutputSink : OutputSink {
+
+  private val contents = ConcurrentHashMap<String, ByteArray>()
+
+  /**
+   * The generated files, by their paths, sorted by path.
+   */
+  val files: Map<String, ByteArray>
+    get() = contents.toSortedMap()
+
+  override fun write(path: String, content: ByteArray) {
+    contents[path] = content
+  }
+
+  override fun exists(path: String): Boolean = contents.containsKey(path)
+}
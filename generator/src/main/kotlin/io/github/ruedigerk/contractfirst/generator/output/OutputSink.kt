@@ -0,0 +1,44 @@
+package io.github.ruedigerk.contractfirst.generator.output
+
+import com.squareup.javapoet.JavaFile
+import java.io.Closeable
+
+/**
+ * The target the generated files are written to, e.g., a directory, memory or a zip file. Paths are relative to the root of the output and use '/' as
+ * separator, e.g., "my/pkg/model/Item.java".
+ *
+ * Implementations must be thread-safe, as the contracts of a batch are generated concurrently into the same sink.
+ */
+interface OutputSink : Closeable {
+
+  /**
+   * Writes a generated file, replacing a previously written file with the same path, if the sink supports it.
+   */
+  fun write(path: String, content: ByteArray)
+
+  /**
+   * Returns whether a file with the supplied path exists in the output.
+   */
+  fun exists(path: String): Boolean
+
+  /**
+   * Writes the supplied Java file to the path derived from its package and type name.
+   */
+  fun write(javaFile: JavaFile) {
+    write(pathOf(javaFile.packageName, javaFile.typeSpec.name + ".java"), javaFile.toString().toByteArray(Charsets.UTF_8))
+  }
+
+  /**
+   * Completes the output, e.g., finishes a zip file. Nothing may be written afterward.
+   */
+  override fun close() {
+  }
+
+  companion object {
+
+    /**
+     * Returns the path of the file with the supplied name in the supplied Java package.
+     */
+    fun pathOf(packageName: String, fileName: String): String = if (packageName.isEmpty()) fileName else packageName.replace('.', '/') + "/" + fileName
+  }
+}
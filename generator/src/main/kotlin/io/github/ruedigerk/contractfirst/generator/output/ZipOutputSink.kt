@@ -0,0 +1,48 @@
+package io.github.ruedigerk.contractfirst.generator.output
+
+import java.io.File
+import java.io.OutputStream
+import java.util.zip.ZipEntry
+import java.util.zip.ZipException
+import java.util.zip.ZipOutputStream
+
+/**
+ * Streams the generated files into a single zip file, e.g., a source JAR, without writing them to the file system individually. Each file is written as
+ * soon as it is generated, so a file can not be replaced by writing it again. The supplied stream is closed, when the sink is closed.
+ */
+class ZipOutputSink(outputStream: OutputStream) : OutputSink {
+
+  private val zipOutputStream = ZipOutputStream(outputStream.buffered())
+  private val writtenPaths = mutableSetOf<String>()
+
+  @Synchronized
+  override fun write(path: String, content: ByteArray) {
+    if (!writtenPaths.add(path)) {
+      throw ZipException("File $path was already written to the zip file")
+    }
+
+    zipOutputStream.putNextEntry(ZipEntry(path))
+    zipOutputStream.write(content)
+    zipOutputStream.closeEntry()
+  }
+
+  @Synchronized
+  override fun exists(path: String): Boolean = path in writtenPaths
+
+  @Synchronized
+  override fun close() {
+    zipOutputStream.close()
+  }
+
+  companion object {
+
+    /**
+     * Returns a sink writing the zip file to the supplied file.
+     */
+    @JvmStatic
+    fun toFile(file: File): ZipOutputSink {
+      file.absoluteFile.parentFile.mkdirs()
+      return ZipOutputSink(file.outputStream())
+    }
+  }
+}
@@ -19,21 +19,28 @@ import io.github.ruedigerk.contractfirst.generator.parser.Strings.normalize
  *      Schemas are identified by their positions.
  * 2. All previously remembered schemas are parsed.
  */
-class ContractParser(private val log: Log) {
+class ContractParser @JvmOverloads constructor(
+    private val log: Log,
+    private val parseableCache: ParseableCache,
+    private val reusableSchemas: Map<SchemaId, ParsedSchema> = emptyMap(),
+) {
 
-  private val parseableCache = ParseableCache()
   private val encounteredSchemas: MutableMap<Position, Parseable> = mutableMapOf()
 
-  fun toSpecification(path: String): Specification {
-    return toSpecification(parseableCache.get(path))
-  }
+  /**
+   * The dependency graph of the schemas of the contract, available after parsing it.
+   */
+  var schemaDependencyGraph = SchemaDependencyGraph(emptyMap())
+    private set
 
-  private fun toSpecification(contract: Parseable): Specification {
-    val operations = toOperations(contract.requiredField("paths").requireObject())
-    val resolvingSchemaParser = ResolvingSchemaParser(log, parseableCache)
+  fun toSpecification(path: String): Specification {
+    // Only request the paths, so that a lazily loading cache does not need to materialize the whole contract.
+    val operations = toOperations(parseableCache.get(Position(path) + "paths").requireObject())
+    val resolvingSchemaParser = ResolvingSchemaParser(log, parseableCache, reusableSchemas)
     val schemas = resolvingSchemaParser.parseAndResolveAll(encounteredSchemas.values)
+    schemaDependencyGraph = resolvingSchemaParser.dependencyGraph
 
-    return Specification(operations, schemas, contract)
+    return Specification(operations, schemas)
   }
 
   private fun toOperations(parseable: Parseable): List<Operation> {
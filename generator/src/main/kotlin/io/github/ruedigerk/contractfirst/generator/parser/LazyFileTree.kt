@@ -0,0 +1,207 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import com.fasterxml.jackson.core.JsonParser
+import com.fasterxml.jackson.core.JsonToken
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.node.MissingNode
+import com.fasterxml.jackson.databind.node.ObjectNode
+import io.github.ruedigerk.contractfirst.generator.ParserContentException
+import io.github.ruedigerk.contractfirst.generator.ParserFileNotFoundException
+import io.github.ruedigerk.contractfirst.generator.ParserIoException
+import io.github.ruedigerk.contractfirst.generator.model.Position
+import java.io.File
+import java.io.FileNotFoundException
+import java.io.IOException
+
+/**
+ * The content of a single file, that is only materialized on demand.
+ *
+ * On creation, the file is streamed once to index the references it contains, without building a tree. When a path is requested, the subtree at that path
+ * and all subtrees of the same file reachable from it by references are materialized in a single streaming pass. Everything else, including examples and
+ * specification extensions, is skipped and never held in memory.
+ */
+class LazyFileTree(
+    private val file: File,
+    private val objectMapper: ObjectMapper
+) {
+
+  private val references = PathTrie<String>()
+  private val materializedRegions = PathTrie<Unit>()
+  private var root: JsonNode = MissingNode.getInstance()
+
+  init {
+    read { parser -> indexReferences(parser, mutableListOf(), null) }
+  }
+
+  /**
+   * Returns the partial tree of the file, in which the supplied path is guaranteed to be materialized if it exists.
+   */
+  fun materialize(path: List<String>): Parseable {
+    if (!materializedRegions.covers(path)) {
+      val regions = collectReachableRegions(path)
+
+      read { parser -> root = readRegions(parser, root, regions.root, null) }
+      regions.forEachPath { materializedRegions.putIfNotCovered(it, Unit) }
+    }
+
+    return Parseable(root, Position(file))
+  }
+
+  private fun collectReachableRegions(start: List<String>): PathTrie<Unit> {
+    val regions = PathTrie<Unit>()
+    val worklist = ArrayDeque(listOf(start))
+
+    while (worklist.isNotEmpty()) {
+      val region = worklist.removeFirst()
+
+      if (!materializedRegions.covers(region) && regions.putIfNotCovered(region, Unit)) {
+        references.valuesAtOrBelow(region).mapNotNullTo(worklist) { localPathOf(it) }
+      }
+    }
+
+    return regions
+  }
+
+  /**
+   * Returns the path of the referenced position, if the reference points into this file. Invalid references are ignored here, they are reported when the
+   * parser actually resolves them.
+   */
+  private fun localPathOf(reference: String): List<String>? = try {
+    Position(file).resolveReference(reference).takeIf { it.file == Position(file).file }?.path
+  } catch (e: ParserContentException) {
+    null
+  }
+
+  private fun indexReferences(parser: JsonParser, path: MutableList<String>, fieldName: String?) {
+    when (parser.currentToken()) {
+      JsonToken.START_OBJECT -> {
+        val keysAreUserDefined = fieldName in MAPS_WITH_USER_DEFINED_KEYS
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          val name = parser.currentName()
+          val token = parser.nextToken()
+
+          if (name == "\$ref" && token == JsonToken.VALUE_STRING) {
+            references.put(path.toList(), parser.text)
+          } else if (!keysAreUserDefined && name in EXAMPLE_FIELDS) {
+            parser.skipChildren()
+          } else {
+            path.add(name)
+            indexReferences(parser, path, name)
+            path.removeAt(path.lastIndex)
+          }
+        }
+      }
+
+      JsonToken.START_ARRAY -> {
+        var index = 0
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          path.add("${index++}")
+          indexReferences(parser, path, null)
+          path.removeAt(path.lastIndex)
+        }
+      }
+
+      else -> Unit
+    }
+  }
+
+  /**
+   * Descends structurally into the objects containing the requested regions, merging into the already materialized partial tree, and materializes the
+   * regions themselves.
+   */
+  private fun readRegions(parser: JsonParser, existing: JsonNode, region: PathTrie.Node<Unit>, fieldName: String?): JsonNode {
+    if (region.hasValue || parser.currentToken() != JsonToken.START_OBJECT) {
+      return readFiltered(parser, fieldName)
+    }
+
+    val node = existing as? ObjectNode ?: objectMapper.nodeFactory.objectNode()
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      val name = parser.currentName()
+      val child = region.children[name]
+      parser.nextToken()
+
+      if (child == null) {
+        parser.skipChildren()
+      } else {
+        node.set<JsonNode>(name, readRegions(parser, node.path(name), child, name))
+      }
+    }
+
+    return node
+  }
+
+  /**
+   * Materializes the value at the current token, skipping examples and specification extensions not used by the generator.
+   */
+  private fun readFiltered(parser: JsonParser, fieldName: String?): JsonNode = when (parser.currentToken()) {
+    JsonToken.START_OBJECT -> {
+      val node = objectMapper.nodeFactory.objectNode()
+      val keysAreUserDefined = fieldName in MAPS_WITH_USER_DEFINED_KEYS
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        val name = parser.currentName()
+        parser.nextToken()
+
+        if (!keysAreUserDefined && isSkipped(name)) {
+          parser.skipChildren()
+        } else {
+          node.set<JsonNode>(name, readFiltered(parser, name))
+        }
+      }
+
+      node
+    }
+
+    JsonToken.START_ARRAY -> {
+      val node = objectMapper.nodeFactory.arrayNode()
+
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        node.add(readFiltered(parser, null))
+      }
+
+      node
+    }
+
+    else -> parser.readValueAsTree()
+  }
+
+  private fun isSkipped(fieldName: String): Boolean =
+      fieldName in EXAMPLE_FIELDS || (fieldName.startsWith("x-") && fieldName !in RETAINED_EXTENSIONS)
+
+  private fun read(action: (JsonParser) -> Unit) {
+    try {
+      objectMapper.factory.createParser(file).use { parser ->
+        if (parser.nextToken() != null) {
+          action(parser)
+        }
+      }
+    } catch (e: FileNotFoundException) {
+      throw ParserFileNotFoundException("File '$file' not found", e)
+    } catch (e: IOException) {
+      throw ParserIoException("Error reading file '$file'", e)
+    }
+  }
+
+  companion object {
+
+    private val EXAMPLE_FIELDS = setOf("example", "examples")
+
+    /**
+     * The specification extensions that are evaluated by the generator and therefore must not be skipped.
+     */
+    private val RETAINED_EXTENSIONS = setOf(ResolvingSchemaParser.ARBITRARY_PRECISION_EXTENSION)
+
+    /**
+     * The fields of OpenAPI and JSON Schema objects, whose values are maps with user defined keys. Keys of these maps are never skipped, e.g., a property
+     * named "example".
+     */
+    private val MAPS_WITH_USER_DEFINED_KEYS = setOf(
+        "paths", "properties", "patternProperties", "definitions", "\$defs", "schemas", "parameters", "responses", "requestBodies", "headers",
+        "securitySchemes", "links", "callbacks", "content", "encoding", "mapping", "variables"
+    )
+  }
+}
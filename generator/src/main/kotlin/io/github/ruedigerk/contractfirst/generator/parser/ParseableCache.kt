@@ -7,30 +7,61 @@ import java.io.File
 
 /**
  * Reads files and caches their content.
+ *
+ * With lazy loading, files are not read into memory completely. Instead, only the subtrees that are actually requested, together with the subtrees
+ * reachable from them by references, are materialized. Examples and specification extensions are never materialized in this mode.
+ *
+ * Without lazy loading, files can be read through a SharedFileCache, when generating several contracts in one batch.
  */
-class ParseableCache {
+class ParseableCache @JvmOverloads constructor(
+    private val lazyLoading: Boolean = false,
+    private val sharedFileCache: SharedFileCache? = null,
+) {
 
   private val yamlReader = YamlReader()
   private val fileCache: MutableMap<File, Parseable> = mutableMapOf()
+  private val lazyFileCache: MutableMap<File, LazyFileTree> = mutableMapOf()
   private val positionCache: MutableMap<Position, Parseable> = mutableMapOf()
+  private val accessedFileSets: MutableList<MutableSet<File>> = mutableListOf()
 
   fun get(path: String): Parseable = get(Position(path))
 
   fun get(file: File): Parseable = get(Position(file))
 
-  fun get(position: Position): Parseable = positionCache.getOrPut(position) {
-    val file = lookupFile(position.file)
-    var target = file
+  fun get(position: Position): Parseable {
+    accessedFileSets.forEach { it.add(position.file) }
 
-    for (field in position.path) {
-      target = target.requiredField(field)
+    return positionCache.getOrPut(position) {
+      var target = if (lazyLoading) lookupLazyFile(position.file).materialize(position.path) else lookupFile(position.file)
+
+      for (field in position.path) {
+        target = target.requiredField(field)
+      }
+
+      target
     }
+  }
 
-    target
+  /**
+   * Runs the supplied block, adding the files accessed through this cache while running it to the supplied set, e.g., the files of followed references.
+   * Tracking can be nested, the files are added to the sets of all enclosing invocations.
+   */
+  fun <T> trackingAccessedFiles(files: MutableSet<File>, block: () -> T): T {
+    accessedFileSets.add(files)
+
+    try {
+      return block()
+    } finally {
+      accessedFileSets.removeAt(accessedFileSets.lastIndex)
+    }
   }
 
   private fun lookupFile(file: File): Parseable = fileCache.getOrPut(file) {
-    yamlReader.readFile(file)
+    sharedFileCache?.get(file) ?: yamlReader.readFile(file)
+  }
+
+  private fun lookupLazyFile(file: File): LazyFileTree = lazyFileCache.getOrPut(file) {
+    yamlReader.readFileLazily(file)
   }
 
   /**
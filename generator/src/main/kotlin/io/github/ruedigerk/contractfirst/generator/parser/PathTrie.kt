@@ -0,0 +1,91 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+/**
+ * A trie over the paths of positions within a file, associating values with paths.
+ */
+class PathTrie<T> {
+
+  val root = Node<T>()
+
+  fun put(path: List<String>, value: T) {
+    nodeFor(path).values.add(value)
+  }
+
+  /**
+   * Associates the value with the path, unless the path or one of its ancestors already has a value. Values of descendants of the path are removed, as
+   * the path covers them. Returns whether the value was added.
+   */
+  fun putIfNotCovered(path: List<String>, value: T): Boolean {
+    if (covers(path)) {
+      return false
+    }
+
+    val node = nodeFor(path)
+    node.children.clear()
+    node.values.add(value)
+    return true
+  }
+
+  /**
+   * Returns whether the path or one of its ancestors has a value.
+   */
+  fun covers(path: List<String>): Boolean {
+    var node = root
+
+    for (segment in path) {
+      if (node.hasValue) {
+        return true
+      }
+      node = node.children[segment] ?: return false
+    }
+
+    return node.hasValue
+  }
+
+  /**
+   * Returns all values associated with the path or with any of its descendants.
+   */
+  fun valuesAtOrBelow(path: List<String>): List<T> {
+    var node = root
+
+    for (segment in path) {
+      node = node.children[segment] ?: return emptyList()
+    }
+
+    val result = mutableListOf<T>()
+    node.collectValues(result)
+    return result
+  }
+
+  fun forEachPath(action: (List<String>) -> Unit) {
+    root.forEachPath(mutableListOf(), action)
+  }
+
+  private fun nodeFor(path: List<String>): Node<T> = path.fold(root) { node, segment -> node.children.getOrPut(segment) { Node() } }
+
+  class Node<T> {
+
+    val children: MutableMap<String, Node<T>> = mutableMapOf()
+    val values: MutableList<T> = mutableListOf()
+
+    val hasValue: Boolean
+      get() = values.isNotEmpty()
+
+    internal fun collectValues(result: MutableList<T>) {
+      result.addAll(values)
+      children.values.forEach { it.collectValues(result) }
+    }
+
+    internal fun forEachPath(path: MutableList<String>, action: (List<String>) -> Unit) {
+      if (hasValue) {
+        action(path.toList())
+      }
+
+      children.forEach { (segment, child) ->
+        path.add(segment)
+        child.forEachPath(path, action)
+        path.removeAt(path.lastIndex)
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package io.github.ruedigerk.contractfirst.generator.parser
 
 import io.github.ruedigerk.contractfirst.generator.NotSupportedException
+import io.github.ruedigerk.contractfirst.generator.ParserContentException
 import io.github.ruedigerk.contractfirst.generator.logging.Log
 import io.github.ruedigerk.contractfirst.generator.model.*
 import io.github.ruedigerk.contractfirst.generator.parser.Strings.normalize
@@ -8,43 +9,96 @@ import java.io.File
 
 /**
  * A parser for JSON Schema files in either JSON oder YAML format.
+ *
+ * While parsing, the dependency graph of the schemas is recorded: for each schema, the schemas it references and the files read for parsing it. Schemas
+ * parsed in a previous generation can be supplied as reusable schemas. They are not parsed again, but their references are followed in the same order, so
+ * that the result is the same as when parsing them.
  */
-class ResolvingSchemaParser(
+class ResolvingSchemaParser @JvmOverloads constructor(
     private val log: Log,
     private val parseableCache: ParseableCache,
+    private val reusableSchemas: Map<SchemaId, ParsedSchema> = emptyMap(),
 ) {
 
-  private val schemasToParse = ArrayDeque<Parseable>()
+  private val schemasToParse = ArrayDeque<SchemaId>()
+  private val parseablesToParse = mutableMapOf<SchemaId, Parseable>()
   private val visitedSchemas = mutableSetOf<SchemaId>()
+  private val parsedSchemas = mutableMapOf<SchemaId, ParsedSchema>()
+
+  private var referencesOfCurrentSchema = mutableListOf<SchemaId>()
+
+  /**
+   * The dependency graph of the schemas parsed so far.
+   */
+  val dependencyGraph: SchemaDependencyGraph
+    get() = SchemaDependencyGraph(parsedSchemas.toMap())
 
   fun parseAndResolveAll(schemas: Collection<Parseable>): Map<SchemaId, Schema> {
-    schemasToParse.addAll(schemas)
+    schemas.forEach { rememberSchema(SchemaId(it), it) }
+    return parseAndResolveRemembered()
+  }
 
-    val parsedSchemas = mutableMapOf<SchemaId, Schema>()
+  /**
+   * Parses the schemas at the supplied positions, which must not be schema references. Their files are only read, if the schemas can not be reused.
+   */
+  fun parseAndResolveAllAt(positions: Collection<Position>): Map<SchemaId, Schema> {
+    positions.forEach { rememberSchema(SchemaId(it), null) }
+    return parseAndResolveRemembered()
+  }
+
+  private fun parseAndResolveRemembered(): Map<SchemaId, Schema> {
+    val schemas = mutableMapOf<SchemaId, Schema>()
 
     while (schemasToParse.isNotEmpty()) {
-      val parseable = schemasToParse.removeFirst()
-      val id = SchemaId(parseable)
-      
-      // Enter the schema ID in visitedSchemas before parsing it, to avoid adding it to schemasToParse again during parsing.
-      visitedSchemas.add(id)
+      val id = schemasToParse.removeFirst()
+
+      // Enter the schema ID in visitedSchemas before parsing it, to avoid adding it to schemasToParse again during parsing. A schema can be remembered
+      // several times before being parsed, it is only parsed the first time.
+      if (!visitedSchemas.add(id)) {
+        continue
+      }
 
-      val schema = parseSchema(parseable)
-      parsedSchemas[id] = schema
+      val parsedSchema = reuseSchema(id) ?: parseSchemaWithDependencies(id)
+      parsedSchemas[id] = parsedSchema
+      schemas[id] = parsedSchema.schema
     }
 
-    return parsedSchemas
+    return schemas
+  }
+
+  private fun reuseSchema(id: SchemaId): ParsedSchema? = reusableSchemas[id]?.also { reused ->
+    log.debug { "Reusing schema ${id.position}" }
+    reused.references.forEach { rememberSchema(it, null) }
+  }
+
+  private fun parseSchemaWithDependencies(id: SchemaId): ParsedSchema {
+    val parseable = parseablesToParse.remove(id) ?: parseableCache.get(id.position)
+    val files = mutableSetOf(id.position.file)
+    referencesOfCurrentSchema = mutableListOf()
+
+    val schema = parseableCache.trackingAccessedFiles(files) { parseSchema(parseable) }
+
+    return ParsedSchema(schema, referencesOfCurrentSchema, files)
   }
 
   private fun dereferenceAndRememberSchema(schemaOrReference: Parseable): SchemaId {
     val schema = parseableCache.resolveWhileReference(schemaOrReference)
     val id = SchemaId(schema)
 
+    rememberSchema(id, schema)
+    referencesOfCurrentSchema.add(id)
+
+    return id
+  }
+
+  private fun rememberSchema(id: SchemaId, parseable: Parseable?) {
     if (id !in visitedSchemas) {
-      schemasToParse.addLast(schema)
+      schemasToParse.addLast(id)
+
+      if (parseable != null) {
+        parseablesToParse.putIfAbsent(id, parseable)
+      }
     }
-    
-    return id
   }
 
   /**
@@ -57,6 +111,18 @@ class ResolvingSchemaParser(
       throw IllegalArgumentException("Parseable supplied to parseSchema must not be a schema reference, but was ${parseable.getReference()} at ${parseable.position}")
     }
 
+    if (parseable.optionalField("allOf").isPresent()) {
+      return toAllOfObjectSchema(parseable)
+    }
+
+    if (parseable.optionalField("oneOf").isPresent()) {
+      return toPolymorphicSchema(parseable, "oneOf")
+    }
+
+    if (parseable.optionalField("anyOf").isPresent()) {
+      return toPolymorphicSchema(parseable, "anyOf")
+    }
+
     if (parseable.optionalField("enum").isPresent()) {
       return toEnumSchema(parseable)
     }
@@ -114,6 +180,7 @@ class ResolvingSchemaParser(
         parseable.optionalField("minLength").int(),
         parseable.optionalField("maxLength").int(),
         parseable.optionalField("pattern").string(),
+        parseable.optionalField(ARBITRARY_PRECISION_EXTENSION).boolean(),
         parseable.position
     )
   }
@@ -162,18 +229,115 @@ class ResolvingSchemaParser(
     )
   }
 
+  /**
+   * An allOf schema is merged into a single object schema, consisting of the properties of its own and of all its subschemas, which must be object
+   * schemas or allOf schemas themselves.
+   */
+  private fun toAllOfObjectSchema(parseable: Parseable): ObjectSchema {
+    val requiredProperties = mutableSetOf<String>()
+    val properties = linkedMapOf<String, SchemaId>()
+
+    collectAllOfProperties(parseable, requiredProperties, properties, mutableSetOf())
+
+    return ObjectSchema(
+        parseable.optionalField("title").string().normalize(),
+        parseable.optionalField("description").string().normalize(),
+        properties.map { (name, schema) -> SchemaProperty(name, requiredProperties.contains(name), schema) },
+        parseable.position
+    )
+  }
+
+  private fun collectAllOfProperties(
+      parseable: Parseable,
+      requiredProperties: MutableSet<String>,
+      properties: MutableMap<String, SchemaId>,
+      visitedPositions: MutableSet<Position>
+  ) {
+    if (!visitedPositions.add(parseable.position)) {
+      throw ParserContentException("Cyclic allOf schemas detected at ${parseable.position}")
+    }
+
+    val type = parseable.optionalField("type").string()
+    if ((type != null && type != "object") || parseable.optionalField("additionalProperties").isObject()) {
+      throw NotSupportedException("Currently only object schemas are supported as subschemas of allOf schemas at ${parseable.position}")
+    }
+
+    parseable.optionalField("allOf").elements().forEach { subschema ->
+      collectAllOfProperties(parseableCache.resolveWhileReference(subschema.requireObject()), requiredProperties, properties, visitedPositions)
+    }
+
+    requiredProperties.addAll(parseable.optionalField("required").stringElements())
+    parseable.optionalField("properties").properties().forEach { (name, propertySchemaParseable) ->
+      properties[name] = dereferenceAndRememberSchema(propertySchemaParseable)
+    }
+  }
+
+  /**
+   * Polymorphic schemas are only supported with a discriminator, and their alternatives must be references, as the names of the referenced schemas are
+   * the default discriminator values.
+   */
+  private fun toPolymorphicSchema(parseable: Parseable, keyword: String): PolymorphicSchema {
+    val discriminator = parseable.optionalField("discriminator")
+    if (!discriminator.isPresent()) {
+      throw NotSupportedException("Currently $keyword schemas are only supported with a discriminator at ${parseable.position}")
+    }
+
+    val alternatives = parseable.requiredField(keyword).requireArray().requireNonEmpty().elements().map { alternative ->
+      if (!alternative.isReference()) {
+        throw NotSupportedException("Currently only references are supported as alternatives of $keyword schemas at ${alternative.position}")
+      }
+
+      dereferenceAndRememberSchema(alternative)
+    }
+
+    val mapping = discriminator.optionalField("mapping").properties().map { (value, reference) ->
+      DiscriminatedAlternative(value, resolveMappingReference(parseable, reference))
+    }
+
+    mapping.find { it.schema !in alternatives }?.let {
+      throw ParserContentException("Discriminator value '${it.discriminatorValue}' is not mapped to an alternative of the $keyword schema at ${parseable.position}")
+    }
+
+    val implicitMapping = alternatives.filter { alternative -> mapping.none { it.schema == alternative } }
+        .map { DiscriminatedAlternative(defaultDiscriminatorValue(it), it) }
+
+    return PolymorphicSchema(
+        parseable.optionalField("title").string().normalize(),
+        parseable.optionalField("description").string().normalize(),
+        discriminator.requiredField("propertyName").string()!!,
+        mapping + implicitMapping,
+        parseable.position
+    )
+  }
+
+  /**
+   * Values of a discriminator mapping are either references or names of schemas in the components section.
+   */
+  private fun resolveMappingReference(parseable: Parseable, reference: Parseable): SchemaId {
+    val referenceString = reference.string() ?: throw ParserContentException("${reference.position} is not a string")
+    val normalizedReference = if (referenceString.contains('#') || referenceString.contains('/')) referenceString else "#/components/schemas/$referenceString"
+    val referenced = parseableCache.get(parseable.position.resolveReference(normalizedReference))
+
+    return SchemaId(parseableCache.resolveWhileReference(referenced))
+  }
+
+  private fun defaultDiscriminatorValue(schema: SchemaId): String = schema.position.path.lastOrNull() ?: schema.position.file.nameWithoutExtension
+
   companion object {
 
+    /**
+     * Specification extension for overriding, whether an integer or number schema without format is mapped to an arbitrary-precision type.
+     */
+    const val ARBITRARY_PRECISION_EXTENSION = "x-contractfirst-arbitrary-precision"
+
     /**
      * Utility method for parsing standalone schema files, instead of parsing the schemas referenced from an OpenAPI contract.
      */
     @JvmStatic
-    fun parseAndResolveAll(log: Log, files: Collection<File>): Map<SchemaId, Schema> {
-      val parseableCache = ParseableCache()
-      val parseables = files.map { parseableCache.get(it) }
-      val parser = ResolvingSchemaParser(log, parseableCache)
-
-      return parser.parseAndResolveAll(parseables)
+    @JvmOverloads
+    fun parseAndResolveAll(log: Log, files: Collection<File>, lazyLoading: Boolean, sharedFileCache: SharedFileCache? = null): Map<SchemaId, Schema> {
+      val parser = ResolvingSchemaParser(log, ParseableCache(lazyLoading, sharedFileCache))
+      return parser.parseAndResolveAllAt(files.map { Position(it) })
     }
   }
 }
\ No newline at end of file
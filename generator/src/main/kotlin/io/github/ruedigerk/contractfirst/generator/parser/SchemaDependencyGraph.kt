@@ -0,0 +1,40 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import io.github.ruedigerk.contractfirst.generator.model.Schema
+import io.github.ruedigerk.contractfirst.generator.model.SchemaId
+import java.io.File
+
+/**
+ * The dependency graph of the schemas parsed by a ResolvingSchemaParser: for each schema, the schemas it references and the files read for parsing it.
+ */
+class SchemaDependencyGraph(
+    val parsedSchemas: Map<SchemaId, ParsedSchema>
+) {
+
+  /**
+   * All files read for parsing the schemas.
+   */
+  val files: Set<File>
+    get() = parsedSchemas.values.flatMapTo(mutableSetOf()) { it.files }
+
+  /**
+   * Returns the parsed schemas, that are not affected by changes of the supplied files. A schema is affected, when its file or any other file read for
+   * parsing a schema of its file changed. So the schemas of a file are reused or parsed again together, as inline schemas, e.g., of parameters, can only
+   * be parsed together with their parent.
+   */
+  fun unaffectedSchemas(changedFiles: Set<File>): Map<SchemaId, ParsedSchema> {
+    val affectedFiles = changedFiles + parsedSchemas.filterValues { parsedSchema -> parsedSchema.files.any { it in changedFiles } }.keys.map { it.position.file }
+
+    return parsedSchemas.filterKeys { it.position.file !in affectedFiles }
+  }
+}
+
+/**
+ * A parsed schema together with its dependencies: the schemas it references, in the order they were encountered, and the files read for parsing it, i.e.,
+ * its own file and the files of the references followed and the allOf subschemas merged into it.
+ */
+data class ParsedSchema(
+    val schema: Schema,
+    val references: List<SchemaId>,
+    val files: Set<File>,
+)
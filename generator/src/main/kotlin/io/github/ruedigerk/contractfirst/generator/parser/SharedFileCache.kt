@@ -0,0 +1,21 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import java.io.File
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Thread-safe cache of parsed files, shared by the ParseableCaches of all contracts generated in one batch, so that schema files referenced by several
+ * contracts are only read and parsed once. Parseables are immutable, so they can be used by several threads concurrently.
+ *
+ * Only used for eagerly loaded files, as the trees of lazily loaded files are materialized incrementally by their ParseableCache.
+ */
+class SharedFileCache {
+
+  private val yamlReader = YamlReader()
+  private val fileCache: MutableMap<File, Parseable> = ConcurrentHashMap()
+
+  fun get(file: File): Parseable = fileCache.computeIfAbsent(file, yamlReader::readFile)
+
+  val size: Int
+    get() = fileCache.size
+}
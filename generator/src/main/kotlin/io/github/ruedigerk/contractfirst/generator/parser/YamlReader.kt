@@ -27,4 +27,6 @@ class YamlReader {
       throw ParserIoException("Error reading file '$file'", e)
     }
   }
+
+  fun readFileLazily(file: File): LazyFileTree = LazyFileTree(file, objectMapper)
 }
\ No newline at end of file
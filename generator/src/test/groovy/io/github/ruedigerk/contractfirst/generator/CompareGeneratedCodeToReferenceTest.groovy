@@ -13,6 +13,7 @@ class CompareGeneratedCodeToReferenceTest extends Specification {
   static def combinationsClientHarness = new GeneratorHarness("src/test/contract/content-type-combinations.yaml", "combinations_client", GeneratorType.CLIENT)
   static def selfReferentialHarness = new GeneratorHarness("src/test/contract/self-referential-model.yaml", "selfreferential", GeneratorType.CLIENT)
   static def multipartHarness = new GeneratorHarness("src/test/contract/multipart-request-body.yaml", "multipart", GeneratorType.CLIENT)
+  static def multipartServerHarness = new GeneratorHarness("src/test/contract/multipart-request-body.yaml", "multipart_server", GeneratorType.SERVER)
   static def parametersServerHarness = new GeneratorHarness("src/test/contract/equally-named-parameters.yaml", "parameters_server", GeneratorType.SERVER)
   static def parametersClientHarness = new GeneratorHarness("src/test/contract/equally-named-parameters.yaml", "parameters_client", GeneratorType.CLIENT)
   static def validationsHarness = new GeneratorHarness("src/test/contract/validations.yaml", "validations", GeneratorType.SERVER)
@@ -20,6 +21,30 @@ class CompareGeneratedCodeToReferenceTest extends Specification {
   static def serverJsr305Harness = new GeneratorHarness("src/test/contract/testsuite.yaml", "server_jsr305", GeneratorType.SERVER, "", true)
   static def clientJsr305Harness = new GeneratorHarness("src/test/contract/testsuite.yaml", "client_jsr305", GeneratorType.CLIENT, "", true)
   static def modelOnlyJsr305Harness = new GeneratorHarness("src/test/contract/modelOnlySchemas", "model_only_jsr305", GeneratorType.MODEL_ONLY, "", true)
+  static def deduplicationHarness = new GeneratorHarness("src/test/contract/deduplication.yaml", "deduplication", GeneratorType.CLIENT, "", false, false, true)
+  static def primitiveTypesHarness = new GeneratorHarness("src/test/contract/primitiveTypes", "primitive_types", GeneratorType.MODEL_ONLY, "", true, false, false, false, true)
+  static def lazyCollectionsHarness = new GeneratorHarness("src/test/contract/lazyCollections", "lazy_collections", GeneratorType.MODEL_ONLY, "", true, false, false, false, false, true)
+  static def unformattedNumbersHarness = new GeneratorHarness(
+      "src/test/contract/unformattedNumbers", "unformatted_numbers", GeneratorType.MODEL_ONLY, "", false, true, false, false, false, false, true
+  )
+  static def validateMethodsHarness = new GeneratorHarness(
+      "src/test/contract/validate-methods.yaml", "validate_methods", GeneratorType.SERVER, "", false, false, false, false, false, false, false, true
+  )
+  static def validateMethodsClientHarness = new GeneratorHarness(
+      "src/test/contract/validate-methods.yaml", "validate_methods_client", GeneratorType.CLIENT, "", false, false, false, false, false, false, false, true
+  )
+  static def polymorphismHarness = new GeneratorHarness("src/test/contract/polymorphism.yaml", "polymorphism", GeneratorType.CLIENT)
+  static def byteFormatHarness = new GeneratorHarness("src/test/contract/byte-format.yaml", "byte_format", GeneratorType.CLIENT)
+  static def byteFormatBuffersHarness = new GeneratorHarness(
+      "src/test/contract/byte-format.yaml", "byte_format_buffers", GeneratorType.SERVER, "", false, false, false, false, false, false, false, false, true
+  )
+  static def parametersServerAsyncHarness = new GeneratorHarness(
+      "src/test/contract/equally-named-parameters.yaml", "parameters_server_async", GeneratorType.SERVER, "", false, false, false, false, false, false, false, false, false,
+      true
+  )
+  static def springWebFluxHarness = new GeneratorHarness("src/test/contract/testsuite.yaml", "spring_webflux", GeneratorType.SPRING_WEBFLUX)
+  static def routerHarness = new GeneratorHarness("src/test/contract/testsuite.yaml", "router", GeneratorType.ROUTER)
+  static def modelOnlyImmutableHarness = new GeneratorHarness("src/test/contract/modelOnlySchemas", "model_only_immutable", GeneratorType.MODEL_ONLY, "", true, false, false, true)
 
   def "Testsuite (server): #fileName"() {
     when:
@@ -117,6 +142,22 @@ class CompareGeneratedCodeToReferenceTest extends Specification {
     generatedFile << multipartHarness.generatedFiles
   }
 
+  def "Multipart request body (server): #fileName"() {
+    when:
+    multipartServerHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << multipartServerHarness.relativePathNames
+    referenceFile << multipartServerHarness.referenceFiles
+    generatedFile << multipartServerHarness.generatedFiles
+  }
+
   def "Operations with equally named parameters (server): #fileName"() {
     when:
     parametersServerHarness.runGenerator()
@@ -228,4 +269,212 @@ class CompareGeneratedCodeToReferenceTest extends Specification {
     referenceFile << modelOnlyJsr305Harness.referenceFiles
     generatedFile << modelOnlyJsr305Harness.generatedFiles
   }
+
+  def "Deduplication of inline schemas: #fileName"() {
+    when:
+    deduplicationHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << deduplicationHarness.relativePathNames
+    referenceFile << deduplicationHarness.referenceFiles
+    generatedFile << deduplicationHarness.generatedFiles
+  }
+
+  def "Model-Only mode with immutable model classes: #fileName"() {
+    when:
+    modelOnlyImmutableHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << modelOnlyImmutableHarness.relativePathNames
+    referenceFile << modelOnlyImmutableHarness.referenceFiles
+    generatedFile << modelOnlyImmutableHarness.generatedFiles
+  }
+
+  def "Primitive types for required properties: #fileName"() {
+    when:
+    primitiveTypesHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << primitiveTypesHarness.relativePathNames
+    referenceFile << primitiveTypesHarness.referenceFiles
+    generatedFile << primitiveTypesHarness.generatedFiles
+  }
+
+  def "Lazy initialization of collections: #fileName"() {
+    when:
+    lazyCollectionsHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << lazyCollectionsHarness.relativePathNames
+    referenceFile << lazyCollectionsHarness.referenceFiles
+    generatedFile << lazyCollectionsHarness.generatedFiles
+  }
+
+  def "Unformatted numbers as Double and Long: #fileName"() {
+    when:
+    unformattedNumbersHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << unformattedNumbersHarness.relativePathNames
+    referenceFile << unformattedNumbersHarness.referenceFiles
+    generatedFile << unformattedNumbersHarness.generatedFiles
+  }
+
+  def "Generated validate methods: #fileName"() {
+    when:
+    validateMethodsHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << validateMethodsHarness.relativePathNames
+    referenceFile << validateMethodsHarness.referenceFiles
+    generatedFile << validateMethodsHarness.generatedFiles
+  }
+
+  def "Generated validate methods (client): #fileName"() {
+    when:
+    validateMethodsClientHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << validateMethodsClientHarness.relativePathNames
+    referenceFile << validateMethodsClientHarness.referenceFiles
+    generatedFile << validateMethodsClientHarness.generatedFiles
+  }
+
+  def "Polymorphic schemas: #fileName"() {
+    when:
+    polymorphismHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << polymorphismHarness.relativePathNames
+    referenceFile << polymorphismHarness.referenceFiles
+    generatedFile << polymorphismHarness.generatedFiles
+  }
+
+  def "Byte format: #fileName"() {
+    when:
+    byteFormatHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << byteFormatHarness.relativePathNames
+    referenceFile << byteFormatHarness.referenceFiles
+    generatedFile << byteFormatHarness.generatedFiles
+  }
+
+  def "Byte format as ByteBuffer: #fileName"() {
+    when:
+    byteFormatBuffersHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << byteFormatBuffersHarness.relativePathNames
+    referenceFile << byteFormatBuffersHarness.referenceFiles
+    generatedFile << byteFormatBuffersHarness.generatedFiles
+  }
+
+  def "Asynchronous server methods: #fileName"() {
+    when:
+    parametersServerAsyncHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << parametersServerAsyncHarness.relativePathNames
+    referenceFile << parametersServerAsyncHarness.referenceFiles
+    generatedFile << parametersServerAsyncHarness.generatedFiles
+  }
+
+  def "Spring WebFlux server: #fileName"() {
+    when:
+    springWebFluxHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << springWebFluxHarness.relativePathNames
+    referenceFile << springWebFluxHarness.referenceFiles
+    generatedFile << springWebFluxHarness.generatedFiles
+  }
+
+  def "Router: #fileName"() {
+    when:
+    routerHarness.runGenerator()
+
+    then:
+    generatedFile.exists()
+
+    and:
+    generatedFile.text == referenceFile.text
+
+    where:
+    fileName << routerHarness.relativePathNames
+    referenceFile << routerHarness.referenceFiles
+    generatedFile << routerHarness.generatedFiles
+  }
 }
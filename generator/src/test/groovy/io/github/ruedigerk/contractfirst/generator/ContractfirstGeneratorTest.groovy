@@ -1,7 +1,13 @@
 package io.github.ruedigerk.contractfirst.generator
 
+import io.github.ruedigerk.contractfirst.generator.output.InMemoryOutputSink
+import io.github.ruedigerk.contractfirst.generator.output.ZipOutputSink
 import spock.lang.Specification
 
+import java.util.zip.ZipInputStream
+
+import static java.nio.charset.StandardCharsets.UTF_8
+
 class ContractfirstGeneratorTest extends Specification {
 
   def "configuration is validated"() {
@@ -16,6 +22,16 @@ class ContractfirstGeneratorTest extends Specification {
         true,
         "/prefix/",
         "lowercase",
+        false,
+        false,
+        false,
+        false,
+        false,
+        false,
+        false,
+        false,
+        false,
+        false,
         false
     )
 
@@ -26,4 +42,304 @@ class ContractfirstGeneratorTest extends Specification {
     def e = thrown InvalidConfigurationException
     e.message.contains("outputJavaModelNamePrefix")
   }
+
+  def "contracts of a batch are generated"() {
+    given:
+    def configurations = [
+        configuration("src/test/contract/testsuite.yaml", GeneratorType.CLIENT, "batch.client"),
+        configuration("src/test/contract/testsuite.yaml", GeneratorType.SERVER, "batch.server"),
+        configuration("src/test/contract/modelOnlySchemas", GeneratorType.MODEL_ONLY, "batch.model"),
+    ]
+
+    when:
+    new ContractfirstGenerator(new NoLoggingLogAdapter()).generateAll(configurations, 2)
+
+    then:
+    new File("$BATCH_OUTPUT_DIR/batch/client/api/PayloadVariantsApiClient.java").exists()
+    new File("$BATCH_OUTPUT_DIR/batch/server/resources/PayloadVariantsApi.java").exists()
+    new File("$BATCH_OUTPUT_DIR/batch/model").list().length > 0
+  }
+
+  def "failures of a batch are collected, while the other contracts are generated"() {
+    given:
+    def failing = configuration("src/test/contract/does-not-exist.yaml", GeneratorType.CLIENT, "batchfailure.failing")
+    def succeeding = configuration("src/test/contract/testsuite.yaml", GeneratorType.CLIENT, "batchfailure.succeeding")
+
+    when:
+    new ContractfirstGenerator(new NoLoggingLogAdapter()).generateAll([failing, succeeding], 2)
+
+    then:
+    def e = thrown BatchGenerationException
+    e.failures.keySet() == [failing] as Set
+    e.failures[failing] instanceof ParserException
+    e.message.contains("does-not-exist.yaml")
+
+    and:
+    new File("$BATCH_OUTPUT_DIR/batchfailure/succeeding/api/PayloadVariantsApiClient.java").exists()
+  }
+
+  def "configurations of a batch are validated before generating any contract"() {
+    given:
+    def valid = configuration("src/test/contract/testsuite.yaml", GeneratorType.CLIENT, "batchinvalid.valid")
+    def invalid = configuration("src/test/contract/testsuite.yaml", GeneratorType.CLIENT, "batchinvalid.invalid", "lowercase")
+
+    when:
+    new ContractfirstGenerator(new NoLoggingLogAdapter()).generateAll([valid, invalid])
+
+    then:
+    thrown InvalidConfigurationException
+    !new File("$BATCH_OUTPUT_DIR/batchinvalid").exists()
+  }
+
+  def "input files of a contract include all transitively referenced files"() {
+    given:
+    def contractFile = new File("target/inputFilesTest/contract.yaml")
+    contractFile.parentFile.mkdirs()
+    contractFile.text = '''\
+      openapi: "3.0.2"
+      info:
+        title: Input files
+        version: "1.0"
+      paths:
+        /appliances:
+          get:
+            operationId: getAppliance
+            responses:
+              200:
+                description: an appliance
+                content:
+                  application/json:
+                    schema:
+                      $ref: "../../src/test/contract/modelOnlySchemas/appliance.yaml"
+      '''.stripIndent()
+    def configuration = configuration(contractFile.path, GeneratorType.CLIENT, "inputfiles")
+
+    when:
+    def inputFiles = new ContractfirstGenerator(new NoLoggingLogAdapter()).findInputFiles(configuration)
+
+    then:
+    inputFiles.collect { it.canonicalFile }.toSet() == [
+        contractFile,
+        new File("src/test/contract/modelOnlySchemas/appliance.yaml"),
+        new File("src/test/contract/modelOnlySchemas/device.json"),
+        new File("src/test/contract/modelOnlySchemas/types/special-type.yaml"),
+        new File("src/test/contract/modelOnlySchemas/sibling/sibling.yaml"),
+    ].collect { it.canonicalFile }.toSet()
+
+    and: "no code is generated"
+    !new File("$BATCH_OUTPUT_DIR/inputfiles").exists()
+  }
+
+  def "incremental generation only writes the model files affected by changed schema files"() {
+    given:
+    def inputDir = new File("target/incrementalTestInput")
+    inputDir.deleteDir()
+    copyDirectory(new File("src/test/contract/modelOnlySchemas"), inputDir)
+    new File("$INCREMENTAL_OUTPUT_DIR/incremental").deleteDir()
+
+    def configuration = configuration(inputDir.path, GeneratorType.MODEL_ONLY, "incremental", "", INCREMENTAL_OUTPUT_DIR, true)
+    def generator = new ContractfirstGenerator(new NoLoggingLogAdapter())
+    def device = new File("$INCREMENTAL_OUTPUT_DIR/incremental/Device.java")
+    def appliance = new File("$INCREMENTAL_OUTPUT_DIR/incremental/Appliance.java")
+
+    when: "generating for the first time"
+    generator.generate(configuration)
+
+    then:
+    new File("$INCREMENTAL_OUTPUT_DIR/.contractfirst-generator/incremental.model_only.json").exists()
+    device.exists()
+    appliance.exists()
+
+    when: "generating again without changes"
+    def generatedFiles = new File("$INCREMENTAL_OUTPUT_DIR/incremental").listFiles()
+    generatedFiles.each { it.setLastModified(0) }
+    generator.generate(configuration)
+
+    then:
+    generatedFiles.every { it.lastModified() == 0 }
+
+    when: "changing a schema file referenced by another one"
+    def deviceSchema = new File(inputDir, "device.json")
+    deviceSchema.text = deviceSchema.text.replace('"value": {', '"serialNumber": { "type": "string" }, "value": {')
+    generator.generate(configuration)
+
+    then:
+    device.lastModified() != 0
+    device.text.contains("serialNumber")
+    appliance.lastModified() == 0
+
+    when: "removing a schema file"
+    deviceSchema.text = deviceSchema.text.replace('"type": "object"', '"type": "string"')
+    generator.generate(configuration)
+
+    then:
+    !device.exists()
+  }
+
+  def "incremental generation generates the same code as a complete generation"() {
+    given:
+    def complete = configuration("src/test/contract/testsuite.yaml", GeneratorType.CLIENT, "complete", "", INCREMENTAL_OUTPUT_DIR)
+    def incremental = configuration("src/test/contract/testsuite.yaml", GeneratorType.CLIENT, "incremental.client", "", INCREMENTAL_OUTPUT_DIR, true)
+    def generator = new ContractfirstGenerator(new NoLoggingLogAdapter())
+    new File("$INCREMENTAL_OUTPUT_DIR/incremental/client").deleteDir()
+
+    when: "generating incrementally twice, the second time reusing all schemas and model files"
+    generator.generate(complete)
+    generator.generate(incremental)
+    generator.generate(incremental)
+
+    then:
+    def completeFiles = generatedSources(new File("$INCREMENTAL_OUTPUT_DIR/complete"))
+    def incrementalFiles = generatedSources(new File("$INCREMENTAL_OUTPUT_DIR/incremental/client"))
+    incrementalFiles.keySet() == completeFiles.keySet()
+    incrementalFiles.every { path, content -> content.replace("incremental.client", "complete") == completeFiles[path] }
+  }
+
+  def "code written to an in-memory sink equals the code written to the output directory"() {
+    given:
+    def configuration = configuration("src/test/contract/testsuite.yaml", GeneratorType.SERVER, "sink", "", OUTPUT_SINK_OUTPUT_DIR)
+    def generator = new ContractfirstGenerator(new NoLoggingLogAdapter())
+    def outputSink = new InMemoryOutputSink()
+    new File(OUTPUT_SINK_OUTPUT_DIR).deleteDir()
+
+    when:
+    generator.generate(configuration, outputSink)
+
+    then:
+    !new File(OUTPUT_SINK_OUTPUT_DIR).exists()
+
+    when:
+    generator.generate(configuration)
+
+    then:
+    def directoryFiles = generatedSources(new File(OUTPUT_SINK_OUTPUT_DIR))
+    outputSink.files.keySet() == directoryFiles.keySet()
+    outputSink.files.every { path, content -> new String(content, UTF_8) == directoryFiles[path] }
+  }
+
+  def "code of several contracts is written to a zip sink"() {
+    given:
+    def configurations = [
+        configuration("src/test/contract/testsuite.yaml", GeneratorType.CLIENT, "zip.client", "", OUTPUT_SINK_OUTPUT_DIR),
+        configuration("src/test/contract/modelOnlySchemas", GeneratorType.MODEL_ONLY, "zip.model", "", OUTPUT_SINK_OUTPUT_DIR),
+    ]
+    def bytes = new ByteArrayOutputStream()
+
+    when:
+    new ZipOutputSink(bytes).withCloseable { new ContractfirstGenerator(new NoLoggingLogAdapter()).generateAll(configurations, 2, it) }
+
+    then:
+    def entries = zipEntries(bytes.toByteArray())
+    entries.containsKey("zip/client/api/PayloadVariantsApiClient.java")
+    entries.keySet().any { it.startsWith("zip/model/") }
+    entries["zip/client/api/PayloadVariantsApiClient.java"].startsWith("package zip.client.api;")
+  }
+
+  def "contracts writing the same output contract file to a sink are rejected before generating"() {
+    given:
+    def configurations = [
+        configuration("src/test/contract/testsuite.yaml", GeneratorType.CLIENT, "contract.client", "", OUTPUT_SINK_OUTPUT_DIR, false, "openapi.yaml"),
+        configuration("src/test/contract/testsuite.yaml", GeneratorType.SERVER, "contract.server", "", OUTPUT_SINK_OUTPUT_DIR, false, "./openapi.yaml"),
+    ]
+    def outputSink = new InMemoryOutputSink()
+
+    when:
+    new ContractfirstGenerator(new NoLoggingLogAdapter()).generateAll(configurations, 2, outputSink)
+
+    then:
+    def e = thrown InvalidConfigurationException
+    e.message.contains("outputContractFile")
+    outputSink.files.isEmpty()
+  }
+
+  def "output contracts of several contracts are written to a sink"() {
+    given:
+    def configurations = [
+        configuration("src/test/contract/testsuite.yaml", GeneratorType.CLIENT, "contract.client", "", OUTPUT_SINK_OUTPUT_DIR, false, "client/openapi.yaml"),
+        configuration("src/test/contract/testsuite.yaml", GeneratorType.SERVER, "contract.server", "", OUTPUT_SINK_OUTPUT_DIR, false, "server/openapi.yaml"),
+    ]
+    def outputSink = new InMemoryOutputSink()
+
+    when:
+    new ContractfirstGenerator(new NoLoggingLogAdapter()).generateAll(configurations, 2, outputSink)
+
+    then:
+    outputSink.files.containsKey("client/openapi.yaml")
+    outputSink.files.containsKey("server/openapi.yaml")
+    outputSink.files.keySet().any { it.startsWith("contract/client/") }
+  }
+
+  def "incremental generation is rejected for sinks other than directories"() {
+    given:
+    def configuration = configuration("src/test/contract/testsuite.yaml", GeneratorType.CLIENT, "sink", "", OUTPUT_SINK_OUTPUT_DIR, true)
+
+    when:
+    new ContractfirstGenerator(new NoLoggingLogAdapter()).generate(configuration, new InMemoryOutputSink())
+
+    then:
+    def e = thrown InvalidConfigurationException
+    e.message.contains("incrementalGeneration")
+  }
+
+  private static void copyDirectory(File source, File target) {
+    target.mkdirs()
+    source.listFiles().each { file ->
+      file.isDirectory() ? copyDirectory(file, new File(target, file.name)) : (new File(target, file.name).bytes = file.bytes)
+    }
+  }
+
+  private static Map<String, String> generatedSources(File directory) {
+    directory.listFiles().collectEntries { file ->
+      file.isDirectory()
+          ? generatedSources(file).collectEntries { path, content -> ["$file.name/$path".toString(), content] }
+          : [file.name, file.text]
+    }
+  }
+
+  private static Map<String, String> zipEntries(byte[] zip) {
+    def entries = [:]
+    new ZipInputStream(new ByteArrayInputStream(zip)).withCloseable { stream ->
+      for (def entry = stream.nextEntry; entry != null; entry = stream.nextEntry) {
+        entries[entry.name] = new String(stream.readAllBytes(), UTF_8)
+      }
+    }
+    entries
+  }
+
+  private static final String BATCH_OUTPUT_DIR = "target/generatedBatchTestOutput"
+  private static final String INCREMENTAL_OUTPUT_DIR = "target/generatedIncrementalTestOutput"
+  private static final String OUTPUT_SINK_OUTPUT_DIR = "target/generatedOutputSinkTestOutput"
+
+  private static Configuration configuration(
+      String inputContractFile,
+      GeneratorType generator,
+      String outputJavaBasePackage,
+      String outputJavaModelNamePrefix = "",
+      String outputDir = BATCH_OUTPUT_DIR,
+      boolean incrementalGeneration = false,
+      String outputContractFile = null
+  ) {
+    new Configuration(
+        new File(inputContractFile).canonicalPath,
+        generator,
+        outputDir,
+        outputContractFile != null,
+        outputContractFile ?: "openapi.yaml",
+        outputJavaBasePackage,
+        false,
+        new File(inputContractFile).canonicalFile.parent,
+        outputJavaModelNamePrefix,
+        false,
+        false,
+        false,
+        false,
+        false,
+        false,
+        false,
+        false,
+        false,
+        false,
+        incrementalGeneration
+    )
+  }
 }
@@ -28,6 +28,16 @@ class GeneratorHarness {
   private final String outputJavaBasePackage
   private final String outputJavaModelNamePrefix
   private final boolean outputJavaModelUseJsr305NullabilityAnnotations
+  private final boolean inputContractLazyLoading
+  private final boolean outputJavaModelDeduplicateInlineSchemas
+  private final boolean outputJavaModelImmutable
+  private final boolean outputJavaModelUsePrimitiveTypes
+  private final boolean outputJavaModelLazyCollections
+  private final boolean outputJavaUnformattedNumbersAsDoubleAndLong
+  private final boolean outputJavaModelValidateMethods
+  private final boolean outputJavaModelByteBuffers
+  private final boolean outputJavaServerAsyncMethods
+  private final boolean incrementalGeneration
   private final GeneratorType generatorType
 
   private generatorRan = false
@@ -37,13 +47,33 @@ class GeneratorHarness {
       String outputJavaBasePackage,
       GeneratorType generatorType,
       String outputJavaModelNamePrefix = "",
-      boolean outputJavaModelUseJsr305NullabilityAnnotations = false
+      boolean outputJavaModelUseJsr305NullabilityAnnotations = false,
+      boolean inputContractLazyLoading = false,
+      boolean outputJavaModelDeduplicateInlineSchemas = false,
+      boolean outputJavaModelImmutable = false,
+      boolean outputJavaModelUsePrimitiveTypes = false,
+      boolean outputJavaModelLazyCollections = false,
+      boolean outputJavaUnformattedNumbersAsDoubleAndLong = false,
+      boolean outputJavaModelValidateMethods = false,
+      boolean outputJavaModelByteBuffers = false,
+      boolean outputJavaServerAsyncMethods = false,
+      boolean incrementalGeneration = false
   ) {
     this.inputContractFile = inputContractFile
     this.outputJavaBasePackage = outputJavaBasePackage
     this.generatorType = generatorType
     this.outputJavaModelNamePrefix = outputJavaModelNamePrefix
     this.outputJavaModelUseJsr305NullabilityAnnotations = outputJavaModelUseJsr305NullabilityAnnotations
+    this.inputContractLazyLoading = inputContractLazyLoading
+    this.outputJavaModelDeduplicateInlineSchemas = outputJavaModelDeduplicateInlineSchemas
+    this.outputJavaModelImmutable = outputJavaModelImmutable
+    this.outputJavaModelUsePrimitiveTypes = outputJavaModelUsePrimitiveTypes
+    this.outputJavaModelLazyCollections = outputJavaModelLazyCollections
+    this.outputJavaUnformattedNumbersAsDoubleAndLong = outputJavaUnformattedNumbersAsDoubleAndLong
+    this.outputJavaModelValidateMethods = outputJavaModelValidateMethods
+    this.outputJavaModelByteBuffers = outputJavaModelByteBuffers
+    this.outputJavaServerAsyncMethods = outputJavaServerAsyncMethods
+    this.incrementalGeneration = incrementalGeneration
 
     referenceDir = "src/test/java/$outputJavaBasePackage"
     generatedDir = "$OUTPUT_DIR/$outputJavaBasePackage"
@@ -92,7 +122,17 @@ class GeneratorHarness {
             true,
             generatorType == GeneratorType.MODEL_ONLY ? new File(inputContractFile).absolutePath : new File(inputContractFile).parentFile.absolutePath,
             outputJavaModelNamePrefix,
-            outputJavaModelUseJsr305NullabilityAnnotations
+            outputJavaModelUseJsr305NullabilityAnnotations,
+            inputContractLazyLoading,
+            outputJavaModelDeduplicateInlineSchemas,
+            outputJavaModelImmutable,
+            outputJavaModelUsePrimitiveTypes,
+            outputJavaModelLazyCollections,
+            outputJavaUnformattedNumbersAsDoubleAndLong,
+            outputJavaModelValidateMethods,
+            outputJavaModelByteBuffers,
+            outputJavaServerAsyncMethods,
+            incrementalGeneration
         )
     )
   }
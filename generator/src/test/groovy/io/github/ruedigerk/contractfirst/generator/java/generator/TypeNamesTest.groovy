@@ -0,0 +1,37 @@
+package io.github.ruedigerk.contractfirst.generator.java.generator
+
+import com.squareup.javapoet.ArrayTypeName
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.TypeName
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaType
+import io.github.ruedigerk.contractfirst.generator.java.model.JavaTypeName
+import spock.lang.Specification
+
+class TypeNamesTest extends Specification {
+
+  def "maps JavaTypeNames to classes, primitive types and array types"() {
+    expect:
+    TypeNames.INSTANCE.toTypeName(javaTypeName) == typeName
+    javaTypeName.toString() == name
+
+    where:
+    javaTypeName                            | typeName                            | name
+    JavaTypeName.STRING                     | ClassName.get(String)               | "java.lang.String"
+    JavaTypeName.BYTE_ARRAY                 | ArrayTypeName.of(TypeName.BYTE)     | "byte[]"
+    new JavaTypeName("", "int", false)      | TypeName.INT                        | "int"
+    new JavaTypeName("java.lang", "String", true) | ArrayTypeName.of(ClassName.get(String)) | "java.lang.String[]"
+  }
+
+  def "maps a JavaType of an array type"() {
+    expect:
+    TypeNames.INSTANCE.toTypeName(new JavaType(JavaTypeName.BYTE_ARRAY, []), true) == ArrayTypeName.of(TypeName.BYTE)
+  }
+
+  def "rejects array types as class names"() {
+    when:
+    TypeNames.INSTANCE.toClassName(JavaTypeName.BYTE_ARRAY)
+
+    then:
+    thrown IllegalArgumentException
+  }
+}
@@ -0,0 +1,42 @@
+package io.github.ruedigerk.contractfirst.generator.java.transform
+
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
+import io.github.ruedigerk.contractfirst.generator.model.SchemaId
+import io.github.ruedigerk.contractfirst.generator.parser.ContractParser
+import io.github.ruedigerk.contractfirst.generator.parser.ParseableCache
+import spock.lang.Specification
+
+class InlineSchemaDeduplicatorTest extends Specification {
+
+  static final String DEDUPLICATION_PATH = "src/test/contract/deduplication.yaml"
+
+  Log log = new Log(Mock(LogAdapter))
+
+  def "maps an inline schema to the same of two identical component schemas, regardless of the order of the schemas: #description"() {
+    given:
+    def schemas = new ContractParser(log, new ParseableCache(false)).toSpecification(DEDUPLICATION_PATH).schemas
+    def orderedSchemas = reversed ? schemas.entrySet().toList().reverse().collectEntries() : schemas
+    def address = idAt(schemas, "components", "schemas", "Address")
+    def otherAddress = idAt(schemas, "components", "schemas", "OtherAddress")
+    def inlineAddress = idAt(schemas, "paths", "/v1/addresses", "get", "responses", "202", "content", "application/json", "schema")
+    def deduplicator = new InlineSchemaDeduplicator(orderedSchemas)
+
+    when:
+    def ids = lookupOrder.collect { deduplicator.canonicalIdOf([address: address, otherAddress: otherAddress, inlineAddress: inlineAddress][it]) }
+
+    then:
+    ids == lookupOrder.collect { it == "otherAddress" ? otherAddress : address }
+
+    where:
+    description                                       | reversed | lookupOrder
+    "parse order"                                     | false    | ["address", "otherAddress", "inlineAddress"]
+    "reversed schemas"                                | true     | ["address", "otherAddress", "inlineAddress"]
+    "other component looked up first"                 | false    | ["otherAddress", "inlineAddress", "address"]
+    "reversed schemas, inline schema looked up first" | true     | ["inlineAddress", "otherAddress", "address"]
+  }
+
+  private static SchemaId idAt(Map<SchemaId, ?> schemas, String... path) {
+    schemas.keySet().find { it.position.path == path.toList() }
+  }
+}
@@ -19,13 +19,20 @@ class JavaTypeNameGeneratorTest extends Specification {
   ]
   
   JavaConfiguration configuration = new JavaConfiguration(
-      "ignored",
       "ignored",
       MODEL_PACKAGE,
       "ignored",
       true,
       "/stripped",
       "Prefix",
+      false,
+      false,
+      false,
+      false,
+      false,
+      false,
+      false,
+      false,
       false
   )
 
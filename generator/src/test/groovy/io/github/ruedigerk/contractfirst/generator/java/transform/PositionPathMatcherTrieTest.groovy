@@ -0,0 +1,33 @@
+package io.github.ruedigerk.contractfirst.generator.java.transform
+
+import kotlin.Pair
+import spock.lang.Specification
+
+class PositionPathMatcherTrieTest extends Specification {
+
+  def trie = PositionPathMatcherTrie.of([
+      "pathParameter"     : "paths,<path>,parameters,<parameterName>,schema",
+      "operationParameter": "paths,<path>,<method>,parameters,<parameterName>,schema",
+  ])
+
+  def "matches start works as expected"() {
+    expect:
+    trie.matchesStart(['paths', '/items', 'get', 'parameters', '0', 'schema', 'items']) == new Pair(
+        "operationParameter",
+        new PositionPathMatcherTrie.Result(['paths': 'paths', 'path': '/items', 'method': 'get', 'parameters': 'parameters', 'parameterName': '0', 'schema': 'schema'], ['items'])
+    )
+  }
+
+  def "returns null if no pattern matches"() {
+    expect:
+    trie.matchesStart(['paths', '/items', 'get', 'responses']) == null
+  }
+
+  def "throws if multiple patterns match"() {
+    when:
+    trie.matchesStart(['paths', '/items', 'parameters', 'parameters', 'schema', 'schema'])
+
+    then:
+    thrown IllegalStateException
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.ruedigerk.contractfirst.generator.parser
+
+import io.github.ruedigerk.contractfirst.generator.logging.Log
+import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter
+import spock.lang.Specification
+
+class LazyFileTreeTest extends Specification {
+
+  static final String LAZY_LOADING_PATH = "src/test/contract/lazyLoading/lazy-loading.yaml"
+
+  // Dependencies
+  Log log = new Log(Mock(LogAdapter))
+
+  def "materializes only the requested subtree and the subtrees referenced from it"() {
+    given:
+    def lazyFileTree = new YamlReader().readFileLazily(new File(LAZY_LOADING_PATH))
+
+    when:
+    def root = lazyFileTree.materialize(["paths"]).node
+
+    then:
+    root.fieldNames().toList() == ["paths", "components", "x-shared-schemas"]
+    root.at("/components/schemas").fieldNames().toList() == ["Item"]
+    root.at("/components/schemas/Item/properties").fieldNames().toList() == ["name", "example"]
+    root.at("/x-shared-schemas/Example").fieldNames().toList() == ["type"]
+  }
+
+  def "skips examples and specification extensions"() {
+    given:
+    def lazyFileTree = new YamlReader().readFileLazily(new File(LAZY_LOADING_PATH))
+
+    when:
+    def root = lazyFileTree.materialize([]).node
+
+    then:
+    !root.has("x-unused-extension")
+    !root.at("/paths/~1items/get").has("x-operation-extension")
+    !root.at("/paths/~1items/get/responses/200/content/application~1json").has("example")
+    !root.at("/components/schemas/Item").has("example")
+    root.at("/components/schemas/Unused/properties").has("value")
+  }
+
+  def "parses the same specification with and without lazy loading: #contract"() {
+    given:
+    def path = "src/test/contract/$contract"
+
+    when:
+    def eagerSpecification = new ContractParser(log, new ParseableCache(false)).toSpecification(path)
+    def lazySpecification = new ContractParser(log, new ParseableCache(true)).toSpecification(path)
+
+    then:
+    lazySpecification == eagerSpecification
+
+    where:
+    contract << [
+        "testsuite.yaml",
+        "content-type-combinations.yaml",
+        "equally-named-parameters.yaml",
+        "multipart-request-body.yaml",
+        "self-referential-model.yaml",
+        "validations.yaml",
+        "lazyLoading/lazy-loading.yaml",
+    ]
+  }
+}
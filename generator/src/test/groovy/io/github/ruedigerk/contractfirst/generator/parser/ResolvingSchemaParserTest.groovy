@@ -12,7 +12,7 @@ class ResolvingSchemaParserTest extends Specification {
   // Dependencies
   Log log = new Log(Mock(LogAdapter))
 
-  def "parses device.json"() {
+  def "parses device.json, lazy loading: #lazyLoading"() {
     given:
     def files = [
         new File(APPLIANCE_PATH),
@@ -20,7 +20,7 @@ class ResolvingSchemaParserTest extends Specification {
     ]
 
     when:
-    def parsedSchemas = ResolvingSchemaParser.parseAndResolveAll(log, files)
+    def parsedSchemas = ResolvingSchemaParser.parseAndResolveAll(log, files, lazyLoading)
 
     then:
     parsedSchemas.keySet().collect {
@@ -41,6 +41,9 @@ class ResolvingSchemaParserTest extends Specification {
         'types/special-type.yaml[properties, specialities, items, properties, label]',
         'types/special-type.yaml[properties, specialities, items, properties, category]',
     ]
+
+    where:
+    lazyLoading << [false, true]
   }
 
   private static String dropPrefix(String path) {
@@ -0,0 +1,129 @@
+package byte_format.api;
+
+import byte_format.model.Document;
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientIncompatibleResponseException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
+import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
+import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.ParameterLocation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
+import java.util.Objects;
+
+/**
+ * Contains methods for all API operations tagged "Default".
+ */
+public class DefaultApiClient {
+  private final ApiRequestExecutor requestExecutor;
+
+  private final ReturningResult returningResult;
+
+  public DefaultApiClient(ApiRequestExecutor requestExecutor) {
+    this.requestExecutor = requestExecutor;
+    this.returningResult = new ReturningResult();
+  }
+
+  /**
+   * Returns an API client with methods that return operation specific result classes, allowing inspection of the operations' responses.
+   */
+  public ReturningResult returningResult() {
+    return returningResult;
+  }
+
+  public String putDocument(String checksum, Document requestBody) throws ApiClientIoException,
+      ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+    PutDocumentResult result = returningResult.putDocument(checksum, requestBody);
+
+    return result.getEntity();
+  }
+
+  /**
+   * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
+   */
+  public class ReturningResult {
+    public PutDocumentResult putDocument(String checksum, Document requestBody) throws
+        ApiClientIoException, ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+      Operation.Builder builder = new Operation.Builder("/documents/{checksum}", "PUT");
+
+      builder.parameter("checksum", ParameterLocation.PATH, true, checksum);
+      builder.requestBody("application/json", true, requestBody);
+
+      builder.response(StatusCode.of(200), "application/json", String.class);
+
+      ApiResponse response = requestExecutor.executeRequest(builder.build());
+
+      return new PutDocumentResult(response);
+    }
+  }
+
+  /**
+   * Represents the result of calling operation putDocument.
+   */
+  public static class PutDocumentResult {
+    private final ApiResponse response;
+
+    public PutDocumentResult(ApiResponse response) {
+      this.response = response;
+    }
+
+    /**
+     * Returns the ApiResponse instance with the details of the operation's HTTP response.
+     */
+    public ApiResponse getResponse() {
+      return response;
+    }
+
+    /**
+     * Returns the HTTP status code of the operation's response.
+     */
+    public int getStatus() {
+      return response.getStatusCode();
+    }
+
+    /**
+     * Returns whether the response has a status code in the range 200 to 299.
+     */
+    public boolean isSuccessful() {
+      return response.isSuccessful();
+    }
+
+    /**
+     * Returns whether the response's status code is 200, while the response's entity is of type {@code String}.
+     */
+    public boolean isStatus200ReturningString() {
+      return response.getStatusCode() == 200 && response.getEntityType() == String.class;
+    }
+
+    /**
+     * Returns the response's entity of type {@code String}.
+     */
+    public String getEntity() {
+      return (String) response.getEntity();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) return true;
+      if (other == null || getClass() != other.getClass()) return false;
+      PutDocumentResult o = (PutDocumentResult) other;
+      return Objects.equals(response, o.response);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder();
+      builder.append(", response=").append(response);
+      return builder.replace(0, 2, "PutDocumentResult{").append('}').toString();
+    }
+  }
+}
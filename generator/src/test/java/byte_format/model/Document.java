@@ -0,0 +1,83 @@
+package byte_format.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.validation.constraints.NotNull;
+
+public class Document {
+  private String name;
+
+  @NotNull
+  private byte[] content;
+
+  private List<byte[]> thumbnails = new ArrayList<>();
+
+  public Document name(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public Document content(byte[] content) {
+    this.content = content;
+    return this;
+  }
+
+  public byte[] getContent() {
+    return content;
+  }
+
+  public void setContent(byte[] content) {
+    this.content = content;
+  }
+
+  public Document thumbnails(List<byte[]> thumbnails) {
+    this.thumbnails = thumbnails;
+    return this;
+  }
+
+  public List<byte[]> getThumbnails() {
+    return thumbnails;
+  }
+
+  public void setThumbnails(List<byte[]> thumbnails) {
+    this.thumbnails = thumbnails;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Document o = (Document) other;
+    return Objects.equals(name, o.name)
+        && Objects.equals(thumbnails, o.thumbnails)
+        && Arrays.equals(content, o.content);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(name);
+    result = 31 * result + Arrays.hashCode(content);
+    result = 31 * result + Objects.hashCode(thumbnails);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", name=").append(name);
+    builder.append(", content=").append(content == null ? null : content.length + " bytes");
+    builder.append(", thumbnails=").append(thumbnails);
+    return builder.replace(0, 2, "Document{").append('}').toString();
+  }
+}
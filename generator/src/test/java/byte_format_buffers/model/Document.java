@@ -0,0 +1,83 @@
+package byte_format_buffers.model;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.validation.constraints.NotNull;
+
+public class Document {
+  private String name;
+
+  @NotNull
+  private ByteBuffer content;
+
+  private List<ByteBuffer> thumbnails = new ArrayList<>();
+
+  public Document name(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public Document content(ByteBuffer content) {
+    this.content = content;
+    return this;
+  }
+
+  public ByteBuffer getContent() {
+    return content;
+  }
+
+  public void setContent(ByteBuffer content) {
+    this.content = content;
+  }
+
+  public Document thumbnails(List<ByteBuffer> thumbnails) {
+    this.thumbnails = thumbnails;
+    return this;
+  }
+
+  public List<ByteBuffer> getThumbnails() {
+    return thumbnails;
+  }
+
+  public void setThumbnails(List<ByteBuffer> thumbnails) {
+    this.thumbnails = thumbnails;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Document o = (Document) other;
+    return Objects.equals(name, o.name)
+        && Objects.equals(content, o.content)
+        && Objects.equals(thumbnails, o.thumbnails);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(content);
+    result = 31 * result + Objects.hashCode(thumbnails);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", name=").append(name);
+    builder.append(", content=").append(content);
+    builder.append(", thumbnails=").append(thumbnails);
+    return builder.replace(0, 2, "Document{").append('}').toString();
+  }
+}
@@ -0,0 +1,48 @@
+package byte_format_buffers.resources;
+
+import byte_format_buffers.model.Document;
+import byte_format_buffers.resources.support.ResponseWrapper;
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.PUT;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+
+@Path("")
+public interface DefaultApi {
+  @PUT
+  @Path("/documents/{checksum}")
+  @Consumes("application/json")
+  @Produces("application/json")
+  @ContractOperation(
+      operationId = "putDocument",
+      method = "PUT",
+      path = "/documents/{checksum}"
+  )
+  PutDocumentResponse putDocument(@PathParam("checksum") @NotNull String checksum,
+      @NotNull @Valid Document requestBody);
+
+  class PutDocumentResponse extends ResponseWrapper {
+    private PutDocumentResponse(Response delegate) {
+      super(delegate);
+    }
+
+    public static PutDocumentResponse with200ApplicationJson(String entity) {
+      return new PutDocumentResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
+    public static PutDocumentResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new PutDocumentResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
+    public static PutDocumentResponse withCustomResponse(Response response) {
+      return new PutDocumentResponse(response);
+    }
+  }
+}
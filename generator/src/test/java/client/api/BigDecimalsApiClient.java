@@ -167,7 +167,9 @@ public class BigDecimalsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
     }
 
     @Override
@@ -202,7 +202,9 @@ public class ResponseVariantsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
     }
 
     @Override
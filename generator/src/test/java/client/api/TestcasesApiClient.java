@@ -19,7 +19,7 @@ import java.util.Optional;
  * Contains methods for all API operations tagged "testcases".
  */
 public class TestcasesApiClient {
-  public static final Type LIST_OF_GET_INLINE_OBJECT_IN_ARRAY_RESPONSE200_APPLICATION_JSON_ITEM = new TypeToken<List<GetInlineObjectInArrayResponse200ApplicationJsonItem>>(){}.getType();
+  public static final Type LIST_OF_GET_INLINE_OBJECT_IN_ARRAY_RESPONSE200_APPLICATION_JSON_ITEM = TypeToken.getParameterized(List.class, GetInlineObjectInArrayResponse200ApplicationJsonItem.class).getType();
 
   private final ApiRequestExecutor requestExecutor;
 
@@ -169,7 +169,9 @@ public class TestcasesApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
     }
 
     @Override
@@ -126,7 +126,15 @@ public class ClockResponse {
 
   @Override
   public int hashCode() {
-    return Objects.hash(time1, time2, pathTime, queryTime1, queryTime2, headerTime1, headerTime2);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(time1);
+    result = 31 * result + Objects.hashCode(time2);
+    result = 31 * result + Objects.hashCode(pathTime);
+    result = 31 * result + Objects.hashCode(queryTime1);
+    result = 31 * result + Objects.hashCode(queryTime2);
+    result = 31 * result + Objects.hashCode(headerTime1);
+    result = 31 * result + Objects.hashCode(headerTime2);
+    return result;
   }
 
   @Override
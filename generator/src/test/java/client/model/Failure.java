@@ -47,7 +47,10 @@ public class Failure {
 
   @Override
   public int hashCode() {
-    return Objects.hash(code, message);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(code);
+    result = 31 * result + Objects.hashCode(message);
+    return result;
   }
 
   @Override
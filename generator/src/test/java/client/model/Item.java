@@ -63,7 +63,11 @@ public class Item {
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, name, tag);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(id);
+    result = 31 * result + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(tag);
+    return result;
   }
 
   @Override
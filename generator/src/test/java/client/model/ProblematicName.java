@@ -57,14 +57,18 @@ public class ProblematicName {
     if (other == this) return true;
     if (other == null || getClass() != other.getClass()) return false;
     ProblematicName o = (ProblematicName) other;
-    return Objects.equals(_2name, o._2name)
-        && Objects.equals(nameAndValue, o.nameAndValue)
-        && Objects.equals(problematC, o.problematC);
+    return problematC == o.problematC
+        && Objects.equals(_2name, o._2name)
+        && Objects.equals(nameAndValue, o.nameAndValue);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(_2name, nameAndValue, problematC);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(_2name);
+    result = 31 * result + Objects.hashCode(nameAndValue);
+    result = 31 * result + Objects.hashCode(problematC);
+    return result;
   }
 
   @Override
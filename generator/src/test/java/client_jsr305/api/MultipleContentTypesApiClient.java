@@ -228,7 +228,9 @@ public class MultipleContentTypesApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
     }
 
     @Override
@@ -20,7 +20,7 @@ import java.util.Optional;
  * Contains methods for all API operations tagged "PayloadVariants".
  */
 public class PayloadVariantsApiClient {
-  public static final Type LIST_OF_ITEM = new TypeToken<List<Item>>(){}.getType();
+  public static final Type LIST_OF_ITEM = TypeToken.getParameterized(List.class, Item.class).getType();
 
   private final ApiRequestExecutor requestExecutor;
 
@@ -269,7 +269,9 @@ public class PayloadVariantsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
     }
 
     @Override
@@ -372,7 +374,9 @@ public class PayloadVariantsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
     }
 
     @Override
@@ -445,7 +449,9 @@ public class PayloadVariantsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
     }
 
     @Override
@@ -547,7 +553,9 @@ public class PayloadVariantsApiClient {
 
     @Override
     public int hashCode() {
-      return Objects.hash(response);
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
     }
 
     @Override
@@ -44,7 +44,10 @@ public class Book {
 
   @Override
   public int hashCode() {
-    return Objects.hash(title, isbn);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(title);
+    result = 31 * result + Objects.hashCode(isbn);
+    return result;
   }
 
   @Override
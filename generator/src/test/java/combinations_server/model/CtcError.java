@@ -28,7 +28,9 @@ public class CtcError {
 
   @Override
   public int hashCode() {
-    return Objects.hash(code);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(code);
+    return result;
   }
 
   @Override
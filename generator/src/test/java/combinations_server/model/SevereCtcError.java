@@ -29,7 +29,9 @@ public class SevereCtcError {
 
   @Override
   public int hashCode() {
-    return Objects.hash(code);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(code);
+    return result;
   }
 
   @Override
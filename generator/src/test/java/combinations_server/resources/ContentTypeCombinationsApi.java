@@ -4,6 +4,8 @@ import combinations_server.model.Book;
 import combinations_server.model.CtcError;
 import combinations_server.model.SevereCtcError;
 import combinations_server.resources.support.ResponseWrapper;
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
 import javax.ws.rs.GET;
 import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
@@ -18,6 +20,11 @@ public interface ContentTypeCombinationsApi {
   @GET
   @Path("/defaultOnly")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "getDefaultOnly",
+      method = "GET",
+      path = "/defaultOnly"
+  )
   GetDefaultOnlyResponse getDefaultOnly(@HeaderParam("testCaseSelector") String testCaseSelector);
 
   /**
@@ -26,6 +33,11 @@ public interface ContentTypeCombinationsApi {
   @GET
   @Path("/successOnly")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "getSuccessOnly",
+      method = "GET",
+      path = "/successOnly"
+  )
   GetSuccessOnlyResponse getSuccessOnly();
 
   /**
@@ -34,6 +46,11 @@ public interface ContentTypeCombinationsApi {
   @GET
   @Path("/failureOnly")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "getFailureOnly",
+      method = "GET",
+      path = "/failureOnly"
+  )
   GetFailureOnlyResponse getFailureOnly();
 
   /**
@@ -42,6 +59,11 @@ public interface ContentTypeCombinationsApi {
   @GET
   @Path("/successEntityAndErrorDefault")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "getSuccessEntityAndErrorDefault",
+      method = "GET",
+      path = "/successEntityAndErrorDefault"
+  )
   GetSuccessEntityAndErrorDefaultResponse getSuccessEntityAndErrorDefault(
       @HeaderParam("testCaseSelector") String testCaseSelector);
 
@@ -51,6 +73,11 @@ public interface ContentTypeCombinationsApi {
   @GET
   @Path("/multipleSuccessEntities")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "getMultipleSuccessEntities",
+      method = "GET",
+      path = "/multipleSuccessEntities"
+  )
   GetMultipleSuccessEntitiesResponse getMultipleSuccessEntities(
       @HeaderParam("testCaseSelector") String testCaseSelector);
 
@@ -60,6 +87,11 @@ public interface ContentTypeCombinationsApi {
   @GET
   @Path("/multipleSuccessResponsesWithoutContent")
   @Produces
+  @ContractOperation(
+      operationId = "getMultipleSuccessResponsesWithoutContent",
+      method = "GET",
+      path = "/multipleSuccessResponsesWithoutContent"
+  )
   GetMultipleSuccessResponsesWithoutContentResponse getMultipleSuccessResponsesWithoutContent(
       @HeaderParam("testCaseSelector") String testCaseSelector);
 
@@ -69,6 +101,11 @@ public interface ContentTypeCombinationsApi {
   @GET
   @Path("/multipleErrorEntities")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "getMultipleErrorEntities",
+      method = "GET",
+      path = "/multipleErrorEntities"
+  )
   GetMultipleErrorEntitiesResponse getMultipleErrorEntities(
       @HeaderParam("testCaseSelector") String testCaseSelector);
 
@@ -78,6 +115,11 @@ public interface ContentTypeCombinationsApi {
   @GET
   @Path("/contentFor204")
   @Produces
+  @ContractOperation(
+      operationId = "getContentFor204",
+      method = "GET",
+      path = "/contentFor204"
+  )
   GetContentFor204Response getContentFor204();
 
   class GetDefaultOnlyResponse extends ResponseWrapper {
@@ -103,6 +145,11 @@ public interface ContentTypeCombinationsApi {
       return new GetSuccessOnlyResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetSuccessOnlyResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetSuccessOnlyResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetSuccessOnlyResponse withCustomResponse(Response response) {
       return new GetSuccessOnlyResponse(response);
     }
@@ -117,6 +164,11 @@ public interface ContentTypeCombinationsApi {
       return new GetFailureOnlyResponse(Response.status(400).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetFailureOnlyResponse with400ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetFailureOnlyResponse(Response.status(400).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetFailureOnlyResponse withCustomResponse(Response response) {
       return new GetFailureOnlyResponse(response);
     }
@@ -131,6 +183,11 @@ public interface ContentTypeCombinationsApi {
       return new GetSuccessEntityAndErrorDefaultResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetSuccessEntityAndErrorDefaultResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetSuccessEntityAndErrorDefaultResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetSuccessEntityAndErrorDefaultResponse withApplicationJson(int status,
         CtcError entity) {
       return new GetSuccessEntityAndErrorDefaultResponse(Response.status(status).header("Content-Type", "application/json").entity(entity).build());
@@ -150,10 +207,20 @@ public interface ContentTypeCombinationsApi {
       return new GetMultipleSuccessEntitiesResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetMultipleSuccessEntitiesResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetMultipleSuccessEntitiesResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetMultipleSuccessEntitiesResponse with201ApplicationJson(CtcError entity) {
       return new GetMultipleSuccessEntitiesResponse(Response.status(201).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetMultipleSuccessEntitiesResponse with201ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetMultipleSuccessEntitiesResponse(Response.status(201).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetMultipleSuccessEntitiesResponse withCustomResponse(Response response) {
       return new GetMultipleSuccessEntitiesResponse(response);
     }
@@ -187,14 +254,29 @@ public interface ContentTypeCombinationsApi {
       return new GetMultipleErrorEntitiesResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetMultipleErrorEntitiesResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetMultipleErrorEntitiesResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetMultipleErrorEntitiesResponse with400ApplicationJson(CtcError entity) {
       return new GetMultipleErrorEntitiesResponse(Response.status(400).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetMultipleErrorEntitiesResponse with400ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetMultipleErrorEntitiesResponse(Response.status(400).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetMultipleErrorEntitiesResponse with500ApplicationJson(SevereCtcError entity) {
       return new GetMultipleErrorEntitiesResponse(Response.status(500).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetMultipleErrorEntitiesResponse with500ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetMultipleErrorEntitiesResponse(Response.status(500).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetMultipleErrorEntitiesResponse withCustomResponse(Response response) {
       return new GetMultipleErrorEntitiesResponse(response);
     }
@@ -0,0 +1,378 @@
+package deduplication.api;
+
+import deduplication.model.Address;
+import deduplication.model.GetAddressesResponse201ApplicationJson;
+import deduplication.model.GetItemsResponse200ApplicationJson;
+import deduplication.model.OtherAddress;
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientIncompatibleResponseException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
+import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
+import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Contains methods for all API operations tagged "Items".
+ */
+public class ItemsApiClient {
+  private final ApiRequestExecutor requestExecutor;
+
+  private final ReturningResult returningResult;
+
+  public ItemsApiClient(ApiRequestExecutor requestExecutor) {
+    this.requestExecutor = requestExecutor;
+    this.returningResult = new ReturningResult();
+  }
+
+  /**
+   * Returns an API client with methods that return operation specific result classes, allowing inspection of the operations' responses.
+   */
+  public ReturningResult returningResult() {
+    return returningResult;
+  }
+
+  public GetItemsResponse200ApplicationJson getItems() throws ApiClientIoException,
+      ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+    GetItemsResult result = returningResult.getItems();
+
+    return result.getEntity();
+  }
+
+  public GetItemsResponse200ApplicationJson getUsers() throws ApiClientIoException,
+      ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+    GetUsersResult result = returningResult.getUsers();
+
+    return result.getEntity();
+  }
+
+  public GetAddressesResult getAddresses() throws ApiClientIoException,
+      ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+    GetAddressesResult result = returningResult.getAddresses();
+
+    return result;
+  }
+
+  /**
+   * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
+   */
+  public class ReturningResult {
+    public GetItemsResult getItems() throws ApiClientIoException, ApiClientValidationException,
+        ApiClientIncompatibleResponseException {
+
+      Operation.Builder builder = new Operation.Builder("/v1/items", "GET");
+
+      builder.response(StatusCode.of(200), "application/json", GetItemsResponse200ApplicationJson.class);
+
+      ApiResponse response = requestExecutor.executeRequest(builder.build());
+
+      return new GetItemsResult(response);
+    }
+
+    public GetUsersResult getUsers() throws ApiClientIoException, ApiClientValidationException,
+        ApiClientIncompatibleResponseException {
+
+      Operation.Builder builder = new Operation.Builder("/v1/users", "GET");
+
+      builder.response(StatusCode.of(200), "application/json", GetItemsResponse200ApplicationJson.class);
+
+      ApiResponse response = requestExecutor.executeRequest(builder.build());
+
+      return new GetUsersResult(response);
+    }
+
+    public GetAddressesResult getAddresses() throws ApiClientIoException,
+        ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+      Operation.Builder builder = new Operation.Builder("/v1/addresses", "GET");
+
+      builder.response(StatusCode.of(200), "application/json", Address.class);
+      builder.response(StatusCode.of(201), "application/json", GetAddressesResponse201ApplicationJson.class);
+      builder.response(StatusCode.of(202), "application/json", Address.class);
+      builder.response(StatusCode.of(203), "application/json", OtherAddress.class);
+
+      ApiResponse response = requestExecutor.executeRequest(builder.build());
+
+      return new GetAddressesResult(response);
+    }
+  }
+
+  /**
+   * Represents the result of calling operation getItems.
+   */
+  public static class GetItemsResult {
+    private final ApiResponse response;
+
+    public GetItemsResult(ApiResponse response) {
+      this.response = response;
+    }
+
+    /**
+     * Returns the ApiResponse instance with the details of the operation's HTTP response.
+     */
+    public ApiResponse getResponse() {
+      return response;
+    }
+
+    /**
+     * Returns the HTTP status code of the operation's response.
+     */
+    public int getStatus() {
+      return response.getStatusCode();
+    }
+
+    /**
+     * Returns whether the response has a status code in the range 200 to 299.
+     */
+    public boolean isSuccessful() {
+      return response.isSuccessful();
+    }
+
+    /**
+     * Returns whether the response's status code is 200, while the response's entity is of type {@code GetItemsResponse200ApplicationJson}.
+     */
+    public boolean isStatus200ReturningGetItemsResponse200ApplicationJson() {
+      return response.getStatusCode() == 200 && response.getEntityType() == GetItemsResponse200ApplicationJson.class;
+    }
+
+    /**
+     * Returns the response's entity of type {@code GetItemsResponse200ApplicationJson}.
+     */
+    public GetItemsResponse200ApplicationJson getEntity() {
+      return (GetItemsResponse200ApplicationJson) response.getEntity();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) return true;
+      if (other == null || getClass() != other.getClass()) return false;
+      GetItemsResult o = (GetItemsResult) other;
+      return Objects.equals(response, o.response);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder();
+      builder.append(", response=").append(response);
+      return builder.replace(0, 2, "GetItemsResult{").append('}').toString();
+    }
+  }
+
+  /**
+   * Represents the result of calling operation getUsers.
+   */
+  public static class GetUsersResult {
+    private final ApiResponse response;
+
+    public GetUsersResult(ApiResponse response) {
+      this.response = response;
+    }
+
+    /**
+     * Returns the ApiResponse instance with the details of the operation's HTTP response.
+     */
+    public ApiResponse getResponse() {
+      return response;
+    }
+
+    /**
+     * Returns the HTTP status code of the operation's response.
+     */
+    public int getStatus() {
+      return response.getStatusCode();
+    }
+
+    /**
+     * Returns whether the response has a status code in the range 200 to 299.
+     */
+    public boolean isSuccessful() {
+      return response.isSuccessful();
+    }
+
+    /**
+     * Returns whether the response's status code is 200, while the response's entity is of type {@code GetItemsResponse200ApplicationJson}.
+     */
+    public boolean isStatus200ReturningGetItemsResponse200ApplicationJson() {
+      return response.getStatusCode() == 200 && response.getEntityType() == GetItemsResponse200ApplicationJson.class;
+    }
+
+    /**
+     * Returns the response's entity of type {@code GetItemsResponse200ApplicationJson}.
+     */
+    public GetItemsResponse200ApplicationJson getEntity() {
+      return (GetItemsResponse200ApplicationJson) response.getEntity();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) return true;
+      if (other == null || getClass() != other.getClass()) return false;
+      GetUsersResult o = (GetUsersResult) other;
+      return Objects.equals(response, o.response);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder();
+      builder.append(", response=").append(response);
+      return builder.replace(0, 2, "GetUsersResult{").append('}').toString();
+    }
+  }
+
+  /**
+   * Represents the result of calling operation getAddresses.
+   */
+  public static class GetAddressesResult {
+    private final ApiResponse response;
+
+    public GetAddressesResult(ApiResponse response) {
+      this.response = response;
+    }
+
+    /**
+     * Returns the ApiResponse instance with the details of the operation's HTTP response.
+     */
+    public ApiResponse getResponse() {
+      return response;
+    }
+
+    /**
+     * Returns the HTTP status code of the operation's response.
+     */
+    public int getStatus() {
+      return response.getStatusCode();
+    }
+
+    /**
+     * Returns whether the response has a status code in the range 200 to 299.
+     */
+    public boolean isSuccessful() {
+      return response.isSuccessful();
+    }
+
+    /**
+     * Returns whether the response's status code is 200, while the response's entity is of type {@code Address}.
+     */
+    public boolean isStatus200ReturningAddress() {
+      return response.getStatusCode() == 200 && response.getEntityType() == Address.class;
+    }
+
+    /**
+     * Returns whether the response's status code is 201, while the response's entity is of type {@code GetAddressesResponse201ApplicationJson}.
+     */
+    public boolean isStatus201ReturningGetAddressesResponse201ApplicationJson() {
+      return response.getStatusCode() == 201 && response.getEntityType() == GetAddressesResponse201ApplicationJson.class;
+    }
+
+    /**
+     * Returns whether the response's status code is 202, while the response's entity is of type {@code Address}.
+     */
+    public boolean isStatus202ReturningAddress() {
+      return response.getStatusCode() == 202 && response.getEntityType() == Address.class;
+    }
+
+    /**
+     * Returns whether the response's status code is 203, while the response's entity is of type {@code OtherAddress}.
+     */
+    public boolean isStatus203ReturningOtherAddress() {
+      return response.getStatusCode() == 203 && response.getEntityType() == OtherAddress.class;
+    }
+
+    /**
+     * Returns the response's entity wrapped in {@code java.lang.Optional.of()} if it is of type {@code Address}. Otherwise, returns {@code Optional.empty()}.
+     */
+    public Optional<Address> getEntityIfAddress() {
+      return Optional.ofNullable(getEntityAsAddress());
+    }
+
+    /**
+     * Returns the response's entity if it is of type {@code Address}. Otherwise, returns null.
+     */
+    public Address getEntityAsAddress() {
+      if (response.getEntityType() == Address.class) {
+        return (Address) response.getEntity();
+      } else {
+        return null;
+      }
+    }
+
+    /**
+     * Returns the response's entity wrapped in {@code java.lang.Optional.of()} if it is of type {@code GetAddressesResponse201ApplicationJson}. Otherwise, returns {@code Optional.empty()}.
+     */
+    public Optional<GetAddressesResponse201ApplicationJson> getEntityIfGetAddressesResponse201ApplicationJson(
+        ) {
+      return Optional.ofNullable(getEntityAsGetAddressesResponse201ApplicationJson());
+    }
+
+    /**
+     * Returns the response's entity if it is of type {@code GetAddressesResponse201ApplicationJson}. Otherwise, returns null.
+     */
+    public GetAddressesResponse201ApplicationJson getEntityAsGetAddressesResponse201ApplicationJson(
+        ) {
+      if (response.getEntityType() == GetAddressesResponse201ApplicationJson.class) {
+        return (GetAddressesResponse201ApplicationJson) response.getEntity();
+      } else {
+        return null;
+      }
+    }
+
+    /**
+     * Returns the response's entity wrapped in {@code java.lang.Optional.of()} if it is of type {@code OtherAddress}. Otherwise, returns {@code Optional.empty()}.
+     */
+    public Optional<OtherAddress> getEntityIfOtherAddress() {
+      return Optional.ofNullable(getEntityAsOtherAddress());
+    }
+
+    /**
+     * Returns the response's entity if it is of type {@code OtherAddress}. Otherwise, returns null.
+     */
+    public OtherAddress getEntityAsOtherAddress() {
+      if (response.getEntityType() == OtherAddress.class) {
+        return (OtherAddress) response.getEntity();
+      } else {
+        return null;
+      }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) return true;
+      if (other == null || getClass() != other.getClass()) return false;
+      GetAddressesResult o = (GetAddressesResult) other;
+      return Objects.equals(response, o.response);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder();
+      builder.append(", response=").append(response);
+      return builder.replace(0, 2, "GetAddressesResult{").append('}').toString();
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package deduplication.model;
+
+import java.util.Objects;
+
+public class Address {
+  private String street;
+
+  public Address street(String street) {
+    this.street = street;
+    return this;
+  }
+
+  public String getStreet() {
+    return street;
+  }
+
+  public void setStreet(String street) {
+    this.street = street;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Address o = (Address) other;
+    return Objects.equals(street, o.street);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(street);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", street=").append(street);
+    return builder.replace(0, 2, "Address{").append('}').toString();
+  }
+}
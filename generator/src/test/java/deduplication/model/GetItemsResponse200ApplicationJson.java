@@ -0,0 +1,83 @@
+package deduplication.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.validation.Valid;
+
+public class GetItemsResponse200ApplicationJson {
+  @Valid
+  private GetItemsResponse200ApplicationJsonPage page;
+
+  private GetItemsResponse200ApplicationJsonSortOrder sortOrder;
+
+  private List<String> names = new ArrayList<>();
+
+  public GetItemsResponse200ApplicationJson page(GetItemsResponse200ApplicationJsonPage page) {
+    this.page = page;
+    return this;
+  }
+
+  public GetItemsResponse200ApplicationJsonPage getPage() {
+    return page;
+  }
+
+  public void setPage(GetItemsResponse200ApplicationJsonPage page) {
+    this.page = page;
+  }
+
+  public GetItemsResponse200ApplicationJson sortOrder(
+      GetItemsResponse200ApplicationJsonSortOrder sortOrder) {
+    this.sortOrder = sortOrder;
+    return this;
+  }
+
+  public GetItemsResponse200ApplicationJsonSortOrder getSortOrder() {
+    return sortOrder;
+  }
+
+  public void setSortOrder(GetItemsResponse200ApplicationJsonSortOrder sortOrder) {
+    this.sortOrder = sortOrder;
+  }
+
+  public GetItemsResponse200ApplicationJson names(List<String> names) {
+    this.names = names;
+    return this;
+  }
+
+  public List<String> getNames() {
+    return names;
+  }
+
+  public void setNames(List<String> names) {
+    this.names = names;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    GetItemsResponse200ApplicationJson o = (GetItemsResponse200ApplicationJson) other;
+    return sortOrder == o.sortOrder
+        && Objects.equals(page, o.page)
+        && Objects.equals(names, o.names);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(page);
+    result = 31 * result + Objects.hashCode(sortOrder);
+    result = 31 * result + Objects.hashCode(names);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", page=").append(page);
+    builder.append(", sortOrder=").append(sortOrder);
+    builder.append(", names=").append(names);
+    return builder.replace(0, 2, "GetItemsResponse200ApplicationJson{").append('}').toString();
+  }
+}
@@ -0,0 +1,60 @@
+package deduplication.model;
+
+import java.util.Objects;
+
+public class GetItemsResponse200ApplicationJsonPage {
+  private Integer number;
+
+  private Integer size;
+
+  public GetItemsResponse200ApplicationJsonPage number(Integer number) {
+    this.number = number;
+    return this;
+  }
+
+  public Integer getNumber() {
+    return number;
+  }
+
+  public void setNumber(Integer number) {
+    this.number = number;
+  }
+
+  public GetItemsResponse200ApplicationJsonPage size(Integer size) {
+    this.size = size;
+    return this;
+  }
+
+  public Integer getSize() {
+    return size;
+  }
+
+  public void setSize(Integer size) {
+    this.size = size;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    GetItemsResponse200ApplicationJsonPage o = (GetItemsResponse200ApplicationJsonPage) other;
+    return Objects.equals(number, o.number)
+        && Objects.equals(size, o.size);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(number);
+    result = 31 * result + Objects.hashCode(size);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", number=").append(number);
+    builder.append(", size=").append(size);
+    return builder.replace(0, 2, "GetItemsResponse200ApplicationJsonPage{").append('}').toString();
+  }
+}
@@ -0,0 +1,22 @@
+package deduplication.model;
+
+import com.google.gson.annotations.SerializedName;
+
+public enum GetItemsResponse200ApplicationJsonSortOrder {
+  @SerializedName("ascending")
+  ASCENDING("ascending"),
+
+  @SerializedName("descending")
+  DESCENDING("descending");
+
+  private final String serializedName;
+
+  GetItemsResponse200ApplicationJsonSortOrder(String serializedName) {
+    this.serializedName = serializedName;
+  }
+
+  @Override
+  public String toString() {
+    return serializedName;
+  }
+}
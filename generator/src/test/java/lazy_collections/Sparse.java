@@ -0,0 +1,162 @@
+package lazy_collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * Sparse
+ */
+public class Sparse {
+  @NotNull
+  private String id;
+
+  private List<String> tags;
+
+  private Set<String> labels;
+
+  private Map<String, Integer> attributes;
+
+  @NotNull
+  @Size(
+      min = 1
+  )
+  private List<Double> readings = new ArrayList<>();
+
+  public Sparse id(@Nonnull String id) {
+    this.id = id;
+    return this;
+  }
+
+  @Nonnull
+  public String getId() {
+    return id;
+  }
+
+  public void setId(@Nonnull String id) {
+    this.id = id;
+  }
+
+  public Sparse tags(@Nullable List<String> tags) {
+    this.tags = tags;
+    return this;
+  }
+
+  public Sparse addTagsItem(String item) {
+    if (this.tags == null) {
+      this.tags = new ArrayList<>();
+    }
+    this.tags.add(item);
+    return this;
+  }
+
+  @Nonnull
+  public List<String> getTags() {
+    return tags == null ? Collections.emptyList() : tags;
+  }
+
+  public void setTags(@Nullable List<String> tags) {
+    this.tags = tags;
+  }
+
+  public Sparse labels(@Nullable Set<String> labels) {
+    this.labels = labels;
+    return this;
+  }
+
+  public Sparse addLabelsItem(String item) {
+    if (this.labels == null) {
+      this.labels = new HashSet<>();
+    }
+    this.labels.add(item);
+    return this;
+  }
+
+  @Nonnull
+  public Set<String> getLabels() {
+    return labels == null ? Collections.emptySet() : labels;
+  }
+
+  public void setLabels(@Nullable Set<String> labels) {
+    this.labels = labels;
+  }
+
+  public Sparse attributes(@Nullable Map<String, Integer> attributes) {
+    this.attributes = attributes;
+    return this;
+  }
+
+  public Sparse putAttributesItem(String key, Integer value) {
+    if (this.attributes == null) {
+      this.attributes = new HashMap<>();
+    }
+    this.attributes.put(key, value);
+    return this;
+  }
+
+  @Nonnull
+  public Map<String, Integer> getAttributes() {
+    return attributes == null ? Collections.emptyMap() : attributes;
+  }
+
+  public void setAttributes(@Nullable Map<String, Integer> attributes) {
+    this.attributes = attributes;
+  }
+
+  public Sparse readings(@Nonnull List<Double> readings) {
+    this.readings = readings;
+    return this;
+  }
+
+  @Nonnull
+  public List<Double> getReadings() {
+    return readings;
+  }
+
+  public void setReadings(@Nonnull List<Double> readings) {
+    this.readings = readings;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Sparse o = (Sparse) other;
+    return Objects.equals(id, o.id)
+        && Objects.equals(getTags(), o.getTags())
+        && Objects.equals(getLabels(), o.getLabels())
+        && Objects.equals(getAttributes(), o.getAttributes())
+        && Objects.equals(readings, o.readings);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(id);
+    result = 31 * result + Objects.hashCode(getTags());
+    result = 31 * result + Objects.hashCode(getLabels());
+    result = 31 * result + Objects.hashCode(getAttributes());
+    result = 31 * result + Objects.hashCode(readings);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", id=").append(id);
+    builder.append(", tags=").append(getTags());
+    builder.append(", labels=").append(getLabels());
+    builder.append(", attributes=").append(getAttributes());
+    builder.append(", readings=").append(readings);
+    return builder.replace(0, 2, "Sparse{").append('}').toString();
+  }
+}
@@ -32,7 +32,9 @@ public class Sibling {
 
   @Override
   public int hashCode() {
-    return Objects.hash(value);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(value);
+    return result;
   }
 
   @Override
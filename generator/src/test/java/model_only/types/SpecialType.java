@@ -72,7 +72,11 @@ public class SpecialType {
 
   @Override
   public int hashCode() {
-    return Objects.hash(sibling, typeName, specialities);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(sibling);
+    result = 31 * result + Objects.hashCode(typeName);
+    result = 31 * result + Objects.hashCode(specialities);
+    return result;
   }
 
   @Override
@@ -44,7 +44,10 @@ public class SpecialTypeSpecialitiesItem {
 
   @Override
   public int hashCode() {
-    return Objects.hash(label, category);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(label);
+    result = 31 * result + Objects.hashCode(category);
+    return result;
   }
 
   @Override
@@ -0,0 +1,111 @@
+package model_only_immutable;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ModelTypeAdapterFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import model_only_immutable.types.SpecialType;
+
+/**
+ * Appliance
+ */
+@JsonAdapter(Appliance.GsonTypeAdapterFactory.class)
+public final class Appliance {
+  @NotNull
+  private final String name;
+
+  @Valid
+  private final List<@Valid Device> devices;
+
+  /**
+   * Special Type
+   */
+  @Valid
+  private final SpecialType type;
+
+  private transient int cachedHashCode;
+
+  public Appliance(@Nonnull String name, @Nullable List<Device> devices,
+      @Nullable SpecialType type) {
+    this.name = name;
+    this.devices = devices == null ? Collections.emptyList()
+        : Collections.unmodifiableList(new ArrayList<>(devices));
+    this.type = type;
+  }
+
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  @Nullable
+  public List<Device> getDevices() {
+    return devices;
+  }
+
+  @Nullable
+  public SpecialType getType() {
+    return type;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Appliance o = (Appliance) other;
+    return Objects.equals(name, o.name)
+        && Objects.equals(type, o.type)
+        && Objects.equals(devices, o.devices);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = cachedHashCode;
+    if (result == 0) {
+      result = 1;
+      result = 31 * result + Objects.hashCode(name);
+      result = 31 * result + Objects.hashCode(devices);
+      result = 31 * result + Objects.hashCode(type);
+      cachedHashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", name=").append(name);
+    builder.append(", devices=").append(devices);
+    builder.append(", type=").append(type);
+    return builder.replace(0, 2, "Appliance{").append('}').toString();
+  }
+
+  /**
+   * Reads and writes Appliance by the values of its properties.
+   */
+  public static final class GsonTypeAdapterFactory extends ModelTypeAdapterFactory<Appliance> {
+    public GsonTypeAdapterFactory() {
+      super(Appliance.class);
+      registerProperty("name", String.class);
+      registerProperty("devices", TypeToken.getParameterized(List.class, Device.class).getType());
+      registerProperty("type", SpecialType.class);
+    }
+
+    @Override
+    protected Appliance newInstance(ModelTypeAdapterFactory.PropertyValues values) {
+      return new Appliance(values.get(0), values.get(1), values.get(2));
+    }
+
+    @Override
+    protected Object[] valuesOf(Appliance instance) {
+      return new Object[] {instance.name, instance.devices, instance.type};
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package model_only_immutable;
+
+import com.google.gson.annotations.JsonAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ModelTypeAdapterFactory;
+import java.math.BigDecimal;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * Device
+ */
+@JsonAdapter(Device.GsonTypeAdapterFactory.class)
+public final class Device {
+  private final String name;
+
+  private final BigDecimal value;
+
+  private transient int cachedHashCode;
+
+  public Device(@Nullable String name, @Nullable BigDecimal value) {
+    this.name = name;
+    this.value = value;
+  }
+
+  @Nullable
+  public String getName() {
+    return name;
+  }
+
+  @Nullable
+  public BigDecimal getValue() {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Device o = (Device) other;
+    return Objects.equals(name, o.name)
+        && Objects.equals(value, o.value);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = cachedHashCode;
+    if (result == 0) {
+      result = 1;
+      result = 31 * result + Objects.hashCode(name);
+      result = 31 * result + Objects.hashCode(value);
+      cachedHashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", name=").append(name);
+    builder.append(", value=").append(value);
+    return builder.replace(0, 2, "Device{").append('}').toString();
+  }
+
+  /**
+   * Reads and writes Device by the values of its properties.
+   */
+  public static final class GsonTypeAdapterFactory extends ModelTypeAdapterFactory<Device> {
+    public GsonTypeAdapterFactory() {
+      super(Device.class);
+      registerProperty("name", String.class);
+      registerProperty("value", BigDecimal.class);
+    }
+
+    @Override
+    protected Device newInstance(ModelTypeAdapterFactory.PropertyValues values) {
+      return new Device(values.get(0), values.get(1));
+    }
+
+    @Override
+    protected Object[] valuesOf(Device instance) {
+      return new Object[] {instance.name, instance.value};
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package model_only_immutable.sibling;
+
+import com.google.gson.annotations.JsonAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ModelTypeAdapterFactory;
+import java.math.BigInteger;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * Sibling
+ */
+@JsonAdapter(Sibling.GsonTypeAdapterFactory.class)
+public final class Sibling {
+  private final BigInteger value;
+
+  private transient int cachedHashCode;
+
+  public Sibling(@Nullable BigInteger value) {
+    this.value = value;
+  }
+
+  @Nullable
+  public BigInteger getValue() {
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Sibling o = (Sibling) other;
+    return Objects.equals(value, o.value);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = cachedHashCode;
+    if (result == 0) {
+      result = 1;
+      result = 31 * result + Objects.hashCode(value);
+      cachedHashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", value=").append(value);
+    return builder.replace(0, 2, "Sibling{").append('}').toString();
+  }
+
+  /**
+   * Reads and writes Sibling by the values of its properties.
+   */
+  public static final class GsonTypeAdapterFactory extends ModelTypeAdapterFactory<Sibling> {
+    public GsonTypeAdapterFactory() {
+      super(Sibling.class);
+      registerProperty("value", BigInteger.class);
+    }
+
+    @Override
+    protected Sibling newInstance(ModelTypeAdapterFactory.PropertyValues values) {
+      return new Sibling(values.get(0));
+    }
+
+    @Override
+    protected Object[] valuesOf(Sibling instance) {
+      return new Object[] {instance.value};
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package model_only_immutable.types;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ModelTypeAdapterFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import javax.validation.Valid;
+import model_only_immutable.sibling.Sibling;
+
+/**
+ * Special Type
+ */
+@JsonAdapter(SpecialType.GsonTypeAdapterFactory.class)
+public final class SpecialType {
+  /**
+   * Sibling
+   */
+  @Valid
+  private final Sibling sibling;
+
+  private final String typeName;
+
+  @Valid
+  private final List<@Valid SpecialTypeSpecialitiesItem> specialities;
+
+  private transient int cachedHashCode;
+
+  public SpecialType(@Nullable Sibling sibling, @Nullable String typeName,
+      @Nullable List<SpecialTypeSpecialitiesItem> specialities) {
+    this.sibling = sibling;
+    this.typeName = typeName;
+    this.specialities = specialities == null ? Collections.emptyList()
+        : Collections.unmodifiableList(new ArrayList<>(specialities));
+  }
+
+  @Nullable
+  public Sibling getSibling() {
+    return sibling;
+  }
+
+  @Nullable
+  public String getTypeName() {
+    return typeName;
+  }
+
+  @Nullable
+  public List<SpecialTypeSpecialitiesItem> getSpecialities() {
+    return specialities;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    SpecialType o = (SpecialType) other;
+    return Objects.equals(sibling, o.sibling)
+        && Objects.equals(typeName, o.typeName)
+        && Objects.equals(specialities, o.specialities);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = cachedHashCode;
+    if (result == 0) {
+      result = 1;
+      result = 31 * result + Objects.hashCode(sibling);
+      result = 31 * result + Objects.hashCode(typeName);
+      result = 31 * result + Objects.hashCode(specialities);
+      cachedHashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", sibling=").append(sibling);
+    builder.append(", typeName=").append(typeName);
+    builder.append(", specialities=").append(specialities);
+    return builder.replace(0, 2, "SpecialType{").append('}').toString();
+  }
+
+  /**
+   * Reads and writes SpecialType by the values of its properties.
+   */
+  public static final class GsonTypeAdapterFactory extends ModelTypeAdapterFactory<SpecialType> {
+    public GsonTypeAdapterFactory() {
+      super(SpecialType.class);
+      registerProperty("sibling", Sibling.class);
+      registerProperty("typeName", String.class);
+      registerProperty("specialities", TypeToken.getParameterized(List.class, SpecialTypeSpecialitiesItem.class).getType());
+    }
+
+    @Override
+    protected SpecialType newInstance(ModelTypeAdapterFactory.PropertyValues values) {
+      return new SpecialType(values.get(0), values.get(1), values.get(2));
+    }
+
+    @Override
+    protected Object[] valuesOf(SpecialType instance) {
+      return new Object[] {instance.sibling, instance.typeName, instance.specialities};
+    }
+  }
+}
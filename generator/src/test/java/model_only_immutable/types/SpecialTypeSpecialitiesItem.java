@@ -0,0 +1,81 @@
+package model_only_immutable.types;
+
+import com.google.gson.annotations.JsonAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ModelTypeAdapterFactory;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+@JsonAdapter(SpecialTypeSpecialitiesItem.GsonTypeAdapterFactory.class)
+public final class SpecialTypeSpecialitiesItem {
+  private final String label;
+
+  private final String category;
+
+  private transient int cachedHashCode;
+
+  public SpecialTypeSpecialitiesItem(@Nullable String label, @Nullable String category) {
+    this.label = label;
+    this.category = category;
+  }
+
+  @Nullable
+  public String getLabel() {
+    return label;
+  }
+
+  @Nullable
+  public String getCategory() {
+    return category;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    SpecialTypeSpecialitiesItem o = (SpecialTypeSpecialitiesItem) other;
+    return Objects.equals(label, o.label)
+        && Objects.equals(category, o.category);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = cachedHashCode;
+    if (result == 0) {
+      result = 1;
+      result = 31 * result + Objects.hashCode(label);
+      result = 31 * result + Objects.hashCode(category);
+      cachedHashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", label=").append(label);
+    builder.append(", category=").append(category);
+    return builder.replace(0, 2, "SpecialTypeSpecialitiesItem{").append('}').toString();
+  }
+
+  /**
+   * Reads and writes SpecialTypeSpecialitiesItem by the values of its properties.
+   */
+  public static final class GsonTypeAdapterFactory extends ModelTypeAdapterFactory<SpecialTypeSpecialitiesItem> {
+    public GsonTypeAdapterFactory() {
+      super(SpecialTypeSpecialitiesItem.class);
+      registerProperty("label", String.class);
+      registerProperty("category", String.class);
+    }
+
+    @Override
+    protected SpecialTypeSpecialitiesItem newInstance(
+        ModelTypeAdapterFactory.PropertyValues values) {
+      return new SpecialTypeSpecialitiesItem(values.get(0), values.get(1));
+    }
+
+    @Override
+    protected Object[] valuesOf(SpecialTypeSpecialitiesItem instance) {
+      return new Object[] {instance.label, instance.category};
+    }
+  }
+}
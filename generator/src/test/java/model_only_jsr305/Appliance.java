@@ -73,13 +73,17 @@ public class Appliance {
     if (other == null || getClass() != other.getClass()) return false;
     Appliance o = (Appliance) other;
     return Objects.equals(name, o.name)
-        && Objects.equals(devices, o.devices)
-        && Objects.equals(type, o.type);
+        && Objects.equals(type, o.type)
+        && Objects.equals(devices, o.devices);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, devices, type);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(devices);
+    result = 31 * result + Objects.hashCode(type);
+    return result;
   }
 
   @Override
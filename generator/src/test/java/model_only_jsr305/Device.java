@@ -51,7 +51,10 @@ public class Device {
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, value);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(value);
+    return result;
   }
 
   @Override
@@ -40,13 +40,16 @@ public class MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty {
     if (other == this) return true;
     if (other == null || getClass() != other.getClass()) return false;
     MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty o = (MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty) other;
-    return Objects.equals(a, o.a)
-        && Objects.equals(b, o.b);
+    return Objects.equals(b, o.b)
+        && Objects.equals(a, o.a);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(a, b);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(a);
+    result = 31 * result + Objects.hashCode(b);
+    return result;
   }
 
   @Override
@@ -0,0 +1,108 @@
+package multipart_server.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.multipart.MultipartFormData;
+import io.github.ruedigerk.contractfirst.generator.server.multipart.MultipartRequestBody;
+import java.io.InputStream;
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+import multipart_server.model.FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty;
+import multipart_server.model.MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty;
+import multipart_server.resources.support.ResponseWrapper;
+
+@Path("")
+public interface MultipartRequestBodyApi {
+  /**
+   * A test case for an x-www-form-urlencoded encoded request body.
+   */
+  @POST
+  @Path("/formEncodedRequestBody")
+  @Consumes("application/x-www-form-urlencoded")
+  @Produces
+  @ContractOperation(
+      operationId = "formEncodedRequestBody",
+      method = "POST",
+      path = "/formEncodedRequestBody"
+  )
+  FormEncodedRequestBodyResponse formEncodedRequestBody(
+      @FormParam("stringProperty") String stringProperty,
+      @FormParam("integerProperty") Long integerProperty,
+      @FormParam("enumProperty") FormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty enumProperty);
+
+  /**
+   * A test case for a multipart/form-data encoded request body.
+   *
+   * @param requestBody the parts of the multipart request body
+   */
+  @POST
+  @Path("/multipartRequestBody")
+  @Consumes("multipart/form-data")
+  @Produces
+  @ContractOperation(
+      operationId = "multipartRequestBody",
+      method = "POST",
+      path = "/multipartRequestBody"
+  )
+  MultipartRequestBodyResponse multipartRequestBody(
+      @NotNull MultipartRequestBodyRequestBody requestBody);
+
+  class FormEncodedRequestBodyResponse extends ResponseWrapper {
+    private FormEncodedRequestBodyResponse(Response delegate) {
+      super(delegate);
+    }
+
+    public static FormEncodedRequestBodyResponse with204() {
+      return new FormEncodedRequestBodyResponse(Response.status(204).build());
+    }
+
+    public static FormEncodedRequestBodyResponse withCustomResponse(Response response) {
+      return new FormEncodedRequestBodyResponse(response);
+    }
+  }
+
+  class MultipartRequestBodyResponse extends ResponseWrapper {
+    private MultipartRequestBodyResponse(Response delegate) {
+      super(delegate);
+    }
+
+    public static MultipartRequestBodyResponse with204() {
+      return new MultipartRequestBodyResponse(Response.status(204).build());
+    }
+
+    public static MultipartRequestBodyResponse withCustomResponse(Response response) {
+      return new MultipartRequestBodyResponse(response);
+    }
+  }
+
+  class MultipartRequestBodyRequestBody extends MultipartRequestBody {
+    public MultipartRequestBodyRequestBody(MultipartFormData formData) {
+      super(formData);
+    }
+
+    public String getStringProperty() {
+      return getPrimitive("stringProperty", String.class);
+    }
+
+    public Long getIntegerProperty() {
+      return getPrimitive("integerProperty", Long.class);
+    }
+
+    public MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty getObjectProperty() {
+      return getComplex("objectProperty", MultipartRequestBodyRequestBodyMultipartFormDataObjectProperty.class);
+    }
+
+    public InputStream getFirstBinary() {
+      return getAttachment("firstBinary");
+    }
+
+    public List<InputStream> getAdditionalBinaries() {
+      return getAttachments("additionalBinaries");
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package parameters_server.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.CookieParam;
@@ -22,6 +23,11 @@ public interface EquallyNamedParametersApi {
   @Path("/getEquallyNamedParameters/{theParameter}")
   @Consumes("application/x-www-form-urlencoded")
   @Produces
+  @ContractOperation(
+      operationId = "getEquallyNamedParameters",
+      method = "GET",
+      path = "/getEquallyNamedParameters/{theParameter}"
+  )
   GetEquallyNamedParametersResponse getEquallyNamedParameters(
       @CookieParam("theParameter") String theParameterInCookie,
       @HeaderParam("theParameter") String theParameterInHeader,
@@ -0,0 +1,307 @@
+package polymorphism.api;
+
+import com.google.gson.reflect.TypeToken;
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientIncompatibleResponseException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
+import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
+import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Objects;
+import polymorphism.model.Event;
+import polymorphism.model.Notification;
+
+/**
+ * Contains methods for all API operations tagged "Default".
+ */
+public class DefaultApiClient {
+  public static final Type LIST_OF_EVENT = TypeToken.getParameterized(List.class, Event.class).getType();
+
+  private final ApiRequestExecutor requestExecutor;
+
+  private final ReturningResult returningResult;
+
+  public DefaultApiClient(ApiRequestExecutor requestExecutor) {
+    this.requestExecutor = requestExecutor;
+    this.returningResult = new ReturningResult();
+  }
+
+  /**
+   * Returns an API client with methods that return operation specific result classes, allowing inspection of the operations' responses.
+   */
+  public ReturningResult returningResult() {
+    return returningResult;
+  }
+
+  public List<Event> getEvents() throws ApiClientIoException, ApiClientValidationException,
+      ApiClientIncompatibleResponseException {
+
+    GetEventsResult result = returningResult.getEvents();
+
+    return result.getEntity();
+  }
+
+  /**
+   * @param requestBody An event of the event stream.
+   */
+  public void postEvent(Event requestBody) throws ApiClientIoException,
+      ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+    PostEventResult result = returningResult.postEvent(requestBody);
+  }
+
+  public Notification getLatestNotification() throws ApiClientIoException,
+      ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+    GetLatestNotificationResult result = returningResult.getLatestNotification();
+
+    return result.getEntity();
+  }
+
+  /**
+   * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
+   */
+  public class ReturningResult {
+    public GetEventsResult getEvents() throws ApiClientIoException, ApiClientValidationException,
+        ApiClientIncompatibleResponseException {
+
+      Operation.Builder builder = new Operation.Builder("/events", "GET");
+
+      builder.response(StatusCode.of(200), "application/json", LIST_OF_EVENT);
+
+      ApiResponse response = requestExecutor.executeRequest(builder.build());
+
+      return new GetEventsResult(response);
+    }
+
+    /**
+     * @param requestBody An event of the event stream.
+     */
+    public PostEventResult postEvent(Event requestBody) throws ApiClientIoException,
+        ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+      Operation.Builder builder = new Operation.Builder("/events", "POST");
+
+      builder.requestBody("application/json", true, requestBody);
+
+      builder.response(StatusCode.of(204));
+
+      ApiResponse response = requestExecutor.executeRequest(builder.build());
+
+      return new PostEventResult(response);
+    }
+
+    public GetLatestNotificationResult getLatestNotification() throws ApiClientIoException,
+        ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+      Operation.Builder builder = new Operation.Builder("/notifications/latest", "GET");
+
+      builder.response(StatusCode.of(200), "application/json", Notification.class);
+
+      ApiResponse response = requestExecutor.executeRequest(builder.build());
+
+      return new GetLatestNotificationResult(response);
+    }
+  }
+
+  /**
+   * Represents the result of calling operation getEvents.
+   */
+  public static class GetEventsResult {
+    private final ApiResponse response;
+
+    public GetEventsResult(ApiResponse response) {
+      this.response = response;
+    }
+
+    /**
+     * Returns the ApiResponse instance with the details of the operation's HTTP response.
+     */
+    public ApiResponse getResponse() {
+      return response;
+    }
+
+    /**
+     * Returns the HTTP status code of the operation's response.
+     */
+    public int getStatus() {
+      return response.getStatusCode();
+    }
+
+    /**
+     * Returns whether the response has a status code in the range 200 to 299.
+     */
+    public boolean isSuccessful() {
+      return response.isSuccessful();
+    }
+
+    /**
+     * Returns whether the response's status code is 200, while the response's entity is of type {@code List<Event>}.
+     */
+    public boolean isStatus200ReturningListOfEvent() {
+      return response.getStatusCode() == 200 && response.getEntityType() == LIST_OF_EVENT;
+    }
+
+    /**
+     * Returns the response's entity of type {@code List<Event>}.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Event> getEntity() {
+      return (List<Event>) response.getEntity();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) return true;
+      if (other == null || getClass() != other.getClass()) return false;
+      GetEventsResult o = (GetEventsResult) other;
+      return Objects.equals(response, o.response);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder();
+      builder.append(", response=").append(response);
+      return builder.replace(0, 2, "GetEventsResult{").append('}').toString();
+    }
+  }
+
+  /**
+   * Represents the result of calling operation postEvent.
+   */
+  public static class PostEventResult {
+    private final ApiResponse response;
+
+    public PostEventResult(ApiResponse response) {
+      this.response = response;
+    }
+
+    /**
+     * Returns the ApiResponse instance with the details of the operation's HTTP response.
+     */
+    public ApiResponse getResponse() {
+      return response;
+    }
+
+    /**
+     * Returns the HTTP status code of the operation's response.
+     */
+    public int getStatus() {
+      return response.getStatusCode();
+    }
+
+    /**
+     * Returns whether the response has a status code in the range 200 to 299.
+     */
+    public boolean isSuccessful() {
+      return response.isSuccessful();
+    }
+
+    /**
+     * Returns whether the response's status code is 204, while the response has no entity.
+     */
+    public boolean isStatus204WithoutEntity() {
+      return response.getStatusCode() == 204;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) return true;
+      if (other == null || getClass() != other.getClass()) return false;
+      PostEventResult o = (PostEventResult) other;
+      return Objects.equals(response, o.response);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder();
+      builder.append(", response=").append(response);
+      return builder.replace(0, 2, "PostEventResult{").append('}').toString();
+    }
+  }
+
+  /**
+   * Represents the result of calling operation getLatestNotification.
+   */
+  public static class GetLatestNotificationResult {
+    private final ApiResponse response;
+
+    public GetLatestNotificationResult(ApiResponse response) {
+      this.response = response;
+    }
+
+    /**
+     * Returns the ApiResponse instance with the details of the operation's HTTP response.
+     */
+    public ApiResponse getResponse() {
+      return response;
+    }
+
+    /**
+     * Returns the HTTP status code of the operation's response.
+     */
+    public int getStatus() {
+      return response.getStatusCode();
+    }
+
+    /**
+     * Returns whether the response has a status code in the range 200 to 299.
+     */
+    public boolean isSuccessful() {
+      return response.isSuccessful();
+    }
+
+    /**
+     * Returns whether the response's status code is 200, while the response's entity is of type {@code Notification}.
+     */
+    public boolean isStatus200ReturningNotification() {
+      return response.getStatusCode() == 200 && response.getEntityType() == Notification.class;
+    }
+
+    /**
+     * Returns the response's entity of type {@code Notification}.
+     */
+    public Notification getEntity() {
+      return (Notification) response.getEntity();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) return true;
+      if (other == null || getClass() != other.getClass()) return false;
+      GetLatestNotificationResult o = (GetLatestNotificationResult) other;
+      return Objects.equals(response, o.response);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder();
+      builder.append(", response=").append(response);
+      return builder.replace(0, 2, "GetLatestNotificationResult{").append('}').toString();
+    }
+  }
+}
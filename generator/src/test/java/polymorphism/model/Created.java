@@ -0,0 +1,194 @@
+package polymorphism.model;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ModelTypeAdapterFactory;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Properties are merged from all subschemas.
+ */
+@JsonAdapter(Created.GsonTypeAdapterFactory.class)
+public class Created implements Event, Notification {
+  @NotNull
+  private String eventType;
+
+  @NotNull
+  private String id;
+
+  private OffsetDateTime timestamp;
+
+  @NotNull
+  private String name;
+
+  private List<String> tags = new ArrayList<>();
+
+  @Valid
+  private CreatedOrigin origin;
+
+  public Created eventType(String eventType) {
+    this.eventType = eventType;
+    return this;
+  }
+
+  public String getEventType() {
+    return eventType;
+  }
+
+  public void setEventType(String eventType) {
+    this.eventType = eventType;
+  }
+
+  public Created id(String id) {
+    this.id = id;
+    return this;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public Created timestamp(OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+    return this;
+  }
+
+  public OffsetDateTime getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  public Created name(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public Created tags(List<String> tags) {
+    this.tags = tags;
+    return this;
+  }
+
+  public List<String> getTags() {
+    return tags;
+  }
+
+  public void setTags(List<String> tags) {
+    this.tags = tags;
+  }
+
+  public Created origin(CreatedOrigin origin) {
+    this.origin = origin;
+    return this;
+  }
+
+  public CreatedOrigin getOrigin() {
+    return origin;
+  }
+
+  public void setOrigin(CreatedOrigin origin) {
+    this.origin = origin;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Created o = (Created) other;
+    return Objects.equals(eventType, o.eventType)
+        && Objects.equals(id, o.id)
+        && Objects.equals(timestamp, o.timestamp)
+        && Objects.equals(name, o.name)
+        && Objects.equals(origin, o.origin)
+        && Objects.equals(tags, o.tags);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(eventType);
+    result = 31 * result + Objects.hashCode(id);
+    result = 31 * result + Objects.hashCode(timestamp);
+    result = 31 * result + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(tags);
+    result = 31 * result + Objects.hashCode(origin);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", eventType=").append(eventType);
+    builder.append(", id=").append(id);
+    builder.append(", timestamp=").append(timestamp);
+    builder.append(", name=").append(name);
+    builder.append(", tags=").append(tags);
+    builder.append(", origin=").append(origin);
+    return builder.replace(0, 2, "Created{").append('}').toString();
+  }
+
+  /**
+   * Reads and writes Created by the values of its properties.
+   */
+  public static final class GsonTypeAdapterFactory extends ModelTypeAdapterFactory<Created> {
+    public GsonTypeAdapterFactory() {
+      super(Created.class);
+      registerProperty("eventType", String.class);
+      registerProperty("id", String.class);
+      registerProperty("timestamp", OffsetDateTime.class);
+      registerProperty("name", String.class);
+      registerProperty("tags", TypeToken.getParameterized(List.class, String.class).getType());
+      registerProperty("origin", CreatedOrigin.class);
+      registerDiscriminator("eventType", "created");
+    }
+
+    @Override
+    protected Created newInstance(ModelTypeAdapterFactory.PropertyValues values) {
+      Created instance = new Created();
+      if (values.isPresent(0)) {
+        instance.setEventType(values.get(0));
+      }
+      if (values.isPresent(1)) {
+        instance.setId(values.get(1));
+      }
+      if (values.isPresent(2)) {
+        instance.setTimestamp(values.get(2));
+      }
+      if (values.isPresent(3)) {
+        instance.setName(values.get(3));
+      }
+      if (values.isPresent(4)) {
+        instance.setTags(values.get(4));
+      }
+      if (values.isPresent(5)) {
+        instance.setOrigin(values.get(5));
+      }
+      return instance;
+    }
+
+    @Override
+    protected Object[] valuesOf(Created instance) {
+      return new Object[] {instance.eventType, instance.id, instance.timestamp, instance.name,
+          instance.tags, instance.origin};
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package polymorphism.model;
+
+import java.util.Objects;
+
+public class CreatedOrigin {
+  private String system;
+
+  public CreatedOrigin system(String system) {
+    this.system = system;
+    return this;
+  }
+
+  public String getSystem() {
+    return system;
+  }
+
+  public void setSystem(String system) {
+    this.system = system;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    CreatedOrigin o = (CreatedOrigin) other;
+    return Objects.equals(system, o.system);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(system);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", system=").append(system);
+    return builder.replace(0, 2, "CreatedOrigin{").append('}').toString();
+  }
+}
@@ -0,0 +1,140 @@
+package polymorphism.model;
+
+import com.google.gson.annotations.JsonAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ModelTypeAdapterFactory;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import javax.validation.constraints.NotNull;
+
+@JsonAdapter(Deleted.GsonTypeAdapterFactory.class)
+public class Deleted implements Event, Notification {
+  @NotNull
+  private String eventType;
+
+  @NotNull
+  private String id;
+
+  private OffsetDateTime timestamp;
+
+  private DeletedReason reason;
+
+  public Deleted eventType(String eventType) {
+    this.eventType = eventType;
+    return this;
+  }
+
+  public String getEventType() {
+    return eventType;
+  }
+
+  public void setEventType(String eventType) {
+    this.eventType = eventType;
+  }
+
+  public Deleted id(String id) {
+    this.id = id;
+    return this;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public Deleted timestamp(OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+    return this;
+  }
+
+  public OffsetDateTime getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  public Deleted reason(DeletedReason reason) {
+    this.reason = reason;
+    return this;
+  }
+
+  public DeletedReason getReason() {
+    return reason;
+  }
+
+  public void setReason(DeletedReason reason) {
+    this.reason = reason;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Deleted o = (Deleted) other;
+    return reason == o.reason
+        && Objects.equals(eventType, o.eventType)
+        && Objects.equals(id, o.id)
+        && Objects.equals(timestamp, o.timestamp);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(eventType);
+    result = 31 * result + Objects.hashCode(id);
+    result = 31 * result + Objects.hashCode(timestamp);
+    result = 31 * result + Objects.hashCode(reason);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", eventType=").append(eventType);
+    builder.append(", id=").append(id);
+    builder.append(", timestamp=").append(timestamp);
+    builder.append(", reason=").append(reason);
+    return builder.replace(0, 2, "Deleted{").append('}').toString();
+  }
+
+  /**
+   * Reads and writes Deleted by the values of its properties.
+   */
+  public static final class GsonTypeAdapterFactory extends ModelTypeAdapterFactory<Deleted> {
+    public GsonTypeAdapterFactory() {
+      super(Deleted.class);
+      registerProperty("eventType", String.class);
+      registerProperty("id", String.class);
+      registerProperty("timestamp", OffsetDateTime.class);
+      registerProperty("reason", DeletedReason.class);
+      registerDiscriminator("eventType", "deleted");
+    }
+
+    @Override
+    protected Deleted newInstance(ModelTypeAdapterFactory.PropertyValues values) {
+      Deleted instance = new Deleted();
+      if (values.isPresent(0)) {
+        instance.setEventType(values.get(0));
+      }
+      if (values.isPresent(1)) {
+        instance.setId(values.get(1));
+      }
+      if (values.isPresent(2)) {
+        instance.setTimestamp(values.get(2));
+      }
+      if (values.isPresent(3)) {
+        instance.setReason(values.get(3));
+      }
+      return instance;
+    }
+
+    @Override
+    protected Object[] valuesOf(Deleted instance) {
+      return new Object[] {instance.eventType, instance.id, instance.timestamp, instance.reason};
+    }
+  }
+}
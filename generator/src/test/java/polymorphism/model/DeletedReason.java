@@ -0,0 +1,22 @@
+package polymorphism.model;
+
+import com.google.gson.annotations.SerializedName;
+
+public enum DeletedReason {
+  @SerializedName("expired")
+  EXPIRED("expired"),
+
+  @SerializedName("revoked")
+  REVOKED("revoked");
+
+  private final String serializedName;
+
+  DeletedReason(String serializedName) {
+    this.serializedName = serializedName;
+  }
+
+  @Override
+  public String toString() {
+    return serializedName;
+  }
+}
@@ -0,0 +1,23 @@
+package polymorphism.model;
+
+import com.google.gson.annotations.JsonAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.DiscriminatorTypeAdapterFactory;
+
+/**
+ * An event of the event stream.
+ */
+@JsonAdapter(Event.GsonTypeAdapterFactory.class)
+public interface Event {
+  /**
+   * Reads and writes the implementations of Event, telling them apart by discriminator property "eventType".
+   */
+  final class GsonTypeAdapterFactory extends DiscriminatorTypeAdapterFactory<Event> {
+    public GsonTypeAdapterFactory() {
+      super(Event.class, "eventType");
+      registerSubtype("created", Created.class, new Created.GsonTypeAdapterFactory());
+      registerSubtype("deleted", Deleted.class, new Deleted.GsonTypeAdapterFactory());
+      registerSubtype("removed", Deleted.class, new Deleted.GsonTypeAdapterFactory());
+      registerSubtype("renamed", Renamed.class, new Renamed.GsonTypeAdapterFactory());
+    }
+  }
+}
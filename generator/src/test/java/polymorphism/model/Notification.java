@@ -0,0 +1,21 @@
+package polymorphism.model;
+
+import com.google.gson.annotations.JsonAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.DiscriminatorTypeAdapterFactory;
+
+/**
+ * Uses the schema names as discriminator values.
+ */
+@JsonAdapter(Notification.GsonTypeAdapterFactory.class)
+public interface Notification {
+  /**
+   * Reads and writes the implementations of Notification, telling them apart by discriminator property "eventType".
+   */
+  final class GsonTypeAdapterFactory extends DiscriminatorTypeAdapterFactory<Notification> {
+    public GsonTypeAdapterFactory() {
+      super(Notification.class, "eventType");
+      registerSubtype("Created", Created.class, new Created.GsonTypeAdapterFactory());
+      registerSubtype("Deleted", Deleted.class, new Deleted.GsonTypeAdapterFactory());
+    }
+  }
+}
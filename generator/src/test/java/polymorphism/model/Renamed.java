@@ -0,0 +1,143 @@
+package polymorphism.model;
+
+import com.google.gson.annotations.JsonAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ModelTypeAdapterFactory;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+@JsonAdapter(Renamed.GsonTypeAdapterFactory.class)
+public class Renamed implements Event {
+  @NotNull
+  private String eventType;
+
+  private String oldName;
+
+  private String newName;
+
+  /**
+   * An event of the event stream.
+   */
+  @Valid
+  private Event cause;
+
+  public Renamed eventType(String eventType) {
+    this.eventType = eventType;
+    return this;
+  }
+
+  public String getEventType() {
+    return eventType;
+  }
+
+  public void setEventType(String eventType) {
+    this.eventType = eventType;
+  }
+
+  public Renamed oldName(String oldName) {
+    this.oldName = oldName;
+    return this;
+  }
+
+  public String getOldName() {
+    return oldName;
+  }
+
+  public void setOldName(String oldName) {
+    this.oldName = oldName;
+  }
+
+  public Renamed newName(String newName) {
+    this.newName = newName;
+    return this;
+  }
+
+  public String getNewName() {
+    return newName;
+  }
+
+  public void setNewName(String newName) {
+    this.newName = newName;
+  }
+
+  public Renamed cause(Event cause) {
+    this.cause = cause;
+    return this;
+  }
+
+  public Event getCause() {
+    return cause;
+  }
+
+  public void setCause(Event cause) {
+    this.cause = cause;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Renamed o = (Renamed) other;
+    return Objects.equals(eventType, o.eventType)
+        && Objects.equals(oldName, o.oldName)
+        && Objects.equals(newName, o.newName)
+        && Objects.equals(cause, o.cause);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(eventType);
+    result = 31 * result + Objects.hashCode(oldName);
+    result = 31 * result + Objects.hashCode(newName);
+    result = 31 * result + Objects.hashCode(cause);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", eventType=").append(eventType);
+    builder.append(", oldName=").append(oldName);
+    builder.append(", newName=").append(newName);
+    builder.append(", cause=").append(cause);
+    return builder.replace(0, 2, "Renamed{").append('}').toString();
+  }
+
+  /**
+   * Reads and writes Renamed by the values of its properties.
+   */
+  public static final class GsonTypeAdapterFactory extends ModelTypeAdapterFactory<Renamed> {
+    public GsonTypeAdapterFactory() {
+      super(Renamed.class);
+      registerProperty("eventType", String.class);
+      registerProperty("oldName", String.class);
+      registerProperty("newName", String.class);
+      registerProperty("cause", Event.class);
+      registerDiscriminator("eventType", "renamed");
+    }
+
+    @Override
+    protected Renamed newInstance(ModelTypeAdapterFactory.PropertyValues values) {
+      Renamed instance = new Renamed();
+      if (values.isPresent(0)) {
+        instance.setEventType(values.get(0));
+      }
+      if (values.isPresent(1)) {
+        instance.setOldName(values.get(1));
+      }
+      if (values.isPresent(2)) {
+        instance.setNewName(values.get(2));
+      }
+      if (values.isPresent(3)) {
+        instance.setCause(values.get(3));
+      }
+      return instance;
+    }
+
+    @Override
+    protected Object[] valuesOf(Renamed instance) {
+      return new Object[] {instance.eventType, instance.oldName, instance.newName, instance.cause};
+    }
+  }
+}
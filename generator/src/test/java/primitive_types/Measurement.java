@@ -0,0 +1,237 @@
+package primitive_types;
+
+import com.google.gson.annotations.JsonAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ModelTypeAdapterFactory;
+import java.math.BigInteger;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Measurement
+ */
+@JsonAdapter(Measurement.GsonTypeAdapterFactory.class)
+public class Measurement {
+  @NotNull
+  private String sensor;
+
+  @Min(0L)
+  private int sequence;
+
+  private long timestamp;
+
+  private boolean valid;
+
+  private double value;
+
+  private float deviation;
+
+  private Integer count;
+
+  private BigInteger total;
+
+  public Measurement sensor(@Nonnull String sensor) {
+    this.sensor = sensor;
+    return this;
+  }
+
+  @Nonnull
+  public String getSensor() {
+    return sensor;
+  }
+
+  public void setSensor(@Nonnull String sensor) {
+    this.sensor = sensor;
+  }
+
+  public Measurement sequence(int sequence) {
+    this.sequence = sequence;
+    return this;
+  }
+
+  public int getSequence() {
+    return sequence;
+  }
+
+  public void setSequence(int sequence) {
+    this.sequence = sequence;
+  }
+
+  public Measurement timestamp(long timestamp) {
+    this.timestamp = timestamp;
+    return this;
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(long timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  public Measurement valid(boolean valid) {
+    this.valid = valid;
+    return this;
+  }
+
+  public boolean getValid() {
+    return valid;
+  }
+
+  public void setValid(boolean valid) {
+    this.valid = valid;
+  }
+
+  public Measurement value(double value) {
+    this.value = value;
+    return this;
+  }
+
+  public double getValue() {
+    return value;
+  }
+
+  public void setValue(double value) {
+    this.value = value;
+  }
+
+  public Measurement deviation(float deviation) {
+    this.deviation = deviation;
+    return this;
+  }
+
+  public float getDeviation() {
+    return deviation;
+  }
+
+  public void setDeviation(float deviation) {
+    this.deviation = deviation;
+  }
+
+  public Measurement count(@Nullable Integer count) {
+    this.count = count;
+    return this;
+  }
+
+  @Nullable
+  public Integer getCount() {
+    return count;
+  }
+
+  public void setCount(@Nullable Integer count) {
+    this.count = count;
+  }
+
+  public Measurement total(@Nullable BigInteger total) {
+    this.total = total;
+    return this;
+  }
+
+  @Nullable
+  public BigInteger getTotal() {
+    return total;
+  }
+
+  public void setTotal(@Nullable BigInteger total) {
+    this.total = total;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Measurement o = (Measurement) other;
+    return sequence == o.sequence
+        && timestamp == o.timestamp
+        && valid == o.valid
+        && Double.compare(value, o.value) == 0
+        && Float.compare(deviation, o.deviation) == 0
+        && Objects.equals(count, o.count)
+        && Objects.equals(sensor, o.sensor)
+        && Objects.equals(total, o.total);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(sensor);
+    result = 31 * result + Integer.hashCode(sequence);
+    result = 31 * result + Long.hashCode(timestamp);
+    result = 31 * result + Boolean.hashCode(valid);
+    result = 31 * result + Double.hashCode(value);
+    result = 31 * result + Float.hashCode(deviation);
+    result = 31 * result + Objects.hashCode(count);
+    result = 31 * result + Objects.hashCode(total);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", sensor=").append(sensor);
+    builder.append(", sequence=").append(sequence);
+    builder.append(", timestamp=").append(timestamp);
+    builder.append(", valid=").append(valid);
+    builder.append(", value=").append(value);
+    builder.append(", deviation=").append(deviation);
+    builder.append(", count=").append(count);
+    builder.append(", total=").append(total);
+    return builder.replace(0, 2, "Measurement{").append('}').toString();
+  }
+
+  /**
+   * Reads and writes Measurement by the values of its properties.
+   */
+  public static final class GsonTypeAdapterFactory extends ModelTypeAdapterFactory<Measurement> {
+    public GsonTypeAdapterFactory() {
+      super(Measurement.class);
+      registerProperty("sensor", String.class);
+      registerPrimitiveProperty("sequence", int.class);
+      registerPrimitiveProperty("timestamp", long.class);
+      registerPrimitiveProperty("valid", boolean.class);
+      registerPrimitiveProperty("value", double.class);
+      registerPrimitiveProperty("deviation", float.class);
+      registerProperty("count", Integer.class);
+      registerProperty("total", BigInteger.class);
+    }
+
+    @Override
+    protected Measurement newInstance(ModelTypeAdapterFactory.PropertyValues values) {
+      Measurement instance = new Measurement();
+      if (values.isPresent(0)) {
+        instance.setSensor(values.get(0));
+      }
+      if (values.isPresent(1)) {
+        instance.setSequence(values.get(1));
+      }
+      if (values.isPresent(2)) {
+        instance.setTimestamp(values.get(2));
+      }
+      if (values.isPresent(3)) {
+        instance.setValid(values.get(3));
+      }
+      if (values.isPresent(4)) {
+        instance.setValue(values.get(4));
+      }
+      if (values.isPresent(5)) {
+        instance.setDeviation(values.get(5));
+      }
+      if (values.isPresent(6)) {
+        instance.setCount(values.get(6));
+      }
+      if (values.isPresent(7)) {
+        instance.setTotal(values.get(7));
+      }
+      return instance;
+    }
+
+    @Override
+    protected Object[] valuesOf(Measurement instance) {
+      return new Object[] {instance.sensor, instance.sequence, instance.timestamp, instance.valid,
+          instance.value, instance.deviation, instance.count, instance.total};
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package router.resources;
+
+import com.google.gson.reflect.TypeToken;
+import io.github.ruedigerk.contractfirst.generator.server.router.BodyCodec;
+import io.github.ruedigerk.contractfirst.generator.server.router.GsonBodyCodec;
+import io.github.ruedigerk.contractfirst.generator.server.router.Parameters;
+import io.github.ruedigerk.contractfirst.generator.server.router.Router;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import router.model.Clock;
+import router.model.Item;
+import router.model.ProblematicName;
+
+/**
+ * Dispatches requests to the registered implementations of the generated interfaces.
+ * Mount it with a RouterHttpHandler on the JDK's HttpServer, or with a RouterServlet in a servlet container.
+ */
+public class ApiRouter extends Router {
+  private static final Type LIST_OF_ITEM = TypeToken.getParameterized(List.class, Item.class).getType();
+
+  /**
+   * Creates a router, that reads and writes entities with a GsonBodyCodec.
+   */
+  public ApiRouter() {
+    super(new GsonBodyCodec());
+  }
+
+  public ApiRouter(BodyCodec codec) {
+    super(codec);
+  }
+
+  /**
+   * Adds the routes for the operations of the supplied implementation.
+   */
+  public ApiRouter registerResponseVariantsApi(ResponseVariantsApi implementation) {
+    addRoute("POST", "/{systemId}/components", "application/json", (request, pathParameters) -> implementation.createItem(
+        Parameters.single("systemId", pathParameters.get("systemId"), true),
+        Parameters.single("dryRun", request.getQueryParameter("dryRun"), Parameters::toBoolean, false),
+        Parameters.single("partNumber", request.getHeader("partNumber"), Long::valueOf, false),
+        Parameters.single("testCaseSelector", request.getHeader("testCaseSelector"), false),
+        readBody(request, Item.class, true)));
+    return this;
+  }
+
+  /**
+   * Adds the routes for the operations of the supplied implementation.
+   */
+  public ApiRouter registerPayloadVariantsApi(PayloadVariantsApi implementation) {
+    addRoute("POST", "/items", "application/json", (request, pathParameters) -> implementation.filterItems(
+        readBody(request, LIST_OF_ITEM, true)));
+    addRoute("POST", "/items2", "application/json", (request, pathParameters) -> implementation.filterItems2(
+        readBody(request, LIST_OF_ITEM, true)));
+    addRoute("POST", "/itemBinaries", "application/json", (request, pathParameters) -> implementation.changeItem(
+        readBody(request, Item.class, true)));
+    addRoute("PUT", "/itemBinaries", "application/octet-stream", (request, pathParameters) -> implementation.uploadAndReturnBinary(
+        readBody(request, InputStream.class, true)));
+    return this;
+  }
+
+  /**
+   * Adds the routes for the operations of the supplied implementation.
+   */
+  public ApiRouter registerMultipleContentTypesApi(MultipleContentTypesApi implementation) {
+    addRoute("GET", "/manuals", null, (request, pathParameters) -> implementation.getManual(
+        Parameters.single("testCaseSelector", request.getHeader("testCaseSelector"), false)));
+    return this;
+  }
+
+  /**
+   * Adds the routes for the operations of the supplied implementation.
+   */
+  public ApiRouter registerWildcardContentTypesApi(WildcardContentTypesApi implementation) {
+    addRoute("GET", "/wildcardContentTypes", null, (request, pathParameters) -> implementation.getWildcardContentTypes(
+        Parameters.single("testCaseSelector", request.getHeader("testCaseSelector"), false)));
+    return this;
+  }
+
+  /**
+   * Adds the routes for the operations of the supplied implementation.
+   */
+  public ApiRouter registerTimeApi(TimeApi implementation) {
+    addRoute("POST", "/time/{timeId}", "application/json", (request, pathParameters) -> implementation.updateTime(
+        Parameters.single("timeId", pathParameters.get("timeId"), LocalDate::parse, true),
+        Parameters.single("queryTimeA", request.getQueryParameter("queryTimeA"), LocalDate::parse, true),
+        Parameters.single("queryTimeB", request.getQueryParameter("queryTimeB"), OffsetDateTime::parse, true),
+        Parameters.single("headerTimeA", request.getHeader("headerTimeA"), LocalDate::parse, true),
+        Parameters.single("headerTimeB", request.getHeader("headerTimeB"), OffsetDateTime::parse, true),
+        readBody(request, Clock.class, true)));
+    return this;
+  }
+
+  /**
+   * Adds the routes for the operations of the supplied implementation.
+   */
+  public ApiRouter registerBigDecimalsApi(BigDecimalsApi implementation) {
+    addRoute("GET", "/bigDecimals", null, (request, pathParameters) -> implementation.getNumber(
+        Parameters.single("decimalNumber", request.getQueryParameter("decimalNumber"), BigDecimal::new, true)));
+    return this;
+  }
+
+  /**
+   * Adds the routes for the operations of the supplied implementation.
+   */
+  public ApiRouter registerTestcasesApi(TestcasesApi implementation) {
+    addRoute("GET", "/testcases", null, (request, pathParameters) -> implementation.getInlineObjectInArray());
+    return this;
+  }
+
+  /**
+   * Adds the routes for the operations of the supplied implementation.
+   */
+  public ApiRouter registerPostWithoutBodyApi(PostWithoutBodyApi implementation) {
+    addRoute("POST", "/postWithoutBody/post", null, (request, pathParameters) -> implementation.postWithoutBody());
+    addRoute("PUT", "/postWithoutBody/put", null, (request, pathParameters) -> implementation.putWithoutBody());
+    addRoute("POST", "/postWithoutBody/patch", null, (request, pathParameters) -> implementation.patchWithoutBody());
+    return this;
+  }
+
+  /**
+   * Adds the routes for the operations of the supplied implementation.
+   */
+  public ApiRouter registerNonJavaPropertyNamesApi(NonJavaPropertyNamesApi implementation) {
+    addRoute("POST", "/nonJavaPropertyNames", "application/json", (request, pathParameters) -> implementation.postNonJavaPropertyNames(
+        readBody(request, ProblematicName.class, true)));
+    return this;
+  }
+
+  /**
+   * Adds the routes for the operations of the supplied implementation.
+   */
+  public ApiRouter registerNonJsonEntityAsJsonApi(NonJsonEntityAsJsonApi implementation) {
+    addRoute("GET", "/nonJsonEntityAsJson", null, (request, pathParameters) -> implementation.getNonJsonEntityAsJson());
+    return this;
+  }
+}
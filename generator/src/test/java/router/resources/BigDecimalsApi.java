@@ -0,0 +1,33 @@
+package router.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.router.RouterResponse;
+import java.math.BigDecimal;
+import router.model.Failure;
+
+public interface BigDecimalsApi {
+  /**
+   * Test serialization of schema type number as BigDecimal.
+   *
+   * @param decimalNumber Test BigDecimal
+   */
+  GetNumberResponse getNumber(BigDecimal decimalNumber);
+
+  class GetNumberResponse extends RouterResponse {
+    private GetNumberResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static GetNumberResponse with200ApplicationJson(BigDecimal entity) {
+      return new GetNumberResponse(200, "application/json", entity);
+    }
+
+    public static GetNumberResponse withApplicationJson(int status, Failure entity) {
+      return new GetNumberResponse(status, "application/json", entity);
+    }
+
+    public static GetNumberResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new GetNumberResponse(status, contentType, entity);
+    }
+  }
+}
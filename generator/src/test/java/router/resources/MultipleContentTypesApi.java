@@ -0,0 +1,46 @@
+package router.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.router.RouterResponse;
+import java.io.InputStream;
+import router.model.Failure;
+import router.model.Manual;
+
+public interface MultipleContentTypesApi {
+  /**
+   * Test case for multiple response content types with different schemas.
+   *
+   * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+   */
+  GetManualResponse getManual(String testCaseSelector);
+
+  class GetManualResponse extends RouterResponse {
+    private GetManualResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static GetManualResponse with200ApplicationJson(Manual entity) {
+      return new GetManualResponse(200, "application/json", entity);
+    }
+
+    public static GetManualResponse with200ApplicationPdf(InputStream entity) {
+      return new GetManualResponse(200, "application/pdf", entity);
+    }
+
+    public static GetManualResponse with202TextPlain(String entity) {
+      return new GetManualResponse(202, "text/plain", entity);
+    }
+
+    public static GetManualResponse with204() {
+      return new GetManualResponse(204, null, null);
+    }
+
+    public static GetManualResponse withApplicationJson(int status, Failure entity) {
+      return new GetManualResponse(status, "application/json", entity);
+    }
+
+    public static GetManualResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new GetManualResponse(status, contentType, entity);
+    }
+  }
+}
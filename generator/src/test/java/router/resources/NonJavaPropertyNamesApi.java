@@ -0,0 +1,31 @@
+package router.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.router.RouterResponse;
+import router.model.Failure;
+import router.model.ProblematicName;
+
+public interface NonJavaPropertyNamesApi {
+  /**
+   * A test case for a JSON model with properties that are not legal Java identifiers.
+   */
+  PostNonJavaPropertyNamesResponse postNonJavaPropertyNames(ProblematicName requestBody);
+
+  class PostNonJavaPropertyNamesResponse extends RouterResponse {
+    private PostNonJavaPropertyNamesResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static PostNonJavaPropertyNamesResponse with200ApplicationJson(ProblematicName entity) {
+      return new PostNonJavaPropertyNamesResponse(200, "application/json", entity);
+    }
+
+    public static PostNonJavaPropertyNamesResponse withApplicationJson(int status, Failure entity) {
+      return new PostNonJavaPropertyNamesResponse(status, "application/json", entity);
+    }
+
+    public static PostNonJavaPropertyNamesResponse withCustomResponse(int status,
+        String contentType, Object entity) {
+      return new PostNonJavaPropertyNamesResponse(status, contentType, entity);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package router.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.router.RouterResponse;
+import router.model.Item;
+
+public interface NonJsonEntityAsJsonApi {
+  /**
+   * Test case for an operation that declares a non-JSON entity and the server nevertheless sending the entity as JSON.
+   */
+  GetNonJsonEntityAsJsonResponse getNonJsonEntityAsJson();
+
+  class GetNonJsonEntityAsJsonResponse extends RouterResponse {
+    private GetNonJsonEntityAsJsonResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static GetNonJsonEntityAsJsonResponse with200ApplicationXml(Item entity) {
+      return new GetNonJsonEntityAsJsonResponse(200, "application/xml", entity);
+    }
+
+    public static GetNonJsonEntityAsJsonResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new GetNonJsonEntityAsJsonResponse(status, contentType, entity);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package router.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.router.RouterResponse;
+import java.io.InputStream;
+import java.util.List;
+import router.model.Failure;
+import router.model.Item;
+
+public interface PayloadVariantsApi {
+  /**
+   * Test operation for generating generic types, e.g. List of Item.
+   */
+  FilterItemsResponse filterItems(List<Item> requestBody);
+
+  /**
+   * Second test operation for generic types, using the same generic return type as the other operation (test for bug in the generator).
+   */
+  FilterItems2Response filterItems2(List<Item> requestBody);
+
+  /**
+   * Test for 204 response.
+   */
+  ChangeItemResponse changeItem(Item requestBody);
+
+  /**
+   * Test binary input and output.
+   */
+  UploadAndReturnBinaryResponse uploadAndReturnBinary(InputStream requestBody);
+
+  class FilterItemsResponse extends RouterResponse {
+    private FilterItemsResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static FilterItemsResponse with200ApplicationJson(List<Item> entity) {
+      return new FilterItemsResponse(200, "application/json", entity);
+    }
+
+    public static FilterItemsResponse withApplicationJson(int status, Failure entity) {
+      return new FilterItemsResponse(status, "application/json", entity);
+    }
+
+    public static FilterItemsResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new FilterItemsResponse(status, contentType, entity);
+    }
+  }
+
+  class FilterItems2Response extends RouterResponse {
+    private FilterItems2Response(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static FilterItems2Response with200ApplicationJson(List<Item> entity) {
+      return new FilterItems2Response(200, "application/json", entity);
+    }
+
+    public static FilterItems2Response withApplicationJson(int status, Failure entity) {
+      return new FilterItems2Response(status, "application/json", entity);
+    }
+
+    public static FilterItems2Response withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new FilterItems2Response(status, contentType, entity);
+    }
+  }
+
+  class ChangeItemResponse extends RouterResponse {
+    private ChangeItemResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static ChangeItemResponse with204() {
+      return new ChangeItemResponse(204, null, null);
+    }
+
+    public static ChangeItemResponse withApplicationJson(int status, Failure entity) {
+      return new ChangeItemResponse(status, "application/json", entity);
+    }
+
+    public static ChangeItemResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new ChangeItemResponse(status, contentType, entity);
+    }
+  }
+
+  class UploadAndReturnBinaryResponse extends RouterResponse {
+    private UploadAndReturnBinaryResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static UploadAndReturnBinaryResponse with200ApplicationOctetStream(InputStream entity) {
+      return new UploadAndReturnBinaryResponse(200, "application/octet-stream", entity);
+    }
+
+    public static UploadAndReturnBinaryResponse withApplicationJson(int status, Failure entity) {
+      return new UploadAndReturnBinaryResponse(status, "application/json", entity);
+    }
+
+    public static UploadAndReturnBinaryResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new UploadAndReturnBinaryResponse(status, contentType, entity);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package router.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.router.RouterResponse;
+
+public interface PostWithoutBodyApi {
+  /**
+   * Testing HTTP method POST without a request body.
+   */
+  PostWithoutBodyResponse postWithoutBody();
+
+  /**
+   * Testing HTTP method PUT without a request body.
+   */
+  PutWithoutBodyResponse putWithoutBody();
+
+  /**
+   * Testing HTTP method PATCH without a request body.
+   */
+  PatchWithoutBodyResponse patchWithoutBody();
+
+  class PostWithoutBodyResponse extends RouterResponse {
+    private PostWithoutBodyResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static PostWithoutBodyResponse with204() {
+      return new PostWithoutBodyResponse(204, null, null);
+    }
+
+    public static PostWithoutBodyResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new PostWithoutBodyResponse(status, contentType, entity);
+    }
+  }
+
+  class PutWithoutBodyResponse extends RouterResponse {
+    private PutWithoutBodyResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static PutWithoutBodyResponse with204() {
+      return new PutWithoutBodyResponse(204, null, null);
+    }
+
+    public static PutWithoutBodyResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new PutWithoutBodyResponse(status, contentType, entity);
+    }
+  }
+
+  class PatchWithoutBodyResponse extends RouterResponse {
+    private PatchWithoutBodyResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static PatchWithoutBodyResponse with204() {
+      return new PatchWithoutBodyResponse(204, null, null);
+    }
+
+    public static PatchWithoutBodyResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new PatchWithoutBodyResponse(status, contentType, entity);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package router.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.router.RouterResponse;
+import router.model.Failure;
+import router.model.Item;
+
+public interface ResponseVariantsApi {
+  /**
+   * Test for the various parameter locations and for serializing request and response body entities.
+   *
+   * @param systemId ID of the system to create the item in.
+   * @param dryRun Do a dry run?
+   * @param partNumber Optional part number
+   * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+   */
+  CreateItemResponse createItem(String systemId, Boolean dryRun, Long partNumber,
+      String testCaseSelector, Item requestBody);
+
+  class CreateItemResponse extends RouterResponse {
+    private CreateItemResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static CreateItemResponse with200ApplicationJson(Item entity) {
+      return new CreateItemResponse(200, "application/json", entity);
+    }
+
+    public static CreateItemResponse with201() {
+      return new CreateItemResponse(201, null, null);
+    }
+
+    public static CreateItemResponse with204() {
+      return new CreateItemResponse(204, null, null);
+    }
+
+    public static CreateItemResponse with400ApplicationJson(Failure entity) {
+      return new CreateItemResponse(400, "application/json", entity);
+    }
+
+    public static CreateItemResponse withApplicationJson(int status, Failure entity) {
+      return new CreateItemResponse(status, "application/json", entity);
+    }
+
+    public static CreateItemResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new CreateItemResponse(status, contentType, entity);
+    }
+  }
+}
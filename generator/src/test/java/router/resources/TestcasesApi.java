@@ -0,0 +1,33 @@
+package router.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.router.RouterResponse;
+import java.util.List;
+import router.model.Failure;
+import router.model.GetInlineObjectInArrayResponse200ApplicationJsonItem;
+
+public interface TestcasesApi {
+  /**
+   * A test case for the SchemaToJavaTypeTransformer.
+   */
+  GetInlineObjectInArrayResponse getInlineObjectInArray();
+
+  class GetInlineObjectInArrayResponse extends RouterResponse {
+    private GetInlineObjectInArrayResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static GetInlineObjectInArrayResponse with200ApplicationJson(
+        List<GetInlineObjectInArrayResponse200ApplicationJsonItem> entity) {
+      return new GetInlineObjectInArrayResponse(200, "application/json", entity);
+    }
+
+    public static GetInlineObjectInArrayResponse withApplicationJson(int status, Failure entity) {
+      return new GetInlineObjectInArrayResponse(status, "application/json", entity);
+    }
+
+    public static GetInlineObjectInArrayResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new GetInlineObjectInArrayResponse(status, contentType, entity);
+    }
+  }
+}
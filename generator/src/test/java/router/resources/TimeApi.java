@@ -0,0 +1,35 @@
+package router.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.router.RouterResponse;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import router.model.Clock;
+import router.model.ClockResponse;
+import router.model.Failure;
+
+public interface TimeApi {
+  /**
+   * For testing handling of date and date-time formats.
+   */
+  UpdateTimeResponse updateTime(LocalDate timeId, LocalDate queryTimeA, OffsetDateTime queryTimeB,
+      LocalDate headerTimeA, OffsetDateTime headerTimeB, Clock requestBody);
+
+  class UpdateTimeResponse extends RouterResponse {
+    private UpdateTimeResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static UpdateTimeResponse with200ApplicationJson(ClockResponse entity) {
+      return new UpdateTimeResponse(200, "application/json", entity);
+    }
+
+    public static UpdateTimeResponse withApplicationJson(int status, Failure entity) {
+      return new UpdateTimeResponse(status, "application/json", entity);
+    }
+
+    public static UpdateTimeResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new UpdateTimeResponse(status, contentType, entity);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package router.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.router.RouterResponse;
+import java.io.InputStream;
+import router.model.Failure;
+
+public interface WildcardContentTypesApi {
+  /**
+   * Test wildcard response content types.
+   *
+   * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+   */
+  GetWildcardContentTypesResponse getWildcardContentTypes(String testCaseSelector);
+
+  class GetWildcardContentTypesResponse extends RouterResponse {
+    private GetWildcardContentTypesResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    public static GetWildcardContentTypesResponse with200TextStar(String entity) {
+      return new GetWildcardContentTypesResponse(200, "text/*", entity);
+    }
+
+    public static GetWildcardContentTypesResponse with200ApplicationStar(InputStream entity) {
+      return new GetWildcardContentTypesResponse(200, "application/*", entity);
+    }
+
+    public static GetWildcardContentTypesResponse withApplicationJson(int status, Failure entity) {
+      return new GetWildcardContentTypesResponse(status, "application/json", entity);
+    }
+
+    public static GetWildcardContentTypesResponse withCustomResponse(int status, String contentType,
+        Object entity) {
+      return new GetWildcardContentTypesResponse(status, contentType, entity);
+    }
+  }
+}
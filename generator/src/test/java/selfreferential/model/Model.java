@@ -55,7 +55,10 @@ public class Model {
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, next);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(name);
+    result = 31 * result + Objects.hashCode(next);
+    return result;
   }
 
   @Override
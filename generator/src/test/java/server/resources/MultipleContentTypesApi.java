@@ -1,5 +1,7 @@
 package server.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
 import java.io.InputStream;
 import javax.ws.rs.GET;
 import javax.ws.rs.HeaderParam;
@@ -24,6 +26,11 @@ public interface MultipleContentTypesApi {
       "application/pdf",
       "text/plain"
   })
+  @ContractOperation(
+      operationId = "getManual",
+      method = "GET",
+      path = "/manuals"
+  )
   GetManualResponse getManual(@HeaderParam("testCaseSelector") String testCaseSelector);
 
   class GetManualResponse extends ResponseWrapper {
@@ -35,6 +42,11 @@ public interface MultipleContentTypesApi {
       return new GetManualResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetManualResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetManualResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetManualResponse with200ApplicationPdf(InputStream entity) {
       return new GetManualResponse(Response.status(200).header("Content-Type", "application/pdf").entity(entity).build());
     }
@@ -43,6 +55,10 @@ public interface MultipleContentTypesApi {
       return new GetManualResponse(Response.status(202).header("Content-Type", "text/plain").entity(entity).build());
     }
 
+    public static GetManualResponse with202TextPlainPrecompressed(PrecompressedEntity entity) {
+      return new GetManualResponse(Response.status(202).header("Content-Type", "text/plain").entity(entity).build());
+    }
+
     public static GetManualResponse with204() {
       return new GetManualResponse(Response.status(204).build());
     }
@@ -1,5 +1,7 @@
 package server.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
@@ -15,6 +17,11 @@ public interface NonJsonEntityAsJsonApi {
   @GET
   @Path("/nonJsonEntityAsJson")
   @Produces("application/xml")
+  @ContractOperation(
+      operationId = "getNonJsonEntityAsJson",
+      method = "GET",
+      path = "/nonJsonEntityAsJson"
+  )
   GetNonJsonEntityAsJsonResponse getNonJsonEntityAsJson();
 
   class GetNonJsonEntityAsJsonResponse extends ResponseWrapper {
@@ -26,6 +33,11 @@ public interface NonJsonEntityAsJsonApi {
       return new GetNonJsonEntityAsJsonResponse(Response.status(200).header("Content-Type", "application/xml").entity(entity).build());
     }
 
+    public static GetNonJsonEntityAsJsonResponse with200ApplicationXmlPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetNonJsonEntityAsJsonResponse(Response.status(200).header("Content-Type", "application/xml").entity(entity).build());
+    }
+
     public static GetNonJsonEntityAsJsonResponse withCustomResponse(Response response) {
       return new GetNonJsonEntityAsJsonResponse(response);
     }
@@ -1,5 +1,7 @@
 package server.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
 import java.io.InputStream;
 import java.util.List;
 import javax.validation.Valid;
@@ -23,6 +25,11 @@ public interface PayloadVariantsApi {
   @Path("/items")
   @Consumes("application/json")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "filterItems",
+      method = "POST",
+      path = "/items"
+  )
   FilterItemsResponse filterItems(@NotNull @Valid List<Item> requestBody);
 
   /**
@@ -32,6 +39,11 @@ public interface PayloadVariantsApi {
   @Path("/items2")
   @Consumes("application/json")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "filterItems2",
+      method = "POST",
+      path = "/items2"
+  )
   FilterItems2Response filterItems2(@NotNull @Valid List<Item> requestBody);
 
   /**
@@ -41,6 +53,11 @@ public interface PayloadVariantsApi {
   @Path("/itemBinaries")
   @Consumes("application/json")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "changeItem",
+      method = "POST",
+      path = "/itemBinaries"
+  )
   ChangeItemResponse changeItem(@NotNull @Valid Item requestBody);
 
   /**
@@ -53,6 +70,11 @@ public interface PayloadVariantsApi {
       "application/json",
       "application/octet-stream"
   })
+  @ContractOperation(
+      operationId = "uploadAndReturnBinary",
+      method = "PUT",
+      path = "/itemBinaries"
+  )
   UploadAndReturnBinaryResponse uploadAndReturnBinary(@NotNull InputStream requestBody);
 
   class FilterItemsResponse extends ResponseWrapper {
@@ -64,6 +86,11 @@ public interface PayloadVariantsApi {
       return new FilterItemsResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static FilterItemsResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new FilterItemsResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static FilterItemsResponse withApplicationJson(int status, Failure entity) {
       return new FilterItemsResponse(Response.status(status).header("Content-Type", "application/json").entity(entity).build());
     }
@@ -82,6 +109,11 @@ public interface PayloadVariantsApi {
       return new FilterItems2Response(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static FilterItems2Response with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new FilterItems2Response(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static FilterItems2Response withApplicationJson(int status, Failure entity) {
       return new FilterItems2Response(Response.status(status).header("Content-Type", "application/json").entity(entity).build());
     }
@@ -1,5 +1,6 @@
 package server.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
@@ -15,6 +16,11 @@ public interface PostWithoutBodyApi {
   @POST
   @Path("/postWithoutBody/post")
   @Produces
+  @ContractOperation(
+      operationId = "postWithoutBody",
+      method = "POST",
+      path = "/postWithoutBody/post"
+  )
   PostWithoutBodyResponse postWithoutBody();
 
   /**
@@ -23,6 +29,11 @@ public interface PostWithoutBodyApi {
   @PUT
   @Path("/postWithoutBody/put")
   @Produces
+  @ContractOperation(
+      operationId = "putWithoutBody",
+      method = "PUT",
+      path = "/postWithoutBody/put"
+  )
   PutWithoutBodyResponse putWithoutBody();
 
   /**
@@ -31,6 +42,11 @@ public interface PostWithoutBodyApi {
   @POST
   @Path("/postWithoutBody/patch")
   @Produces
+  @ContractOperation(
+      operationId = "patchWithoutBody",
+      method = "POST",
+      path = "/postWithoutBody/patch"
+  )
   PatchWithoutBodyResponse patchWithoutBody();
 
   class PostWithoutBodyResponse extends ResponseWrapper {
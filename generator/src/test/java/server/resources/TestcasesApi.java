@@ -1,5 +1,7 @@
 package server.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
 import java.util.List;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
@@ -17,6 +19,11 @@ public interface TestcasesApi {
   @GET
   @Path("/testcases")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "getInlineObjectInArray",
+      method = "GET",
+      path = "/testcases"
+  )
   GetInlineObjectInArrayResponse getInlineObjectInArray();
 
   class GetInlineObjectInArrayResponse extends ResponseWrapper {
@@ -29,6 +36,11 @@ public interface TestcasesApi {
       return new GetInlineObjectInArrayResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetInlineObjectInArrayResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetInlineObjectInArrayResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetInlineObjectInArrayResponse withApplicationJson(int status, Failure entity) {
       return new GetInlineObjectInArrayResponse(Response.status(status).header("Content-Type", "application/json").entity(entity).build());
     }
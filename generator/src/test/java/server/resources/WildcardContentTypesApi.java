@@ -1,5 +1,7 @@
 package server.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
 import java.io.InputStream;
 import javax.ws.rs.GET;
 import javax.ws.rs.HeaderParam;
@@ -23,6 +25,11 @@ public interface WildcardContentTypesApi {
       "application/json",
       "text/*"
   })
+  @ContractOperation(
+      operationId = "getWildcardContentTypes",
+      method = "GET",
+      path = "/wildcardContentTypes"
+  )
   GetWildcardContentTypesResponse getWildcardContentTypes(
       @HeaderParam("testCaseSelector") String testCaseSelector);
 
@@ -35,6 +42,11 @@ public interface WildcardContentTypesApi {
       return new GetWildcardContentTypesResponse(Response.status(200).header("Content-Type", "text/*").entity(entity).build());
     }
 
+    public static GetWildcardContentTypesResponse with200TextStarPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetWildcardContentTypesResponse(Response.status(200).header("Content-Type", "text/*").entity(entity).build());
+    }
+
     public static GetWildcardContentTypesResponse with200ApplicationStar(InputStream entity) {
       return new GetWildcardContentTypesResponse(Response.status(200).header("Content-Type", "application/*").entity(entity).build());
     }
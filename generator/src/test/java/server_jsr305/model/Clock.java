@@ -52,7 +52,10 @@ public class Clock {
 
   @Override
   public int hashCode() {
-    return Objects.hash(time1, time2);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(time1);
+    result = 31 * result + Objects.hashCode(time2);
+    return result;
   }
 
   @Override
@@ -31,7 +31,9 @@ public class GetInlineObjectInArrayResponse200ApplicationJsonItem {
 
   @Override
   public int hashCode() {
-    return Objects.hash(someProperty);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(someProperty);
+    return result;
   }
 
   @Override
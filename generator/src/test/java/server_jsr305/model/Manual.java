@@ -50,7 +50,10 @@ public class Manual {
 
   @Override
   public int hashCode() {
-    return Objects.hash(title, content);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(title);
+    result = 31 * result + Objects.hashCode(content);
+    return result;
   }
 
   @Override
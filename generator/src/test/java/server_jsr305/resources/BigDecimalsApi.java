@@ -1,5 +1,7 @@
 package server_jsr305.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
 import java.math.BigDecimal;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.GET;
@@ -20,6 +22,11 @@ public interface BigDecimalsApi {
   @GET
   @Path("/bigDecimals")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "getNumber",
+      method = "GET",
+      path = "/bigDecimals"
+  )
   GetNumberResponse getNumber(@QueryParam("decimalNumber") @NotNull BigDecimal decimalNumber);
 
   class GetNumberResponse extends ResponseWrapper {
@@ -31,6 +38,11 @@ public interface BigDecimalsApi {
       return new GetNumberResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetNumberResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetNumberResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetNumberResponse withApplicationJson(int status, Failure entity) {
       return new GetNumberResponse(Response.status(status).header("Content-Type", "application/json").entity(entity).build());
     }
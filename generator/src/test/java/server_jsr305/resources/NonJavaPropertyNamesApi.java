@@ -1,5 +1,7 @@
 package server_jsr305.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
@@ -20,6 +22,11 @@ public interface NonJavaPropertyNamesApi {
   @Path("/nonJavaPropertyNames")
   @Consumes("application/json")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "postNonJavaPropertyNames",
+      method = "POST",
+      path = "/nonJavaPropertyNames"
+  )
   PostNonJavaPropertyNamesResponse postNonJavaPropertyNames(
       @NotNull @Valid ProblematicName requestBody);
 
@@ -32,6 +39,11 @@ public interface NonJavaPropertyNamesApi {
       return new PostNonJavaPropertyNamesResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static PostNonJavaPropertyNamesResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new PostNonJavaPropertyNamesResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static PostNonJavaPropertyNamesResponse withApplicationJson(int status, Failure entity) {
       return new PostNonJavaPropertyNamesResponse(Response.status(status).header("Content-Type", "application/json").entity(entity).build());
     }
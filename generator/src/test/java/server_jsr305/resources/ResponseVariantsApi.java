@@ -1,5 +1,7 @@
 package server_jsr305.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.ws.rs.Consumes;
@@ -28,6 +30,11 @@ public interface ResponseVariantsApi {
   @Path("/{systemId}/components")
   @Consumes("application/json")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "createItem",
+      method = "POST",
+      path = "/{systemId}/components"
+  )
   CreateItemResponse createItem(@PathParam("systemId") @NotNull String systemId,
       @QueryParam("dryRun") Boolean dryRun, @HeaderParam("partNumber") Long partNumber,
       @HeaderParam("testCaseSelector") String testCaseSelector, @NotNull @Valid Item requestBody);
@@ -41,6 +48,11 @@ public interface ResponseVariantsApi {
       return new CreateItemResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static CreateItemResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new CreateItemResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static CreateItemResponse with201() {
       return new CreateItemResponse(Response.status(201).build());
     }
@@ -53,6 +65,11 @@ public interface ResponseVariantsApi {
       return new CreateItemResponse(Response.status(400).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static CreateItemResponse with400ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new CreateItemResponse(Response.status(400).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static CreateItemResponse withApplicationJson(int status, Failure entity) {
       return new CreateItemResponse(Response.status(status).header("Content-Type", "application/json").entity(entity).build());
     }
@@ -1,5 +1,7 @@
 package server_jsr305.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import javax.validation.Valid;
@@ -26,6 +28,11 @@ public interface TimeApi {
   @Path("/time/{timeId}")
   @Consumes("application/json")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "updateTime",
+      method = "POST",
+      path = "/time/{timeId}"
+  )
   UpdateTimeResponse updateTime(@PathParam("timeId") @NotNull LocalDate timeId,
       @QueryParam("queryTimeA") @NotNull LocalDate queryTimeA,
       @QueryParam("queryTimeB") @NotNull OffsetDateTime queryTimeB,
@@ -42,6 +49,11 @@ public interface TimeApi {
       return new UpdateTimeResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static UpdateTimeResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new UpdateTimeResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static UpdateTimeResponse withApplicationJson(int status, Failure entity) {
       return new UpdateTimeResponse(Response.status(status).header("Content-Type", "application/json").entity(entity).build());
     }
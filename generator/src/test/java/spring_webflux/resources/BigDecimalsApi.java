@@ -0,0 +1,49 @@
+package spring_webflux.resources;
+
+import java.math.BigDecimal;
+import javax.validation.constraints.NotNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
+import spring_webflux.model.Failure;
+import spring_webflux.resources.support.ResponseEntityWrapper;
+
+@RequestMapping
+public interface BigDecimalsApi {
+  /**
+   * Test serialization of schema type number as BigDecimal.
+   *
+   * @param decimalNumber Test BigDecimal
+   */
+  @RequestMapping(
+      method = RequestMethod.GET,
+      path = "/bigDecimals",
+      produces = "application/json"
+  )
+  Mono<GetNumberResponse> getNumber(
+      @RequestParam("decimalNumber") @NotNull BigDecimal decimalNumber);
+
+  class GetNumberResponse extends ResponseEntityWrapper {
+    private GetNumberResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private GetNumberResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static GetNumberResponse with200ApplicationJson(BigDecimal entity) {
+      return new GetNumberResponse(200, "application/json", entity);
+    }
+
+    public static GetNumberResponse withApplicationJson(int status, Failure entity) {
+      return new GetNumberResponse(status, "application/json", entity);
+    }
+
+    public static GetNumberResponse withCustomResponse(ResponseEntity<?> response) {
+      return new GetNumberResponse(response);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package spring_webflux.resources;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import spring_webflux.model.Failure;
+import spring_webflux.model.Manual;
+import spring_webflux.resources.support.ResponseEntityWrapper;
+
+@RequestMapping
+public interface MultipleContentTypesApi {
+  /**
+   * Test case for multiple response content types with different schemas.
+   *
+   * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+   */
+  @RequestMapping(
+      method = RequestMethod.GET,
+      path = "/manuals",
+      produces = {"application/json", "application/pdf", "text/plain"}
+  )
+  Mono<GetManualResponse> getManual(
+      @RequestHeader(name = "testCaseSelector", required = false) String testCaseSelector);
+
+  class GetManualResponse extends ResponseEntityWrapper {
+    private GetManualResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private GetManualResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static GetManualResponse with200ApplicationJson(Manual entity) {
+      return new GetManualResponse(200, "application/json", entity);
+    }
+
+    public static GetManualResponse with200ApplicationPdf(Flux<DataBuffer> entity) {
+      return new GetManualResponse(200, "application/pdf", entity);
+    }
+
+    public static GetManualResponse with202TextPlain(String entity) {
+      return new GetManualResponse(202, "text/plain", entity);
+    }
+
+    public static GetManualResponse with204() {
+      return new GetManualResponse(204, null, null);
+    }
+
+    public static GetManualResponse withApplicationJson(int status, Failure entity) {
+      return new GetManualResponse(status, "application/json", entity);
+    }
+
+    public static GetManualResponse withCustomResponse(ResponseEntity<?> response) {
+      return new GetManualResponse(response);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package spring_webflux.resources;
+
+import javax.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import reactor.core.publisher.Mono;
+import spring_webflux.model.Failure;
+import spring_webflux.model.ProblematicName;
+import spring_webflux.resources.support.ResponseEntityWrapper;
+
+@RequestMapping
+public interface NonJavaPropertyNamesApi {
+  /**
+   * A test case for a JSON model with properties that are not legal Java identifiers.
+   */
+  @RequestMapping(
+      method = RequestMethod.POST,
+      path = "/nonJavaPropertyNames",
+      consumes = "application/json",
+      produces = "application/json"
+  )
+  Mono<PostNonJavaPropertyNamesResponse> postNonJavaPropertyNames(
+      @RequestBody @Valid Mono<ProblematicName> requestBody);
+
+  class PostNonJavaPropertyNamesResponse extends ResponseEntityWrapper {
+    private PostNonJavaPropertyNamesResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private PostNonJavaPropertyNamesResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static PostNonJavaPropertyNamesResponse with200ApplicationJson(ProblematicName entity) {
+      return new PostNonJavaPropertyNamesResponse(200, "application/json", entity);
+    }
+
+    public static PostNonJavaPropertyNamesResponse withApplicationJson(int status, Failure entity) {
+      return new PostNonJavaPropertyNamesResponse(status, "application/json", entity);
+    }
+
+    public static PostNonJavaPropertyNamesResponse withCustomResponse(ResponseEntity<?> response) {
+      return new PostNonJavaPropertyNamesResponse(response);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package spring_webflux.resources;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import reactor.core.publisher.Mono;
+import spring_webflux.model.Item;
+import spring_webflux.resources.support.ResponseEntityWrapper;
+
+@RequestMapping
+public interface NonJsonEntityAsJsonApi {
+  /**
+   * Test case for an operation that declares a non-JSON entity and the server nevertheless sending the entity as JSON.
+   */
+  @RequestMapping(
+      method = RequestMethod.GET,
+      path = "/nonJsonEntityAsJson",
+      produces = "application/xml"
+  )
+  Mono<GetNonJsonEntityAsJsonResponse> getNonJsonEntityAsJson();
+
+  class GetNonJsonEntityAsJsonResponse extends ResponseEntityWrapper {
+    private GetNonJsonEntityAsJsonResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private GetNonJsonEntityAsJsonResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static GetNonJsonEntityAsJsonResponse with200ApplicationXml(Item entity) {
+      return new GetNonJsonEntityAsJsonResponse(200, "application/xml", entity);
+    }
+
+    public static GetNonJsonEntityAsJsonResponse withCustomResponse(ResponseEntity<?> response) {
+      return new GetNonJsonEntityAsJsonResponse(response);
+    }
+  }
+}
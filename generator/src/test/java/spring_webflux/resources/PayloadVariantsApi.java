@@ -0,0 +1,161 @@
+package spring_webflux.resources;
+
+import java.util.List;
+import javax.validation.Valid;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import spring_webflux.model.Failure;
+import spring_webflux.model.Item;
+import spring_webflux.resources.support.ResponseEntityWrapper;
+
+@RequestMapping
+public interface PayloadVariantsApi {
+  /**
+   * Test operation for generating generic types, e.g. List of Item.
+   */
+  @RequestMapping(
+      method = RequestMethod.POST,
+      path = "/items",
+      consumes = "application/json",
+      produces = "application/json"
+  )
+  Mono<FilterItemsResponse> filterItems(
+      @RequestBody(required = false) @Valid Flux<Item> requestBody);
+
+  /**
+   * Second test operation for generic types, using the same generic return type as the other operation (test for bug in the generator).
+   */
+  @RequestMapping(
+      method = RequestMethod.POST,
+      path = "/items2",
+      consumes = "application/json",
+      produces = "application/json"
+  )
+  Mono<FilterItems2Response> filterItems2(
+      @RequestBody(required = false) @Valid Flux<Item> requestBody);
+
+  /**
+   * Test for 204 response.
+   */
+  @RequestMapping(
+      method = RequestMethod.POST,
+      path = "/itemBinaries",
+      consumes = "application/json",
+      produces = "application/json"
+  )
+  Mono<ChangeItemResponse> changeItem(@RequestBody @Valid Mono<Item> requestBody);
+
+  /**
+   * Test binary input and output.
+   */
+  @RequestMapping(
+      method = RequestMethod.PUT,
+      path = "/itemBinaries",
+      consumes = "application/octet-stream",
+      produces = {"application/json", "application/octet-stream"}
+  )
+  Mono<UploadAndReturnBinaryResponse> uploadAndReturnBinary(
+      @RequestBody(required = false) Flux<DataBuffer> requestBody);
+
+  class FilterItemsResponse extends ResponseEntityWrapper {
+    private FilterItemsResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private FilterItemsResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static FilterItemsResponse with200ApplicationJson(List<Item> entity) {
+      return new FilterItemsResponse(200, "application/json", entity);
+    }
+
+    public static FilterItemsResponse with200ApplicationJson(Flux<Item> entity) {
+      return new FilterItemsResponse(200, "application/json", entity);
+    }
+
+    public static FilterItemsResponse withApplicationJson(int status, Failure entity) {
+      return new FilterItemsResponse(status, "application/json", entity);
+    }
+
+    public static FilterItemsResponse withCustomResponse(ResponseEntity<?> response) {
+      return new FilterItemsResponse(response);
+    }
+  }
+
+  class FilterItems2Response extends ResponseEntityWrapper {
+    private FilterItems2Response(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private FilterItems2Response(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static FilterItems2Response with200ApplicationJson(List<Item> entity) {
+      return new FilterItems2Response(200, "application/json", entity);
+    }
+
+    public static FilterItems2Response with200ApplicationJson(Flux<Item> entity) {
+      return new FilterItems2Response(200, "application/json", entity);
+    }
+
+    public static FilterItems2Response withApplicationJson(int status, Failure entity) {
+      return new FilterItems2Response(status, "application/json", entity);
+    }
+
+    public static FilterItems2Response withCustomResponse(ResponseEntity<?> response) {
+      return new FilterItems2Response(response);
+    }
+  }
+
+  class ChangeItemResponse extends ResponseEntityWrapper {
+    private ChangeItemResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private ChangeItemResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static ChangeItemResponse with204() {
+      return new ChangeItemResponse(204, null, null);
+    }
+
+    public static ChangeItemResponse withApplicationJson(int status, Failure entity) {
+      return new ChangeItemResponse(status, "application/json", entity);
+    }
+
+    public static ChangeItemResponse withCustomResponse(ResponseEntity<?> response) {
+      return new ChangeItemResponse(response);
+    }
+  }
+
+  class UploadAndReturnBinaryResponse extends ResponseEntityWrapper {
+    private UploadAndReturnBinaryResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private UploadAndReturnBinaryResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static UploadAndReturnBinaryResponse with200ApplicationOctetStream(
+        Flux<DataBuffer> entity) {
+      return new UploadAndReturnBinaryResponse(200, "application/octet-stream", entity);
+    }
+
+    public static UploadAndReturnBinaryResponse withApplicationJson(int status, Failure entity) {
+      return new UploadAndReturnBinaryResponse(status, "application/json", entity);
+    }
+
+    public static UploadAndReturnBinaryResponse withCustomResponse(ResponseEntity<?> response) {
+      return new UploadAndReturnBinaryResponse(response);
+    }
+  }
+}
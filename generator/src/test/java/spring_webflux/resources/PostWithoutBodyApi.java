@@ -0,0 +1,91 @@
+package spring_webflux.resources;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import reactor.core.publisher.Mono;
+import spring_webflux.resources.support.ResponseEntityWrapper;
+
+@RequestMapping
+public interface PostWithoutBodyApi {
+  /**
+   * Testing HTTP method POST without a request body.
+   */
+  @RequestMapping(
+      method = RequestMethod.POST,
+      path = "/postWithoutBody/post"
+  )
+  Mono<PostWithoutBodyResponse> postWithoutBody();
+
+  /**
+   * Testing HTTP method PUT without a request body.
+   */
+  @RequestMapping(
+      method = RequestMethod.PUT,
+      path = "/postWithoutBody/put"
+  )
+  Mono<PutWithoutBodyResponse> putWithoutBody();
+
+  /**
+   * Testing HTTP method PATCH without a request body.
+   */
+  @RequestMapping(
+      method = RequestMethod.POST,
+      path = "/postWithoutBody/patch"
+  )
+  Mono<PatchWithoutBodyResponse> patchWithoutBody();
+
+  class PostWithoutBodyResponse extends ResponseEntityWrapper {
+    private PostWithoutBodyResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private PostWithoutBodyResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static PostWithoutBodyResponse with204() {
+      return new PostWithoutBodyResponse(204, null, null);
+    }
+
+    public static PostWithoutBodyResponse withCustomResponse(ResponseEntity<?> response) {
+      return new PostWithoutBodyResponse(response);
+    }
+  }
+
+  class PutWithoutBodyResponse extends ResponseEntityWrapper {
+    private PutWithoutBodyResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private PutWithoutBodyResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static PutWithoutBodyResponse with204() {
+      return new PutWithoutBodyResponse(204, null, null);
+    }
+
+    public static PutWithoutBodyResponse withCustomResponse(ResponseEntity<?> response) {
+      return new PutWithoutBodyResponse(response);
+    }
+  }
+
+  class PatchWithoutBodyResponse extends ResponseEntityWrapper {
+    private PatchWithoutBodyResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private PatchWithoutBodyResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static PatchWithoutBodyResponse with204() {
+      return new PatchWithoutBodyResponse(204, null, null);
+    }
+
+    public static PatchWithoutBodyResponse withCustomResponse(ResponseEntity<?> response) {
+      return new PatchWithoutBodyResponse(response);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package spring_webflux.resources;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
+import spring_webflux.model.Failure;
+import spring_webflux.model.Item;
+import spring_webflux.resources.support.ResponseEntityWrapper;
+
+@RequestMapping
+public interface ResponseVariantsApi {
+  /**
+   * Test for the various parameter locations and for serializing request and response body entities.
+   *
+   * @param systemId ID of the system to create the item in.
+   * @param dryRun Do a dry run?
+   * @param partNumber Optional part number
+   * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+   */
+  @RequestMapping(
+      method = RequestMethod.POST,
+      path = "/{systemId}/components",
+      consumes = "application/json",
+      produces = "application/json"
+  )
+  Mono<CreateItemResponse> createItem(@PathVariable("systemId") @NotNull String systemId,
+      @RequestParam(name = "dryRun", required = false) Boolean dryRun,
+      @RequestHeader(name = "partNumber", required = false) Long partNumber,
+      @RequestHeader(name = "testCaseSelector", required = false) String testCaseSelector,
+      @RequestBody @Valid Mono<Item> requestBody);
+
+  class CreateItemResponse extends ResponseEntityWrapper {
+    private CreateItemResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private CreateItemResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static CreateItemResponse with200ApplicationJson(Item entity) {
+      return new CreateItemResponse(200, "application/json", entity);
+    }
+
+    public static CreateItemResponse with201() {
+      return new CreateItemResponse(201, null, null);
+    }
+
+    public static CreateItemResponse with204() {
+      return new CreateItemResponse(204, null, null);
+    }
+
+    public static CreateItemResponse with400ApplicationJson(Failure entity) {
+      return new CreateItemResponse(400, "application/json", entity);
+    }
+
+    public static CreateItemResponse withApplicationJson(int status, Failure entity) {
+      return new CreateItemResponse(status, "application/json", entity);
+    }
+
+    public static CreateItemResponse withCustomResponse(ResponseEntity<?> response) {
+      return new CreateItemResponse(response);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package spring_webflux.resources;
+
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import spring_webflux.model.Failure;
+import spring_webflux.model.GetInlineObjectInArrayResponse200ApplicationJsonItem;
+import spring_webflux.resources.support.ResponseEntityWrapper;
+
+@RequestMapping
+public interface TestcasesApi {
+  /**
+   * A test case for the SchemaToJavaTypeTransformer.
+   */
+  @RequestMapping(
+      method = RequestMethod.GET,
+      path = "/testcases",
+      produces = "application/json"
+  )
+  Mono<GetInlineObjectInArrayResponse> getInlineObjectInArray();
+
+  class GetInlineObjectInArrayResponse extends ResponseEntityWrapper {
+    private GetInlineObjectInArrayResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private GetInlineObjectInArrayResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static GetInlineObjectInArrayResponse with200ApplicationJson(
+        List<GetInlineObjectInArrayResponse200ApplicationJsonItem> entity) {
+      return new GetInlineObjectInArrayResponse(200, "application/json", entity);
+    }
+
+    public static GetInlineObjectInArrayResponse with200ApplicationJson(
+        Flux<GetInlineObjectInArrayResponse200ApplicationJsonItem> entity) {
+      return new GetInlineObjectInArrayResponse(200, "application/json", entity);
+    }
+
+    public static GetInlineObjectInArrayResponse withApplicationJson(int status, Failure entity) {
+      return new GetInlineObjectInArrayResponse(status, "application/json", entity);
+    }
+
+    public static GetInlineObjectInArrayResponse withCustomResponse(ResponseEntity<?> response) {
+      return new GetInlineObjectInArrayResponse(response);
+    }
+  }
+}
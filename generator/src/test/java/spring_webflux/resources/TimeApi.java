@@ -0,0 +1,61 @@
+package spring_webflux.resources;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
+import spring_webflux.model.Clock;
+import spring_webflux.model.ClockResponse;
+import spring_webflux.model.Failure;
+import spring_webflux.resources.support.ResponseEntityWrapper;
+
+@RequestMapping
+public interface TimeApi {
+  /**
+   * For testing handling of date and date-time formats.
+   */
+  @RequestMapping(
+      method = RequestMethod.POST,
+      path = "/time/{timeId}",
+      consumes = "application/json",
+      produces = "application/json"
+  )
+  Mono<UpdateTimeResponse> updateTime(
+      @PathVariable("timeId") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NotNull LocalDate timeId,
+      @RequestParam("queryTimeA") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NotNull LocalDate queryTimeA,
+      @RequestParam("queryTimeB") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @NotNull OffsetDateTime queryTimeB,
+      @RequestHeader("headerTimeA") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NotNull LocalDate headerTimeA,
+      @RequestHeader("headerTimeB") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @NotNull OffsetDateTime headerTimeB,
+      @RequestBody @Valid Mono<Clock> requestBody);
+
+  class UpdateTimeResponse extends ResponseEntityWrapper {
+    private UpdateTimeResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private UpdateTimeResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static UpdateTimeResponse with200ApplicationJson(ClockResponse entity) {
+      return new UpdateTimeResponse(200, "application/json", entity);
+    }
+
+    public static UpdateTimeResponse withApplicationJson(int status, Failure entity) {
+      return new UpdateTimeResponse(status, "application/json", entity);
+    }
+
+    public static UpdateTimeResponse withCustomResponse(ResponseEntity<?> response) {
+      return new UpdateTimeResponse(response);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package spring_webflux.resources;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import spring_webflux.model.Failure;
+import spring_webflux.resources.support.ResponseEntityWrapper;
+
+@RequestMapping
+public interface WildcardContentTypesApi {
+  /**
+   * Test wildcard response content types.
+   *
+   * @param testCaseSelector Used to select the desired behaviour of the server in the test.
+   */
+  @RequestMapping(
+      method = RequestMethod.GET,
+      path = "/wildcardContentTypes",
+      produces = {"application/*", "application/json", "text/*"}
+  )
+  Mono<GetWildcardContentTypesResponse> getWildcardContentTypes(
+      @RequestHeader(name = "testCaseSelector", required = false) String testCaseSelector);
+
+  class GetWildcardContentTypesResponse extends ResponseEntityWrapper {
+    private GetWildcardContentTypesResponse(int status, String contentType, Object entity) {
+      super(status, contentType, entity);
+    }
+
+    private GetWildcardContentTypesResponse(ResponseEntity<?> delegate) {
+      super(delegate);
+    }
+
+    public static GetWildcardContentTypesResponse with200TextStar(String entity) {
+      return new GetWildcardContentTypesResponse(200, "text/*", entity);
+    }
+
+    public static GetWildcardContentTypesResponse with200ApplicationStar(Flux<DataBuffer> entity) {
+      return new GetWildcardContentTypesResponse(200, "application/*", entity);
+    }
+
+    public static GetWildcardContentTypesResponse withApplicationJson(int status, Failure entity) {
+      return new GetWildcardContentTypesResponse(status, "application/json", entity);
+    }
+
+    public static GetWildcardContentTypesResponse withCustomResponse(ResponseEntity<?> response) {
+      return new GetWildcardContentTypesResponse(response);
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package spring_webflux.resources.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Response entity wrapper for typesafe responses of Spring WebFlux server stubs.
+ */
+public abstract class ResponseEntityWrapper extends ResponseEntity<Object> {
+
+  protected ResponseEntityWrapper(int status, String contentType, Object entity) {
+    super(entity, contentTypeHeaders(contentType), status);
+  }
+
+  protected ResponseEntityWrapper(ResponseEntity<?> delegate) {
+    super(delegate.getBody(), delegate.getHeaders(), delegate.getStatusCodeValue());
+  }
+
+  private static HttpHeaders contentTypeHeaders(String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+    return headers;
+  }
+}
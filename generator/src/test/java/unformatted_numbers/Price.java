@@ -0,0 +1,149 @@
+package unformatted_numbers;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Price
+ */
+public class Price {
+  @NotNull
+  @DecimalMin(
+      value = "0",
+      inclusive = false
+  )
+  @DecimalMax("1000000.5")
+  private Double amount;
+
+  @Min(1L)
+  @DecimalMax("99999999999999999999")
+  private Long quantity;
+
+  private BigDecimal exactAmount;
+
+  private BigInteger exactQuantity;
+
+  private Float ratio;
+
+  private Integer count;
+
+  public Price amount(Double amount) {
+    this.amount = amount;
+    return this;
+  }
+
+  public Double getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Double amount) {
+    this.amount = amount;
+  }
+
+  public Price quantity(Long quantity) {
+    this.quantity = quantity;
+    return this;
+  }
+
+  public Long getQuantity() {
+    return quantity;
+  }
+
+  public void setQuantity(Long quantity) {
+    this.quantity = quantity;
+  }
+
+  public Price exactAmount(BigDecimal exactAmount) {
+    this.exactAmount = exactAmount;
+    return this;
+  }
+
+  public BigDecimal getExactAmount() {
+    return exactAmount;
+  }
+
+  public void setExactAmount(BigDecimal exactAmount) {
+    this.exactAmount = exactAmount;
+  }
+
+  public Price exactQuantity(BigInteger exactQuantity) {
+    this.exactQuantity = exactQuantity;
+    return this;
+  }
+
+  public BigInteger getExactQuantity() {
+    return exactQuantity;
+  }
+
+  public void setExactQuantity(BigInteger exactQuantity) {
+    this.exactQuantity = exactQuantity;
+  }
+
+  public Price ratio(Float ratio) {
+    this.ratio = ratio;
+    return this;
+  }
+
+  public Float getRatio() {
+    return ratio;
+  }
+
+  public void setRatio(Float ratio) {
+    this.ratio = ratio;
+  }
+
+  public Price count(Integer count) {
+    this.count = count;
+    return this;
+  }
+
+  public Integer getCount() {
+    return count;
+  }
+
+  public void setCount(Integer count) {
+    this.count = count;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Price o = (Price) other;
+    return Objects.equals(amount, o.amount)
+        && Objects.equals(quantity, o.quantity)
+        && Objects.equals(ratio, o.ratio)
+        && Objects.equals(count, o.count)
+        && Objects.equals(exactAmount, o.exactAmount)
+        && Objects.equals(exactQuantity, o.exactQuantity);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(amount);
+    result = 31 * result + Objects.hashCode(quantity);
+    result = 31 * result + Objects.hashCode(exactAmount);
+    result = 31 * result + Objects.hashCode(exactQuantity);
+    result = 31 * result + Objects.hashCode(ratio);
+    result = 31 * result + Objects.hashCode(count);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", amount=").append(amount);
+    builder.append(", quantity=").append(quantity);
+    builder.append(", exactAmount=").append(exactAmount);
+    builder.append(", exactQuantity=").append(exactQuantity);
+    builder.append(", ratio=").append(ratio);
+    builder.append(", count=").append(count);
+    return builder.replace(0, 2, "Price{").append('}').toString();
+  }
+}
@@ -0,0 +1,300 @@
+package validate_methods.model;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import javax.validation.Valid;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * Test validations
+ */
+public class Component {
+  private static final BigInteger BIG_INT_MIN_MAX_MINIMUM = new BigInteger("-99999999999999999999999999");
+
+  private static final BigInteger BIG_INT_MIN_MAX_MAXIMUM = new BigInteger("99999999999999999999999999");
+
+  private static final Pattern VALIDATED_STRINGS_ITEM_PATTERN = Pattern.compile("^\\d+$");
+
+  private static final Pattern TEXT_PATTERN = Pattern.compile("^\\w+$");
+
+  /**
+   * Test integer validations too large for Java int.
+   */
+  @NotNull
+  @Min(-999999999L)
+  @Max(-999999999L)
+  private Integer intMinMax;
+
+  /**
+   * Test integer validations too large for Java int.
+   */
+  @Min(-9999999999999L)
+  @Max(-9999999999999L)
+  private Long longMinMax;
+
+  /**
+   * Test integer validations too large for Java long.
+   */
+  @DecimalMin("-99999999999999999999999999")
+  @DecimalMax("99999999999999999999999999")
+  private BigInteger bigIntMinMax;
+
+  /**
+   * Test size validation on arrays and validation on array elements.
+   */
+  @Size(
+      min = 1,
+      max = 1000
+  )
+  private List<@Size(min = 2, max = 4) @javax.validation.constraints.Pattern(regexp = "^\\d+$") String> validatedStrings = new ArrayList<>();
+
+  /**
+   * Test validation on array elements of type object.
+   */
+  @Valid
+  private List<@Valid ComponentValidatedObjectsItem> validatedObjects = new ArrayList<>();
+
+  /**
+   * Test validation on map values.
+   */
+  private Map<String, @Size(min = 1, max = 10) String> validatedMap = new HashMap<>();
+
+  /**
+   * Test length and pattern validation on strings.
+   */
+  @Size(
+      min = 1,
+      max = 1000
+  )
+  @javax.validation.constraints.Pattern(
+      regexp = "^\\w+$"
+  )
+  private String text;
+
+  public Component intMinMax(Integer intMinMax) {
+    this.intMinMax = intMinMax;
+    return this;
+  }
+
+  public Integer getIntMinMax() {
+    return intMinMax;
+  }
+
+  public void setIntMinMax(Integer intMinMax) {
+    this.intMinMax = intMinMax;
+  }
+
+  public Component longMinMax(Long longMinMax) {
+    this.longMinMax = longMinMax;
+    return this;
+  }
+
+  public Long getLongMinMax() {
+    return longMinMax;
+  }
+
+  public void setLongMinMax(Long longMinMax) {
+    this.longMinMax = longMinMax;
+  }
+
+  public Component bigIntMinMax(BigInteger bigIntMinMax) {
+    this.bigIntMinMax = bigIntMinMax;
+    return this;
+  }
+
+  public BigInteger getBigIntMinMax() {
+    return bigIntMinMax;
+  }
+
+  public void setBigIntMinMax(BigInteger bigIntMinMax) {
+    this.bigIntMinMax = bigIntMinMax;
+  }
+
+  public Component validatedStrings(List<String> validatedStrings) {
+    this.validatedStrings = validatedStrings;
+    return this;
+  }
+
+  public List<String> getValidatedStrings() {
+    return validatedStrings;
+  }
+
+  public void setValidatedStrings(List<String> validatedStrings) {
+    this.validatedStrings = validatedStrings;
+  }
+
+  public Component validatedObjects(List<ComponentValidatedObjectsItem> validatedObjects) {
+    this.validatedObjects = validatedObjects;
+    return this;
+  }
+
+  public List<ComponentValidatedObjectsItem> getValidatedObjects() {
+    return validatedObjects;
+  }
+
+  public void setValidatedObjects(List<ComponentValidatedObjectsItem> validatedObjects) {
+    this.validatedObjects = validatedObjects;
+  }
+
+  public Component validatedMap(Map<String, String> validatedMap) {
+    this.validatedMap = validatedMap;
+    return this;
+  }
+
+  public Map<String, String> getValidatedMap() {
+    return validatedMap;
+  }
+
+  public void setValidatedMap(Map<String, String> validatedMap) {
+    this.validatedMap = validatedMap;
+  }
+
+  public Component text(String text) {
+    this.text = text;
+    return this;
+  }
+
+  public String getText() {
+    return text;
+  }
+
+  public void setText(String text) {
+    this.text = text;
+  }
+
+  /**
+   * Validates this object against the constraints of its schema. Returns the violations found, or an empty list, if this object is valid.
+   */
+  public List<String> validate() {
+    List<String> violations = new ArrayList<>();
+    validate("", violations);
+    return violations;
+  }
+
+  /**
+   * Validates this object against the constraints of its schema, adding the violations found to the supplied list. The supplied path is
+   * prepended to the property paths in the messages.
+   */
+  public void validate(String path, List<String> violations) {
+    if (intMinMax == null) {
+      violations.add(path + "intMinMax: must not be null");
+    } else {
+      if (intMinMax < -999999999L) {
+        violations.add(path + "intMinMax: must be greater than or equal to -999999999");
+      }
+      if (intMinMax > -999999999L) {
+        violations.add(path + "intMinMax: must be less than or equal to -999999999");
+      }
+    }
+    if (longMinMax != null) {
+      if (longMinMax < -9999999999999L) {
+        violations.add(path + "longMinMax: must be greater than or equal to -9999999999999");
+      }
+      if (longMinMax > -9999999999999L) {
+        violations.add(path + "longMinMax: must be less than or equal to -9999999999999");
+      }
+    }
+    if (bigIntMinMax != null) {
+      if (bigIntMinMax.compareTo(BIG_INT_MIN_MAX_MINIMUM) < 0) {
+        violations.add(path + "bigIntMinMax: must be greater than or equal to -99999999999999999999999999");
+      }
+      if (bigIntMinMax.compareTo(BIG_INT_MIN_MAX_MAXIMUM) > 0) {
+        violations.add(path + "bigIntMinMax: must be less than or equal to 99999999999999999999999999");
+      }
+    }
+    if (validatedStrings != null) {
+      if (validatedStrings.size() < 1 || validatedStrings.size() > 1000) {
+        violations.add(path + "validatedStrings: size must be between 1 and 1000");
+      }
+      int index = 0;
+      for (String element : validatedStrings) {
+        if (element != null) {
+          if (element.length() < 2 || element.length() > 4) {
+            violations.add(path + "validatedStrings[" + index + "]: size must be between 2 and 4");
+          }
+          if (!VALIDATED_STRINGS_ITEM_PATTERN.matcher(element).matches()) {
+            violations.add(path + "validatedStrings[" + index + "]: must match \"^\\d+$\"");
+          }
+        }
+        index++;
+      }
+    }
+    if (validatedObjects != null) {
+      int index_ = 0;
+      for (ComponentValidatedObjectsItem element_ : validatedObjects) {
+        if (element_ != null) {
+          element_.validate(path + "validatedObjects[" + index_ + "].", violations);
+        }
+        index_++;
+      }
+    }
+    if (validatedMap != null) {
+      for (Map.Entry<String, String> entry : validatedMap.entrySet()) {
+        String entryValue = entry.getValue();
+        if (entryValue != null) {
+          if (entryValue.length() < 1 || entryValue.length() > 10) {
+            violations.add(path + "validatedMap[" + entry.getKey() + "]: size must be between 1 and 10");
+          }
+        }
+      }
+    }
+    if (text != null) {
+      if (text.length() < 1 || text.length() > 1000) {
+        violations.add(path + "text: size must be between 1 and 1000");
+      }
+      if (!TEXT_PATTERN.matcher(text).matches()) {
+        violations.add(path + "text: must match \"^\\w+$\"");
+      }
+    }
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    Component o = (Component) other;
+    return Objects.equals(intMinMax, o.intMinMax)
+        && Objects.equals(longMinMax, o.longMinMax)
+        && Objects.equals(bigIntMinMax, o.bigIntMinMax)
+        && Objects.equals(text, o.text)
+        && Objects.equals(validatedStrings, o.validatedStrings)
+        && Objects.equals(validatedObjects, o.validatedObjects)
+        && Objects.equals(validatedMap, o.validatedMap);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(intMinMax);
+    result = 31 * result + Objects.hashCode(longMinMax);
+    result = 31 * result + Objects.hashCode(bigIntMinMax);
+    result = 31 * result + Objects.hashCode(validatedStrings);
+    result = 31 * result + Objects.hashCode(validatedObjects);
+    result = 31 * result + Objects.hashCode(validatedMap);
+    result = 31 * result + Objects.hashCode(text);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", intMinMax=").append(intMinMax);
+    builder.append(", longMinMax=").append(longMinMax);
+    builder.append(", bigIntMinMax=").append(bigIntMinMax);
+    builder.append(", validatedStrings=").append(validatedStrings);
+    builder.append(", validatedObjects=").append(validatedObjects);
+    builder.append(", validatedMap=").append(validatedMap);
+    builder.append(", text=").append(text);
+    return builder.replace(0, 2, "Component{").append('}').toString();
+  }
+}
@@ -0,0 +1,71 @@
+package validate_methods.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+public class ComponentValidatedObjectsItem {
+  private static final Pattern NAME_PATTERN = Pattern.compile("^\\d+$");
+
+  @javax.validation.constraints.Pattern(
+      regexp = "^\\d+$"
+  )
+  private String name;
+
+  public ComponentValidatedObjectsItem name(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Validates this object against the constraints of its schema. Returns the violations found, or an empty list, if this object is valid.
+   */
+  public List<String> validate() {
+    List<String> violations = new ArrayList<>();
+    validate("", violations);
+    return violations;
+  }
+
+  /**
+   * Validates this object against the constraints of its schema, adding the violations found to the supplied list. The supplied path is
+   * prepended to the property paths in the messages.
+   */
+  public void validate(String path, List<String> violations) {
+    if (name != null) {
+      if (!NAME_PATTERN.matcher(name).matches()) {
+        violations.add(path + "name: must match \"^\\d+$\"");
+      }
+    }
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) return true;
+    if (other == null || getClass() != other.getClass()) return false;
+    ComponentValidatedObjectsItem o = (ComponentValidatedObjectsItem) other;
+    return Objects.equals(name, o.name);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = 1;
+    result = 31 * result + Objects.hashCode(name);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append(", name=").append(name);
+    return builder.replace(0, 2, "ComponentValidatedObjectsItem{").append('}').toString();
+  }
+}
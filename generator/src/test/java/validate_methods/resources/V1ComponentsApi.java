@@ -0,0 +1,79 @@
+package validate_methods.resources;
+
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.PUT;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+import validate_methods.model.Component;
+import validate_methods.resources.support.ResponseWrapper;
+
+@Path("")
+public interface V1ComponentsApi {
+  /**
+   * Get component.
+   */
+  @GET
+  @Path("/v1/components")
+  @Produces("application/json")
+  @ContractOperation(
+      operationId = "getComponent",
+      method = "GET",
+      path = "/v1/components"
+  )
+  GetComponentResponse getComponent();
+
+  /**
+   * Update component.
+   *
+   * @param requestBody Test validations
+   */
+  @PUT
+  @Path("/v1/components")
+  @Consumes("application/json")
+  @Produces
+  @ContractOperation(
+      operationId = "putComponent",
+      method = "PUT",
+      path = "/v1/components"
+  )
+  PutComponentResponse putComponent(@NotNull @Valid Component requestBody);
+
+  class GetComponentResponse extends ResponseWrapper {
+    private GetComponentResponse(Response delegate) {
+      super(delegate);
+    }
+
+    public static GetComponentResponse with200ApplicationJson(Component entity) {
+      return new GetComponentResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
+    public static GetComponentResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetComponentResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
+    public static GetComponentResponse withCustomResponse(Response response) {
+      return new GetComponentResponse(response);
+    }
+  }
+
+  class PutComponentResponse extends ResponseWrapper {
+    private PutComponentResponse(Response delegate) {
+      super(delegate);
+    }
+
+    public static PutComponentResponse with204() {
+      return new PutComponentResponse(Response.status(204).build());
+    }
+
+    public static PutComponentResponse withCustomResponse(Response response) {
+      return new PutComponentResponse(response);
+    }
+  }
+}
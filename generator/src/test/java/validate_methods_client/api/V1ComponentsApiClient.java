@@ -0,0 +1,230 @@
+package validate_methods_client.api;
+
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientIncompatibleResponseException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientIoException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException;
+import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor;
+import io.github.ruedigerk.contractfirst.generator.client.ApiResponse;
+import io.github.ruedigerk.contractfirst.generator.client.internal.Operation;
+import io.github.ruedigerk.contractfirst.generator.client.internal.StatusCode;
+import java.util.List;
+import java.util.Objects;
+import validate_methods_client.model.Component;
+
+/**
+ * Contains methods for all API operations tagged "V1Components".
+ */
+public class V1ComponentsApiClient {
+  private final ApiRequestExecutor requestExecutor;
+
+  private final ReturningResult returningResult;
+
+  public V1ComponentsApiClient(ApiRequestExecutor requestExecutor) {
+    this.requestExecutor = requestExecutor;
+    this.returningResult = new ReturningResult();
+  }
+
+  /**
+   * Returns an API client with methods that return operation specific result classes, allowing inspection of the operations' responses.
+   */
+  public ReturningResult returningResult() {
+    return returningResult;
+  }
+
+  /**
+   * Get component.
+   */
+  public Component getComponent() throws ApiClientIoException, ApiClientValidationException,
+      ApiClientIncompatibleResponseException {
+
+    GetComponentResult result = returningResult.getComponent();
+
+    return result.getEntity();
+  }
+
+  /**
+   * Update component.
+   *
+   * @param requestBody Test validations
+   */
+  public void putComponent(Component requestBody) throws ApiClientIoException,
+      ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+    PutComponentResult result = returningResult.putComponent(requestBody);
+  }
+
+  /**
+   * Contains methods returning operation specific result classes, allowing inspection of the operations' responses.
+   */
+  public class ReturningResult {
+    /**
+     * Get component.
+     */
+    public GetComponentResult getComponent() throws ApiClientIoException,
+        ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+      Operation.Builder builder = new Operation.Builder("/v1/components", "GET");
+
+      builder.response(StatusCode.of(200), "application/json", Component.class);
+
+      ApiResponse response = requestExecutor.executeRequest(builder.build());
+
+      return new GetComponentResult(response);
+    }
+
+    /**
+     * Update component.
+     *
+     * @param requestBody Test validations
+     */
+    public PutComponentResult putComponent(Component requestBody) throws ApiClientIoException,
+        ApiClientValidationException, ApiClientIncompatibleResponseException {
+
+      if (requestBody != null) {
+        List<String> violations = requestBody.validate();
+        if (!violations.isEmpty()) {
+          throw new ApiClientValidationException("Request body is invalid: " + violations);
+        }
+      }
+
+      Operation.Builder builder = new Operation.Builder("/v1/components", "PUT");
+
+      builder.requestBody("application/json", true, requestBody);
+
+      builder.response(StatusCode.of(204));
+
+      ApiResponse response = requestExecutor.executeRequest(builder.build());
+
+      return new PutComponentResult(response);
+    }
+  }
+
+  /**
+   * Represents the result of calling operation getComponent.
+   */
+  public static class GetComponentResult {
+    private final ApiResponse response;
+
+    public GetComponentResult(ApiResponse response) {
+      this.response = response;
+    }
+
+    /**
+     * Returns the ApiResponse instance with the details of the operation's HTTP response.
+     */
+    public ApiResponse getResponse() {
+      return response;
+    }
+
+    /**
+     * Returns the HTTP status code of the operation's response.
+     */
+    public int getStatus() {
+      return response.getStatusCode();
+    }
+
+    /**
+     * Returns whether the response has a status code in the range 200 to 299.
+     */
+    public boolean isSuccessful() {
+      return response.isSuccessful();
+    }
+
+    /**
+     * Returns whether the response's status code is 200, while the response's entity is of type {@code Component}.
+     */
+    public boolean isStatus200ReturningComponent() {
+      return response.getStatusCode() == 200 && response.getEntityType() == Component.class;
+    }
+
+    /**
+     * Returns the response's entity of type {@code Component}.
+     */
+    public Component getEntity() {
+      return (Component) response.getEntity();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) return true;
+      if (other == null || getClass() != other.getClass()) return false;
+      GetComponentResult o = (GetComponentResult) other;
+      return Objects.equals(response, o.response);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder();
+      builder.append(", response=").append(response);
+      return builder.replace(0, 2, "GetComponentResult{").append('}').toString();
+    }
+  }
+
+  /**
+   * Represents the result of calling operation putComponent.
+   */
+  public static class PutComponentResult {
+    private final ApiResponse response;
+
+    public PutComponentResult(ApiResponse response) {
+      this.response = response;
+    }
+
+    /**
+     * Returns the ApiResponse instance with the details of the operation's HTTP response.
+     */
+    public ApiResponse getResponse() {
+      return response;
+    }
+
+    /**
+     * Returns the HTTP status code of the operation's response.
+     */
+    public int getStatus() {
+      return response.getStatusCode();
+    }
+
+    /**
+     * Returns whether the response has a status code in the range 200 to 299.
+     */
+    public boolean isSuccessful() {
+      return response.isSuccessful();
+    }
+
+    /**
+     * Returns whether the response's status code is 204, while the response has no entity.
+     */
+    public boolean isStatus204WithoutEntity() {
+      return response.getStatusCode() == 204;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) return true;
+      if (other == null || getClass() != other.getClass()) return false;
+      PutComponentResult o = (PutComponentResult) other;
+      return Objects.equals(response, o.response);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 1;
+      result = 31 * result + Objects.hashCode(response);
+      return result;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder builder = new StringBuilder();
+      builder.append(", response=").append(response);
+      return builder.replace(0, 2, "PutComponentResult{").append('}').toString();
+    }
+  }
+}
@@ -172,15 +172,23 @@ public class Component {
     return Objects.equals(intMinMax, o.intMinMax)
         && Objects.equals(longMinMax, o.longMinMax)
         && Objects.equals(bigIntMinMax, o.bigIntMinMax)
+        && Objects.equals(text, o.text)
         && Objects.equals(validatedStrings, o.validatedStrings)
         && Objects.equals(validatedObjects, o.validatedObjects)
-        && Objects.equals(validatedMap, o.validatedMap)
-        && Objects.equals(text, o.text);
+        && Objects.equals(validatedMap, o.validatedMap);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(intMinMax, longMinMax, bigIntMinMax, validatedStrings, validatedObjects, validatedMap, text);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(intMinMax);
+    result = 31 * result + Objects.hashCode(longMinMax);
+    result = 31 * result + Objects.hashCode(bigIntMinMax);
+    result = 31 * result + Objects.hashCode(validatedStrings);
+    result = 31 * result + Objects.hashCode(validatedObjects);
+    result = 31 * result + Objects.hashCode(validatedMap);
+    result = 31 * result + Objects.hashCode(text);
+    return result;
   }
 
   @Override
@@ -32,7 +32,9 @@ public class ComponentValidatedObjectsItem {
 
   @Override
   public int hashCode() {
-    return Objects.hash(name);
+    int result = 1;
+    result = 31 * result + Objects.hashCode(name);
+    return result;
   }
 
   @Override
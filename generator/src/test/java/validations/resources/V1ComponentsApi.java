@@ -1,5 +1,7 @@
 package validations.resources;
 
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
@@ -15,6 +17,11 @@ public interface V1ComponentsApi {
   @GET
   @Path("/v1/components")
   @Produces("application/json")
+  @ContractOperation(
+      operationId = "getComponent",
+      method = "GET",
+      path = "/v1/components"
+  )
   GetComponentResponse getComponent();
 
   class GetComponentResponse extends ResponseWrapper {
@@ -26,6 +33,11 @@ public interface V1ComponentsApi {
       return new GetComponentResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
     }
 
+    public static GetComponentResponse with200ApplicationJsonPrecompressed(
+        PrecompressedEntity entity) {
+      return new GetComponentResponse(Response.status(200).header("Content-Type", "application/json").entity(entity).build());
+    }
+
     public static GetComponentResponse withCustomResponse(Response response) {
       return new GetComponentResponse(response);
     }
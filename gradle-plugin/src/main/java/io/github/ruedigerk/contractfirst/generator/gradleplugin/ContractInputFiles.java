@@ -0,0 +1,119 @@
+package io.github.ruedigerk.contractfirst.generator.gradleplugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.ValueSource;
+import org.gradle.api.provider.ValueSourceParameters;
+
+/**
+ * Finds the input files of a code generation, i.e., the contract and all files transitively referenced by it. As a value source, it is obtained again
+ * for each build, even when the configuration cache is reused, so that newly referenced files are detected.
+ * <p>
+ * The references are found by scanning the files for $ref properties in YAML or JSON syntax, instead of parsing them with the generator, which only runs
+ * in the worker isolated from the classes of the build. Matches that are no references, e.g., in descriptions, at most add files that do not exist, which
+ * are ignored.
+ */
+public abstract class ContractInputFiles implements ValueSource<Set<File>, ContractInputFiles.Parameters> {
+
+  private static final Pattern REFERENCE = Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'\\s,}]+)");
+
+  /**
+   * The parameters of the value source.
+   */
+  public interface Parameters extends ValueSourceParameters {
+
+    RegularFileProperty getInputContractFile();
+  }
+
+  @Override
+  public Set<File> obtain() {
+    return findInputFiles(getParameters().getInputContractFile().get().getAsFile());
+  }
+
+  /**
+   * Returns the contract file, or the schema files of a model-only contract directory, and all existing files transitively referenced by them.
+   */
+  static Set<File> findInputFiles(File inputContractFile) {
+    Set<File> files = new LinkedHashSet<>();
+    Deque<File> pending = new ArrayDeque<>(contractFiles(inputContractFile));
+
+    while (!pending.isEmpty()) {
+      File file = pending.removeFirst();
+
+      if (file.isFile() && files.add(file)) {
+        pending.addAll(referencedFiles(file));
+      }
+    }
+
+    return files.isEmpty() ? Collections.singleton(inputContractFile) : files;
+  }
+
+  private static List<File> contractFiles(File inputContractFile) {
+    if (!inputContractFile.isDirectory()) {
+      return Collections.singletonList(inputContractFile.getAbsoluteFile());
+    }
+
+    try (Stream<Path> paths = Files.walk(inputContractFile.toPath())) {
+      return paths.map(path -> path.toAbsolutePath().toFile())
+          .filter(file -> file.getName().endsWith(".yaml") || file.getName().endsWith(".json"))
+          .sorted()
+          .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error listing the schema files in " + inputContractFile, e);
+    }
+  }
+
+  private static List<File> referencedFiles(File file) {
+    String content;
+    try {
+      content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error reading " + file, e);
+    }
+
+    List<File> files = new ArrayList<>();
+    Matcher matcher = REFERENCE.matcher(content);
+
+    while (matcher.find()) {
+      String reference = matcher.group(1);
+      int fragmentStart = reference.indexOf('#');
+      String path = fragmentStart < 0 ? reference : reference.substring(0, fragmentStart);
+
+      // References within the same file have no path, and remote references are no input files.
+      if (!path.isEmpty() && !path.contains(":")) {
+        files.add(file.toPath().resolveSibling(decode(path)).normalize().toFile());
+      }
+    }
+
+    return files;
+  }
+
+  /**
+   * References are URIs, so their paths can contain percent-encoded characters.
+   */
+  private static String decode(String path) {
+    try {
+      return new URI(path).getPath();
+    } catch (URISyntaxException e) {
+      return path;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package io.github.ruedigerk.contractfirst.generator.gradleplugin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.artifacts.Configuration;
+
+/**
+ * Gradle plugin for generating sources from OpenAPI contracts with tasks of type {@link GenerateCodeTask}.
+ * <p>
+ * The plugin adds the configuration "contractfirstGenerator" holding the classpath of the generator, which defaults to the generator of the same version
+ * as the plugin, and sets the default output directory of the tasks.
+ */
+public class ContractfirstGeneratorPlugin implements Plugin<Project> {
+
+  /**
+   * The name of the configuration holding the classpath of the generator.
+   */
+  public static final String CONFIGURATION_NAME = "contractfirstGenerator";
+
+  private static final String GENERATOR_MODULE = "io.github.ruedigerk.contractfirst.generator:contractfirst-generator";
+
+  @Override
+  public void apply(Project project) {
+    Configuration generatorClasspath = project.getConfigurations().create(CONFIGURATION_NAME, configuration -> {
+      configuration.setDescription("The classpath of the Contractfirst-Generator used by the code generation tasks.");
+      configuration.setCanBeConsumed(false);
+      configuration.defaultDependencies(dependencies -> dependencies.add(project.getDependencies().create(GENERATOR_MODULE + ":" + pluginVersion())));
+    });
+
+    project.getTasks().withType(GenerateCodeTask.class).configureEach(task -> {
+      task.getGeneratorClasspath().from(generatorClasspath);
+      task.getOutputDir().convention(project.getLayout().getBuildDirectory().dir("generated/sources/contractfirst/" + task.getName()));
+    });
+  }
+
+  private static String pluginVersion() {
+    try (InputStream stream = ContractfirstGeneratorPlugin.class.getResourceAsStream("/contractfirst-generator-gradle-plugin.properties")) {
+      Properties properties = new Properties();
+      properties.load(stream);
+      return properties.getProperty("version");
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error reading the version of the plugin", e);
+    }
+  }
+}
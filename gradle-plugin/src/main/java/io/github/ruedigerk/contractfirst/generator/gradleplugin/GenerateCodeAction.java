@@ -0,0 +1,81 @@
+package io.github.ruedigerk.contractfirst.generator.gradleplugin;
+
+import io.github.ruedigerk.contractfirst.generator.Configuration;
+import io.github.ruedigerk.contractfirst.generator.ContractfirstGenerator;
+import io.github.ruedigerk.contractfirst.generator.GeneratorType;
+import io.github.ruedigerk.contractfirst.generator.InvalidConfigurationException;
+import io.github.ruedigerk.contractfirst.generator.NotSupportedException;
+import io.github.ruedigerk.contractfirst.generator.ParserException;
+import java.io.File;
+import org.gradle.api.GradleException;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.workers.WorkAction;
+
+/**
+ * Runs the generator in a worker, isolated from the classes of the build, e.g., other versions of Jackson or Kotlin used by other plugins. This is the
+ * only class of the plugin using the generator, it is loaded with the classpath of the "contractfirstGenerator" configuration.
+ */
+public abstract class GenerateCodeAction implements WorkAction<GeneratorParameters> {
+
+  private static final Logger LOGGER = Logging.getLogger(GenerateCodeAction.class);
+
+  @Override
+  public void execute() {
+    try {
+      new ContractfirstGenerator(new GradleLogAdapter(LOGGER)).generate(toConfiguration(getParameters()));
+    } catch (ParserException e) {
+      throw new GradleException("Could not parse contract: " + e.getMessage());
+    } catch (NotSupportedException e) {
+      throw new GradleException("Contract contains usage of unsupported feature: " + e.getMessage());
+    } catch (InvalidConfigurationException e) {
+      throw new GradleException("Invalid configuration " + e.getMessage());
+    }
+  }
+
+  /**
+   * Returns the generator configuration for the supplied parameters. Incremental generation of the generator is not used, as Gradle's up-to-date checks
+   * and build cache take its place.
+   */
+  private static Configuration toConfiguration(GeneratorParameters parameters) {
+    return new Configuration(
+        parameters.getInputContractFile().get().getAsFile().getAbsolutePath(),
+        determineGenerator(parameters.getGenerator().get()),
+        parameters.getOutputDir().get().getAsFile().getPath(),
+        parameters.getOutputContract().get(),
+        parameters.getOutputContractFile().get(),
+        parameters.getOutputJavaBasePackage().get(),
+        parameters.getOutputJavaPackageMirrorsSchemaDirectory().get(),
+        parameters.getOutputJavaPackageSchemaDirectoryPrefix().get().getAsFile().getAbsolutePath(),
+        parameters.getOutputJavaModelNamePrefix().get(),
+        parameters.getOutputJavaModelUseJsr305NullabilityAnnotations().get(),
+        parameters.getInputContractLazyLoading().get(),
+        parameters.getOutputJavaModelDeduplicateInlineSchemas().get(),
+        parameters.getOutputJavaModelImmutable().get(),
+        parameters.getOutputJavaModelUsePrimitiveTypes().get(),
+        parameters.getOutputJavaModelLazyCollections().get(),
+        parameters.getOutputJavaUnformattedNumbersAsDoubleAndLong().get(),
+        parameters.getOutputJavaModelValidateMethods().get(),
+        parameters.getOutputJavaModelByteBuffers().get(),
+        parameters.getOutputJavaServerAsyncMethods().get(),
+        false
+    );
+  }
+
+  private static GeneratorType determineGenerator(String generator) {
+    switch (generator) {
+      case "client":
+        return GeneratorType.CLIENT;
+      case "server":
+        return GeneratorType.SERVER;
+      case "spring-webflux":
+        return GeneratorType.SPRING_WEBFLUX;
+      case "router":
+        return GeneratorType.ROUTER;
+      case "model-only":
+        return GeneratorType.MODEL_ONLY;
+      default:
+        throw new InvalidConfigurationException("property 'generator' has invalid value: '" + generator + "', allowed values are 'client', 'server', 'spring-webflux', 'router', 'model-only'.");
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package io.github.ruedigerk.contractfirst.generator.gradleplugin;
+
+import java.io.File;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.ProjectLayout;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.provider.ProviderFactory;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
+
+/**
+ * Task for generating sources from an OpenAPI contract.
+ * <p>
+ * The inputs of the task are the contract and all files transitively referenced by it, so that the task is up-to-date and its outputs can be taken from the
+ * build cache, as long as none of them changed. The task owns its output directory, it is deleted before generating the code.
+ */
+@CacheableTask
+public abstract class GenerateCodeTask extends DefaultTask {
+
+  public GenerateCodeTask() {
+    getOutputContract().convention(false);
+    getOutputContractFile().convention("openapi.yaml");
+    getOutputJavaPackageMirrorsSchemaDirectory().convention(false);
+    getOutputJavaPackageSchemaDirectoryPrefix().convention(getProjectLayout().dir(getInputContractFile().map(file -> {
+      File inputFile = file.getAsFile();
+      return inputFile.isDirectory() ? inputFile : inputFile.getParentFile();
+    })));
+    getOutputJavaModelNamePrefix().convention("");
+    getOutputJavaModelUseJsr305NullabilityAnnotations().convention(false);
+    getInputContractLazyLoading().convention(false);
+    getOutputJavaModelDeduplicateInlineSchemas().convention(false);
+    getOutputJavaModelImmutable().convention(false);
+    getOutputJavaModelUsePrimitiveTypes().convention(false);
+    getOutputJavaModelLazyCollections().convention(false);
+    getOutputJavaUnformattedNumbersAsDoubleAndLong().convention(false);
+    getOutputJavaModelValidateMethods().convention(false);
+    getOutputJavaModelByteBuffers().convention(false);
+    getOutputJavaServerAsyncMethods().convention(false);
+
+    getInputFiles().from(getProviderFactory().of(ContractInputFiles.class, spec -> spec.getParameters().getInputContractFile().set(getInputContractFile())));
+  }
+
+  /**
+   * The file containing the OpenAPI contract to use as input; in case of the model-only generator, this should point to a single JSON-Schema file in YAML
+   * or JSON format, or to a directory which is recursively searched for JSON-Schema files.
+   */
+  @Internal
+  public abstract RegularFileProperty getInputContractFile();
+
+  /**
+   * The path of the contract file relative to the project directory. The contract is an input by its content as one of the input files, but also by its
+   * path, as switching to another of the input files changes the generated code.
+   */
+  @Input
+  public Provider<String> getInputContractFilePath() {
+    File projectDirectory = getProjectLayout().getProjectDirectory().getAsFile();
+    return getInputContractFile().map(file -> relativePath(projectDirectory, file.getAsFile()));
+  }
+
+  /**
+   * The contract and all files transitively referenced by it, as found by scanning the contract for references.
+   */
+  @InputFiles
+  @PathSensitive(PathSensitivity.RELATIVE)
+  public abstract ConfigurableFileCollection getInputFiles();
+
+  /**
+   * The type of generator to use for code generation; allowed values are: "server", "client", "spring-webflux", "router", "model-only".
+   */
+  @Input
+  public abstract Property<String> getGenerator();
+
+  /**
+   * The target directory for writing the generated sources to; defaults to build/generated/sources/contractfirst/ followed by the name of the task.
+   */
+  @OutputDirectory
+  public abstract DirectoryProperty getOutputDir();
+
+  /**
+   * Whether to output the parsed contract as an all-in-one contract.
+   */
+  @Input
+  public abstract Property<Boolean> getOutputContract();
+
+  /**
+   * The file name of the all-in-one contract file to output; only used when outputContract is true.
+   */
+  @Input
+  public abstract Property<String> getOutputContractFile();
+
+  /**
+   * The Java package to put generated classes into.
+   */
+  @Input
+  public abstract Property<String> getOutputJavaBasePackage();
+
+  /**
+   * Whether the generated model classes are put into packages mirroring the directory structure of the schema files.
+   */
+  @Input
+  public abstract Property<Boolean> getOutputJavaPackageMirrorsSchemaDirectory();
+
+  /**
+   * The directory, the mirrored packages are relative to; defaults to the directory of the contract.
+   */
+  @Internal
+  public abstract DirectoryProperty getOutputJavaPackageSchemaDirectoryPrefix();
+
+  /**
+   * The path of the schema directory prefix relative to the project directory, as it determines the packages of the generated model classes. Relative
+   * paths keep the outputs of the task relocatable in the build cache.
+   */
+  @Input
+  public Provider<String> getOutputJavaPackageSchemaDirectoryPrefixPath() {
+    File projectDirectory = getProjectLayout().getProjectDirectory().getAsFile();
+    return getOutputJavaPackageSchemaDirectoryPrefix().map(directory -> relativePath(projectDirectory, directory.getAsFile()));
+  }
+
+  /**
+   * Prefix for the names of all generated model classes.
+   */
+  @Input
+  public abstract Property<String> getOutputJavaModelNamePrefix();
+
+  /**
+   * Whether to annotate the generated model classes with JSR-305 nullability annotations.
+   */
+  @Input
+  public abstract Property<Boolean> getOutputJavaModelUseJsr305NullabilityAnnotations();
+
+  /**
+   * Whether to load the contract files lazily, only materializing the parts of them that are needed for generating code.
+   */
+  @Input
+  public abstract Property<Boolean> getInputContractLazyLoading();
+
+  /**
+   * Whether to generate a single class for structurally equal inline schemas.
+   */
+  @Input
+  public abstract Property<Boolean> getOutputJavaModelDeduplicateInlineSchemas();
+
+  /**
+   * Whether to generate immutable model classes with an all-args constructor instead of setters.
+   */
+  @Input
+  public abstract Property<Boolean> getOutputJavaModelImmutable();
+
+  /**
+   * Whether to use primitive types for required, non-nullable properties.
+   */
+  @Input
+  public abstract Property<Boolean> getOutputJavaModelUsePrimitiveTypes();
+
+  /**
+   * Whether collection properties of the generated model classes are created lazily.
+   */
+  @Input
+  public abstract Property<Boolean> getOutputJavaModelLazyCollections();
+
+  /**
+   * Whether to map number and integer schemas without format to Double and Long instead of BigDecimal and BigInteger.
+   */
+  @Input
+  public abstract Property<Boolean> getOutputJavaUnformattedNumbersAsDoubleAndLong();
+
+  /**
+   * Whether to generate validate methods into the model classes.
+   */
+  @Input
+  public abstract Property<Boolean> getOutputJavaModelValidateMethods();
+
+  /**
+   * Whether to map string schemas of format byte (Base64 encoded binary data) to ByteBuffer instead of byte[].
+   */
+  @Input
+  public abstract Property<Boolean> getOutputJavaModelByteBuffers();
+
+  /**
+   * Whether the methods of the generated server stubs return a CompletionStage of their response class, for implementing them asynchronously.
+   */
+  @Input
+  public abstract Property<Boolean> getOutputJavaServerAsyncMethods();
+
+  /**
+   * The classpath of the generator, which runs isolated from the classes of the build.
+   */
+  @Classpath
+  public abstract ConfigurableFileCollection getGeneratorClasspath();
+
+  @Inject
+  protected abstract WorkerExecutor getWorkerExecutor();
+
+  @Inject
+  protected abstract ProviderFactory getProviderFactory();
+
+  @Inject
+  protected abstract FileSystemOperations getFileSystemOperations();
+
+  @Inject
+  protected abstract ProjectLayout getProjectLayout();
+
+  @TaskAction
+  public void generate() {
+    getFileSystemOperations().delete(spec -> spec.delete(getOutputDir()));
+
+    WorkQueue workQueue = getWorkerExecutor().classLoaderIsolation(spec -> spec.getClasspath().from(getGeneratorClasspath()));
+    workQueue.submit(GenerateCodeAction.class, this::configureParameters);
+  }
+
+  private void configureParameters(GeneratorParameters parameters) {
+    parameters.getInputContractFile().set(getInputContractFile());
+    parameters.getGenerator().set(getGenerator());
+    parameters.getOutputDir().set(getOutputDir());
+    parameters.getOutputContract().set(getOutputContract());
+    parameters.getOutputContractFile().set(getOutputContractFile());
+    parameters.getOutputJavaBasePackage().set(getOutputJavaBasePackage());
+    parameters.getOutputJavaPackageMirrorsSchemaDirectory().set(getOutputJavaPackageMirrorsSchemaDirectory());
+    parameters.getOutputJavaPackageSchemaDirectoryPrefix().set(getOutputJavaPackageSchemaDirectoryPrefix());
+    parameters.getOutputJavaModelNamePrefix().set(getOutputJavaModelNamePrefix());
+    parameters.getOutputJavaModelUseJsr305NullabilityAnnotations().set(getOutputJavaModelUseJsr305NullabilityAnnotations());
+    parameters.getInputContractLazyLoading().set(getInputContractLazyLoading());
+    parameters.getOutputJavaModelDeduplicateInlineSchemas().set(getOutputJavaModelDeduplicateInlineSchemas());
+    parameters.getOutputJavaModelImmutable().set(getOutputJavaModelImmutable());
+    parameters.getOutputJavaModelUsePrimitiveTypes().set(getOutputJavaModelUsePrimitiveTypes());
+    parameters.getOutputJavaModelLazyCollections().set(getOutputJavaModelLazyCollections());
+    parameters.getOutputJavaUnformattedNumbersAsDoubleAndLong().set(getOutputJavaUnformattedNumbersAsDoubleAndLong());
+    parameters.getOutputJavaModelValidateMethods().set(getOutputJavaModelValidateMethods());
+    parameters.getOutputJavaModelByteBuffers().set(getOutputJavaModelByteBuffers());
+    parameters.getOutputJavaServerAsyncMethods().set(getOutputJavaServerAsyncMethods());
+  }
+
+  private static String relativePath(File projectDirectory, File file) {
+    return projectDirectory.toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/');
+  }
+}
@@ -0,0 +1,50 @@
+package io.github.ruedigerk.contractfirst.generator.gradleplugin;
+
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkParameters;
+
+/**
+ * The parameters of a code generation, passed from the task to the worker generating the code.
+ */
+public interface GeneratorParameters extends WorkParameters {
+
+  RegularFileProperty getInputContractFile();
+
+  Property<String> getGenerator();
+
+  DirectoryProperty getOutputDir();
+
+  Property<Boolean> getOutputContract();
+
+  Property<String> getOutputContractFile();
+
+  Property<String> getOutputJavaBasePackage();
+
+  Property<Boolean> getOutputJavaPackageMirrorsSchemaDirectory();
+
+  DirectoryProperty getOutputJavaPackageSchemaDirectoryPrefix();
+
+  Property<String> getOutputJavaModelNamePrefix();
+
+  Property<Boolean> getOutputJavaModelUseJsr305NullabilityAnnotations();
+
+  Property<Boolean> getInputContractLazyLoading();
+
+  Property<Boolean> getOutputJavaModelDeduplicateInlineSchemas();
+
+  Property<Boolean> getOutputJavaModelImmutable();
+
+  Property<Boolean> getOutputJavaModelUsePrimitiveTypes();
+
+  Property<Boolean> getOutputJavaModelLazyCollections();
+
+  Property<Boolean> getOutputJavaUnformattedNumbersAsDoubleAndLong();
+
+  Property<Boolean> getOutputJavaModelValidateMethods();
+
+  Property<Boolean> getOutputJavaModelByteBuffers();
+
+  Property<Boolean> getOutputJavaServerAsyncMethods();
+}
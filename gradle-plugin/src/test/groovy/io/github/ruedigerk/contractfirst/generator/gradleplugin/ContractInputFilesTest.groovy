@@ -0,0 +1,83 @@
+package io.github.ruedigerk.contractfirst.generator.gradleplugin
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+class ContractInputFilesTest extends Specification {
+
+  @TempDir
+  File directory
+
+  def "finds the files transitively referenced in YAML and JSON syntax"() {
+    given:
+    def contract = file("api.yaml", '''\
+      paths:
+        /items:
+          $ref: "paths/items.yaml#/items"
+      components:
+        schemas:
+          Local:
+            $ref: '#/components/schemas/Other'
+          Remote:
+            $ref: https://example.com/schemas/remote.yaml
+      ''')
+    def items = file("paths/items.yaml", '''\
+      items:
+        get:
+          responses:
+            200:
+              content:
+                application/json:
+                  schema: { $ref: '../schemas/item%20list.json' }
+      ''')
+    def itemList = file("schemas/item list.json", '{"type": "array", "items": {"$ref": "item.yaml"}}')
+    def item = file("schemas/item.yaml", '''\
+      properties:
+        parent:
+          $ref: "../api.yaml#/components/schemas/Local"
+      ''')
+
+    expect:
+    ContractInputFiles.findInputFiles(contract) == [contract, items, itemList, item] as LinkedHashSet
+  }
+
+  def "ignores references to files that do not exist"() {
+    given:
+    def contract = file("api.yaml", '''\
+      description: 'Use $ref: to reference other files'
+      schema:
+        $ref: missing.yaml
+      ''')
+
+    expect:
+    ContractInputFiles.findInputFiles(contract) == [contract] as Set
+  }
+
+  def "finds the schema files of a model-only directory and the files referenced by them"() {
+    given:
+    def schemas = new File(directory, "schemas")
+    def first = file("schemas/a/first.yaml", '$ref: "../../shared/common.yaml"')
+    def second = file("schemas/second.json", '{}')
+    def common = file("shared/common.yaml", 'type: object')
+    file("schemas/readme.txt", '$ref: "../shared/other.yaml"')
+    file("shared/other.yaml", 'type: object')
+
+    expect:
+    ContractInputFiles.findInputFiles(schemas) == [first, second, common] as LinkedHashSet
+  }
+
+  def "returns the contract file itself, if it does not exist"() {
+    given:
+    def contract = new File(directory, "missing.yaml")
+
+    expect:
+    ContractInputFiles.findInputFiles(contract) == [contract] as Set
+  }
+
+  private File file(String path, String content) {
+    def file = new File(directory, path)
+    file.parentFile.mkdirs()
+    file.text = content.stripIndent()
+    file
+  }
+}
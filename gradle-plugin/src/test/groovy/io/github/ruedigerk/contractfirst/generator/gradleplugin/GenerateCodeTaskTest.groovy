@@ -0,0 +1,261 @@
+package io.github.ruedigerk.contractfirst.generator.gradleplugin
+
+import org.gradle.testkit.runner.BuildResult
+import org.gradle.testkit.runner.GradleRunner
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import static org.gradle.testkit.runner.TaskOutcome.*
+
+class GenerateCodeTaskTest extends Specification {
+
+  @TempDir
+  File projectDir
+
+  File itemSchema
+
+  def setup() {
+    new File(projectDir, "settings.gradle").text = '''\
+      rootProject.name = 'generate-code-task-test'
+      buildCache {
+        local {
+          directory = new File(rootDir, 'build-cache')
+        }
+      }
+      '''.stripIndent()
+
+    new File(projectDir, "build.gradle").text = """\
+      plugins {
+        id 'java'
+        id 'io.github.ruedigerk.contractfirst.generator'
+      }
+
+      repositories {
+        mavenLocal()
+      }
+
+      dependencies {
+        implementation 'com.google.code.gson:gson:2.10.1'
+      }
+
+      def generateApi = tasks.register('generateApi', io.github.ruedigerk.contractfirst.generator.gradleplugin.GenerateCodeTask) {
+        inputContractFile = file('contract/api.yaml')
+        generator = 'client'
+        outputJavaBasePackage = 'my.api'
+      }
+
+      sourceSets.main.java.srcDir(generateApi)
+      """.stripIndent()
+
+    def contractDir = new File(projectDir, "contract")
+    new File(contractDir, "schemas").mkdirs()
+
+    new File(contractDir, "api.yaml").text = '''\
+      openapi: "3.0.2"
+      info:
+        title: Items
+        version: "1.0"
+      paths:
+        /items:
+          get:
+            operationId: getItem
+            responses:
+              200:
+                description: an item
+                content:
+                  application/json:
+                    schema:
+                      $ref: "schemas/item.yaml"
+      '''.stripIndent()
+
+    itemSchema = new File(contractDir, "schemas/item.yaml")
+    itemSchema.text = '''\
+      title: Item
+      type: object
+      properties:
+        name:
+          type: string
+      '''.stripIndent()
+  }
+
+  def "generates the code for the contract"() {
+    when:
+    def result = run("generateApi")
+
+    then:
+    result.task(":generateApi").outcome == SUCCESS
+    generatedFile("my/api/model/Item.java").text.contains("private String name;")
+    generatedFile("my/api/api/DefaultApiClient.java").exists()
+  }
+
+  def "is up-to-date as long as the contract and its referenced files did not change"() {
+    given:
+    run("generateApi")
+
+    when:
+    def unchanged = run("generateApi")
+
+    then:
+    unchanged.task(":generateApi").outcome == UP_TO_DATE
+
+    when:
+    itemSchema.text = itemSchema.text.replace("name:", "label:")
+    def changed = run("generateApi")
+
+    then:
+    changed.task(":generateApi").outcome == SUCCESS
+    generatedFile("my/api/model/Item.java").text.contains("private String label;")
+  }
+
+  def "takes the generated code from the build cache"() {
+    given:
+    run("generateApi", "--build-cache")
+    new File(projectDir, "build").deleteDir()
+
+    when:
+    def result = run("generateApi", "--build-cache")
+
+    then:
+    result.task(":generateApi").outcome == FROM_CACHE
+    generatedFile("my/api/model/Item.java").exists()
+  }
+
+  def "is out-of-date when the schema directory prefix changes"() {
+    given:
+    new File(projectDir, "build.gradle") << '''
+      tasks.named('generateApi') {
+        outputJavaPackageMirrorsSchemaDirectory = true
+      }
+      '''.stripIndent()
+    run("generateApi")
+
+    when:
+    new File(projectDir, "build.gradle") << '''
+      tasks.named('generateApi') {
+        outputJavaPackageSchemaDirectoryPrefix = file('contract/schemas')
+      }
+      '''.stripIndent()
+    def result = run("generateApi")
+
+    then:
+    result.task(":generateApi").outcome == SUCCESS
+    generatedFile("my/api/model/Item.java").exists()
+  }
+
+  def "takes the generated code from the build cache after moving the project"() {
+    given:
+    run("generateApi", "--build-cache")
+    def movedProjectDir = new File(projectDir, "moved")
+    movedProjectDir.mkdir()
+    projectDir.eachFile { file ->
+      if (file.name != "moved" && file.name != "build" && file.name != ".gradle") {
+        copy(file, new File(movedProjectDir, file.name))
+      }
+    }
+
+    when:
+    def result = runner("generateApi", "--build-cache").withProjectDir(movedProjectDir).build()
+
+    then:
+    result.task(":generateApi").outcome == FROM_CACHE
+  }
+
+  def "detects changes of referenced files when reusing the configuration cache"() {
+    given:
+    run("generateApi", "--configuration-cache")
+
+    when:
+    def unchanged = run("generateApi", "--configuration-cache")
+
+    then:
+    unchanged.output.contains("Reusing configuration cache.")
+    unchanged.task(":generateApi").outcome == UP_TO_DATE
+
+    when:
+    itemSchema.text = itemSchema.text.replace("name:", "label:")
+    def changed = run("generateApi", "--configuration-cache")
+
+    then:
+    changed.task(":generateApi").outcome == SUCCESS
+    generatedFile("my/api/model/Item.java").text.contains("private String label;")
+  }
+
+  def "does not put the generator on the build script classpath"() {
+    given:
+    new File(projectDir, "build.gradle") << '''
+      tasks.register('loadGenerator') {
+        def pluginClassLoader = io.github.ruedigerk.contractfirst.generator.gradleplugin.GenerateCodeTask.classLoader
+        doLast {
+          try {
+            Class.forName('io.github.ruedigerk.contractfirst.generator.ContractfirstGenerator', false, pluginClassLoader)
+            println 'Generator is visible'
+          } catch (ClassNotFoundException e) {
+            println 'Generator is not visible'
+          }
+        }
+      }
+      '''.stripIndent()
+
+    when:
+    def result = run("generateApi", "loadGenerator")
+
+    then:
+    result.task(":generateApi").outcome == SUCCESS
+    result.output.contains("Generator is not visible")
+  }
+
+  def "generates the code before compiling the main source set"() {
+    given:
+    // Only the model is compiled, as the client needs the client support artifact.
+    new File(projectDir, "build.gradle") << '''
+      tasks.named('compileJava') {
+        exclude('my/api/api/**')
+      }
+      '''.stripIndent()
+
+    when:
+    def result = run("compileJava")
+
+    then:
+    result.task(":generateApi").outcome == SUCCESS
+    result.task(":compileJava").outcome == SUCCESS
+    new File(projectDir, "build/classes/java/main/my/api/model/Item.class").exists()
+  }
+
+  def "fails with the error of the generator for an invalid contract"() {
+    given:
+    itemSchema.text = "type: [ invalid"
+
+    when:
+    def result = runner("generateApi").buildAndFail()
+
+    then:
+    result.task(":generateApi").outcome == FAILED
+    result.output.contains("Could not parse contract")
+  }
+
+  private static void copy(File source, File target) {
+    if (source.directory) {
+      target.mkdirs()
+      source.eachFile { copy(it, new File(target, it.name)) }
+    } else {
+      target.bytes = source.bytes
+    }
+  }
+
+  private BuildResult run(String... arguments) {
+    runner(arguments).build()
+  }
+
+  private GradleRunner runner(String... arguments) {
+    GradleRunner.create()
+        .withProjectDir(projectDir)
+        .withPluginClasspath()
+        .withArguments(arguments + "--offline" + "--stacktrace" as List<String>)
+        .forwardOutput()
+  }
+
+  private File generatedFile(String path) {
+    new File(projectDir, "build/generated/sources/contractfirst/generateApi/$path")
+  }
+}
@@ -0,0 +1,108 @@
+package io.github.ruedigerk.contractfirst.generator.support.gson;
+
+import com.google.gson.JsonParseException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Base64 encoding and decoding, as required for the OpenAPI format "byte", working directly on the strings of Gson's JsonReader and JsonWriter.
+ * <p>
+ * In contrast to {@link java.util.Base64}, decoding does not copy the string into a byte array first, but decodes its characters directly into an array
+ * of the exact result size. Encoding produces the Latin-1 bytes of the result string directly from the input range, so that a ByteBuffer needs not be
+ * copied into an array first. Padding is optional when decoding.
+ */
+final class Base64Codec {
+
+  private static final byte[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.ISO_8859_1);
+  private static final int[] VALUES = new int[128];
+
+  static {
+    Arrays.fill(VALUES, -1);
+    for (int i = 0; i < ALPHABET.length; i++) {
+      VALUES[ALPHABET[i]] = i;
+    }
+  }
+
+  private Base64Codec() {
+  }
+
+  static byte[] decode(String input) {
+    int length = input.length();
+
+    if (length > 0 && input.charAt(length - 1) == '=') {
+      length--;
+      if (length > 0 && input.charAt(length - 1) == '=') {
+        length--;
+      }
+      if ((length + 2) / 4 * 4 != input.length()) {
+        throw invalid("has invalid padding");
+      }
+    }
+
+    if (length % 4 == 1) {
+      throw invalid("has an invalid length");
+    }
+
+    byte[] result = new byte[length / 4 * 3 + Math.max(0, length % 4 - 1)];
+    int fullQuadsEnd = length / 4 * 4;
+    int out = 0;
+
+    for (int in = 0; in < fullQuadsEnd; in += 4) {
+      int bits = value(input, in) << 18 | value(input, in + 1) << 12 | value(input, in + 2) << 6 | value(input, in + 3);
+      result[out++] = (byte) (bits >> 16);
+      result[out++] = (byte) (bits >> 8);
+      result[out++] = (byte) bits;
+    }
+
+    int remaining = length - fullQuadsEnd;
+    if (remaining > 0) {
+      int bits = value(input, fullQuadsEnd) << 18 | value(input, fullQuadsEnd + 1) << 12 | (remaining == 3 ? value(input, fullQuadsEnd + 2) << 6 : 0);
+      result[out++] = (byte) (bits >> 16);
+      if (remaining == 3) {
+        result[out] = (byte) (bits >> 8);
+      }
+    }
+
+    return result;
+  }
+
+  private static int value(String input, int index) {
+    char c = input.charAt(index);
+    int value = c < 128 ? VALUES[c] : -1;
+
+    if (value < 0) {
+      throw invalid("contains the illegal character '" + c + "' at index " + index);
+    }
+
+    return value;
+  }
+
+  private static JsonParseException invalid(String problem) {
+    return new JsonParseException("Base64 encoded value " + problem);
+  }
+
+  static String encode(byte[] input, int offset, int length) {
+    byte[] result = new byte[(length + 2) / 3 * 4];
+    int fullTriplesEnd = offset + length / 3 * 3;
+    int out = 0;
+
+    for (int in = offset; in < fullTriplesEnd; in += 3) {
+      int bits = (input[in] & 0xff) << 16 | (input[in + 1] & 0xff) << 8 | (input[in + 2] & 0xff);
+      result[out++] = ALPHABET[bits >>> 18];
+      result[out++] = ALPHABET[(bits >>> 12) & 0x3f];
+      result[out++] = ALPHABET[(bits >>> 6) & 0x3f];
+      result[out++] = ALPHABET[bits & 0x3f];
+    }
+
+    int remaining = offset + length - fullTriplesEnd;
+    if (remaining > 0) {
+      int bits = (input[fullTriplesEnd] & 0xff) << 16 | (remaining == 2 ? (input[fullTriplesEnd + 1] & 0xff) << 8 : 0);
+      result[out++] = ALPHABET[bits >>> 18];
+      result[out++] = ALPHABET[(bits >>> 12) & 0x3f];
+      result[out++] = remaining == 2 ? ALPHABET[(bits >>> 6) & 0x3f] : (byte) '=';
+      result[out] = '=';
+    }
+
+    return new String(result, StandardCharsets.ISO_8859_1);
+  }
+}
@@ -0,0 +1,33 @@
+package io.github.ruedigerk.contractfirst.generator.support.gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Gson TypeAdapter for byte arrays, encoded as Base64 strings as required for the OpenAPI format "byte". Without it, Gson would use JSON arrays of
+ * numbers.
+ */
+public class ByteArrayGsonTypeAdapter extends TypeAdapter<byte[]> {
+
+  @Override
+  public void write(JsonWriter writer, byte[] value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+    } else {
+      writer.value(Base64Codec.encode(value, 0, value.length));
+    }
+  }
+
+  @Override
+  public byte[] read(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    } else {
+      return Base64Codec.decode(reader.nextString());
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package io.github.ruedigerk.contractfirst.generator.support.gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Gson TypeAdapter for ByteBuffers, encoded as Base64 strings as required for the OpenAPI format "byte". Register it as a type hierarchy adapter, as
+ * ByteBuffers are instances of subclasses of ByteBuffer.
+ * <p>
+ * Reading returns buffers wrapping the decoded array. Writing encodes the remaining bytes of a buffer without changing its position and, if the buffer is
+ * backed by an accessible array, without copying them first.
+ */
+public class ByteBufferGsonTypeAdapter extends TypeAdapter<ByteBuffer> {
+
+  @Override
+  public void write(JsonWriter writer, ByteBuffer value) throws IOException {
+    if (value == null) {
+      writer.nullValue();
+    } else if (value.hasArray()) {
+      writer.value(Base64Codec.encode(value.array(), value.arrayOffset() + value.position(), value.remaining()));
+    } else {
+      byte[] bytes = new byte[value.remaining()];
+      value.duplicate().get(bytes);
+      writer.value(Base64Codec.encode(bytes, 0, bytes.length));
+    }
+  }
+
+  @Override
+  public ByteBuffer read(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    } else {
+      return ByteBuffer.wrap(Base64Codec.decode(reader.nextString()));
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package io.github.ruedigerk.contractfirst.generator.support.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Gson TypeAdapterFactory for polymorphic types, whose implementations are told apart by the value of a discriminator property. The generated interfaces
+ * of polymorphic types reference a subclass of this factory, which registers their implementations.
+ * <p>
+ * Reading does not parse the JSON object into a tree first. The properties preceding the discriminator property are buffered as trees, and the type
+ * adapter of the selected implementation continues reading the following properties directly from the stream, if the implementation is registered with
+ * its ModelTypeAdapterFactory. If the discriminator property comes first, nothing is buffered. Other implementations get the JSON object replayed as a
+ * tree to their type adapter. Writing streams the implementation with its ModelTypeAdapterFactory as well, putting the discriminator property first. Other
+ * implementations are written to a tree by their type adapter first, to move the discriminator property to the front.
+ *
+ * @param <T> the polymorphic type
+ */
+public abstract class DiscriminatorTypeAdapterFactory<T> implements TypeAdapterFactory {
+
+  private final Class<T> baseType;
+  private final String discriminatorPropertyName;
+  private final Map<String, Class<? extends T>> subtypesByValue = new HashMap<>();
+  private final Map<Class<?>, String> valuesBySubtype = new HashMap<>();
+  private final Map<Class<?>, ModelTypeAdapterFactory<? extends T>> typeAdapterFactoriesBySubtype = new HashMap<>();
+
+  protected DiscriminatorTypeAdapterFactory(Class<T> baseType, String discriminatorPropertyName) {
+    this.baseType = baseType;
+    this.discriminatorPropertyName = discriminatorPropertyName;
+  }
+
+  /**
+   * Registers an implementation of the polymorphic type. If an implementation is registered with several values, the first one is used for writing.
+   */
+  protected void registerSubtype(String discriminatorValue, Class<? extends T> subtype) {
+    subtypesByValue.put(discriminatorValue, subtype);
+    valuesBySubtype.putIfAbsent(subtype, discriminatorValue);
+  }
+
+  /**
+   * Registers an implementation of the polymorphic type, that is read and written with the given type adapter factory.
+   */
+  protected void registerSubtype(String discriminatorValue, Class<? extends T> subtype, ModelTypeAdapterFactory<? extends T> typeAdapterFactory) {
+    registerSubtype(discriminatorValue, subtype);
+    typeAdapterFactoriesBySubtype.putIfAbsent(subtype, typeAdapterFactory);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <R> TypeAdapter<R> create(Gson gson, TypeToken<R> type) {
+    if (type.getRawType() != baseType) {
+      return null;
+    }
+
+    return (TypeAdapter<R>) new DiscriminatorTypeAdapter(gson);
+  }
+
+  private class DiscriminatorTypeAdapter extends TypeAdapter<T> {
+
+    private final Gson gson;
+    private final TypeAdapter<JsonElement> jsonElementAdapter;
+    private final ConcurrentMap<Class<?>, ModelTypeAdapterFactory<? extends T>.ModelTypeAdapter> modelTypeAdapters = new ConcurrentHashMap<>();
+
+    DiscriminatorTypeAdapter(Gson gson) {
+      this.gson = gson;
+      this.jsonElementAdapter = gson.getAdapter(JsonElement.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(JsonWriter writer, T value) throws IOException {
+      if (value == null) {
+        writer.nullValue();
+        return;
+      }
+
+      String discriminatorValue = valuesBySubtype.get(value.getClass());
+      if (discriminatorValue == null) {
+        throw new IllegalArgumentException(value.getClass().getName() + " is not a registered implementation of " + baseType.getName());
+      }
+
+      ModelTypeAdapterFactory<T>.ModelTypeAdapter modelTypeAdapter = (ModelTypeAdapterFactory<T>.ModelTypeAdapter) modelTypeAdapterFor(value.getClass());
+      if (modelTypeAdapter != null) {
+        modelTypeAdapter.write(writer, value, discriminatorPropertyName, discriminatorValue);
+        return;
+      }
+
+      TypeAdapter<T> adapter = (TypeAdapter<T>) gson.getAdapter(value.getClass());
+      JsonObject properties = adapter.toJsonTree(value).getAsJsonObject();
+      JsonElement discriminator = properties.remove(discriminatorPropertyName);
+
+      writer.beginObject();
+      writer.name(discriminatorPropertyName);
+
+      if (discriminator != null && !discriminator.isJsonNull()) {
+        jsonElementAdapter.write(writer, discriminator);
+      } else {
+        writer.value(discriminatorValue);
+      }
+
+      // Null properties are written as JSON nulls, which the writer drops unless Gson is configured to serialize nulls.
+      for (Map.Entry<String, JsonElement> property : properties.entrySet()) {
+        writer.name(property.getKey());
+        jsonElementAdapter.write(writer, property.getValue());
+      }
+
+      writer.endObject();
+    }
+
+    @Override
+    public T read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+
+      Map<String, JsonElement> precedingProperties = new LinkedHashMap<>();
+      String discriminatorValue = null;
+
+      reader.beginObject();
+
+      while (discriminatorValue == null && reader.hasNext()) {
+        String name = reader.nextName();
+
+        if (name.equals(discriminatorPropertyName) && reader.peek() == JsonToken.STRING) {
+          discriminatorValue = reader.nextString();
+        } else {
+          precedingProperties.put(name, jsonElementAdapter.read(reader));
+        }
+      }
+
+      if (discriminatorValue == null) {
+        throw new JsonSyntaxException("Discriminator property '" + discriminatorPropertyName + "' of " + baseType.getSimpleName() + " is missing");
+      }
+
+      Class<? extends T> subtype = subtypesByValue.get(discriminatorValue);
+      if (subtype == null) {
+        throw new JsonSyntaxException("Unknown value '" + discriminatorValue + "' of discriminator property '" + discriminatorPropertyName + "' of "
+            + baseType.getSimpleName());
+      }
+
+      precedingProperties.put(discriminatorPropertyName, new JsonPrimitive(discriminatorValue));
+
+      ModelTypeAdapterFactory<? extends T>.ModelTypeAdapter modelTypeAdapter = modelTypeAdapterFor(subtype);
+      if (modelTypeAdapter != null) {
+        return modelTypeAdapter.readProperties(reader, precedingProperties);
+      }
+
+      // Other type adapters can not continue reading an object, so the object is replayed to them as a tree.
+      TypeAdapter<? extends T> adapter = gson.getAdapter(subtype);
+      JsonObject object = new JsonObject();
+      for (Map.Entry<String, JsonElement> property : precedingProperties.entrySet()) {
+        object.add(property.getKey(), property.getValue());
+      }
+      while (reader.hasNext()) {
+        object.add(reader.nextName(), jsonElementAdapter.read(reader));
+      }
+
+      reader.endObject();
+      return adapter.fromJsonTree(object);
+    }
+
+    /**
+     * Adapters are created lazily, as the property types of an implementation can refer back to the polymorphic type.
+     */
+    private ModelTypeAdapterFactory<? extends T>.ModelTypeAdapter modelTypeAdapterFor(Class<?> subtype) {
+      ModelTypeAdapterFactory<? extends T> typeAdapterFactory = typeAdapterFactoriesBySubtype.get(subtype);
+      if (typeAdapterFactory == null) {
+        return null;
+      }
+
+      return modelTypeAdapters.computeIfAbsent(subtype, ignored -> typeAdapterFactory.createModelTypeAdapter(gson));
+    }
+  }
+}
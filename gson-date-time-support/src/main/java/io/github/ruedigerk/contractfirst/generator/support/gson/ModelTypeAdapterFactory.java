@@ -0,0 +1,250 @@
+package io.github.ruedigerk.contractfirst.generator.support.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gson TypeAdapterFactory for model classes, that are created from the values of their properties and written from them by generated code instead of
+ * reflectively by Gson. The generated model classes reference a subclass of this factory, which registers their properties, creates the instances, e.g.,
+ * with the all-args constructor of an immutable model class, and returns the values of their properties.
+ * <p>
+ * Reading does not parse the JSON object into a tree first, the values of the properties are read directly from the stream. Primitive properties are
+ * always required, a JSON object missing a value for one of them is rejected, as Gson would otherwise silently leave it at its default value. Writing
+ * streams the properties as well, starting with the discriminator properties of the polymorphic types the model class implements.
+ * DiscriminatorTypeAdapterFactory continues reading a JSON object with this adapter after the discriminator property, and writes it with this adapter.
+ *
+ * @param <T> the model class
+ */
+public abstract class ModelTypeAdapterFactory<T> implements TypeAdapterFactory {
+
+  private final Class<T> modelType;
+  private final List<String> names = new ArrayList<>();
+  private final List<Type> types = new ArrayList<>();
+  private final List<Boolean> primitives = new ArrayList<>();
+  private final Map<String, Integer> indexesByName = new HashMap<>();
+  private final Map<String, String> discriminatorValues = new LinkedHashMap<>();
+
+  protected ModelTypeAdapterFactory(Class<T> modelType) {
+    this.modelType = modelType;
+  }
+
+  /**
+   * Registers the next property of the model class. The values of the properties are passed to {@link #newInstance(PropertyValues)} by the index of
+   * their registration.
+   */
+  protected void registerProperty(String name, Type type) {
+    register(name, type, false);
+  }
+
+  /**
+   * Registers the next property of the model class, which has a primitive type and therefore is required.
+   */
+  protected void registerPrimitiveProperty(String name, Class<?> type) {
+    register(name, type, true);
+  }
+
+  /**
+   * Registers the value of a discriminator property identifying the model class as an implementation of a polymorphic type. It is written, when the
+   * property is not set. If the property is registered with several values, the first one is used.
+   */
+  protected void registerDiscriminator(String propertyName, String value) {
+    discriminatorValues.putIfAbsent(propertyName, value);
+  }
+
+  /**
+   * Creates the instance of the model class from the values of its properties read from a JSON object.
+   */
+  protected abstract T newInstance(PropertyValues values);
+
+  /**
+   * Returns the values of the properties of the instance for writing it to a JSON object, by the index of their registration.
+   */
+  protected abstract Object[] valuesOf(T instance);
+
+  private void register(String name, Type type, boolean primitive) {
+    indexesByName.put(name, names.size());
+    names.add(name);
+    types.add(type);
+    primitives.add(primitive);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <R> TypeAdapter<R> create(Gson gson, TypeToken<R> type) {
+    if (type.getRawType() != modelType) {
+      return null;
+    }
+
+    return (TypeAdapter<R>) createModelTypeAdapter(gson);
+  }
+
+  ModelTypeAdapter createModelTypeAdapter(Gson gson) {
+    List<TypeAdapter<?>> adapters = new ArrayList<>(types.size());
+    for (Type propertyType : types) {
+      adapters.add(gson.getAdapter(TypeToken.get(propertyType)));
+    }
+
+    return new ModelTypeAdapter(adapters);
+  }
+
+  class ModelTypeAdapter extends TypeAdapter<T> {
+
+    private final List<TypeAdapter<?>> adapters;
+
+    ModelTypeAdapter(List<TypeAdapter<?>> adapters) {
+      this.adapters = adapters;
+    }
+
+    @Override
+    public void write(JsonWriter writer, T value) throws IOException {
+      if (value == null) {
+        writer.nullValue();
+        return;
+      }
+
+      write(writer, value, null, null);
+    }
+
+    /**
+     * Writes the value as a JSON object, starting with the supplied discriminator property, if any, and then the registered discriminator properties.
+     * A discriminator property that is not set is written with the supplied or registered value. Null properties are written as JSON nulls, which the
+     * writer drops unless Gson is configured to serialize nulls.
+     */
+    void write(JsonWriter writer, T value, String discriminatorPropertyName, String discriminatorValue) throws IOException {
+      Object[] values = valuesOf(value);
+      boolean[] written = new boolean[values.length];
+
+      writer.beginObject();
+
+      if (discriminatorPropertyName != null) {
+        writeDiscriminator(writer, values, written, discriminatorPropertyName, discriminatorValue);
+      }
+      for (Map.Entry<String, String> discriminator : discriminatorValues.entrySet()) {
+        if (!discriminator.getKey().equals(discriminatorPropertyName)) {
+          writeDiscriminator(writer, values, written, discriminator.getKey(), discriminator.getValue());
+        }
+      }
+
+      for (int index = 0; index < values.length; index++) {
+        if (!written[index]) {
+          writeProperty(writer, values, index);
+        }
+      }
+
+      writer.endObject();
+    }
+
+    private void writeDiscriminator(JsonWriter writer, Object[] values, boolean[] written, String name, String defaultValue) throws IOException {
+      Integer index = indexesByName.get(name);
+
+      if (index != null && values[index] != null) {
+        writeProperty(writer, values, index);
+      } else {
+        writer.name(name).value(defaultValue);
+      }
+
+      if (index != null) {
+        written[index] = true;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeProperty(JsonWriter writer, Object[] values, int index) throws IOException {
+      writer.name(names.get(index));
+      ((TypeAdapter<Object>) adapters.get(index)).write(writer, values[index]);
+    }
+
+    @Override
+    public T read(JsonReader reader) throws IOException {
+      if (reader.peek() == JsonToken.NULL) {
+        reader.nextNull();
+        return null;
+      }
+
+      reader.beginObject();
+      return readProperties(reader, Collections.emptyMap());
+    }
+
+    /**
+     * Reads the remaining properties of a JSON object, whose beginning and preceding properties have already been read from the reader.
+     */
+    T readProperties(JsonReader reader, Map<String, JsonElement> precedingProperties) throws IOException {
+      Object[] values = new Object[names.size()];
+      boolean[] present = new boolean[names.size()];
+
+      for (Map.Entry<String, JsonElement> property : precedingProperties.entrySet()) {
+        Integer index = indexesByName.get(property.getKey());
+
+        if (index != null) {
+          values[index] = adapters.get(index).fromJsonTree(property.getValue());
+          present[index] = true;
+        }
+      }
+
+      while (reader.hasNext()) {
+        Integer index = indexesByName.get(reader.nextName());
+
+        if (index != null) {
+          values[index] = adapters.get(index).read(reader);
+          present[index] = true;
+        } else {
+          reader.skipValue();
+        }
+      }
+
+      reader.endObject();
+
+      for (int index = 0; index < values.length; index++) {
+        if (values[index] == null && primitives.get(index)) {
+          throw new JsonSyntaxException("Required property '" + names.get(index) + "' of " + modelType.getSimpleName() + " is missing");
+        }
+      }
+
+      return newInstance(new PropertyValues(values, present));
+    }
+  }
+
+  /**
+   * The values of the properties read from a JSON object, by the index of their registration.
+   */
+  public static final class PropertyValues {
+
+    private final Object[] values;
+    private final boolean[] present;
+
+    private PropertyValues(Object[] values, boolean[] present) {
+      this.values = values;
+      this.present = present;
+    }
+
+    /**
+     * Returns whether the JSON object contains the property, possibly with value null.
+     */
+    public boolean isPresent(int index) {
+      return present[index];
+    }
+
+    /**
+     * Returns the value of the property, or null, if the JSON object does not contain it.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(int index) {
+      return (V) values[index];
+    }
+  }
+}
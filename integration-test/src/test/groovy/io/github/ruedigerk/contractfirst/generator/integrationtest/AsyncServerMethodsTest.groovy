@@ -0,0 +1,90 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientIncompatibleResponseException
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.ApiClientErrorWithCFailureEntityException
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.ResponseVariantsApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CFailure
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CItem
+import io.github.ruedigerk.contractfirst.generator.integrationtest.spec.EmbeddedJaxRsServerSpecification
+import io.github.ruedigerk.contractfirst.generator.mojotest.asyncserver.model.Failure
+import io.github.ruedigerk.contractfirst.generator.mojotest.asyncserver.model.Item
+import io.github.ruedigerk.contractfirst.generator.mojotest.asyncserver.resources.ResponseVariantsApi
+import spock.lang.Subject
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * Tests server stubs generated with option outputJavaServerAsyncMethods, whose methods return a CompletionStage of their response class.
+ */
+class AsyncServerMethodsTest extends EmbeddedJaxRsServerSpecification {
+
+  static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2, { Runnable runnable -> new Thread(runnable, "async-resource") })
+
+  CItem item = new CItem(id: 42L, name: "name", tag: "tag")
+
+  @Subject
+  ResponseVariantsApiClient apiClient = new ResponseVariantsApiClient(apiClientSupport)
+
+  @Override
+  Class<?> getTestResource() {
+    EmbeddedServerResource
+  }
+
+  def cleanupSpec() {
+    EXECUTOR.shutdownNow()
+  }
+
+  def "Response completed by another thread"() {
+    when:
+    def result = apiClient.createItem("systemId", true, 4711L, null, item)
+
+    then:
+    result == new CItem(id: 42L, name: "async-resource", tag: "tag")
+  }
+
+  def "Typesafe error response completed by another thread"() {
+    when:
+    apiClient.createItem("systemId", true, 4711L, "400", item)
+
+    then:
+    def e = thrown(ApiClientErrorWithCFailureEntityException)
+    e.statusCode == 400
+    e.entity == new CFailure(code: 400, message: "async-resource")
+  }
+
+  def "Exceptionally completed stage results in status 500"() {
+    when:
+    apiClient.createItem("systemId", true, 4711L, "exception", item)
+
+    then:
+    def e = thrown(ApiClientIncompatibleResponseException)
+    e.response.statusCode == 500
+  }
+
+  /**
+   * JAX-RS resource implementation used in this test.
+   */
+  static class EmbeddedServerResource implements ResponseVariantsApi {
+
+    @Override
+    CompletionStage<CreateItemResponse> createItem(String systemId, Boolean dryRun, Long partNumber, String testCaseSelector, Item requestBody) {
+      CompletableFuture.supplyAsync({ respond(testCaseSelector, requestBody) }, EXECUTOR)
+    }
+
+    private static CreateItemResponse respond(String testCaseSelector, Item requestBody) {
+      def threadName = Thread.currentThread().name
+
+      switch (testCaseSelector) {
+        case "400":
+          return CreateItemResponse.with400ApplicationJson(new Failure().code(400).message(threadName))
+        case "exception":
+          throw new IllegalStateException("Failed asynchronously")
+        default:
+          return CreateItemResponse.with200ApplicationJson(requestBody.name(threadName))
+      }
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import com.google.gson.Gson
+import com.google.gson.GsonBuilder
+import com.google.gson.JsonParseException
+import io.github.ruedigerk.contractfirst.generator.mojotest.bytebuffers.model.Document as BufferDocument
+import io.github.ruedigerk.contractfirst.generator.mojotest.byteformat.model.Document
+import io.github.ruedigerk.contractfirst.generator.support.gson.ByteArrayGsonTypeAdapter
+import io.github.ruedigerk.contractfirst.generator.support.gson.ByteBufferGsonTypeAdapter
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+
+/**
+ * Tests string schemas of format byte, i.e. Base64 encoded binary data, mapped to byte[] and, with option outputJavaModelByteBuffers, to ByteBuffer.
+ */
+class ByteFormatTest extends Specification {
+
+  // Without disabling HTML escaping, Gson writes the padding character '=' as an escape sequence.
+  Gson gson = new GsonBuilder()
+      .disableHtmlEscaping()
+      .registerTypeAdapter(byte[], new ByteArrayGsonTypeAdapter())
+      .registerTypeHierarchyAdapter(ByteBuffer, new ByteBufferGsonTypeAdapter())
+      .create()
+
+  def "Encodes and decodes like java.util.Base64, for length #length"() {
+    given:
+    def bytes = new byte[length]
+    new Random(length).nextBytes(bytes)
+    def encoded = Base64.encoder.encodeToString(bytes)
+
+    expect:
+    gson.toJson(bytes, byte[]) == '"' + encoded + '"'
+    gson.fromJson('"' + encoded + '"', byte[]) == bytes
+    gson.fromJson('"' + encoded.replace("=", "") + '"', byte[]) == bytes
+
+    where:
+    length << (0..10) + [255, 256, 257, 100_000]
+  }
+
+  def "Rejects invalid Base64: #input"() {
+    when:
+    gson.fromJson('"' + input + '"', byte[])
+
+    then:
+    def e = thrown(JsonParseException)
+    e.message == message
+
+    where:
+    input   | message
+    "QQ-="  | "Base64 encoded value contains the illegal character '-' at index 2"
+    "QUJDR" | "Base64 encoded value has an invalid length"
+    "QQ="   | "Base64 encoded value has invalid padding"
+    "Q==="  | "Base64 encoded value contains the illegal character '=' at index 1"
+  }
+
+  def "Model classes map format byte to byte[]"() {
+    given:
+    def document = new Document().name("doc").content("Hello" as byte[]).thumbnails(["A" as byte[]])
+
+    when:
+    def json = gson.toJson(document)
+
+    then:
+    json == '{"name":"doc","content":"SGVsbG8=","thumbnails":["QQ=="]}'
+    gson.fromJson(json, Document).content == "Hello" as byte[]
+
+    and: "byte arrays are compared by content"
+    new Document().content("Hello" as byte[]) == new Document().content("Hello" as byte[])
+    new Document().content("Hello" as byte[]).toString() == "Document{name=null, content=5 bytes, thumbnails=[]}"
+  }
+
+  def "Model classes map format byte to ByteBuffer"() {
+    given:
+    def buffer = ByteBuffer.wrap("__Hello__".bytes)
+    buffer.position(2).limit(7)
+
+    when:
+    def json = gson.toJson(new BufferDocument().content(buffer))
+
+    then: "only the remaining bytes are written, without changing the position"
+    json == '{"content":"SGVsbG8=","thumbnails":[]}'
+    buffer.position() == 2
+
+    and:
+    gson.fromJson(json, BufferDocument).content == ByteBuffer.wrap("Hello".bytes)
+  }
+}
@@ -0,0 +1,75 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import com.google.gson.Gson
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.PayloadVariantsApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.TestcasesApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CItem
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.lang.reflect.ParameterizedType
+
+/**
+ * Tests the type constants of the generated API clients, which are built with TypeToken.getParameterized instead of anonymous subclasses of TypeToken.
+ */
+class ClientTypeConstantsTest extends Specification {
+
+  def "type constants are the parameterized types of the generic return types"() {
+    given:
+    def type = PayloadVariantsApiClient.LIST_OF_C_ITEM
+
+    expect:
+    type instanceof ParameterizedType
+    (type as ParameterizedType).rawType == List
+    (type as ParameterizedType).actualTypeArguments == [CItem] as java.lang.reflect.Type[]
+  }
+
+  def "type constants deserialize generic return types"() {
+    when:
+    List<CItem> items = new Gson().fromJson('[{"id": 1, "name": "Rex"}]', PayloadVariantsApiClient.LIST_OF_C_ITEM)
+
+    then:
+    items == [new CItem().id(1L).name("Rex")]
+  }
+
+  @Unroll
+  def "Initialization of #clientClass.simpleName does not load anonymous classes"() {
+    expect:
+    !clientClassLoadsAnonymousClasses(clientClass.name)
+
+    where:
+    clientClass << [PayloadVariantsApiClient, TestcasesApiClient]
+  }
+
+  private static boolean clientClassLoadsAnonymousClasses(String className) {
+    def classLoader = new RecordingClassLoader(classPathUrls())
+    try {
+      Class.forName(className, true, classLoader)
+      classLoader.loadedClassNames.any { it.startsWith(className + '$') && it.substring(className.length() + 1).isNumber() }
+    } finally {
+      classLoader.close()
+    }
+  }
+
+  private static URL[] classPathUrls() {
+    System.getProperty("java.class.path").split(File.pathSeparator).collect { new File(it).toURI().toURL() } as URL[]
+  }
+
+  /**
+   * Loads classes from the class path by itself, instead of delegating to the already initialized application class loader, and records their names.
+   */
+  private static class RecordingClassLoader extends URLClassLoader {
+
+    final List<String> loadedClassNames = []
+
+    RecordingClassLoader(URL[] urls) {
+      super(urls, (ClassLoader) null)
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+      loadedClassNames.add(name)
+      super.findClass(name)
+    }
+  }
+}
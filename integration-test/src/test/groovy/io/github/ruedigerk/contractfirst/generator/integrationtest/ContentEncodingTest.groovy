@@ -0,0 +1,201 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import com.google.gson.JsonElement
+import com.google.gson.JsonParser
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.PayloadVariantsApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CItem
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.model.SItem
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.resources.PayloadVariantsApi
+import io.github.ruedigerk.contractfirst.generator.integrationtest.spec.EmbeddedJaxRsServerSpecification
+import io.github.ruedigerk.contractfirst.generator.server.encoding.ContentEncodingInterceptor
+import io.github.ruedigerk.contractfirst.generator.server.encoding.PrecompressedEntity
+import okhttp3.MediaType
+import okhttp3.Request
+import okhttp3.RequestBody
+import okhttp3.logging.HttpLoggingInterceptor
+import spock.lang.Subject
+
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+import java.util.zip.InflaterInputStream
+
+/**
+ * Tests compressing response entities and decompressing request entities with the ContentEncodingInterceptor.
+ */
+class ContentEncodingTest extends EmbeddedJaxRsServerSpecification {
+
+  static final String STATIC_ENTITY = '[{"id":0,"name":"static"}]'
+  static final PrecompressedEntity PRECOMPRESSED_ENTITY = PrecompressedEntity.of(STATIC_ENTITY)
+
+  static final String LARGE_ENTITY = "[" + (1..100).collect { """{"id":$it,"name":"item $it"}""" }.join(",") + "]"
+  static final String SMALL_ENTITY = '[{"id":1,"name":"item 1"}]'
+
+  @Subject
+  PayloadVariantsApiClient apiClient = new PayloadVariantsApiClient(apiClientSupport)
+
+  @Override
+  Class<?> getTestResource() {
+    EmbeddedServerResource
+  }
+
+  @Override
+  List<Object> getAdditionalProviders() {
+    [new ContentEncodingInterceptor(100, 6)]
+  }
+
+  def setup() {
+    // The logging interceptor would consume the compressed bodies.
+    setLoggingInterceptorLevel(HttpLoggingInterceptor.Level.HEADERS)
+  }
+
+  def "Large entity is compressed with the negotiated encoding: #acceptEncoding"() {
+    when:
+    def response = postItems(LARGE_ENTITY, acceptEncoding)
+
+    then:
+    response.contentEncoding == expectedEncoding
+    response.vary == "Accept-Encoding"
+    json(decode(response.body, expectedEncoding)) == json(LARGE_ENTITY)
+    response.body.length < LARGE_ENTITY.length()
+
+    where:
+    acceptEncoding             | expectedEncoding
+    "gzip"                     | "gzip"
+    "deflate"                  | "deflate"
+    "gzip, deflate"            | "gzip"
+    "gzip;q=0.5, deflate"      | "deflate"
+    "br, *"                    | "gzip"
+  }
+
+  def "Entity is not compressed: #description"() {
+    when:
+    def response = postItems(entity, acceptEncoding)
+
+    then:
+    response.contentEncoding == null
+    json(new String(response.body, "UTF-8")) == json(entity)
+
+    where:
+    description                  | entity       | acceptEncoding
+    "smaller than minimum size"  | SMALL_ENTITY | "gzip"
+    "identity only"              | LARGE_ENTITY | "identity"
+    "gzip and deflate refused"   | LARGE_ENTITY | "gzip;q=0, deflate;q=0"
+  }
+
+  def "Compressed request entity is decompressed"() {
+    given:
+    def compressed = new ByteArrayOutputStream()
+    new GZIPOutputStream(compressed).withCloseable { it.write(LARGE_ENTITY.getBytes("UTF-8")) }
+
+    when:
+    def response = execute(new Request.Builder()
+        .url("$BASE_URL/items")
+        .header("Content-Encoding", "gzip")
+        .post(RequestBody.create(compressed.toByteArray(), MediaType.get("application/json")))
+        .build())
+
+    then:
+    response.status == 200
+    json(new String(response.body, "UTF-8")) == json(LARGE_ENTITY)
+  }
+
+  def "Unsupported request Content-Encoding is rejected with 415"() {
+    when:
+    def response = execute(new Request.Builder()
+        .url("$BASE_URL/items")
+        .header("Content-Encoding", "br")
+        .post(RequestBody.create(SMALL_ENTITY, MediaType.get("application/json")))
+        .build())
+
+    then:
+    response.status == 415
+  }
+
+  def "Precompressed entity is sent as is, when gzip is accepted"() {
+    when:
+    def response = postItems("[]", "gzip")
+
+    then:
+    response.contentEncoding == "gzip"
+    response.body.length == PRECOMPRESSED_ENTITY.compressedLength
+    decode(response.body, "gzip") == STATIC_ENTITY
+  }
+
+  def "Precompressed entity is sent uncompressed, when gzip is not accepted"() {
+    when:
+    def response = postItems("[]", "identity")
+
+    then:
+    response.contentEncoding == null
+    response.contentType == "application/json"
+    new String(response.body, "UTF-8") == STATIC_ENTITY
+  }
+
+  def "Generated client decompresses transparently"() {
+    given:
+    def items = (1..100).collect { new CItem(id: it as Long, name: "item $it") }
+
+    when:
+    def result = apiClient.filterItems(items)
+
+    then:
+    result == items
+  }
+
+  /**
+   * OkHttp only decompresses transparently, when it adds the Accept-Encoding header itself. Setting it explicitly gives access to the raw response entity.
+   */
+  private Map postItems(String entity, String acceptEncoding) {
+    execute(new Request.Builder()
+        .url("$BASE_URL/items")
+        .header("Accept-Encoding", acceptEncoding)
+        .post(RequestBody.create(entity, MediaType.get("application/json")))
+        .build())
+  }
+
+  private Map execute(Request request) {
+    okHttpClient.newCall(request).execute().withCloseable { response ->
+      [
+          status         : response.code(),
+          contentEncoding: response.header("Content-Encoding"),
+          contentType    : response.header("Content-Type"),
+          vary           : response.header("Vary"),
+          body           : response.body().bytes()
+      ]
+    }
+  }
+
+  private static JsonElement json(String json) {
+    JsonParser.parseString(json)
+  }
+
+  private static String decode(byte[] body, String encoding) {
+    def stream = encoding == "gzip" ? new GZIPInputStream(new ByteArrayInputStream(body)) : new InflaterInputStream(new ByteArrayInputStream(body))
+    new String(stream.bytes, "UTF-8")
+  }
+
+  /**
+   * JAX-RS resource implementation used in this test.
+   */
+  static class EmbeddedServerResource implements PayloadVariantsApi {
+
+    @Override
+    ChangeItemResponse changeItem(SItem requestBody) {
+      return ChangeItemResponse.with204()
+    }
+
+    @Override
+    FilterItemsResponse filterItems(List<SItem> requestBody) {
+      if (requestBody.isEmpty()) {
+        return FilterItemsResponse.with200ApplicationJsonPrecompressed(PRECOMPRESSED_ENTITY)
+      }
+
+      return FilterItemsResponse.with200ApplicationJson(requestBody)
+    }
+
+    @Override
+    UploadAndReturnBinaryResponse uploadAndReturnBinary(InputStream requestBody) {
+      return UploadAndReturnBinaryResponse.with200ApplicationOctetStream(requestBody)
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.model.SItem
+import io.github.ruedigerk.contractfirst.generator.server.GsonMessageBodyHandler
+import spock.lang.Specification
+
+import javax.ws.rs.NotSupportedException
+import javax.ws.rs.WebApplicationException
+import javax.ws.rs.core.MediaType
+import javax.ws.rs.core.MultivaluedHashMap
+import java.lang.annotation.Annotation
+import java.nio.charset.StandardCharsets
+
+/**
+ * Tests the charset handling and the entity size limit of GsonMessageBodyHandler.
+ */
+class GsonMessageBodyHandlerTest extends Specification {
+
+  static final String JSON = '{"id":1,"name":"Grüße","tag":"€"}'
+
+  def "Reads UTF-8 by default"() {
+    when:
+    def item = read(new GsonMessageBodyHandler(), MediaType.APPLICATION_JSON_TYPE, JSON.getBytes(StandardCharsets.UTF_8))
+
+    then:
+    item == new SItem().id(1L).name("Grüße").tag("€")
+  }
+
+  def "Reads the charset of the media type"() {
+    given:
+    def json = '{"name":"Grüße"}'
+    def mediaType = MediaType.APPLICATION_JSON_TYPE.withCharset("ISO-8859-1")
+
+    when:
+    def item = read(new GsonMessageBodyHandler(), mediaType, json.getBytes(StandardCharsets.ISO_8859_1))
+
+    then:
+    item == new SItem().name("Grüße")
+  }
+
+  def "Rejects an unsupported charset with 415: #charset"() {
+    when:
+    read(new GsonMessageBodyHandler(), MediaType.APPLICATION_JSON_TYPE.withCharset(charset), JSON.getBytes(StandardCharsets.UTF_8))
+
+    then:
+    def e = thrown(NotSupportedException)
+    e.response.status == 415
+
+    where:
+    charset << ["no-such-charset", "illegal charset name"]
+  }
+
+  def "Writes the charset of the media type, defaulting to UTF-8"() {
+    given:
+    def item = new SItem().name("Grüße")
+
+    expect:
+    write(new GsonMessageBodyHandler(), item, MediaType.APPLICATION_JSON_TYPE) == '{"name":"Grüße"}'.getBytes(StandardCharsets.UTF_8)
+    write(new GsonMessageBodyHandler(), item, MediaType.APPLICATION_JSON_TYPE.withCharset("UTF-16")) == '{"name":"Grüße"}'.getBytes(StandardCharsets.UTF_16)
+  }
+
+  def "Writes UTF-8 for an unsupported charset, changing the charset of the Content-Type header"() {
+    given:
+    def mediaType = MediaType.APPLICATION_JSON_TYPE.withCharset("no-such-charset")
+    def httpHeaders = new MultivaluedHashMap<String, Object>()
+    httpHeaders.putSingle("Content-Type", mediaType)
+    def out = new ByteArrayOutputStream()
+
+    when:
+    new GsonMessageBodyHandler().writeTo(new SItem().name("Grüße"), SItem, SItem, new Annotation[0], mediaType, httpHeaders, out)
+
+    then:
+    out.toByteArray() == '{"name":"Grüße"}'.getBytes(StandardCharsets.UTF_8)
+    httpHeaders.getFirst("Content-Type") == MediaType.APPLICATION_JSON_TYPE.withCharset("UTF-8")
+  }
+
+  def "Writes entities larger than the write buffer"() {
+    given:
+    def name = "x" * 100_000
+
+    expect:
+    write(new GsonMessageBodyHandler(), new SItem().name(name), MediaType.APPLICATION_JSON_TYPE) == ('{"name":"' + name + '"}').bytes
+  }
+
+  def "Reads entities up to the maximum entity size"() {
+    given:
+    def bytes = JSON.getBytes(StandardCharsets.UTF_8)
+    def handler = new GsonMessageBodyHandler(bytes.length)
+
+    expect:
+    read(handler, MediaType.APPLICATION_JSON_TYPE, bytes, bytes.length as String) == new SItem().id(1L).name("Grüße").tag("€")
+    read(handler, MediaType.APPLICATION_JSON_TYPE, bytes) == new SItem().id(1L).name("Grüße").tag("€")
+  }
+
+  def "Rejects an entity with a Content-Length larger than the maximum entity size with 413, without reading it"() {
+    given:
+    def body = Mock(InputStream)
+
+    when:
+    new GsonMessageBodyHandler(100).readFrom(Object, SItem, new Annotation[0], MediaType.APPLICATION_JSON_TYPE, headers("101"), body)
+
+    then:
+    def e = thrown(WebApplicationException)
+    e.response.status == 413
+    0 * body._
+  }
+
+  def "Rejects an entity without Content-Length with 413, as soon as it exceeds the maximum entity size"() {
+    given:
+    def bytes = ('[' + (['{"name":"Grüße"}'] * 1000).join(',') + ']').getBytes(StandardCharsets.UTF_8)
+    def body = new ByteArrayInputStream(bytes)
+
+    when:
+    new GsonMessageBodyHandler(1000).readFrom(Object, SItem[], new Annotation[0], MediaType.APPLICATION_JSON_TYPE, headers(null), body)
+
+    then:
+    def e = thrown(WebApplicationException)
+    e.response.status == 413
+    body.available() > bytes.length - 2 * 8192
+  }
+
+  def "Rejects an invalid Content-Length with 400"() {
+    when:
+    read(new GsonMessageBodyHandler(100), MediaType.APPLICATION_JSON_TYPE, JSON.bytes, "many")
+
+    then:
+    def e = thrown(WebApplicationException)
+    e.response.status == 400
+  }
+
+  def "Rejects a negative maximum entity size"() {
+    when:
+    new GsonMessageBodyHandler(-1)
+
+    then:
+    thrown(IllegalArgumentException)
+  }
+
+  private static SItem read(GsonMessageBodyHandler handler, MediaType mediaType, byte[] bytes, String contentLength = null) {
+    handler.readFrom(Object, SItem, new Annotation[0], mediaType, headers(contentLength), new ByteArrayInputStream(bytes)) as SItem
+  }
+
+  private static byte[] write(GsonMessageBodyHandler handler, Object entity, MediaType mediaType) {
+    def out = new ByteArrayOutputStream()
+    handler.writeTo(entity, entity.class, entity.class, new Annotation[0], mediaType, new MultivaluedHashMap<String, Object>(), out)
+    out.toByteArray()
+  }
+
+  private static MultivaluedHashMap<String, String> headers(String contentLength) {
+    def headers = new MultivaluedHashMap<String, String>()
+    if (contentLength != null) {
+      headers.putSingle("Content-Length", contentLength)
+    }
+    headers
+  }
+}
@@ -0,0 +1,78 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import com.google.gson.Gson
+import io.github.ruedigerk.contractfirst.generator.mojotest.immutable.Appliance
+import io.github.ruedigerk.contractfirst.generator.mojotest.immutable.Device
+import spock.lang.Specification
+
+/**
+ * Tests the immutable model classes, generated with option outputJavaModelImmutable.
+ */
+class ImmutableModelTest extends Specification {
+
+  Gson gson = new Gson()
+
+  def "Immutable model classes survive a Gson round trip"() {
+    given:
+    def appliance = new Appliance("Toaster", [new Device("Heater", 2.5G)], null)
+
+    when:
+    def json = gson.toJson(appliance)
+    def deserialized = gson.fromJson(json, Appliance)
+
+    then:
+    json == '{"name":"Toaster","devices":[{"name":"Heater","value":2.5}]}'
+    deserialized == appliance
+    deserialized.hashCode() == appliance.hashCode()
+  }
+
+  def "Properties missing in the JSON get the same values as when passing null to the constructor"() {
+    when:
+    def deserialized = gson.fromJson('{"name":"Toaster"}', Appliance)
+
+    then:
+    deserialized == new Appliance("Toaster", null, null)
+    deserialized.devices == []
+  }
+
+  def "Collections passed to the constructor are copied"() {
+    given:
+    def devices = [new Device("Heater", 2.5G)]
+    def appliance = new Appliance("Toaster", devices, null)
+
+    when:
+    devices.add(new Device("Timer", null))
+
+    then:
+    appliance.devices.size() == 1
+
+    when:
+    appliance.devices.add(new Device("Timer", null))
+
+    then:
+    thrown(UnsupportedOperationException)
+  }
+
+  def "Deserialized instances are created with the constructor, so that their collections are unmodifiable"() {
+    given:
+    def deserialized = gson.fromJson('{"name":"Toaster","devices":[{"name":"Heater","value":2.5}]}', Appliance)
+    def hashCode = deserialized.hashCode()
+
+    when:
+    deserialized.devices.add(new Device("Timer", null))
+
+    then:
+    thrown(UnsupportedOperationException)
+    deserialized.devices == [new Device("Heater", 2.5G)]
+    deserialized.hashCode() == hashCode
+  }
+
+  def "Null collections in the JSON are replaced by empty collections like by the constructor"() {
+    when:
+    def deserialized = gson.fromJson('{"name":"Toaster","devices":null}', Appliance)
+
+    then:
+    deserialized.devices == []
+    deserialized == new Appliance("Toaster", null, null)
+  }
+}
@@ -0,0 +1,56 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import com.google.gson.Gson
+import io.github.ruedigerk.contractfirst.generator.mojotest.lazycollections.Sparse
+import spock.lang.Specification
+
+/**
+ * Tests model classes with lazily initialized collections, generated with option outputJavaModelLazyCollections.
+ */
+class LazyCollectionsTest extends Specification {
+
+  Gson gson = new Gson()
+
+  def "Optional collections are not allocated, when missing in the JSON"() {
+    when:
+    def sparse = gson.fromJson('{"id":"1","readings":[1.5]}', Sparse)
+
+    then:
+    sparse.@tags == null
+    sparse.@labels == null
+    sparse.@attributes == null
+    sparse.tags == []
+    sparse.labels == [] as Set
+    sparse.attributes == [:]
+    gson.toJson(sparse) == '{"id":"1","readings":[1.5]}'
+  }
+
+  def "Add and put methods allocate the collections on demand"() {
+    given:
+    def sparse = new Sparse().id("1")
+
+    when:
+    sparse.addTagsItem("a").addTagsItem("b").addLabelsItem("c").putAttributesItem("d", 1)
+
+    then:
+    sparse.tags == ["a", "b"]
+    sparse.labels == ["c"] as Set
+    sparse.attributes == [d: 1]
+  }
+
+  def "Missing collections equal empty collections"() {
+    given:
+    def withoutTags = new Sparse().id("1")
+    def withEmptyTags = new Sparse().id("1").tags([])
+
+    expect:
+    withoutTags == withEmptyTags
+    withoutTags.hashCode() == withEmptyTags.hashCode()
+    withoutTags.toString() == withEmptyTags.toString()
+  }
+
+  def "Required collections are still initialized eagerly"() {
+    expect:
+    new Sparse().@readings == []
+  }
+}
@@ -0,0 +1,135 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.PayloadVariantsApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CItem
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.model.SItem
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.resources.PayloadVariantsApi
+import io.github.ruedigerk.contractfirst.generator.integrationtest.spec.EmbeddedJaxRsServerSpecification
+import io.github.ruedigerk.contractfirst.generator.server.metrics.OperationMetricsExporter
+import io.github.ruedigerk.contractfirst.generator.server.metrics.OperationMetricsFilter
+import io.github.ruedigerk.contractfirst.generator.server.metrics.OperationMetricsRegistry
+import io.github.ruedigerk.contractfirst.generator.server.metrics.OperationMetricsSnapshot
+import okhttp3.MediaType
+import okhttp3.Request
+import okhttp3.RequestBody
+import spock.lang.Shared
+import spock.lang.Stepwise
+import spock.lang.Subject
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Tests recording metrics per operation of the contract with the OperationMetricsFilter.
+ */
+@Stepwise
+class OperationMetricsTest extends EmbeddedJaxRsServerSpecification {
+
+  static final String REQUEST_ENTITY = '[{"id":1,"name":"Buddy"}]'
+
+  @Shared
+  List<OperationMetricsSnapshot> exported = []
+
+  @Shared
+  int responseEntityLength
+
+  @Shared
+  OperationMetricsRegistry registry = new OperationMetricsRegistry().addExporter({ exported.addAll(it) } as OperationMetricsExporter)
+
+  @Subject
+  PayloadVariantsApiClient apiClient = new PayloadVariantsApiClient(apiClientSupport)
+
+  @Override
+  Class<?> getTestResource() {
+    EmbeddedServerResource
+  }
+
+  @Override
+  List<Object> getAdditionalProviders() {
+    [new OperationMetricsFilter(registry)]
+  }
+
+  def "Requests are recorded per operation, identified by operationId and path template"() {
+    when:
+    2.times { apiClient.filterItems([new CItem(id: 1L, name: "Buddy")]) }
+    responseEntityLength = filterItemsWithoutClient(REQUEST_ENTITY).length
+    apiClient.changeItem(new CItem(id: 1L, name: "Buddy"))
+
+    then:
+    def snapshots = registry.snapshot()
+    snapshots*.operationId == ["changeItem", "filterItems"]
+    snapshots*.method == ["POST", "POST"]
+    snapshots*.path == ["/itemBinaries", "/items"]
+  }
+
+  def "Status classes, latencies and entity sizes are recorded"() {
+    when:
+    def filterItems = snapshotOf("filterItems")
+    def changeItem = snapshotOf("changeItem")
+
+    then:
+    filterItems.requestCount == 3
+    filterItems.getStatusClassCount(2) == 3
+    filterItems.getStatusClassCount(5) == 0
+    filterItems.getLatencyBucketCounts().sum() == 3
+    filterItems.getMaxLatency(TimeUnit.NANOSECONDS) > 0
+    filterItems.getTotalLatency(TimeUnit.NANOSECONDS) >= filterItems.getMaxLatency(TimeUnit.NANOSECONDS)
+    filterItems.requestEntityBytes == 3 * REQUEST_ENTITY.length()
+    filterItems.responseEntityBytes == 3 * responseEntityLength
+
+    and:
+    changeItem.requestCount == 1
+    changeItem.getStatusClassCount(2) == 1
+    changeItem.responseEntityBytes == 0
+  }
+
+  def "Binary entities are counted"() {
+    given:
+    def bytes = new byte[10_000]
+
+    when:
+    apiClient.uploadAndReturnBinary(new ByteArrayInputStream(bytes)).bytes
+
+    then:
+    def snapshot = snapshotOf("uploadAndReturnBinary")
+    snapshot.requestCount == 1
+    snapshot.responseEntityBytes == 10_000
+  }
+
+  def "Snapshots are passed to the exporters"() {
+    when:
+    registry.export()
+
+    then:
+    exported*.operationId == ["changeItem", "uploadAndReturnBinary", "filterItems"]
+  }
+
+  private byte[] filterItemsWithoutClient(String entity) {
+    def request = new Request.Builder().url("$BASE_URL/items").post(RequestBody.create(entity, MediaType.get("application/json"))).build()
+    okHttpClient.newCall(request).execute().withCloseable { it.body().bytes() }
+  }
+
+  private OperationMetricsSnapshot snapshotOf(String operationId) {
+    registry.snapshot().find { it.operationId == operationId }
+  }
+
+  /**
+   * JAX-RS resource implementation used in this test.
+   */
+  static class EmbeddedServerResource implements PayloadVariantsApi {
+
+    @Override
+    ChangeItemResponse changeItem(SItem requestBody) {
+      return ChangeItemResponse.with204()
+    }
+
+    @Override
+    FilterItemsResponse filterItems(List<SItem> requestBody) {
+      return FilterItemsResponse.with200ApplicationJson(requestBody)
+    }
+
+    @Override
+    UploadAndReturnBinaryResponse uploadAndReturnBinary(InputStream requestBody) {
+      return UploadAndReturnBinaryResponse.with200ApplicationOctetStream(new ByteArrayInputStream(requestBody.bytes))
+    }
+  }
+}
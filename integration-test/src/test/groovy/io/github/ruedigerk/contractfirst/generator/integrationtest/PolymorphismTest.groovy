@@ -0,0 +1,185 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import com.google.gson.Gson
+import com.google.gson.GsonBuilder
+import com.google.gson.JsonSyntaxException
+import com.google.gson.reflect.TypeToken
+import io.github.ruedigerk.contractfirst.generator.mojotest.immutablepolymorphism.model.Created as ImmutableCreated
+import io.github.ruedigerk.contractfirst.generator.mojotest.immutablepolymorphism.model.Event as ImmutableEvent
+import io.github.ruedigerk.contractfirst.generator.mojotest.polymorphism.model.Created
+import io.github.ruedigerk.contractfirst.generator.mojotest.polymorphism.model.CreatedOrigin
+import io.github.ruedigerk.contractfirst.generator.mojotest.polymorphism.model.Deleted
+import io.github.ruedigerk.contractfirst.generator.mojotest.polymorphism.model.DeletedReason
+import io.github.ruedigerk.contractfirst.generator.mojotest.polymorphism.model.Event
+import io.github.ruedigerk.contractfirst.generator.mojotest.polymorphism.model.Notification
+import io.github.ruedigerk.contractfirst.generator.mojotest.polymorphism.model.Renamed
+import io.github.ruedigerk.contractfirst.generator.support.gson.DiscriminatorTypeAdapterFactory
+import io.github.ruedigerk.contractfirst.generator.support.gson.OffsetDateTimeGsonTypeAdapter
+import spock.lang.Specification
+
+import java.time.OffsetDateTime
+
+/**
+ * Tests reading and writing polymorphic types, i.e. oneOf and anyOf schemas with a discriminator.
+ */
+class PolymorphismTest extends Specification {
+
+  Gson gson = new GsonBuilder()
+      .registerTypeAdapter(OffsetDateTime, new OffsetDateTimeGsonTypeAdapter())
+      .create()
+
+  def "Dispatches on a leading discriminator"() {
+    when:
+    def event = gson.fromJson('{"eventType":"created","id":"1","name":"n","tags":["a"],"origin":{"system":"s"}}', Event)
+
+    then:
+    event == new Created().eventType("created").id("1").name("n").tags(["a"]).origin(new CreatedOrigin().system("s"))
+  }
+
+  def "Reads the properties preceding the discriminator"() {
+    when:
+    def event = gson.fromJson('{"id":"1","timestamp":"2020-01-01T12:00:00Z","tags":["a","b"],"eventType":"created","name":"n"}', Event)
+
+    then:
+    event == new Created().eventType("created").id("1").timestamp(OffsetDateTime.parse("2020-01-01T12:00:00Z")).name("n").tags(["a", "b"])
+  }
+
+  def "Uses the discriminator mapping"() {
+    when:
+    def event = gson.fromJson('{"eventType":"removed","id":"1","reason":"revoked"}', Event)
+
+    then:
+    event == new Deleted().eventType("removed").id("1").reason(DeletedReason.REVOKED)
+  }
+
+  def "Uses the schema names as default discriminator values"() {
+    when:
+    def notification = gson.fromJson('{"id":"1","eventType":"Deleted"}', Notification)
+
+    then:
+    notification == new Deleted().eventType("Deleted").id("1")
+  }
+
+  def "Skips unknown properties and reads nested polymorphic types"() {
+    when:
+    def event = gson.fromJson('{"unknown":{"x":[1,2]},"eventType":"renamed","cause":{"eventType":"created","id":"2"},"also unknown":true}', Event)
+
+    then:
+    event == new Renamed().eventType("renamed").cause(new Created().eventType("created").id("2"))
+  }
+
+  def "Rejects a missing discriminator"() {
+    when:
+    gson.fromJson('{"id":"1"}', Event)
+
+    then:
+    def e = thrown(JsonSyntaxException)
+    e.message == "Discriminator property 'eventType' of Event is missing"
+  }
+
+  def "Rejects an unknown discriminator value"() {
+    when:
+    gson.fromJson('{"eventType":"Created"}', Event)
+
+    then:
+    def e = thrown(JsonSyntaxException)
+    e.message == "Unknown value 'Created' of discriminator property 'eventType' of Event"
+  }
+
+  def "Writes the discriminator first, using the mapping, if it is not set"() {
+    given:
+    def events = [new Deleted().id("1"), new Renamed().newName("new").eventType("renamed"), null]
+
+    when:
+    def json = gson.toJson(events, TypeToken.getParameterized(List, Event).type)
+
+    then:
+    json == '[{"eventType":"deleted","id":"1"},{"eventType":"renamed","newName":"new"},null]'
+  }
+
+  def "Writes and reads round trip"() {
+    given:
+    def event = new Renamed().eventType("renamed").oldName("old").cause(new Deleted().eventType("removed").id("1").reason(DeletedReason.EXPIRED))
+
+    expect:
+    gson.fromJson(gson.toJson(event, Event), Event) == event
+  }
+
+  def "Reads immutable model classes"() {
+    when:
+    def event = gson.fromJson('{"id":"1","eventType":"created","name":"n","tags":["a"]}', ImmutableEvent)
+
+    then:
+    event == new ImmutableCreated("created", "1", null, "n", ["a"], null)
+    gson.toJson(event, ImmutableEvent) == '{"eventType":"created","id":"1","name":"n","tags":["a"]}'
+  }
+
+  def "Reads immutable implementations with their constructor"() {
+    when:
+    def event = gson.fromJson('{"eventType":"created","id":"1","tags":null}', ImmutableEvent) as ImmutableCreated
+
+    then:
+    event.tags == []
+
+    when:
+    event.tags.add("a")
+
+    then:
+    thrown(UnsupportedOperationException)
+  }
+
+  def "Writes the discriminator of immutable implementations in collections"() {
+    given:
+    def events = [new ImmutableCreated(null, "1", null, null, null, null)]
+
+    expect:
+    gson.toJson(events, TypeToken.getParameterized(List, ImmutableEvent).type) == '[{"eventType":"created","id":"1","tags":[]}]'
+  }
+
+  def "Reads implementations with their own type adapter factory"() {
+    when:
+    def created = gson.fromJson('{"eventType":"created","id":"1","tags":null}', ImmutableCreated)
+
+    then:
+    created.tags == []
+
+    when:
+    created.tags.add("a")
+
+    then:
+    thrown(UnsupportedOperationException)
+  }
+
+  def "Writes the discriminator of implementations written as themselves"() {
+    expect:
+    gson.toJson(new Deleted().id("1")) == '{"eventType":"deleted","id":"1"}'
+  }
+
+  def "Writes the discriminator value of the polymorphic type, an implementation is written as"() {
+    expect:
+    gson.toJson(new Created().id("1"), Notification) == '{"eventType":"Created","id":"1","tags":[]}'
+    gson.toJson(new Created().id("1"), Event) == '{"eventType":"created","id":"1","tags":[]}'
+  }
+
+  def "Replays the JSON object as a tree to the type adapters of implementations registered without a type adapter factory"() {
+    given:
+    def customGson = new GsonBuilder()
+        .registerTypeAdapter(OffsetDateTime, new OffsetDateTimeGsonTypeAdapter())
+        .registerTypeAdapterFactory(new ReflectiveEventTypeAdapterFactory())
+        .create()
+
+    when:
+    def event = customGson.fromJson('{"id":"1","eventType":"removed","reason":"revoked"}', Event)
+
+    then:
+    event == new Deleted().eventType("removed").id("1").reason(DeletedReason.REVOKED)
+  }
+
+  static class ReflectiveEventTypeAdapterFactory extends DiscriminatorTypeAdapterFactory<Event> {
+
+    ReflectiveEventTypeAdapterFactory() {
+      super(Event, "eventType")
+      registerSubtype("removed", Deleted)
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import com.google.gson.Gson
+import com.google.gson.JsonSyntaxException
+import io.github.ruedigerk.contractfirst.generator.mojotest.primitives.Measurement
+import spock.lang.Specification
+
+/**
+ * Tests model classes with primitive fields, generated with option outputJavaModelUsePrimitiveTypes.
+ */
+class PrimitiveTypesTest extends Specification {
+
+  Gson gson = new Gson()
+
+  def "Primitive properties survive a Gson round trip"() {
+    given:
+    def measurement = new Measurement().sensor("s1").sequence(7).timestamp(1234567890123L).valid(true).value(0.5d).deviation(0.25f)
+
+    when:
+    def deserialized = gson.fromJson(gson.toJson(measurement), Measurement)
+
+    then:
+    deserialized == measurement
+    deserialized.hashCode() == measurement.hashCode()
+  }
+
+  def "Missing required primitive property is rejected: #json"() {
+    when:
+    gson.fromJson(json, Measurement)
+
+    then:
+    def e = thrown(JsonSyntaxException)
+    e.message == "Required property '$missingProperty' of Measurement is missing"
+
+    where:
+    json                                                                                            | missingProperty
+    '{"sensor":"s1","timestamp":1,"valid":true,"value":0.5,"deviation":0.25}'                       | "sequence"
+    '{"sensor":"s1","sequence":null,"timestamp":1,"valid":true,"value":0.5,"deviation":0.25}'       | "sequence"
+    '{"sensor":"s1","sequence":1,"timestamp":1,"value":0.5,"deviation":0.25}'                       | "valid"
+  }
+
+  def "Missing optional properties are accepted"() {
+    when:
+    def deserialized = gson.fromJson('{"sensor":"s1","sequence":1,"timestamp":2,"valid":false,"value":0.5,"deviation":0.25}', Measurement)
+
+    then:
+    deserialized.sequence == 1
+    deserialized.count == null
+  }
+}
@@ -0,0 +1,257 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import com.sun.net.httpserver.HttpServer
+import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.ApiClientErrorWithCFailureEntityException
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.PayloadVariantsApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.ResponseVariantsApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.TimeApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CClock
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CFailure
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CItem
+import io.github.ruedigerk.contractfirst.generator.mojotest.router.model.Clock
+import io.github.ruedigerk.contractfirst.generator.mojotest.router.model.ClockResponse
+import io.github.ruedigerk.contractfirst.generator.mojotest.router.model.Failure
+import io.github.ruedigerk.contractfirst.generator.mojotest.router.model.Item
+import io.github.ruedigerk.contractfirst.generator.mojotest.router.resources.ApiRouter
+import io.github.ruedigerk.contractfirst.generator.mojotest.router.resources.PayloadVariantsApi
+import io.github.ruedigerk.contractfirst.generator.mojotest.router.resources.ResponseVariantsApi
+import io.github.ruedigerk.contractfirst.generator.mojotest.router.resources.TimeApi
+import io.github.ruedigerk.contractfirst.generator.server.router.RouterHttpHandler
+import okhttp3.MediaType
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.RequestBody
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.OffsetDateTime
+
+/**
+ * Tests the generated router, mounted on the HTTP server of the JDK, with the generated client.
+ */
+class RouterServerTest extends Specification {
+
+  static final String HOST = "localhost"
+  static final int PORT = 17251
+  static final String BASE_URL = "http://$HOST:$PORT/api"
+
+  @Shared
+  HttpServer server
+
+  @Shared
+  OkHttpClient httpClient = new OkHttpClient()
+
+  @Shared
+  ApiRequestExecutor apiClientSupport = new ApiRequestExecutor(httpClient, BASE_URL)
+
+  CItem item = new CItem(id: 42L, name: "name", tag: "tag")
+
+  def setupSpec() {
+    def router = new ApiRouter()
+        .registerResponseVariantsApi(new ResponseVariantsResource())
+        .registerPayloadVariantsApi(new PayloadVariantsResource())
+        .registerTimeApi(new TimeResource())
+
+    server = HttpServer.create(new InetSocketAddress(HOST, PORT), 0)
+    server.createContext("/api", new RouterHttpHandler(router))
+    server.start()
+  }
+
+  def cleanupSpec() {
+    server.stop(0)
+  }
+
+  def "Parameters and request body are passed to the implementation"() {
+    when:
+    def result = new ResponseVariantsApiClient(apiClientSupport).returningResult().createItem("system Id", true, 4711L, null, item)
+
+    then:
+    result.isStatus200ReturningCItem()
+    result.entityAsCItem == new CItem(id: 42L, name: "system Id true 4711", tag: "tag")
+    result.response.contentType == "application/json"
+  }
+
+  def "Typesafe response without entity"() {
+    when:
+    def result = new ResponseVariantsApiClient(apiClientSupport).returningResult().createItem("systemId", false, null, "201", item)
+
+    then:
+    result.isStatus201WithoutEntity()
+  }
+
+  def "Typesafe error response"() {
+    when:
+    new ResponseVariantsApiClient(apiClientSupport).createItem("systemId", false, null, "400", item)
+
+    then:
+    def e = thrown(ApiClientErrorWithCFailureEntityException)
+    e.statusCode == 400
+    e.entity == new CFailure(code: 400, message: "Bad Request")
+  }
+
+  def "Typesafe default response"() {
+    when:
+    new ResponseVariantsApiClient(apiClientSupport).createItem("systemId", false, null, "default", item)
+
+    then:
+    def e = thrown(ApiClientErrorWithCFailureEntityException)
+    e.statusCode == 503
+    e.entity == new CFailure(code: 503, message: "Unavailable")
+  }
+
+  def "Array request body and response entity: #count items"() {
+    given:
+    def items = (0..<count).collect { new CItem(id: it as Long, name: "item $it") }
+
+    when:
+    def result = new PayloadVariantsApiClient(apiClientSupport).filterItems(items)
+
+    then:
+    result == items.findAll { it.id % 2 == 0 }
+
+    where:
+    count << [0, 1, 10, 1000]
+  }
+
+  def "Binary request body and response entity are streamed"() {
+    given:
+    def bytes = new byte[100_000]
+    new Random(1).nextBytes(bytes)
+
+    when:
+    def result = new PayloadVariantsApiClient(apiClientSupport).uploadAndReturnBinary(new ByteArrayInputStream(bytes))
+
+    then:
+    result.bytes == bytes
+  }
+
+  def "Dates and date-times of parameters are parsed in ISO format"() {
+    given:
+    def time1 = LocalDate.parse("2020-01-01")
+    def time2 = OffsetDateTime.parse("2020-01-01T00:00:00+00:00")
+    def pathTime = LocalDate.parse("2020-01-02")
+    def queryTime = OffsetDateTime.parse("2020-01-03T01:00:01+00:00")
+    def headerTime = OffsetDateTime.parse("2020-01-04T02:00:02+01:00")
+
+    when:
+    def result = new TimeApiClient(apiClientSupport).updateTime(pathTime, time1, queryTime, time1, headerTime, new CClock(time1: time1, time2: time2))
+
+    then:
+    result.time1 == time1
+    result.time2 == time2
+    result.pathTime == pathTime
+    result.queryTime1 == time1
+    result.queryTime2 == queryTime
+    result.headerTime1 == time1
+    result.headerTime2 == headerTime
+  }
+
+  def "Unknown path is answered with 404"() {
+    when:
+    def response = execute(new Request.Builder().url("$BASE_URL/unknown").build())
+
+    then:
+    response.status == 404
+  }
+
+  def "Disallowed method is answered with 405 and the allowed methods"() {
+    when:
+    def response = execute(new Request.Builder().url("$BASE_URL/itemBinaries").delete().build())
+
+    then:
+    response.status == 405
+    response.allow == "POST, PUT"
+  }
+
+  def "Unsupported content type is answered with 415"() {
+    when:
+    def response = execute(new Request.Builder().url("$BASE_URL/items").post(RequestBody.create("[]", MediaType.get("text/plain"))).build())
+
+    then:
+    response.status == 415
+  }
+
+  def "Invalid parameter is answered with 400: #description"() {
+    when:
+    def response = execute(new Request.Builder().url("$BASE_URL/$path").post(RequestBody.create(body, MediaType.get("application/json"))).build())
+
+    then:
+    response.status == 400
+    response.body.contains(message)
+
+    where:
+    description          | path                                  | body                     | message
+    "invalid boolean"    | "system/components?dryRun=yes"        | '{"id":1,"name":"name"}' | "Invalid value for parameter 'dryRun'"
+    "missing parameter"  | "time/2020-01-01"                     | '{}'                     | "Missing required parameter 'queryTimeA'"
+    "invalid JSON"       | "system/components"                   | '{"id":'                 | "Cannot parse request entity"
+    "missing entity"     | "system/components"                   | ''                       | "Missing request entity"
+  }
+
+  private Map execute(Request request) {
+    httpClient.newCall(request).execute().withCloseable { response ->
+      [status: response.code(), allow: response.header("Allow"), body: response.body().string()]
+    }
+  }
+
+  static class ResponseVariantsResource implements ResponseVariantsApi {
+
+    @Override
+    CreateItemResponse createItem(String systemId, Boolean dryRun, Long partNumber, String testCaseSelector, Item requestBody) {
+      switch (testCaseSelector) {
+        case "201":
+          return CreateItemResponse.with201()
+        case "400":
+          return CreateItemResponse.with400ApplicationJson(new Failure().code(400).message("Bad Request"))
+        case "default":
+          return CreateItemResponse.withApplicationJson(503, new Failure().code(503).message("Unavailable"))
+        default:
+          return CreateItemResponse.with200ApplicationJson(requestBody.name("$systemId $dryRun $partNumber"))
+      }
+    }
+  }
+
+  static class PayloadVariantsResource implements PayloadVariantsApi {
+
+    @Override
+    FilterItemsResponse filterItems(List<Item> requestBody) {
+      FilterItemsResponse.with200ApplicationJson(requestBody.findAll { it.id % 2 == 0 })
+    }
+
+    @Override
+    ChangeItemResponse changeItem(Item requestBody) {
+      ChangeItemResponse.with204()
+    }
+
+    @Override
+    UploadAndReturnBinaryResponse uploadAndReturnBinary(InputStream requestBody) {
+      UploadAndReturnBinaryResponse.with200ApplicationOctetStream(new ByteArrayInputStream(requestBody.bytes))
+    }
+  }
+
+  static class TimeResource implements TimeApi {
+
+    @Override
+    UpdateTimeResponse updateTime(
+        LocalDate timeId,
+        LocalDate queryTimeA,
+        OffsetDateTime queryTimeB,
+        LocalDate headerTimeA,
+        OffsetDateTime headerTimeB,
+        Clock requestBody
+    ) {
+      UpdateTimeResponse.with200ApplicationJson(
+          new ClockResponse(
+              time1: requestBody.time1,
+              time2: requestBody.time2,
+              pathTime: timeId,
+              queryTime1: queryTimeA,
+              queryTime2: queryTimeB,
+              headerTime1: headerTimeA,
+              headerTime2: headerTimeB
+          )
+      )
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.ApiClientErrorWithCFailureEntityException
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.PayloadVariantsApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.ResponseVariantsApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.TimeApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CClock
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CFailure
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CItem
+import io.github.ruedigerk.contractfirst.generator.mojotest.webflux.model.Clock
+import io.github.ruedigerk.contractfirst.generator.mojotest.webflux.model.ClockResponse
+import io.github.ruedigerk.contractfirst.generator.mojotest.webflux.model.Failure
+import io.github.ruedigerk.contractfirst.generator.mojotest.webflux.model.Item
+import io.github.ruedigerk.contractfirst.generator.mojotest.webflux.resources.PayloadVariantsApi
+import io.github.ruedigerk.contractfirst.generator.mojotest.webflux.resources.ResponseVariantsApi
+import io.github.ruedigerk.contractfirst.generator.mojotest.webflux.resources.TimeApi
+import okhttp3.OkHttpClient
+import org.springframework.core.io.buffer.DataBuffer
+import reactor.core.publisher.Flux
+import reactor.core.publisher.Mono
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.LocalDate
+import java.time.OffsetDateTime
+
+/**
+ * Tests the server stubs of the Spring WebFlux generator, running on Reactor Netty, with the generated client.
+ */
+class SpringWebFluxServerTest extends Specification {
+
+  static final String HOST = "localhost"
+  static final int PORT = 17250
+
+  @Shared
+  EmbeddedWebFluxServer embeddedServer = new EmbeddedWebFluxServer(HOST, PORT, ResponseVariantsController, PayloadVariantsController, TimeController)
+
+  @Shared
+  ApiRequestExecutor apiClientSupport = new ApiRequestExecutor(new OkHttpClient(), "http://$HOST:$PORT")
+
+  CItem item = new CItem(id: 42L, name: "name", tag: "tag")
+
+  def setupSpec() {
+    embeddedServer.startServer()
+  }
+
+  def cleanupSpec() {
+    embeddedServer.stopServer()
+  }
+
+  def "Parameters and request body are passed to the controller"() {
+    when:
+    def result = new ResponseVariantsApiClient(apiClientSupport).returningResult().createItem("systemId", true, 4711L, null, item)
+
+    then:
+    result.isStatus200ReturningCItem()
+    result.entityAsCItem == new CItem(id: 42L, name: "systemId true 4711", tag: "tag")
+    result.response.contentType == "application/json"
+  }
+
+  def "Typesafe response without entity"() {
+    when:
+    def result = new ResponseVariantsApiClient(apiClientSupport).returningResult().createItem("systemId", false, null, "201", item)
+
+    then:
+    result.isStatus201WithoutEntity()
+  }
+
+  def "Typesafe error response"() {
+    when:
+    new ResponseVariantsApiClient(apiClientSupport).createItem("systemId", false, null, "400", item)
+
+    then:
+    def e = thrown(ApiClientErrorWithCFailureEntityException)
+    e.statusCode == 400
+    e.entity == new CFailure(code: 400, message: "Bad Request")
+  }
+
+  def "Typesafe default response"() {
+    when:
+    new ResponseVariantsApiClient(apiClientSupport).createItem("systemId", false, null, "default", item)
+
+    then:
+    def e = thrown(ApiClientErrorWithCFailureEntityException)
+    e.statusCode == 503
+    e.entity == new CFailure(code: 503, message: "Unavailable")
+  }
+
+  def "Array request body is published as Flux and array response entity is written from a Flux: #count items"() {
+    given:
+    def items = (0..<count).collect { new CItem(id: it as Long, name: "item $it") }
+
+    when:
+    def result = new PayloadVariantsApiClient(apiClientSupport).filterItems(items)
+
+    then:
+    result == items.findAll { it.id % 2 == 0 }
+
+    where:
+    count << [0, 1, 10, 1000]
+  }
+
+  def "Binary request body and response entity are published as Flux of DataBuffers"() {
+    given:
+    def bytes = new byte[100_000]
+    new Random(1).nextBytes(bytes)
+
+    when:
+    def result = new PayloadVariantsApiClient(apiClientSupport).uploadAndReturnBinary(new ByteArrayInputStream(bytes))
+
+    then:
+    result.bytes == bytes
+  }
+
+  def "Dates and date-times of parameters are parsed in ISO format"() {
+    given:
+    def time1 = LocalDate.parse("2020-01-01")
+    def time2 = OffsetDateTime.parse("2020-01-01T00:00:00+00:00")
+    def pathTime = LocalDate.parse("2020-01-02")
+    def queryTime = OffsetDateTime.parse("2020-01-03T01:00:01+00:00")
+    def headerTime = OffsetDateTime.parse("2020-01-04T02:00:02+01:00")
+
+    when:
+    def result = new TimeApiClient(apiClientSupport).updateTime(pathTime, time1, queryTime, time1, headerTime, new CClock(time1: time1, time2: time2))
+
+    then:
+    result.time1 == time1
+    result.time2 == time2
+    result.pathTime == pathTime
+    result.queryTime1 == time1
+    result.queryTime2 == queryTime
+    result.headerTime1 == time1
+    result.headerTime2 == headerTime
+  }
+
+  /**
+   * Controller implementation used in this test.
+   */
+  static class ResponseVariantsController implements ResponseVariantsApi {
+
+    @Override
+    Mono<CreateItemResponse> createItem(String systemId, Boolean dryRun, Long partNumber, String testCaseSelector, Mono<Item> requestBody) {
+      requestBody.map { Item item ->
+        switch (testCaseSelector) {
+          case "201":
+            return CreateItemResponse.with201()
+          case "400":
+            return CreateItemResponse.with400ApplicationJson(new Failure().code(400).message("Bad Request"))
+          case "default":
+            return CreateItemResponse.withApplicationJson(503, new Failure().code(503).message("Unavailable"))
+          default:
+            return CreateItemResponse.with200ApplicationJson(item.name("$systemId $dryRun $partNumber"))
+        }
+      }
+    }
+  }
+
+  /**
+   * Controller implementation used in this test.
+   */
+  static class PayloadVariantsController implements PayloadVariantsApi {
+
+    @Override
+    Mono<FilterItemsResponse> filterItems(Flux<Item> requestBody) {
+      Mono.just(FilterItemsResponse.with200ApplicationJson(requestBody.filter { it.id % 2 == 0 }))
+    }
+
+    @Override
+    Mono<ChangeItemResponse> changeItem(Mono<Item> requestBody) {
+      requestBody.thenReturn(ChangeItemResponse.with204())
+    }
+
+    @Override
+    Mono<UploadAndReturnBinaryResponse> uploadAndReturnBinary(Flux<DataBuffer> requestBody) {
+      Mono.just(UploadAndReturnBinaryResponse.with200ApplicationOctetStream(requestBody))
+    }
+  }
+
+  /**
+   * Controller implementation used in this test.
+   */
+  static class TimeController implements TimeApi {
+
+    @Override
+    Mono<UpdateTimeResponse> updateTime(
+        LocalDate timeId,
+        LocalDate queryTimeA,
+        OffsetDateTime queryTimeB,
+        LocalDate headerTimeA,
+        OffsetDateTime headerTimeB,
+        Mono<Clock> requestBody
+    ) {
+      requestBody.map { Clock clock ->
+        UpdateTimeResponse.with200ApplicationJson(
+            new ClockResponse(
+                time1: clock.time1,
+                time2: clock.time2,
+                pathTime: timeId,
+                queryTime1: queryTimeA,
+                queryTime2: queryTimeB,
+                headerTime1: headerTimeA,
+                headerTime2: headerTimeB
+            )
+        )
+      }
+    }
+  }
+}
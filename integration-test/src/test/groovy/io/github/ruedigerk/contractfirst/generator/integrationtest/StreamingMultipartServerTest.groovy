@@ -0,0 +1,207 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import io.github.ruedigerk.contractfirst.generator.client.Attachment
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.MultipartRequestBodyApiClient
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CMultipartRequestBodyRequestBodyMultipartFormDataObjectProperty
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.model.SFormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.model.SMultipartRequestBodyRequestBodyMultipartFormDataObjectProperty
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.resources.MultipartRequestBodyApi
+import io.github.ruedigerk.contractfirst.generator.integrationtest.spec.EmbeddedJaxRsServerSpecification
+import io.github.ruedigerk.contractfirst.generator.server.multipart.StreamingMultipartFeature
+import okhttp3.MediaType
+import okhttp3.MultipartBody
+import okhttp3.Request
+import okhttp3.RequestBody
+import spock.lang.Subject
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+/**
+ * Tests reading multipart request bodies with the StreamingMultipartFeature into the request body classes of the generated server stubs.
+ */
+class StreamingMultipartServerTest extends EmbeddedJaxRsServerSpecification {
+
+  static final int MEMORY_THRESHOLD = 1024
+  static final int MAX_PARTS = 10
+  static final long MAX_SIZE = 6_000_000
+  static final Path TEMP_DIRECTORY = Files.createTempDirectory("multipart-test-")
+
+  static Map<String, Object> received
+
+  @Subject
+  MultipartRequestBodyApiClient apiClient = new MultipartRequestBodyApiClient(apiClientSupport)
+
+  @Override
+  Class<?> getTestResource() {
+    EmbeddedServerResource
+  }
+
+  @Override
+  List<Object> getAdditionalProviders() {
+    [new StreamingMultipartFeature(MEMORY_THRESHOLD, TEMP_DIRECTORY, MAX_PARTS, MAX_SIZE)]
+  }
+
+  def setup() {
+    received = null
+  }
+
+  def "Parts are passed to the implementation"() {
+    given:
+    def pdf = getSamplePdfAsInputStream().bytes
+
+    when:
+    def result = apiClient.returningResult().multipartRequestBody(
+        "a&1",
+        42L,
+        new CMultipartRequestBodyRequestBodyMultipartFormDataObjectProperty(a: "string", b: 23L),
+        Attachment.of(new File("src/test/resources/sample.pdf"), "application/pdf"),
+        [
+            Attachment.of(new byte[10], "small.bin", "application/octet-stream"),
+            Attachment.of(getSamplePdfAsInputStream(), "sample-is.pdf", "application/pdf"),
+        ]
+    )
+
+    then:
+    result.isStatus204WithoutEntity()
+
+    and:
+    received.stringProperty == "a&1"
+    received.integerProperty == 42L
+    received.objectProperty == new SMultipartRequestBodyRequestBodyMultipartFormDataObjectProperty(a: "string", b: 23L)
+    received.firstBinary == pdf
+    received.firstBinaryFileName == "sample.pdf"
+    received.firstBinaryMediaType == "application/pdf"
+    received.additionalBinaries == [new byte[10], pdf]
+  }
+
+  def "Parts larger than the memory threshold are spooled to temporary files, which are deleted after the response"() {
+    given:
+    def bytes = new byte[5_000_000]
+    new Random(1).nextBytes(bytes)
+
+    when:
+    def result = apiClient.returningResult().multipartRequestBody("small", null, null, Attachment.of(bytes, "large.bin", "application/octet-stream"), [])
+
+    then:
+    result.isStatus204WithoutEntity()
+
+    and:
+    received.stringProperty == "small"
+    received.stringPropertyInMemory == true
+    received.firstBinary == bytes
+    received.firstBinaryInMemory == false
+    received.integerProperty == null
+    received.additionalBinaries == null
+
+    and:
+    Files.list(TEMP_DIRECTORY).withCloseable { it.count() } == 0
+  }
+
+  def "Malformed request body is answered with 400: #description"() {
+    when:
+    def request = new Request.Builder()
+        .url("$BASE_URL/multipartRequestBody")
+        .post(RequestBody.create(body, MediaType.get(contentType)))
+        .build()
+    def status = okHttpClient.newCall(request).execute().withCloseable { it.code() }
+
+    then:
+    status == 400
+    received == null
+    Files.list(TEMP_DIRECTORY).withCloseable { it.count() } == 0
+
+    where:
+    description            | contentType                                | body
+    "missing boundary"     | "multipart/form-data"                      | "--b\r\n\r\n--b--\r\n"
+    "missing end boundary" | "multipart/form-data; boundary=b"          | "--b\r\nContent-Disposition: form-data; name=\"firstBinary\"\r\n\r\n" + "x" * 5000
+  }
+
+  def "Invalid primitive part is answered with 400"() {
+    when:
+    def request = new Request.Builder()
+        .url("$BASE_URL/multipartRequestBody")
+        .post(new MultipartBody.Builder().setType(MultipartBody.FORM).addFormDataPart("integerProperty", "not a number").build())
+        .build()
+    def status = okHttpClient.newCall(request).execute().withCloseable { it.code() }
+
+    then:
+    status == 400
+  }
+
+  def "Request body with too many parts is answered with 413"() {
+    given:
+    def body = new MultipartBody.Builder().setType(MultipartBody.FORM)
+    (MAX_PARTS + 1).times { body.addFormDataPart("additionalBinaries", "file${it}.bin", RequestBody.create(new byte[2000], MediaType.get("application/octet-stream"))) }
+
+    when:
+    def request = new Request.Builder()
+        .url("$BASE_URL/multipartRequestBody")
+        .post(body.build())
+        .build()
+    def status = okHttpClient.newCall(request).execute().withCloseable { it.code() }
+
+    then:
+    status == 413
+    received == null
+    Files.list(TEMP_DIRECTORY).withCloseable { it.count() } == 0
+  }
+
+  def "Request body larger than the maximum size is answered with 413"() {
+    given:
+    def bytes = new byte[MAX_SIZE]
+    new Random(1).nextBytes(bytes)
+
+    when:
+    def request = new Request.Builder()
+        .url("$BASE_URL/multipartRequestBody")
+        .post(new MultipartBody.Builder().setType(MultipartBody.FORM)
+            .addFormDataPart("firstBinary", "large.bin", RequestBody.create(bytes, MediaType.get("application/octet-stream")))
+            .build())
+        .build()
+    def status = okHttpClient.newCall(request).execute().withCloseable { it.code() }
+
+    then:
+    status == 413
+    received == null
+    Files.list(TEMP_DIRECTORY).withCloseable { it.count() } == 0
+  }
+
+  static private InputStream getSamplePdfAsInputStream() {
+    StreamingMultipartServerTest.getResourceAsStream("/sample.pdf")
+  }
+
+  /**
+   * JAX-RS resource implementation used in this test.
+   */
+  static class EmbeddedServerResource implements MultipartRequestBodyApi {
+
+    @Override
+    FormEncodedRequestBodyResponse formEncodedRequestBody(
+        String stringProperty,
+        Long integerProperty,
+        SFormEncodedRequestBodyRequestBodyApplicationXWwwFormUrlencodedEnumProperty enumProperty
+    ) {
+      return FormEncodedRequestBodyResponse.with204()
+    }
+
+    @Override
+    MultipartRequestBodyResponse multipartRequestBody(MultipartRequestBodyRequestBody requestBody) {
+      def firstBinaryPart = requestBody.formData.getPart("firstBinary")
+
+      received = [
+          stringProperty        : requestBody.stringProperty,
+          stringPropertyInMemory: requestBody.formData.getPart("stringProperty")?.inMemory,
+          integerProperty       : requestBody.integerProperty,
+          objectProperty        : requestBody.objectProperty,
+          firstBinary           : requestBody.firstBinary?.bytes,
+          firstBinaryFileName   : firstBinaryPart?.fileName,
+          firstBinaryMediaType  : firstBinaryPart?.mediaType?.toString(),
+          firstBinaryInMemory   : firstBinaryPart?.inMemory,
+          additionalBinaries    : requestBody.additionalBinaries*.bytes,
+      ]
+
+      return MultipartRequestBodyResponse.with204()
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest
+
+import io.github.ruedigerk.contractfirst.generator.client.ApiClientValidationException
+import io.github.ruedigerk.contractfirst.generator.client.ApiRequestExecutor
+import io.github.ruedigerk.contractfirst.generator.mojotest.validatemethods.api.V1ComponentsApiClient
+import io.github.ruedigerk.contractfirst.generator.mojotest.validatemethods.model.Component
+import io.github.ruedigerk.contractfirst.generator.mojotest.validatemethods.model.ComponentValidatedObjectsItem
+import okhttp3.OkHttpClient
+import spock.lang.Specification
+
+/**
+ * Tests the validate methods of model classes, generated with option outputJavaModelValidateMethods.
+ */
+class ValidateMethodsTest extends Specification {
+
+  def "Valid object has no violations"() {
+    given:
+    def component = new Component()
+        .intMinMax(-999999999)
+        .validatedStrings(["12", "1234"])
+        .validatedObjects([new ComponentValidatedObjectsItem().name("42")])
+        .validatedMap([a: "x"])
+        .text("word")
+
+    expect:
+    component.validate() == []
+  }
+
+  def "Violations are reported with their property paths"() {
+    given:
+    def component = new Component()
+        .longMinMax(1L)
+        .bigIntMinMax(new BigInteger("-100000000000000000000000000"))
+        .validatedStrings(["1", "x1"])
+        .validatedObjects([new ComponentValidatedObjectsItem().name("42"), new ComponentValidatedObjectsItem().name("a")])
+        .validatedMap([a: ""])
+        .text("two words")
+
+    expect:
+    component.validate() == [
+        'intMinMax: must not be null',
+        'longMinMax: must be less than or equal to -9999999999999',
+        'bigIntMinMax: must be greater than or equal to -99999999999999999999999999',
+        'validatedStrings[0]: size must be between 2 and 4',
+        'validatedStrings[1]: must match "^\\d+$"',
+        'validatedObjects[1].name: must match "^\\d+$"',
+        'validatedMap[a]: size must be between 1 and 10',
+        'text: must match "^\\w+$"',
+    ]
+  }
+
+  def "Client rejects invalid request body before sending it"() {
+    given:
+    def apiClient = new V1ComponentsApiClient(new ApiRequestExecutor(new OkHttpClient(), "http://localhost:1"))
+
+    when:
+    apiClient.putComponent(new Component().intMinMax(0).validatedStrings(["12"]))
+
+    then:
+    def e = thrown(ApiClientValidationException)
+    e.message == 'Request body is invalid: [intMinMax: must be less than or equal to -999999999]'
+  }
+}
@@ -33,6 +33,13 @@ abstract class EmbeddedJaxRsServerSpecification extends Specification {
 
   abstract Class<?> getTestResource()
 
+  /**
+   * Further JAX-RS providers to register with the server, as classes or instances.
+   */
+  List<Object> getAdditionalProviders() {
+    []
+  }
+
   static log(String msg) {
     if (VERBOSE) {
       println(msg)
@@ -40,7 +47,7 @@ abstract class EmbeddedJaxRsServerSpecification extends Specification {
   }
 
   def setupSpec() {
-    embeddedServer = new EmbeddedJaxRsServer(BASE_URL, getTestResource())
+    embeddedServer = new EmbeddedJaxRsServer(BASE_URL, ([getTestResource()] + additionalProviders) as Object[])
     embeddedServer.startServer()
   }
 
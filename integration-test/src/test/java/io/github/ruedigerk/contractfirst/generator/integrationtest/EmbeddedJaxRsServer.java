@@ -28,18 +28,18 @@ public class EmbeddedJaxRsServer {
   }
 
   private final String baseUrl;
-  private final List<Class<?>> jaxRsResourceClasses;
+  private final List<Object> jaxRsComponents;
   private HttpServer httpServer;
 
   /**
-   * Instantiates a new EmbeddedJaxRsServer with the supplied base URL and JAX-RS resource classes.
+   * Instantiates a new EmbeddedJaxRsServer with the supplied base URL and JAX-RS components.
    *
-   * @param baseUrl              the base URL the server should listen on for HTTP requests.
-   * @param jaxRsResourceClasses the JAX-RS resource classes whose API the server should expose.
+   * @param baseUrl         the base URL the server should listen on for HTTP requests.
+   * @param jaxRsComponents the JAX-RS resource classes whose API the server should expose, and further providers, as classes or instances.
    */
-  public EmbeddedJaxRsServer(String baseUrl, Class<?>... jaxRsResourceClasses) {
+  public EmbeddedJaxRsServer(String baseUrl, Object... jaxRsComponents) {
     this.baseUrl = baseUrl;
-    this.jaxRsResourceClasses = Stream.of(jaxRsResourceClasses).collect(Collectors.toList());
+    this.jaxRsComponents = Stream.of(jaxRsComponents).collect(Collectors.toList());
   }
 
   /**
@@ -57,8 +57,14 @@ public class EmbeddedJaxRsServer {
     resourceConfig.register(JaxRsExceptionMapper.class);
     resourceConfig.register(MultiPartFeature.class);
 
-    // Register resource classes
-    jaxRsResourceClasses.forEach(resourceConfig::register);
+    // Register resource classes and further providers
+    jaxRsComponents.forEach(component -> {
+      if (component instanceof Class) {
+        resourceConfig.register((Class<?>) component);
+      } else {
+        resourceConfig.register(component);
+      }
+    });
 
     // Create and start a new instance of grizzly http server.
     httpServer = GrizzlyHttpServerFactory.createHttpServer(URI.create(baseUrl), resourceConfig);
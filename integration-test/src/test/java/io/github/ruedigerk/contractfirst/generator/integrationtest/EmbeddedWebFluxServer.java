@@ -0,0 +1,85 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest;
+
+import io.github.ruedigerk.contractfirst.generator.server.webflux.GsonCodecs;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Used for starting and stopping an embedded Spring WebFlux server on Reactor Netty.
+ */
+public class EmbeddedWebFluxServer {
+
+  private final String host;
+  private final int port;
+  private final List<Class<?>> controllerClasses;
+  private AnnotationConfigApplicationContext context;
+  private DisposableServer server;
+
+  /**
+   * Instantiates a new EmbeddedWebFluxServer with the supplied host, port and controller classes.
+   *
+   * @param host              the host the server should listen on for HTTP requests.
+   * @param port              the port the server should listen on for HTTP requests.
+   * @param controllerClasses the classes implementing the generated interfaces, whose API the server should expose.
+   */
+  public EmbeddedWebFluxServer(String host, int port, Class<?>... controllerClasses) {
+    this.host = host;
+    this.port = port;
+    this.controllerClasses = Arrays.asList(controllerClasses);
+  }
+
+  /**
+   * Starts the embedded HTTP server exposing the controllers.
+   */
+  public synchronized void startServer() {
+    if (server != null) {
+      throw new IllegalStateException("Server already started");
+    }
+
+    context = new AnnotationConfigApplicationContext();
+    context.register(WebFluxConfiguration.class);
+    controllerClasses.forEach(context::registerBean);
+    context.refresh();
+
+    HttpHandler httpHandler = WebHttpHandlerBuilder.applicationContext(context).build();
+    server = HttpServer.create().host(host).port(port).handle(new ReactorHttpHandlerAdapter(httpHandler)).bindNow();
+  }
+
+  /**
+   * Stop the embedded server.
+   */
+  public synchronized void stopServer() {
+    if (server != null) {
+      server.disposeNow();
+      context.close();
+      server = null;
+      context = null;
+    } else {
+      throw new IllegalStateException("Server not started");
+    }
+  }
+
+  /**
+   * Registers Gson for serializing and deserializing JSON.
+   */
+  @Configuration
+  @EnableWebFlux
+  static class WebFluxConfiguration implements WebFluxConfigurer {
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+      GsonCodecs.configure(configurer);
+    }
+  }
+}
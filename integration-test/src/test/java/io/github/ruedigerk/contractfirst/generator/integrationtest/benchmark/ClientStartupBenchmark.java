@@ -0,0 +1,50 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the class initialization of generated API clients, including loading their type constants. Each fork is a fresh JVM, that loads
+ * and initializes the client class exactly once, so the single shot measures the cold startup cost.
+ * <p>
+ * The client classes are referenced by name, so that they are not loaded together with the benchmark class.
+ * <p>
+ * Not run as part of the build. Run it with the main method, using the test class path of this module, e.g., from the IDE.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ClientStartupBenchmark {
+
+  private static final String CLIENT_PACKAGE = "io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.api.";
+
+  @Benchmark
+  public Class<?> initializePayloadVariantsApiClient() throws ClassNotFoundException {
+    return initialize("PayloadVariantsApiClient");
+  }
+
+  @Benchmark
+  public Class<?> initializeTestcasesApiClient() throws ClassNotFoundException {
+    return initialize("TestcasesApiClient");
+  }
+
+  private Class<?> initialize(String simpleName) throws ClassNotFoundException {
+    return Class.forName(CLIENT_PACKAGE + simpleName, true, ClientStartupBenchmark.class.getClassLoader());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ClientStartupBenchmark.class.getSimpleName()).build()).run();
+  }
+}
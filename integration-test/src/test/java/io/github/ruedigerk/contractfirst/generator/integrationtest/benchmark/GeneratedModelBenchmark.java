@@ -0,0 +1,100 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest.benchmark;
+
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CClockResponse;
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CItem;
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CProblematicName;
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.client.model.CProblematicNameProblematC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the equals and hashCode methods of generated model classes.
+ * <p>
+ * Not run as part of the build. Run it with the main method, using the test class path of this module, e.g., from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedModelBenchmark {
+
+  private CItem item;
+  private CItem equalItem;
+  private CClockResponse clockResponse;
+  private CClockResponse equalClockResponse;
+  private CProblematicName problematicName;
+  private CProblematicName problematicNameDifferingInEnum;
+
+  @Setup
+  public void setUp() {
+    item = new CItem().id(1L).name("name").tag("tag");
+    equalItem = new CItem().id(1L).name("name").tag("tag");
+
+    clockResponse = clockResponse();
+    equalClockResponse = clockResponse();
+
+    problematicName = new CProblematicName()._2name("a long name, which is only compared after the enum").problematC(CProblematicNameProblematC._1);
+    problematicNameDifferingInEnum = new CProblematicName()._2name("a long name, which is only compared after the enum").problematC(CProblematicNameProblematC.TWO_POINT_ZERO);
+  }
+
+  private static CClockResponse clockResponse() {
+    LocalDate date = LocalDate.of(2020, 1, 1);
+    OffsetDateTime dateTime = OffsetDateTime.of(2020, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    return new CClockResponse()
+        .time1(date)
+        .time2(dateTime)
+        .pathTime(date)
+        .queryTime1(date)
+        .queryTime2(dateTime)
+        .headerTime1(date)
+        .headerTime2(dateTime);
+  }
+
+  @Benchmark
+  public int itemHashCode() {
+    return item.hashCode();
+  }
+
+  @Benchmark
+  public boolean itemEquals() {
+    return item.equals(equalItem);
+  }
+
+  @Benchmark
+  public int clockResponseHashCode() {
+    return clockResponse.hashCode();
+  }
+
+  @Benchmark
+  public boolean clockResponseEquals() {
+    return clockResponse.equals(equalClockResponse);
+  }
+
+  @Benchmark
+  public boolean unequalEnumEquals() {
+    return problematicName.equals(problematicNameDifferingInEnum);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(GeneratedModelBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,84 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest.benchmark;
+
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.model.SItem;
+import io.github.ruedigerk.contractfirst.generator.server.GsonMessageBodyHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of reading and writing JSON entities with the GsonMessageBodyHandler. The container's entity streams are simulated with in-memory
+ * streams, so that the overhead of the handler is measured, and not the network.
+ * <p>
+ * Not run as part of the build. Run it with the main method, using the test class path of this module, e.g., from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GsonMessageBodyHandlerBenchmark {
+
+  private static final int ITEM_COUNT = 1000;
+  private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+  private final GsonMessageBodyHandler handler = new GsonMessageBodyHandler();
+
+  private SItem[] items;
+  private byte[] itemsJson;
+
+  @Setup
+  public void setUp() throws IOException {
+    items = new SItem[ITEM_COUNT];
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      items[i] = new SItem().id((long) i).name("Item number " + i).tag("Tag with non-ASCII characters: äöü €");
+    }
+
+    itemsJson = write();
+  }
+
+  @Benchmark
+  public Object readEntity() throws IOException {
+    return read();
+  }
+
+  @Benchmark
+  public byte[] writeEntity() throws IOException {
+    return write();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Object read() throws IOException {
+    Class<Object> type = (Class) SItem[].class;
+    return handler.readFrom(type, type, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), new ByteArrayInputStream(itemsJson));
+  }
+
+  private byte[] write() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    handler.writeTo(items, SItem[].class, SItem[].class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), out);
+    return out.toByteArray();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(GsonMessageBodyHandlerBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,191 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest.benchmark;
+
+import com.google.gson.Gson;
+import io.github.ruedigerk.contractfirst.generator.integrationtest.generated.server.model.SItem;
+import io.github.ruedigerk.contractfirst.generator.server.GsonMessageBodyHandler;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of reading and writing JSON entities with the GsonMessageBodyHandler in the embedded Jersey/Grizzly server of the integration tests. Each
+ * operation posts a list of items to a resource echoing them. The handler is compared with an unbuffered handler like the one it replaced, which reads and
+ * writes through a plain InputStreamReader and OutputStreamWriter.
+ * <p>
+ * Not run as part of the build. Run it with the main method, using the test class path of this module, e.g., from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GsonMessageBodyHandlerServerBenchmark {
+
+  private static final int ITEM_COUNT = 1000;
+
+  @Param({"buffered", "unbuffered"})
+  public String handler;
+
+  private HttpServer httpServer;
+  private URL itemsUrl;
+  private byte[] itemsJson;
+
+  @Setup
+  public void setUp() throws IOException {
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig()
+        .register(handler.equals("buffered") ? GsonMessageBodyHandler.class : UnbufferedGsonMessageBodyHandler.class)
+        .register(ItemsResource.class);
+    URI baseUri = URI.create("http://localhost:" + port + "/");
+    httpServer = GrizzlyHttpServerFactory.createHttpServer(baseUri, resourceConfig);
+    itemsUrl = baseUri.resolve("items").toURL();
+
+    SItem[] items = new SItem[ITEM_COUNT];
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      items[i] = new SItem().id((long) i).name("Item number " + i).tag("Tag with non-ASCII characters: äöü €");
+    }
+    itemsJson = GsonMessageBodyHandler.getSharedGson().toJson(items).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @TearDown
+  public void tearDown() {
+    httpServer.shutdownNow();
+  }
+
+  @Benchmark
+  public byte[] echoItems() throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) itemsUrl.openConnection();
+    connection.setRequestMethod("POST");
+    connection.setDoOutput(true);
+    connection.setFixedLengthStreamingMode(itemsJson.length);
+    connection.setRequestProperty("Content-Type", MediaType.APPLICATION_JSON);
+
+    try (OutputStream body = connection.getOutputStream()) {
+      body.write(itemsJson);
+    }
+
+    // Reading the response completely keeps the connection alive for the next operation.
+    try (InputStream body = connection.getInputStream()) {
+      ByteArrayOutputStream response = new ByteArrayOutputStream(itemsJson.length);
+      byte[] buffer = new byte[8192];
+      for (int read = body.read(buffer); read != -1; read = body.read(buffer)) {
+        response.write(buffer, 0, read);
+      }
+      return response.toByteArray();
+    }
+  }
+
+  @Path("items")
+  public static class ItemsResource {
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public SItem[] echo(SItem[] items) {
+      return items;
+    }
+  }
+
+  /**
+   * The handler before buffering and size limits were added.
+   */
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public static class UnbufferedGsonMessageBodyHandler implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
+
+    private final Gson gson = GsonMessageBodyHandler.getSharedGson();
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+      return true;
+    }
+
+    @Override
+    public Object readFrom(
+        Class<Object> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType,
+        MultivaluedMap<String, String> httpHeaders,
+        InputStream httpBody
+    ) throws IOException, WebApplicationException {
+      try (InputStreamReader reader = new InputStreamReader(httpBody, StandardCharsets.UTF_8)) {
+        return gson.fromJson(reader, type);
+      }
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+      return true;
+    }
+
+    @Override
+    public long getSize(Object object, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+      return -1;
+    }
+
+    @Override
+    public void writeTo(
+        Object object,
+        Class<?> type,
+        Type genericType,
+        Annotation[] annotations,
+        MediaType mediaType,
+        MultivaluedMap<String, Object> httpHeaders,
+        OutputStream httpBody
+    ) throws IOException, WebApplicationException {
+      try (Writer writer = new OutputStreamWriter(httpBody, StandardCharsets.UTF_8)) {
+        gson.toJson(object, type, writer);
+      }
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(GsonMessageBodyHandlerServerBenchmark.class.getSimpleName()).build()).run();
+  }
+}
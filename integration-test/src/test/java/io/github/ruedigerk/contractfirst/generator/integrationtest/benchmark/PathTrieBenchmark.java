@@ -0,0 +1,102 @@
+package io.github.ruedigerk.contractfirst.generator.integrationtest.benchmark;
+
+import io.github.ruedigerk.contractfirst.generator.server.router.PathTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * JMH benchmark of matching request paths of a contract with many operations, with the PathTrie of the router support module, and with a list of
+ * regular expressions, as done by JAX-RS containers.
+ * <p>
+ * Not run as part of the build. Run it with the main method, using the test class path of this module, e.g., from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathTrieBenchmark {
+
+  private static final int RESOURCE_COUNT = 100;
+
+  private final PathTrie<String> trie = new PathTrie<>();
+  private final List<Route> regexRoutes = new ArrayList<>();
+  private final List<String> paths = new ArrayList<>();
+
+  @Setup
+  public void setUp() {
+    for (int i = 0; i < RESOURCE_COUNT; i++) {
+      addRoute("GET", "/resource" + i + "/items");
+      addRoute("GET", "/resource" + i + "/items/{itemId}");
+      addRoute("PUT", "/resource" + i + "/items/{itemId}");
+      addRoute("GET", "/resource" + i + "/items/{itemId}/parts/{partId}");
+
+      paths.add("/resource" + i + "/items");
+      paths.add("/resource" + i + "/items/4711");
+      paths.add("/resource" + i + "/items/4711/parts/abc");
+    }
+  }
+
+  private void addRoute(String method, String pathTemplate) {
+    trie.add(method, pathTemplate, pathTemplate);
+    regexRoutes.add(new Route(method, Pattern.compile(pathTemplate.replaceAll("\\{[^}]+}", "([^/]+)"))));
+  }
+
+  @Benchmark
+  public void matchWithTrie(Blackhole blackhole) {
+    for (String path : paths) {
+      blackhole.consume(trie.find("GET", path));
+    }
+  }
+
+  @Benchmark
+  public void matchWithRegularExpressions(Blackhole blackhole) {
+    for (String path : paths) {
+      blackhole.consume(findWithRegularExpressions(path));
+    }
+  }
+
+  private Matcher findWithRegularExpressions(String path) {
+    for (Route route : regexRoutes) {
+      Matcher matcher = route.pattern.matcher(path);
+      if (matcher.matches() && route.method.equals("GET")) {
+        return matcher;
+      }
+    }
+    return null;
+  }
+
+  private static final class Route {
+
+    private final String method;
+    private final Pattern pattern;
+
+    private Route(String method, Pattern pattern) {
+      this.method = method;
+      this.pattern = pattern;
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(PathTrieBenchmark.class.getSimpleName()).build()).run();
+  }
+}
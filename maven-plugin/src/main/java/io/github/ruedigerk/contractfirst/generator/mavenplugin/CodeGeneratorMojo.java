@@ -1,6 +1,7 @@
 package io.github.ruedigerk.contractfirst.generator.mavenplugin;
 
 import com.google.common.base.Throwables;
+import io.github.ruedigerk.contractfirst.generator.BatchGenerationException;
 import io.github.ruedigerk.contractfirst.generator.Configuration;
 import io.github.ruedigerk.contractfirst.generator.ContractfirstGenerator;
 import io.github.ruedigerk.contractfirst.generator.GeneratorType;
@@ -10,6 +11,8 @@ import io.github.ruedigerk.contractfirst.generator.ParserException;
 import io.github.ruedigerk.contractfirst.generator.logging.LogAdapter;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
@@ -30,17 +33,30 @@ public class CodeGeneratorMojo extends AbstractMojo {
 
   /**
    * the path to the file containing the OpenAPI contract to use as input; in case of the model-only generator, this should point to a single
-   * JSON-Schema file in YAML or JSON format, or to a directory which is recursively searched for JSON-Schema files
+   * JSON-Schema file in YAML or JSON format, or to a directory which is recursively searched for JSON-Schema files; required, unless contracts is used
    */
-  @Parameter(name = "inputContractFile", property = "openapi.generator.maven.plugin.inputContractFile", required = true)
+  @Parameter(name = "inputContractFile", property = "openapi.generator.maven.plugin.inputContractFile")
   private String inputContractFile;
 
   /**
-   * the type of generator to use for code generation; allowed values are: "server", "client", "model-only"
+   * the type of generator to use for code generation; allowed values are: "server", "client", "spring-webflux", "router", "model-only"
    */
-  @Parameter(name = "generator", property = "openapi.generator.maven.plugin.generator", required = true)
+  @Parameter(name = "generator", property = "openapi.generator.maven.plugin.generator")
   private String generator;
 
+  /**
+   * several contracts to generate code for in this execution, instead of the single inputContractFile; they are generated concurrently and schema files
+   * referenced by several contracts are parsed only once; parameters not set for a contract are taken from the parameters of this execution
+   */
+  @Parameter(name = "contracts")
+  private List<Contract> contracts = new ArrayList<>();
+
+  /**
+   * the maximum number of contracts that are generated concurrently; defaults to the number of available processors
+   */
+  @Parameter(name = "parallelism", property = "openapi.generator.maven.plugin.parallelism")
+  private int parallelism = Runtime.getRuntime().availableProcessors();
+
   /**
    * the target directory for writing the generated sources to
    */
@@ -66,7 +82,7 @@ public class CodeGeneratorMojo extends AbstractMojo {
   /**
    * the Java package to put generated classes into
    */
-  @Parameter(name = "outputJavaBasePackage", property = "openapi.generator.maven.plugin.outputJavaBasePackage", required = true)
+  @Parameter(name = "outputJavaBasePackage", property = "openapi.generator.maven.plugin.outputJavaBasePackage")
   private String outputJavaBasePackage;
 
   /**
@@ -94,6 +110,68 @@ public class CodeGeneratorMojo extends AbstractMojo {
   @Parameter(name = "outputJavaModelUseJsr305NullabilityAnnotations", property = "openapi.generator.maven.plugin.outputJavaModelUseJsr305NullabilityAnnotations", defaultValue = "false")
   private boolean outputJavaModelUseJsr305NullabilityAnnotations = false;
 
+  /**
+   * whether to only load the parts of the contract files into memory that are used for code generation; examples and specification extensions are skipped
+   */
+  @Parameter(name = "inputContractLazyLoading", property = "openapi.generator.maven.plugin.inputContractLazyLoading", defaultValue = "false")
+  private boolean inputContractLazyLoading = false;
+
+  /**
+   * whether to generate a single model class for inline schemas that are structurally identical, instead of one class per inline schema
+   */
+  @Parameter(name = "outputJavaModelDeduplicateInlineSchemas", property = "openapi.generator.maven.plugin.outputJavaModelDeduplicateInlineSchemas", defaultValue = "false")
+  private boolean outputJavaModelDeduplicateInlineSchemas = false;
+
+  /**
+   * whether to generate the model classes as final, immutable classes with an all-args constructor instead of mutable beans
+   */
+  @Parameter(name = "outputJavaModelImmutable", property = "openapi.generator.maven.plugin.outputJavaModelImmutable", defaultValue = "false")
+  private boolean outputJavaModelImmutable = false;
+
+  /**
+   * whether to use primitive types instead of wrapper types for required boolean, int32, int64, float and double properties of model classes
+   */
+  @Parameter(name = "outputJavaModelUsePrimitiveTypes", property = "openapi.generator.maven.plugin.outputJavaModelUsePrimitiveTypes", defaultValue = "false")
+  private boolean outputJavaModelUsePrimitiveTypes = false;
+
+  /**
+   * whether collection fields of mutable model classes are only allocated when the first element is added, instead of when the object is created
+   */
+  @Parameter(name = "outputJavaModelLazyCollections", property = "openapi.generator.maven.plugin.outputJavaModelLazyCollections", defaultValue = "false")
+  private boolean outputJavaModelLazyCollections = false;
+
+  /**
+   * whether to map schemas of type number without a format to Double and schemas of type integer without a format to Long, instead of BigDecimal and
+   * BigInteger; can be overridden per schema with extension x-contractfirst-arbitrary-precision
+   */
+  @Parameter(name = "outputJavaUnformattedNumbersAsDoubleAndLong", property = "openapi.generator.maven.plugin.outputJavaUnformattedNumbersAsDoubleAndLong", defaultValue = "false")
+  private boolean outputJavaUnformattedNumbersAsDoubleAndLong = false;
+
+  /**
+   * whether to generate validate methods in model classes, which check the constraints of the schemas without reflection
+   */
+  @Parameter(name = "outputJavaModelValidateMethods", property = "openapi.generator.maven.plugin.outputJavaModelValidateMethods", defaultValue = "false")
+  private boolean outputJavaModelValidateMethods = false;
+
+  /**
+   * whether to map string schemas of format byte (Base64 encoded binary data) to ByteBuffer instead of byte[]
+   */
+  @Parameter(name = "outputJavaModelByteBuffers", property = "openapi.generator.maven.plugin.outputJavaModelByteBuffers", defaultValue = "false")
+  private boolean outputJavaModelByteBuffers = false;
+
+  /**
+   * whether the methods of the generated server stubs return a CompletionStage of their response class, for implementing them asynchronously
+   */
+  @Parameter(name = "outputJavaServerAsyncMethods", property = "openapi.generator.maven.plugin.outputJavaServerAsyncMethods", defaultValue = "false")
+  private boolean outputJavaServerAsyncMethods = false;
+
+  /**
+   * whether to generate incrementally, based on the state of the previous generation kept in the output directory; only the schema files that changed and the
+   * schemas depending on them are parsed again, and only the model files whose content changed are written
+   */
+  @Parameter(name = "incrementalGeneration", property = "openapi.generator.maven.plugin.incrementalGeneration", defaultValue = "false")
+  private boolean incrementalGeneration = false;
+
   /**
    * whether to add the generated sources directory as a test source directory instead of a main compile source directory; defaults to false
    */
@@ -121,7 +199,12 @@ public class CodeGeneratorMojo extends AbstractMojo {
 
     getLog().debug(getConfigurationAsString());
 
-    Configuration config = determineConfiguration();
+    if (!contracts.isEmpty()) {
+      executeForContracts();
+      return;
+    }
+
+    Configuration config = determineConfiguration(new Contract());
 
     getLog().info("Running code generation for contract '" + config.getInputContractFile() + "'");
 
@@ -129,10 +212,28 @@ public class CodeGeneratorMojo extends AbstractMojo {
     runGenerator(config);
   }
 
+  private void executeForContracts() throws MojoExecutionException, MojoFailureException {
+    if (inputContractFile != null) {
+      throw new MojoExecutionException("Configuration 'inputContractFile' must not be used together with 'contracts'.");
+    }
+
+    List<Configuration> configs = new ArrayList<>();
+    for (Contract contract : contracts) {
+      configs.add(determineConfiguration(contract));
+    }
+
+    getLog().info("Running code generation for " + configs.size() + " contracts");
+
+    configs.forEach(this::addGeneratedSourcesRoot);
+    runGenerator(configs);
+  }
+
   private String getConfigurationAsString() {
     return "Configuration:" +
         "\n\tinputContractFile='" + inputContractFile + '\'' +
         "\n\tgenerator='" + generator + '\'' +
+        "\n\tcontracts=" + contracts +
+        "\n\tparallelism=" + parallelism +
         "\n\toutputDir='" + outputDir + '\'' +
         "\n\toutputContract=" + outputContract +
         "\n\toutputContractFile='" + outputContractFile + '\'' +
@@ -141,28 +242,62 @@ public class CodeGeneratorMojo extends AbstractMojo {
         "\n\toutputJavaPackageSchemaDirectoryPrefix='" + outputJavaPackageSchemaDirectoryPrefix + '\'' +
         "\n\toutputJavaModelNamePrefix='" + outputJavaModelNamePrefix + '\'' +
         "\n\toutputJavaModelUseJsr305NullabilityAnnotations='" + outputJavaModelUseJsr305NullabilityAnnotations + '\'' +
+        "\n\tinputContractLazyLoading='" + inputContractLazyLoading + '\'' +
+        "\n\toutputJavaModelDeduplicateInlineSchemas='" + outputJavaModelDeduplicateInlineSchemas + '\'' +
+        "\n\toutputJavaModelImmutable='" + outputJavaModelImmutable + '\'' +
+        "\n\toutputJavaModelUsePrimitiveTypes='" + outputJavaModelUsePrimitiveTypes + '\'' +
+        "\n\toutputJavaModelLazyCollections='" + outputJavaModelLazyCollections + '\'' +
+        "\n\toutputJavaUnformattedNumbersAsDoubleAndLong='" + outputJavaUnformattedNumbersAsDoubleAndLong + '\'' +
+        "\n\toutputJavaModelValidateMethods='" + outputJavaModelValidateMethods + '\'' +
+        "\n\toutputJavaModelByteBuffers='" + outputJavaModelByteBuffers + '\'' +
+        "\n\toutputJavaServerAsyncMethods='" + outputJavaServerAsyncMethods + '\'' +
+        "\n\tincrementalGeneration='" + incrementalGeneration + '\'' +
         "\n\tskip=" + skip +
         "\n\tproject=" + project;
   }
 
-  private Configuration determineConfiguration() throws MojoExecutionException {
-    String effectiveInputContractFile = makeAbsolutePath(inputContractFile);
+  /**
+   * Determines the configuration for the supplied contract, taking the parameters not set in the contract from the parameters of this execution.
+   */
+  private Configuration determineConfiguration(Contract contract) throws MojoExecutionException {
+    String effectiveInputContractFile = makeAbsolutePath(required("inputContractFile", valueOrDefault(contract.getInputContractFile(), inputContractFile)));
     String effectiveOutputJavaPackageSchemaDirectoryPrefix = determineOutputJavaPackageSchemaDirectoryPrefix(effectiveInputContractFile);
 
     return new Configuration(
         effectiveInputContractFile,
-        determineGenerator(),
+        determineGenerator(required("generator", valueOrDefault(contract.getGenerator(), generator))),
         outputDir,
         outputContract,
-        outputContractFile,
-        outputJavaBasePackage,
+        valueOrDefault(contract.getOutputContractFile(), outputContractFile),
+        required("outputJavaBasePackage", valueOrDefault(contract.getOutputJavaBasePackage(), outputJavaBasePackage)),
         outputJavaPackageMirrorsSchemaDirectory,
-        effectiveOutputJavaPackageSchemaDirectoryPrefix, 
-        outputJavaModelNamePrefix,
-        outputJavaModelUseJsr305NullabilityAnnotations
+        effectiveOutputJavaPackageSchemaDirectoryPrefix,
+        valueOrDefault(contract.getOutputJavaModelNamePrefix(), outputJavaModelNamePrefix),
+        outputJavaModelUseJsr305NullabilityAnnotations,
+        inputContractLazyLoading,
+        outputJavaModelDeduplicateInlineSchemas,
+        outputJavaModelImmutable,
+        outputJavaModelUsePrimitiveTypes,
+        outputJavaModelLazyCollections,
+        outputJavaUnformattedNumbersAsDoubleAndLong,
+        outputJavaModelValidateMethods,
+        outputJavaModelByteBuffers,
+        outputJavaServerAsyncMethods,
+        incrementalGeneration
     );
   }
 
+  private static String valueOrDefault(String value, String defaultValue) {
+    return value != null ? value : defaultValue;
+  }
+
+  private static String required(String name, String value) throws MojoExecutionException {
+    if (value == null) {
+      throw new MojoExecutionException("Configuration '" + name + "' is required, either for the execution or for each of its contracts.");
+    }
+    return value;
+  }
+
   private String makeAbsolutePath(String path) throws MojoExecutionException {
     try {
       File file = new File(path);
@@ -189,16 +324,20 @@ public class CodeGeneratorMojo extends AbstractMojo {
     }
   }
 
-  private GeneratorType determineGenerator() throws MojoExecutionException {
+  private GeneratorType determineGenerator(String generator) throws MojoExecutionException {
     switch (generator) {
       case "client":
         return GeneratorType.CLIENT;
       case "server":
         return GeneratorType.SERVER;
+      case "spring-webflux":
+        return GeneratorType.SPRING_WEBFLUX;
+      case "router":
+        return GeneratorType.ROUTER;
       case "model-only":
         return GeneratorType.MODEL_ONLY;
       default:
-        throw new MojoExecutionException("Configuration 'generator' has invalid value: '" + generator + "', allowed values are 'client', 'server'.");
+        throw new MojoExecutionException("Configuration 'generator' has invalid value: '" + generator + "', allowed values are 'client', 'server', 'spring-webflux', 'router', 'model-only'.");
     }
   }
 
@@ -210,6 +349,20 @@ public class CodeGeneratorMojo extends AbstractMojo {
     }
   }
 
+  private void runGenerator(List<Configuration> configs) throws MojoFailureException {
+    try {
+      LogAdapter logAdapter = new MavenLogAdapter(getLog());
+      new ContractfirstGenerator(logAdapter).generateAll(configs, parallelism);
+    } catch (BatchGenerationException e) {
+      throw new MojoFailureException(e.getMessage());
+    } catch (InvalidConfigurationException e) {
+      throw new MojoFailureException("Invalid configuration " + e.getMessage());
+    } catch (Exception e) {
+      getLog().error("Generator failed with an unexpected exception: " + Throwables.getStackTraceAsString(e));
+      throw new MojoFailureException("Generator failed with an unexpected exception: " + e);
+    }
+  }
+
   private void runGenerator(Configuration config) throws MojoFailureException {
     try {
       LogAdapter logAdapter = new MavenLogAdapter(getLog());
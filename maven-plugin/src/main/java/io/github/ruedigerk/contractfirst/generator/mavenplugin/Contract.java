@@ -0,0 +1,65 @@
+package io.github.ruedigerk.contractfirst.generator.mavenplugin;
+
+/**
+ * A single contract of the "contracts" parameter, for generating several contracts in one execution. The parameters not set here are taken from the
+ * parameters of the execution.
+ */
+@SuppressWarnings({"unused", "FieldMayBeFinal"})
+public class Contract {
+
+  /**
+   * the path to the file containing the OpenAPI contract, or the directory of JSON-Schema files in case of the model-only generator
+   */
+  private String inputContractFile;
+
+  /**
+   * the type of generator to use for this contract; defaults to the generator of the execution
+   */
+  private String generator;
+
+  /**
+   * the Java package to put the classes generated for this contract into; defaults to the outputJavaBasePackage of the execution
+   */
+  private String outputJavaBasePackage;
+
+  /**
+   * the prefix for the Java model class names of this contract; defaults to the outputJavaModelNamePrefix of the execution
+   */
+  private String outputJavaModelNamePrefix;
+
+  /**
+   * the file name of the all-in-one contract file to output for this contract; defaults to the outputContractFile of the execution
+   */
+  private String outputContractFile;
+
+  public String getInputContractFile() {
+    return inputContractFile;
+  }
+
+  public String getGenerator() {
+    return generator;
+  }
+
+  public String getOutputJavaBasePackage() {
+    return outputJavaBasePackage;
+  }
+
+  public String getOutputJavaModelNamePrefix() {
+    return outputJavaModelNamePrefix;
+  }
+
+  public String getOutputContractFile() {
+    return outputContractFile;
+  }
+
+  @Override
+  public String toString() {
+    return "Contract{" +
+        "inputContractFile='" + inputContractFile + '\'' +
+        ", generator='" + generator + '\'' +
+        ", outputJavaBasePackage='" + outputJavaBasePackage + '\'' +
+        ", outputJavaModelNamePrefix='" + outputJavaModelNamePrefix + '\'' +
+        ", outputContractFile='" + outputContractFile + '\'' +
+        '}';
+  }
+}
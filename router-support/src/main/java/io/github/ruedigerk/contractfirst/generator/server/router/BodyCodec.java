@@ -0,0 +1,32 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Reads request entities and writes response entities for the Router.
+ */
+public interface BodyCodec {
+
+  /**
+   * Reads the request entity.
+   *
+   * @param entityStream the stream of the request entity.
+   * @param contentType  the content type of the request, may be null.
+   * @param type         the type of the parameter of the generated method.
+   * @return the entity, or null, if the request has no entity.
+   * @throws RouterException if the entity is invalid.
+   */
+  Object read(InputStream entityStream, String contentType, Type type) throws IOException;
+
+  /**
+   * Writes the response entity. Does not close the stream.
+   *
+   * @param entity       the entity, not null.
+   * @param contentType  the content type of the response.
+   * @param entityStream the stream to write the entity to.
+   */
+  void write(Object entity, String contentType, OutputStream entityStream) throws IOException;
+}
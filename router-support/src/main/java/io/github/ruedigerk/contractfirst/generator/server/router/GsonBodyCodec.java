@@ -0,0 +1,212 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ByteArrayGsonTypeAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ByteBufferGsonTypeAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.LocalDateGsonTypeAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.OffsetDateTimeGsonTypeAdapter;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * BodyCodec serializing and deserializing JSON with Gson, like the GsonMessageBodyHandler of the server support module does for JAX-RS.
+ * <p>
+ * Entities of other media types are passed through as InputStream, byte[] or, for textual media types, String. Entities are read and written in the charset
+ * given by the charset parameter of their media type, defaulting to UTF-8. The size of request entities can be limited with the maximum entity size. Larger
+ * entities are rejected with status 413, without reading them completely.
+ */
+public class GsonBodyCodec implements BodyCodec {
+
+  /**
+   * Size of the buffer used for writing entities. Gson writes JSON in many small pieces, each of which would otherwise be encoded separately.
+   */
+  private static final int WRITE_BUFFER_SIZE = 8192;
+
+  private final Gson gson;
+  private final long maxEntitySize;
+
+  /**
+   * Creates a codec, that does not limit the size of request entities.
+   */
+  public GsonBodyCodec() {
+    this(Long.MAX_VALUE);
+  }
+
+  /**
+   * Creates a codec, that rejects request entities larger than the supplied number of bytes with status 413 (Payload Too Large).
+   */
+  public GsonBodyCodec(long maxEntitySize) {
+    this(createGson(), maxEntitySize);
+  }
+
+  /**
+   * Creates a codec with a custom Gson instance, which needs the type adapters registered by {@link #createGson()}.
+   */
+  public GsonBodyCodec(Gson gson, long maxEntitySize) {
+    if (maxEntitySize < 0) {
+      throw new IllegalArgumentException("maxEntitySize must not be negative: " + maxEntitySize);
+    }
+
+    this.gson = gson;
+    this.maxEntitySize = maxEntitySize;
+  }
+
+  /**
+   * Creates a Gson instance, that has the type adapters needed by the generated data model.
+   */
+  public static Gson createGson() {
+    return new GsonBuilder()
+        .registerTypeAdapter(LocalDate.class, new LocalDateGsonTypeAdapter())
+        .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeGsonTypeAdapter())
+        .registerTypeAdapter(byte[].class, new ByteArrayGsonTypeAdapter())
+        .registerTypeHierarchyAdapter(ByteBuffer.class, new ByteBufferGsonTypeAdapter())
+        .create();
+  }
+
+  @Override
+  public Object read(InputStream entityStream, String contentType, Type type) throws IOException {
+    Charset charset = MediaTypes.charsetOf(contentType);
+    if (charset == null) {
+      throw new RouterException(415, "Unsupported charset of request entity: " + contentType);
+    }
+
+    InputStream limitedStream = maxEntitySize == Long.MAX_VALUE ? entityStream : new SizeLimitingInputStream(entityStream, maxEntitySize);
+
+    if (type == InputStream.class) {
+      return limitedStream;
+    }
+    if (!MediaTypes.isJson(contentType) && type == byte[].class) {
+      return readBytes(limitedStream);
+    }
+    if (!MediaTypes.isJson(contentType) && type == String.class) {
+      return new String(readBytes(limitedStream), charset);
+    }
+
+    // InputStreamReader reads the stream in blocks, and JsonReader reads the decoded characters in blocks, so no further buffering is needed.
+    try (InputStreamReader reader = new InputStreamReader(limitedStream, charset)) {
+      return gson.fromJson(reader, type);
+    } catch (JsonIOException e) {
+      throw new IOException(e);
+    } catch (JsonSyntaxException e) {
+      throw new RouterException(400, "Cannot parse request entity: " + e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void write(Object entity, String contentType, OutputStream entityStream) throws IOException {
+    if (entity instanceof InputStream) {
+      try (InputStream inputStream = (InputStream) entity) {
+        copy(inputStream, entityStream);
+      }
+      return;
+    }
+
+    Charset charset = MediaTypes.charsetOf(contentType);
+    if (charset == null) {
+      charset = StandardCharsets.UTF_8;
+    }
+
+    if (!MediaTypes.isJson(contentType) && entity instanceof byte[]) {
+      entityStream.write((byte[]) entity);
+      return;
+    }
+    if (!MediaTypes.isJson(contentType) && entity instanceof String) {
+      entityStream.write(((String) entity).getBytes(charset));
+      return;
+    }
+
+    // The writer is not closed, as that would close the entity stream.
+    Writer writer = new BufferedWriter(new OutputStreamWriter(entityStream, charset), WRITE_BUFFER_SIZE);
+    try {
+      gson.toJson(entity, writer);
+      writer.flush();
+    } catch (JsonIOException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static byte[] readBytes(InputStream inputStream) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    copy(inputStream, outputStream);
+    return outputStream.toByteArray();
+  }
+
+  private static void copy(InputStream inputStream, OutputStream outputStream) throws IOException {
+    byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+    int read;
+    while ((read = inputStream.read(buffer)) != -1) {
+      outputStream.write(buffer, 0, read);
+    }
+  }
+
+  private static RouterException entityTooLarge() {
+    return new RouterException(413, "Request entity is too large");
+  }
+
+  /**
+   * Fails with status 413, as soon as more than the allowed number of bytes are read.
+   */
+  private static class SizeLimitingInputStream extends FilterInputStream {
+
+    private long remaining;
+
+    SizeLimitingInputStream(InputStream in, long maxSize) {
+      super(in);
+      this.remaining = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int result = super.read();
+      if (result != -1) {
+        count(1);
+      }
+      return result;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      // Read at most one byte more than allowed, to detect oversized entities without reading further.
+      int result = super.read(buffer, offset, (int) Math.min(length, remaining + 1));
+      if (result != -1) {
+        count(result);
+      }
+      return result;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(Math.min(n, remaining + 1));
+      count(skipped);
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    private void count(long bytesRead) {
+      remaining -= bytesRead;
+      if (remaining < 0) {
+        throw entityTooLarge();
+      }
+    }
+  }
+}
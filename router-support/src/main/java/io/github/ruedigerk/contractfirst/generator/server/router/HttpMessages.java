@@ -0,0 +1,76 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsing of query strings and cookies, shared by the adapters of the different HTTP servers.
+ */
+final class HttpMessages {
+
+  private HttpMessages() {
+  }
+
+  /**
+   * Parses a raw query string into the decoded values of its parameters.
+   *
+   * @throws RouterException if the query string is not properly encoded.
+   */
+  static Map<String, List<String>> parseQuery(String rawQuery) {
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, List<String>> parameters = new HashMap<>();
+    for (String pair : rawQuery.split("&")) {
+      if (pair.isEmpty()) {
+        continue;
+      }
+
+      int equals = pair.indexOf('=');
+      String name = equals < 0 ? pair : pair.substring(0, equals);
+      String value = equals < 0 ? "" : pair.substring(equals + 1);
+      parameters.computeIfAbsent(decodeQueryComponent(name), key -> new ArrayList<>()).add(decodeQueryComponent(value));
+    }
+
+    return parameters;
+  }
+
+  /**
+   * Parses the values of Cookie headers.
+   */
+  static Map<String, String> parseCookies(List<String> cookieHeaders) {
+    if (cookieHeaders.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, String> cookies = new HashMap<>();
+    for (String header : cookieHeaders) {
+      for (String cookie : header.split(";")) {
+        int equals = cookie.indexOf('=');
+        if (equals > 0) {
+          String value = cookie.substring(equals + 1).trim();
+          boolean quoted = value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"");
+          cookies.putIfAbsent(cookie.substring(0, equals).trim(), quoted ? value.substring(1, value.length() - 1) : value);
+        }
+      }
+    }
+
+    return cookies;
+  }
+
+  private static String decodeQueryComponent(String component) {
+    try {
+      return URLDecoder.decode(component, "UTF-8");
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException("UTF-8 is not supported", e);
+    } catch (IllegalArgumentException e) {
+      throw new RouterException(400, "Invalid query string", e);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Locale;
+
+/**
+ * Minimal parsing of media types, as far as needed by the Router and the GsonBodyCodec.
+ */
+final class MediaTypes {
+
+  private MediaTypes() {
+  }
+
+  /**
+   * Returns whether the content type is JSON, i.e., application/json or application/*+json. A missing content type is treated as JSON.
+   */
+  static boolean isJson(String contentType) {
+    if (contentType == null) {
+      return true;
+    }
+
+    String mediaType = withoutParameters(contentType);
+    return mediaType.equals("application/json") || mediaType.startsWith("application/") && mediaType.endsWith("+json");
+  }
+
+  /**
+   * Returns whether the content type of a request is compatible with the media type an operation consumes, which may contain wildcards.
+   */
+  static boolean isCompatible(String contentType, String consumedMediaType) {
+    String[] actual = withoutParameters(contentType).split("/", 2);
+    String[] expected = withoutParameters(consumedMediaType).split("/", 2);
+
+    if (actual.length != 2 || expected.length != 2) {
+      return false;
+    }
+
+    return matches(expected[0], actual[0]) && matches(expected[1], actual[1]);
+  }
+
+  private static boolean matches(String expected, String actual) {
+    return expected.equals("*") || expected.equals(actual) || expected.startsWith("*+") && actual.endsWith(expected.substring(1));
+  }
+
+  /**
+   * Returns the charset of the content type, UTF-8 if it has no charset parameter, or null if the charset is not supported.
+   */
+  static Charset charsetOf(String contentType) {
+    String charsetName = contentType == null ? null : parameter(contentType, "charset");
+
+    if (charsetName == null) {
+      return StandardCharsets.UTF_8;
+    }
+
+    try {
+      return Charset.forName(charsetName);
+    } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+      return null;
+    }
+  }
+
+  private static String withoutParameters(String contentType) {
+    int semicolon = contentType.indexOf(';');
+    String mediaType = semicolon < 0 ? contentType : contentType.substring(0, semicolon);
+    return mediaType.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static String parameter(String contentType, String name) {
+    String[] parts = contentType.split(";");
+
+    for (int i = 1; i < parts.length; i++) {
+      String[] nameAndValue = parts[i].split("=", 2);
+      if (nameAndValue.length == 2 && nameAndValue[0].trim().equalsIgnoreCase(name)) {
+        String value = nameAndValue[1].trim();
+        return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"") ? value.substring(1, value.length() - 1) : value;
+      }
+    }
+
+    return null;
+  }
+}
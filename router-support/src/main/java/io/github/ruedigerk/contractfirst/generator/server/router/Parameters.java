@@ -0,0 +1,132 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Converts the values of path, query, header and cookie parameters for the generated router. Invalid or missing required values are rejected with status
+ * 400.
+ */
+public final class Parameters {
+
+  private Parameters() {
+  }
+
+  /**
+   * Checks the presence of a parameter of type String.
+   */
+  public static String single(String name, String value, boolean required) {
+    return single(name, value, Function.identity(), required);
+  }
+
+  /**
+   * Converts the value of a parameter.
+   *
+   * @return the converted value, or null, if the parameter is not present.
+   */
+  public static <T> T single(String name, String value, Function<String, T> converter, boolean required) {
+    if (value == null) {
+      if (required) {
+        throw new RouterException(400, "Missing required parameter '" + name + "'");
+      }
+      return null;
+    }
+
+    return convert(name, value, converter);
+  }
+
+  /**
+   * Checks the presence of a multivalued parameter of type String.
+   */
+  public static List<String> list(String name, List<String> values, boolean required) {
+    return list(name, values, Function.identity(), required);
+  }
+
+  /**
+   * Converts the values of a multivalued parameter.
+   *
+   * @return the converted values, or null, if the parameter is not present.
+   */
+  public static <T> List<T> list(String name, List<String> values, Function<String, T> converter, boolean required) {
+    if (values.isEmpty()) {
+      if (required) {
+        throw new RouterException(400, "Missing required parameter '" + name + "'");
+      }
+      return null;
+    }
+
+    List<T> result = new ArrayList<>(values.size());
+    for (String value : values) {
+      result.add(convert(name, value, converter));
+    }
+    return result;
+  }
+
+  /**
+   * Converts the values of a multivalued parameter with unique items.
+   *
+   * @return the converted values, or null, if the parameter is not present.
+   */
+  public static <T> Set<T> set(String name, List<String> values, Function<String, T> converter, boolean required) {
+    List<T> list = list(name, values, converter, required);
+    return list == null ? null : new LinkedHashSet<>(list);
+  }
+
+  /**
+   * Checks the presence of a multivalued parameter of type String with unique items.
+   */
+  public static Set<String> set(String name, List<String> values, boolean required) {
+    return set(name, values, Function.identity(), required);
+  }
+
+  /**
+   * Splits the comma-separated values of an array in a path or cookie parameter.
+   *
+   * @return the values, or an empty list, if the parameter is not present.
+   */
+  public static List<String> split(String value) {
+    return value == null ? Collections.emptyList() : Arrays.asList(value.split(",", -1));
+  }
+
+  /**
+   * Converts "true" and "false". Unlike Boolean.valueOf, other values are rejected.
+   */
+  public static Boolean toBoolean(String value) {
+    if (value.equals("true")) {
+      return Boolean.TRUE;
+    }
+    if (value.equals("false")) {
+      return Boolean.FALSE;
+    }
+    throw new IllegalArgumentException("Not a boolean: " + value);
+  }
+
+  /**
+   * Returns a converter for the generated enums, which converts the serialized names of the constants, as returned by their toString methods.
+   */
+  public static <E extends Enum<E>> Function<String, E> toEnum(Class<E> enumClass) {
+    E[] constants = enumClass.getEnumConstants();
+
+    return value -> {
+      for (E constant : constants) {
+        if (constant.toString().equals(value)) {
+          return constant;
+        }
+      }
+      throw new IllegalArgumentException("Not a constant of " + enumClass.getSimpleName() + ": " + value);
+    };
+  }
+
+  private static <T> T convert(String name, String value, Function<String, T> converter) {
+    try {
+      return converter.apply(value);
+    } catch (RuntimeException e) {
+      throw new RouterException(400, "Invalid value for parameter '" + name + "': " + value, e);
+    }
+  }
+}
@@ -0,0 +1,221 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A trie over path templates and HTTP methods, used for finding the handler of a request without matching regular expressions.
+ * <p>
+ * Each segment of a path template is either a literal, like {@code items}, or contains a single variable, like {@code {itemId}} or {@code {name}.json}.
+ * When matching a path, literal segments take precedence over segments with a variable, and segments with a longer literal prefix and suffix take
+ * precedence over those with a shorter one. If a more specific branch of the trie does not lead to a match, the less specific branches are tried.
+ * <p>
+ * The trie is populated once, before it is used for matching. Matching is thread-safe, adding is not.
+ *
+ * @param <T> the type of the handlers.
+ */
+public final class PathTrie<T> {
+
+  private static final Comparator<Node<?>> MOST_SPECIFIC_FIRST = Comparator.comparingInt((Node<?> node) -> node.prefix.length() + node.suffix.length())
+      .reversed();
+
+  private final Node<T> root = new Node<>("", null, "");
+
+  /**
+   * Adds the handler for the supplied HTTP method and path template.
+   *
+   * @throws IllegalArgumentException if there already is a handler for the method and path template, or the path template has a segment with more than
+   *                                  one variable.
+   */
+  public void add(String method, String pathTemplate, T handler) {
+    Node<T> node = root;
+
+    for (String segment : segments(pathTemplate)) {
+      node = node.child(segment, pathTemplate);
+    }
+
+    if (node.handlers.putIfAbsent(method, handler) != null) {
+      throw new IllegalArgumentException("Duplicate route for " + method + " " + pathTemplate);
+    }
+  }
+
+  /**
+   * Finds the handler for the supplied HTTP method and raw, i.e., not percent-decoded, path.
+   *
+   * @return the match, or null, if there is no path template matching the path.
+   * @throws IllegalArgumentException if the value of a path variable is not properly percent-encoded.
+   */
+  public Match<T> find(String method, String path) {
+    List<String> segments = segments(path);
+    Map<String, String> pathParameters = new LinkedHashMap<>();
+
+    Node<T> node = root.find(segments, 0, method, pathParameters);
+    if (node != null) {
+      return new Match<>(node.handlers.get(method), pathParameters, Collections.emptySet());
+    }
+
+    // Find any matching path template, in order to report the methods it allows.
+    pathParameters.clear();
+    node = root.find(segments, 0, null, pathParameters);
+    if (node != null) {
+      return new Match<>(null, pathParameters, new TreeSet<>(node.handlers.keySet()));
+    }
+
+    return null;
+  }
+
+  private static List<String> segments(String path) {
+    String withoutLeadingSlash = path.startsWith("/") ? path.substring(1) : path;
+    if (withoutLeadingSlash.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    List<String> segments = new ArrayList<>();
+    int start = 0;
+    int end;
+    while ((end = withoutLeadingSlash.indexOf('/', start)) >= 0) {
+      segments.add(withoutLeadingSlash.substring(start, end));
+      start = end + 1;
+    }
+    segments.add(withoutLeadingSlash.substring(start));
+
+    return segments;
+  }
+
+  private static String decode(String value) {
+    try {
+      // URLDecoder decodes form-encoding, which differs from percent-encoding only in the handling of '+'.
+      return URLDecoder.decode(value.replace("+", "%2B"), "UTF-8");
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException("UTF-8 is not supported", e);
+    }
+  }
+
+  /**
+   * The result of matching a path.
+   *
+   * @param <T> the type of the handlers.
+   */
+  public static final class Match<T> {
+
+    private final T handler;
+    private final Map<String, String> pathParameters;
+    private final Set<String> allowedMethods;
+
+    private Match(T handler, Map<String, String> pathParameters, Set<String> allowedMethods) {
+      this.handler = handler;
+      this.pathParameters = Collections.unmodifiableMap(pathParameters);
+      this.allowedMethods = Collections.unmodifiableSet(allowedMethods);
+    }
+
+    /**
+     * Returns the handler, or null, if the path matches, but the method is not allowed.
+     */
+    public T getHandler() {
+      return handler;
+    }
+
+    /**
+     * Returns the percent-decoded values of the variables of the path template, by their names.
+     */
+    public Map<String, String> getPathParameters() {
+      return pathParameters;
+    }
+
+    /**
+     * Returns the methods allowed for the path, if the handler is null.
+     */
+    public Set<String> getAllowedMethods() {
+      return allowedMethods;
+    }
+  }
+
+  private static final class Node<T> {
+
+    private final String prefix;
+    private final String variableName;
+    private final String suffix;
+    private final Map<String, Node<T>> literalChildren = new HashMap<>();
+    private final List<Node<T>> variableChildren = new ArrayList<>();
+    private final Map<String, T> handlers = new HashMap<>();
+
+    private Node(String prefix, String variableName, String suffix) {
+      this.prefix = prefix;
+      this.variableName = variableName;
+      this.suffix = suffix;
+    }
+
+    private Node<T> child(String segment, String pathTemplate) {
+      int variableStart = segment.indexOf('{');
+      if (variableStart < 0) {
+        return literalChildren.computeIfAbsent(segment, key -> new Node<>(key, null, ""));
+      }
+
+      int variableEnd = segment.indexOf('}', variableStart);
+      if (variableEnd < 0 || segment.indexOf('{', variableEnd) >= 0) {
+        throw new IllegalArgumentException("Unsupported path template, a segment must contain at most one variable: " + pathTemplate);
+      }
+
+      String childPrefix = segment.substring(0, variableStart);
+      String childVariableName = segment.substring(variableStart + 1, variableEnd);
+      String childSuffix = segment.substring(variableEnd + 1);
+
+      for (Node<T> child : variableChildren) {
+        if (child.prefix.equals(childPrefix) && child.variableName.equals(childVariableName) && child.suffix.equals(childSuffix)) {
+          return child;
+        }
+      }
+
+      Node<T> child = new Node<>(childPrefix, childVariableName, childSuffix);
+      variableChildren.add(child);
+      variableChildren.sort(MOST_SPECIFIC_FIRST);
+      return child;
+    }
+
+    /**
+     * Depth-first search for the node matching the remaining segments, that has a handler for the method. If method is null, any handler suffices.
+     */
+    private Node<T> find(List<String> segments, int index, String method, Map<String, String> pathParameters) {
+      if (index == segments.size()) {
+        boolean matches = method == null ? !handlers.isEmpty() : handlers.containsKey(method);
+        return matches ? this : null;
+      }
+
+      String segment = segments.get(index);
+
+      Node<T> literalChild = literalChildren.get(segment);
+      if (literalChild != null) {
+        Node<T> result = literalChild.find(segments, index + 1, method, pathParameters);
+        if (result != null) {
+          return result;
+        }
+      }
+
+      for (Node<T> child : variableChildren) {
+        if (child.matchesVariableSegment(segment)) {
+          String value = segment.substring(child.prefix.length(), segment.length() - child.suffix.length());
+          Node<T> result = child.find(segments, index + 1, method, pathParameters);
+          if (result != null) {
+            pathParameters.put(child.variableName, decode(value));
+            return result;
+          }
+        }
+      }
+
+      return null;
+    }
+
+    private boolean matchesVariableSegment(String segment) {
+      return segment.length() > prefix.length() + suffix.length() && segment.startsWith(prefix) && segment.endsWith(suffix);
+    }
+  }
+}
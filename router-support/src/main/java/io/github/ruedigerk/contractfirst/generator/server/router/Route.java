@@ -0,0 +1,19 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Handles the requests of a single operation. Implemented by the generated router for each operation of the contract.
+ */
+@FunctionalInterface
+public interface Route {
+
+  /**
+   * Converts the parameters and the entity of the request and invokes the method of the generated interface.
+   *
+   * @param request        the request.
+   * @param pathParameters the decoded values of the path parameters, by their names.
+   */
+  RouterResponse handle(RouterRequest request, Map<String, String> pathParameters) throws IOException;
+}
@@ -0,0 +1,114 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * Dispatches requests directly to the methods of the generated interfaces, using a PathTrie over the paths and methods of the contract's operations. The
+ * generated router subclasses this class and adds a route for each operation.
+ * <p>
+ * Failures of dispatching, i.e., unknown paths, disallowed methods, unsupported content types, and invalid parameters or entities, are answered with a plain
+ * text response with the appropriate status code. Other exceptions are propagated to the HTTP server.
+ * <p>
+ * The router is mounted on an HTTP server with one of the adapters, RouterHttpHandler for the JDK's HttpServer or RouterServlet for servlet containers.
+ */
+public class Router {
+
+  private final PathTrie<RouteEntry> routes = new PathTrie<>();
+  private final BodyCodec codec;
+
+  protected Router(BodyCodec codec) {
+    this.codec = codec;
+  }
+
+  /**
+   * Adds a route for an operation.
+   *
+   * @param method            the HTTP method of the operation.
+   * @param pathTemplate      the path of the operation, containing variables for the path parameters, like {@code /items/{itemId}}.
+   * @param consumedMediaType the media type of the operation's request body, or null, if it has none.
+   * @param route             the route dispatching the request to the generated interface.
+   */
+  protected final void addRoute(String method, String pathTemplate, String consumedMediaType, Route route) {
+    routes.add(method, pathTemplate, new RouteEntry(consumedMediaType, route));
+  }
+
+  /**
+   * Reads the request entity with the codec.
+   *
+   * @throws RouterException if the entity is required, but missing, or invalid.
+   */
+  @SuppressWarnings("unchecked")
+  protected final <T> T readBody(RouterRequest request, Type type, boolean required) throws IOException {
+    Object entity = codec.read(request.getBody(), request.getContentType(), type);
+
+    if (entity == null && required) {
+      throw new RouterException(400, "Missing request entity");
+    }
+
+    return (T) entity;
+  }
+
+  /**
+   * Dispatches the request to the route of the matching operation.
+   *
+   * @return the response, which is a plain text error response, if the request could not be dispatched.
+   */
+  public RouterResponse handle(RouterRequest request) throws IOException {
+    PathTrie.Match<RouteEntry> match;
+    try {
+      match = routes.find(request.getMethod(), request.getPath());
+    } catch (IllegalArgumentException e) {
+      return errorResponse(400, "Invalid path: " + request.getPath());
+    }
+
+    if (match == null) {
+      return errorResponse(404, "Not Found");
+    }
+
+    RouteEntry entry = match.getHandler();
+    if (entry == null) {
+      RouterResponse response = errorResponse(405, "Method Not Allowed");
+      response.addHeader("Allow", String.join(", ", match.getAllowedMethods()));
+      return response;
+    }
+
+    String contentType = request.getContentType();
+    if (entry.consumedMediaType != null && contentType != null && !MediaTypes.isCompatible(contentType, entry.consumedMediaType)) {
+      return errorResponse(415, "Unsupported Media Type");
+    }
+
+    try {
+      RouterResponse response = entry.route.handle(request, match.getPathParameters());
+      // Like JAX-RS, answer with 204, if no response is returned.
+      return response != null ? response : new RouterResponse(204, null, null);
+    } catch (RouterException e) {
+      return errorResponse(e.getStatus(), e.getMessage());
+    }
+  }
+
+  /**
+   * Writes the entity of the response with the codec, if it has one. Does not close the stream.
+   */
+  public void writeEntity(RouterResponse response, OutputStream entityStream) throws IOException {
+    if (response.getEntity() != null) {
+      codec.write(response.getEntity(), response.getContentType(), entityStream);
+    }
+  }
+
+  private static RouterResponse errorResponse(int status, String message) {
+    return new RouterResponse(status, "text/plain; charset=UTF-8", message);
+  }
+
+  private static final class RouteEntry {
+
+    private final String consumedMediaType;
+    private final Route route;
+
+    private RouteEntry(String consumedMediaType, Route route) {
+      this.consumedMediaType = consumedMediaType;
+      this.route = route;
+    }
+  }
+}
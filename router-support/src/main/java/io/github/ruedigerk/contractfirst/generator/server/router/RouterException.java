@@ -0,0 +1,25 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+/**
+ * Thrown when a request can not be dispatched, e.g., because a parameter is invalid. The router turns it into a plain text response with the status code.
+ */
+public class RouterException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int status;
+
+  public RouterException(int status, String message) {
+    super(message);
+    this.status = status;
+  }
+
+  public RouterException(int status, String message, Throwable cause) {
+    super(message, cause);
+    this.status = status;
+  }
+
+  public int getStatus() {
+    return status;
+  }
+}
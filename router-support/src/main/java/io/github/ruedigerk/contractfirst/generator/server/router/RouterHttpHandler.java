@@ -0,0 +1,118 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mounts a Router on the HTTP server of the JDK, e.g.:
+ * <pre>
+ * HttpServer server = HttpServer.create(new InetSocketAddress(8080), 0);
+ * server.createContext("/", new RouterHttpHandler(new ApiRouter().registerItemsApi(new ItemsResource())));
+ * server.start();
+ * </pre>
+ * The paths of the contract's operations are matched relative to the path of the context.
+ */
+public class RouterHttpHandler implements HttpHandler {
+
+  private final Router router;
+
+  public RouterHttpHandler(Router router) {
+    this.router = router;
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try {
+      RouterResponse response = router.handle(new ExchangeRequest(exchange));
+      writeResponse(exchange, response);
+    } catch (RuntimeException | IOException e) {
+      // Answer with status 500, unless the response has already been started.
+      if (exchange.getResponseCode() == -1) {
+        exchange.sendResponseHeaders(500, -1);
+      }
+      throw e;
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private void writeResponse(HttpExchange exchange, RouterResponse response) throws IOException {
+    response.getHeaders().forEach((name, values) -> exchange.getResponseHeaders().put(name, values));
+
+    if (response.getEntity() == null) {
+      exchange.sendResponseHeaders(response.getStatus(), -1);
+      return;
+    }
+
+    exchange.getResponseHeaders().set("Content-Type", response.getContentType());
+    // Length 0 selects chunked transfer encoding, so that the entity is streamed instead of being buffered to determine its length.
+    exchange.sendResponseHeaders(response.getStatus(), 0);
+
+    try (OutputStream responseBody = exchange.getResponseBody()) {
+      router.writeEntity(response, responseBody);
+    }
+  }
+
+  private static final class ExchangeRequest implements RouterRequest {
+
+    private final HttpExchange exchange;
+    private Map<String, List<String>> queryParameters;
+    private Map<String, String> cookies;
+
+    private ExchangeRequest(HttpExchange exchange) {
+      this.exchange = exchange;
+    }
+
+    @Override
+    public String getMethod() {
+      return exchange.getRequestMethod();
+    }
+
+    @Override
+    public String getPath() {
+      String path = exchange.getRequestURI().getRawPath();
+      String contextPath = exchange.getHttpContext().getPath();
+
+      if (contextPath.endsWith("/")) {
+        contextPath = contextPath.substring(0, contextPath.length() - 1);
+      }
+
+      return path.substring(Math.min(contextPath.length(), path.length()));
+    }
+
+    @Override
+    public List<String> getQueryParameters(String name) {
+      if (queryParameters == null) {
+        queryParameters = HttpMessages.parseQuery(exchange.getRequestURI().getRawQuery());
+      }
+
+      return queryParameters.getOrDefault(name, Collections.emptyList());
+    }
+
+    @Override
+    public List<String> getHeaders(String name) {
+      List<String> values = exchange.getRequestHeaders().get(name);
+      return values != null ? values : Collections.emptyList();
+    }
+
+    @Override
+    public String getCookie(String name) {
+      if (cookies == null) {
+        cookies = HttpMessages.parseCookies(getHeaders("Cookie"));
+      }
+
+      return cookies.get(name);
+    }
+
+    @Override
+    public InputStream getBody() {
+      return exchange.getRequestBody();
+    }
+  }
+}
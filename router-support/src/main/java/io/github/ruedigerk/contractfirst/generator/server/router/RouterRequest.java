@@ -0,0 +1,61 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * The HTTP request as seen by the Router. Implemented by the adapters of the different HTTP servers.
+ */
+public interface RouterRequest {
+
+  /**
+   * Returns the HTTP method, e.g., "GET".
+   */
+  String getMethod();
+
+  /**
+   * Returns the raw, i.e., not percent-decoded, path of the request, relative to the location the router is mounted at.
+   */
+  String getPath();
+
+  /**
+   * Returns the decoded values of the query parameter, or an empty list, if it is not present.
+   */
+  List<String> getQueryParameters(String name);
+
+  /**
+   * Returns the values of the header, or an empty list, if it is not present. Header names are case-insensitive.
+   */
+  List<String> getHeaders(String name);
+
+  /**
+   * Returns the value of the cookie, or null, if it is not present.
+   */
+  String getCookie(String name);
+
+  /**
+   * Returns the stream of the request entity.
+   */
+  InputStream getBody() throws IOException;
+
+  /**
+   * Returns the first value of the query parameter, or null, if it is not present.
+   */
+  default String getQueryParameter(String name) {
+    List<String> values = getQueryParameters(name);
+    return values.isEmpty() ? null : values.get(0);
+  }
+
+  /**
+   * Returns the first value of the header, or null, if it is not present.
+   */
+  default String getHeader(String name) {
+    List<String> values = getHeaders(name);
+    return values.isEmpty() ? null : values.get(0);
+  }
+
+  default String getContentType() {
+    return getHeader("Content-Type");
+  }
+}
@@ -0,0 +1,62 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The superclass of the generated typesafe responses, returned by the methods of the generated interfaces and written by the adapters of the different
+ * HTTP servers.
+ */
+public class RouterResponse {
+
+  private final int status;
+  private final String contentType;
+  private final Object entity;
+  private final Map<String, List<String>> headers = new LinkedHashMap<>();
+
+  protected RouterResponse(int status, String contentType, Object entity) {
+    this.status = status;
+    this.contentType = contentType;
+    this.entity = entity;
+  }
+
+  public int getStatus() {
+    return status;
+  }
+
+  /**
+   * Returns the content type of the entity, or null, if the response has no entity.
+   */
+  public String getContentType() {
+    return contentType;
+  }
+
+  /**
+   * Returns the entity, or null, if the response has no entity.
+   */
+  public Object getEntity() {
+    return entity;
+  }
+
+  /**
+   * Returns the headers of the response, except for the Content-Type header.
+   */
+  public Map<String, List<String>> getHeaders() {
+    return Collections.unmodifiableMap(headers);
+  }
+
+  /**
+   * Adds a header to the response, e.g., a Location header.
+   */
+  public void addHeader(String name, String value) {
+    headers.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{status=" + status + ", contentType=" + contentType + ", entity=" + entity + ", headers=" + headers + "}";
+  }
+}
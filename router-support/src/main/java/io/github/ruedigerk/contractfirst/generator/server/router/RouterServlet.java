@@ -0,0 +1,103 @@
+package io.github.ruedigerk.contractfirst.generator.server.router;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Mounts a Router in a servlet container. The paths of the contract's operations are matched relative to the context path and the servlet path, so the
+ * servlet should be mapped to a path prefix, like {@code /*} or {@code /api/*}.
+ * <p>
+ * Needs the Servlet API 3.0 or later on the class path.
+ */
+public class RouterServlet extends HttpServlet {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient Router router;
+
+  public RouterServlet(Router router) {
+    this.router = router;
+  }
+
+  @Override
+  protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    RouterResponse routerResponse = router.handle(new ServletRequest(request));
+
+    response.setStatus(routerResponse.getStatus());
+    routerResponse.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+
+    if (routerResponse.getEntity() != null) {
+      response.setContentType(routerResponse.getContentType());
+      router.writeEntity(routerResponse, response.getOutputStream());
+    }
+  }
+
+  private static final class ServletRequest implements RouterRequest {
+
+    private final HttpServletRequest request;
+    private Map<String, List<String>> queryParameters;
+    private Map<String, String> cookies;
+
+    private ServletRequest(HttpServletRequest request) {
+      this.request = request;
+    }
+
+    @Override
+    public String getMethod() {
+      return request.getMethod();
+    }
+
+    /**
+     * The request URI is not decoded, while the context path and the servlet path are. Both are usually free of characters that need encoding.
+     */
+    @Override
+    public String getPath() {
+      String requestUri = request.getRequestURI();
+      int prefixLength = request.getContextPath().length() + request.getServletPath().length();
+      return requestUri.substring(Math.min(prefixLength, requestUri.length()));
+    }
+
+    @Override
+    public List<String> getQueryParameters(String name) {
+      // Not using getParameterMap, as it would also read form-encoded request entities.
+      if (queryParameters == null) {
+        queryParameters = HttpMessages.parseQuery(request.getQueryString());
+      }
+
+      return queryParameters.getOrDefault(name, Collections.emptyList());
+    }
+
+    @Override
+    public List<String> getHeaders(String name) {
+      return Collections.list(request.getHeaders(name));
+    }
+
+    @Override
+    public String getCookie(String name) {
+      if (cookies == null) {
+        Cookie[] requestCookies = request.getCookies();
+        cookies = new HashMap<>();
+        if (requestCookies != null) {
+          for (Cookie cookie : requestCookies) {
+            cookies.putIfAbsent(cookie.getName(), cookie.getValue());
+          }
+        }
+      }
+
+      return cookies.get(name);
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      return request.getInputStream();
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package io.github.ruedigerk.contractfirst.generator.server.router
+
+import spock.lang.Specification
+
+class PathTrieTest extends Specification {
+
+  def "literal segments take precedence over segments with a variable"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("GET", "/items/{itemId}", "item")
+    trie.add("GET", "/items/latest", "latest")
+
+    expect:
+    trie.find("GET", "/items/latest").handler == "latest"
+    trie.find("GET", "/items/latest").pathParameters == [:]
+    trie.find("GET", "/items/42").handler == "item"
+    trie.find("GET", "/items/42").pathParameters == [itemId: "42"]
+  }
+
+  def "backtracks to a segment with a variable, if the literal branch does not lead to a match"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("GET", "/items/latest/summary", "latest summary")
+    trie.add("GET", "/items/{itemId}/details", "item details")
+
+    when:
+    def match = trie.find("GET", "/items/latest/details")
+
+    then:
+    match.handler == "item details"
+    match.pathParameters == [itemId: "latest"]
+  }
+
+  def "backtracks to a segment with a variable, if the literal branch has no handler for the method"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("GET", "/items/latest", "get latest")
+    trie.add("DELETE", "/items/{itemId}", "delete item")
+
+    when:
+    def match = trie.find("DELETE", "/items/latest")
+
+    then:
+    match.handler == "delete item"
+    match.pathParameters == [itemId: "latest"]
+  }
+
+  def "segments with a longer literal prefix and suffix take precedence"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("GET", "/files/{name}", "file")
+    trie.add("GET", "/files/{name}.json", "json file")
+    trie.add("GET", "/files/report-{id}.json", "json report")
+
+    expect:
+    trie.find("GET", "/files/report-7.json").pathParameters == [id: "7"]
+    trie.find("GET", "/files/data.json").pathParameters == [name: "data"]
+    trie.find("GET", "/files/data.xml").pathParameters == [name: "data.xml"]
+    trie.find("GET", "/files/.json").pathParameters == [name: ".json"]
+  }
+
+  def "reports the allowed methods, if the path matches, but the method is not allowed"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("PUT", "/items/{itemId}", "put item")
+    trie.add("GET", "/items/{itemId}", "get item")
+    trie.add("DELETE", "/items/{itemId}", "delete item")
+    trie.add("POST", "/items", "post item")
+
+    when:
+    def match = trie.find("PATCH", "/items/42")
+
+    then:
+    match.handler == null
+    match.allowedMethods as List == ["DELETE", "GET", "PUT"]
+    match.pathParameters == [itemId: "42"]
+  }
+
+  def "handles the root path"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("GET", "/", "root")
+
+    expect:
+    trie.find("GET", "/").handler == "root"
+    trie.find("GET", "").handler == "root"
+    trie.find("GET", "/items") == null
+  }
+
+  def "does not match a path with a trailing slash to a path template without one"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("GET", "/items", "items")
+    trie.add("GET", "/items/{itemId}", "item")
+
+    expect:
+    trie.find("GET", "/items/") == null
+    trie.find("GET", "/items/42/") == null
+  }
+
+  def "matches a path with a trailing slash to a path template with one"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("GET", "/items/", "items")
+
+    expect:
+    trie.find("GET", "/items/").handler == "items"
+    trie.find("GET", "/items") == null
+  }
+
+  def "percent-decodes the values of path variables, but matches literal segments against the raw path"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("GET", "/items/{itemId}", "item")
+    trie.add("GET", "/items/a b", "literal")
+
+    expect:
+    trie.find("GET", "/items/a%20b").pathParameters == [itemId: "a b"]
+    trie.find("GET", "/items/a%2Fb").pathParameters == [itemId: "a/b"]
+    trie.find("GET", "/items/a+b").pathParameters == [itemId: "a+b"]
+    trie.find("GET", "/items/%C3%A4%E2%82%AC").pathParameters == [itemId: "ä€"]
+  }
+
+  def "throws IllegalArgumentException for an invalid percent-encoding of a path variable"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("GET", "/items/{itemId}", "item")
+
+    when:
+    trie.find("GET", "/items/100%")
+
+    then:
+    thrown IllegalArgumentException
+  }
+
+  def "returns null, if no path template matches"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("GET", "/items/{itemId}", "item")
+    trie.add("GET", "/items/{itemId}/tags", "tags")
+
+    expect:
+    trie.find("GET", path) == null
+
+    where:
+    path << ["/", "/orders", "/items", "/items/42/labels", "/items/42/tags/1", "/items//tags"]
+  }
+
+  def "rejects duplicate routes and segments with more than one variable"() {
+    given:
+    def trie = new PathTrie<String>()
+    trie.add("GET", "/items/{itemId}", "item")
+
+    when:
+    trie.add("GET", "/items/{itemId}", "duplicate")
+
+    then:
+    thrown IllegalArgumentException
+
+    when:
+    trie.add("GET", "/items/{from}-{to}", "range")
+
+    then:
+    thrown IllegalArgumentException
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.ruedigerk.contractfirst.generator.server.router
+
+import spock.lang.Specification
+
+class RouterTest extends Specification {
+
+  def router = new TestRouter()
+
+  def "dispatches to the route of the matching operation"() {
+    when:
+    def response = router.handle(request("GET", "/items/a%20b"))
+
+    then:
+    response.status == 200
+    response.entity == "get a b"
+  }
+
+  def "answers with 405 and the allowed methods, if the path matches, but the method is not allowed"() {
+    when:
+    def response = router.handle(request("PATCH", "/items/42"))
+
+    then:
+    response.status == 405
+    response.headers == [Allow: ["DELETE, GET, PUT"]]
+  }
+
+  def "answers with 404, if no operation matches the path"() {
+    when:
+    def response = router.handle(request("GET", path))
+
+    then:
+    response.status == 404
+    response.headers == [:]
+
+    where:
+    path << ["/orders", "/items/", "/items/42/tags"]
+  }
+
+  def "answers with 400, if a path variable is not properly percent-encoded"() {
+    when:
+    def response = router.handle(request("GET", "/items/%zz"))
+
+    then:
+    response.status == 400
+  }
+
+  private RouterRequest request(String method, String path) {
+    Stub(RouterRequest) {
+      getMethod() >> method
+      getPath() >> path
+      getHeaders(_) >> []
+    }
+  }
+
+  private static class TestRouter extends Router {
+
+    TestRouter() {
+      super(null)
+
+      addRoute("GET", "/items/{itemId}", null, { request, pathParameters -> new RouterResponse(200, "text/plain", "get " + pathParameters.itemId) })
+      addRoute("PUT", "/items/{itemId}", null, { request, pathParameters -> new RouterResponse(204, null, null) })
+      addRoute("DELETE", "/items/{itemId}", null, { request, pathParameters -> new RouterResponse(204, null, null) })
+      addRoute("POST", "/items", null, { request, pathParameters -> new RouterResponse(201, null, null) })
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package io.github.ruedigerk.contractfirst.generator.server;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Identifies the operation of the contract a generated server method implements. JAX-RS itself only knows the Java method, this annotation makes the
+ * operationId, the HTTP method and the path template of the contract available at runtime.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ContractOperation {
+
+  /**
+   * The operationId of the operation, or the name of the generated method, if the contract does not specify an operationId.
+   */
+  String operationId();
+
+  /**
+   * The HTTP method of the operation, in upper case.
+   */
+  String method();
+
+  /**
+   * The path template of the operation, as specified in the contract.
+   */
+  String path();
+}
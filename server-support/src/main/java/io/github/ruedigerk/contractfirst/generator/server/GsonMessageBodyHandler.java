@@ -4,8 +4,12 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ByteArrayGsonTypeAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ByteBufferGsonTypeAdapter;
 import io.github.ruedigerk.contractfirst.generator.support.gson.LocalDateGsonTypeAdapter;
 import io.github.ruedigerk.contractfirst.generator.support.gson.OffsetDateTimeGsonTypeAdapter;
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -13,32 +17,81 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 
 /**
  * JAX-RS MessageBodyWriter and -Reader for serializing and deserializing JSON messages with Gson.
+ * <p>
+ * Entities are read and written in the charset given by the charset parameter of their media type, defaulting to UTF-8. Request entities in an unsupported
+ * charset are rejected with status 415, response entities are written in UTF-8 instead, changing the Content-Type header accordingly. The size of request
+ * entities can be limited by using the constructor with a maximum entity size and registering the instance instead of the class. Larger entities are
+ * rejected with status 413, without reading them completely.
  */
 @Provider
 @Consumes(MediaType.APPLICATION_JSON)
 @Produces(MediaType.APPLICATION_JSON)
 public class GsonMessageBodyHandler implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
 
-  private final Gson gson = new GsonBuilder()
+  /**
+   * Size of the buffer used for writing entities. Gson writes JSON in many small pieces, each of which would otherwise be encoded separately.
+   */
+  private static final int WRITE_BUFFER_SIZE = 8192;
+
+  /**
+   * Gson instances are immutable and thread-safe, so all handlers share one, as do other readers of JSON, like the one for multipart request bodies.
+   */
+  private static final Gson GSON = new GsonBuilder()
       .registerTypeAdapter(LocalDate.class, new LocalDateGsonTypeAdapter())
       .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeGsonTypeAdapter())
+      .registerTypeAdapter(byte[].class, new ByteArrayGsonTypeAdapter())
+      .registerTypeHierarchyAdapter(ByteBuffer.class, new ByteBufferGsonTypeAdapter())
       .create();
 
+  private final long maxEntitySize;
+
+  /**
+   * Creates a handler, that does not limit the size of request entities.
+   */
+  public GsonMessageBodyHandler() {
+    this(Long.MAX_VALUE);
+  }
+
+  /**
+   * Creates a handler, that rejects request entities larger than the supplied number of bytes with status 413 (Payload Too Large).
+   */
+  public GsonMessageBodyHandler(long maxEntitySize) {
+    if (maxEntitySize < 0) {
+      throw new IllegalArgumentException("maxEntitySize must not be negative: " + maxEntitySize);
+    }
+
+    this.maxEntitySize = maxEntitySize;
+  }
+
+  /**
+   * Returns the Gson instance used for reading and writing JSON entities.
+   */
+  public static Gson getSharedGson() {
+    return GSON;
+  }
+
   @Override
   public Object readFrom(
       Class<Object> type,
@@ -48,12 +101,40 @@ public class GsonMessageBodyHandler implements MessageBodyWriter<Object>, Messag
       MultivaluedMap<String, String> httpHeaders,
       InputStream httpBody
   ) throws IOException, WebApplicationException {
-    return parseEntity(type, httpBody);
+    checkContentLength(httpHeaders.getFirst(HttpHeaders.CONTENT_LENGTH));
+
+    Charset charset = charsetOf(mediaType);
+    if (charset == null) {
+      throw new NotSupportedException("Unsupported charset of request entity: " + mediaType.getParameters().get(MediaType.CHARSET_PARAMETER));
+    }
+
+    return parseEntity(type, httpBody, charset);
+  }
+
+  /**
+   * Rejects entities, whose declared length already exceeds the maximum, before reading anything. Entities without a declared length are checked while
+   * reading.
+   */
+  private void checkContentLength(String contentLength) {
+    if (contentLength == null || maxEntitySize == Long.MAX_VALUE) {
+      return;
+    }
+
+    try {
+      if (Long.parseLong(contentLength.trim()) > maxEntitySize) {
+        throw entityTooLarge();
+      }
+    } catch (NumberFormatException e) {
+      throw new BadRequestException("Invalid Content-Length: " + contentLength, e);
+    }
   }
 
-  private Object parseEntity(Class<Object> type, InputStream httpBody) throws IOException, BadRequestException {
-    try (InputStreamReader reader = new InputStreamReader(httpBody, StandardCharsets.UTF_8)) {
-      return gson.fromJson(reader, type);
+  private Object parseEntity(Class<Object> type, InputStream httpBody, Charset charset) throws IOException, BadRequestException {
+    InputStream limitedBody = maxEntitySize == Long.MAX_VALUE ? httpBody : new SizeLimitingInputStream(httpBody, maxEntitySize);
+
+    // InputStreamReader reads the stream in blocks, and JsonReader reads the decoded characters in blocks, so no further buffering is needed.
+    try (InputStreamReader reader = new InputStreamReader(limitedBody, charset)) {
+      return GSON.fromJson(reader, type);
     } catch (JsonIOException e) {
       throw new IOException(e);
     } catch (JsonSyntaxException e) {
@@ -72,8 +153,16 @@ public class GsonMessageBodyHandler implements MessageBodyWriter<Object>, Messag
       OutputStream httpBody
   ) throws IOException, WebApplicationException {
 
-    try (OutputStreamWriter writer = new OutputStreamWriter(httpBody, StandardCharsets.UTF_8)) {
-      gson.toJson(object, type, writer);
+    Charset charset = charsetOf(mediaType);
+
+    // The headers are not yet written, so the declared charset can still be corrected.
+    if (charset == null) {
+      charset = StandardCharsets.UTF_8;
+      httpHeaders.putSingle(HttpHeaders.CONTENT_TYPE, mediaType.withCharset(charset.name()));
+    }
+
+    try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(httpBody, charset), WRITE_BUFFER_SIZE)) {
+      GSON.toJson(object, type, writer);
     } catch (JsonIOException e) {
       throw new IOException(e);
     }
@@ -93,4 +182,76 @@ public class GsonMessageBodyHandler implements MessageBodyWriter<Object>, Messag
   public long getSize(Object o, Class<?> aClass, Type type, Annotation[] annotations, MediaType mediaType) {
     return -1;
   }
+
+  /**
+   * Returns the charset of the media type, UTF-8 if it has no charset parameter, or null if the charset is not supported.
+   */
+  private static Charset charsetOf(MediaType mediaType) {
+    String charsetName = mediaType == null ? null : mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+
+    if (charsetName == null) {
+      return StandardCharsets.UTF_8;
+    }
+
+    try {
+      return Charset.forName(charsetName);
+    } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+      return null;
+    }
+  }
+
+  private static WebApplicationException entityTooLarge() {
+    return new WebApplicationException("Request entity is too large", Status.REQUEST_ENTITY_TOO_LARGE);
+  }
+
+  /**
+   * Fails with status 413, as soon as more than the allowed number of bytes are read.
+   */
+  private static class SizeLimitingInputStream extends FilterInputStream {
+
+    private long remaining;
+
+    SizeLimitingInputStream(InputStream in, long maxSize) {
+      super(in);
+      this.remaining = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int result = super.read();
+      if (result != -1) {
+        count(1);
+      }
+      return result;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      // Read at most one byte more than allowed, to detect oversized entities without reading further.
+      int result = super.read(buffer, offset, (int) Math.min(length, remaining + 1));
+      if (result != -1) {
+        count(result);
+      }
+      return result;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(Math.min(n, remaining + 1));
+      count(skipped);
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    private void count(long bytesRead) {
+      remaining -= bytesRead;
+      if (remaining < 0) {
+        throw entityTooLarge();
+      }
+    }
+  }
 }
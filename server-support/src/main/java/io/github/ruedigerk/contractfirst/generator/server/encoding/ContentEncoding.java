@@ -0,0 +1,141 @@
+package io.github.ruedigerk.contractfirst.generator.server.encoding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The content codings supported by the {@link ContentEncodingInterceptor}.
+ */
+enum ContentEncoding {
+
+  GZIP("gzip") {
+    @Override
+    DeflaterOutputStream compress(OutputStream out, Deflater deflater) throws IOException {
+      return new GzipOutputStream(out, deflater);
+    }
+
+    @Override
+    InputStream decompress(InputStream in) throws IOException {
+      return new GZIPInputStream(in);
+    }
+  },
+
+  DEFLATE("deflate") {
+    @Override
+    DeflaterOutputStream compress(OutputStream out, Deflater deflater) {
+      return new DeflaterOutputStream(out, deflater);
+    }
+
+    @Override
+    InputStream decompress(InputStream in) {
+      return new InflaterInputStream(in);
+    }
+  };
+
+  private final String token;
+
+  ContentEncoding(String token) {
+    this.token = token;
+  }
+
+  /**
+   * Returns the token identifying this content coding in the Accept-Encoding and Content-Encoding headers.
+   */
+  String token() {
+    return token;
+  }
+
+  /**
+   * Whether the Deflater must produce raw deflate data, as the GZIP format adds its own header and trailer.
+   */
+  boolean nowrap() {
+    return this == GZIP;
+  }
+
+  abstract DeflaterOutputStream compress(OutputStream out, Deflater deflater) throws IOException;
+
+  abstract InputStream decompress(InputStream in) throws IOException;
+
+  /**
+   * Returns the content coding for the supplied token, or null, if it is not supported. Returns null for "identity", too.
+   */
+  static ContentEncoding forToken(String token) {
+    switch (token.trim().toLowerCase(Locale.ROOT)) {
+      case "gzip":
+      case "x-gzip":
+        return GZIP;
+      case "deflate":
+        return DEFLATE;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Selects the content coding for a response, by the Accept-Encoding header of the request. Prefers gzip over deflate, when both are equally acceptable.
+   *
+   * @return the content coding, or null, if the response should not be encoded.
+   */
+  static ContentEncoding negotiate(String acceptEncoding) {
+    if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+      return null;
+    }
+
+    double gzipQuality = -1;
+    double deflateQuality = -1;
+    double wildcardQuality = -1;
+
+    for (String element : acceptEncoding.split(",")) {
+      String[] parts = element.split(";");
+      String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+      double quality = quality(parts);
+
+      switch (coding) {
+        case "gzip":
+        case "x-gzip":
+          gzipQuality = Math.max(gzipQuality, quality);
+          break;
+        case "deflate":
+          deflateQuality = Math.max(deflateQuality, quality);
+          break;
+        case "*":
+          wildcardQuality = quality;
+          break;
+        default:
+          break;
+      }
+    }
+
+    // Codings not mentioned explicitly are acceptable with the quality of the wildcard, if there is one.
+    gzipQuality = gzipQuality < 0 ? wildcardQuality : gzipQuality;
+    deflateQuality = deflateQuality < 0 ? wildcardQuality : deflateQuality;
+
+    if (gzipQuality > 0 && gzipQuality >= deflateQuality) {
+      return GZIP;
+    } else if (deflateQuality > 0) {
+      return DEFLATE;
+    } else {
+      return null;
+    }
+  }
+
+  private static double quality(String[] parameters) {
+    for (int i = 1; i < parameters.length; i++) {
+      String parameter = parameters[i].trim();
+      if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+        try {
+          return Double.parseDouble(parameter.substring(2).trim());
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 1;
+  }
+}
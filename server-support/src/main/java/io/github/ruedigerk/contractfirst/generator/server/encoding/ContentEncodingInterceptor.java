@@ -0,0 +1,172 @@
+package io.github.ruedigerk.contractfirst.generator.server.encoding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import javax.ws.rs.NotSupportedException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * JAX-RS interceptor for compressing response entities with gzip or deflate, and decompressing request entities encoded with them.
+ * <p>
+ * The encoding of a response is negotiated by the Accept-Encoding header of the request. Only entities of textual media types, like JSON, are compressed,
+ * and only when they are larger than the minimum size. The Deflaters are pooled. {@link PrecompressedEntity} instances are sent compressed without
+ * compressing them again.
+ * <p>
+ * Register it with the priority {@link javax.ws.rs.Priorities#ENTITY_CODER}, e.g., {@code resourceConfig.register(new ContentEncodingInterceptor(),
+ * Priorities.ENTITY_CODER)}, so that it runs before other interceptors of the application.
+ */
+@Provider
+public class ContentEncodingInterceptor implements WriterInterceptor, ReaderInterceptor {
+
+  /**
+   * The default minimum size of entities to compress, in bytes. For smaller entities, the overhead of the compression format outweighs the savings.
+   */
+  public static final int DEFAULT_MINIMUM_SIZE = 1024;
+
+  private static final String ACCEPT_ENCODING = "Accept-Encoding";
+  private static final String VARY = "Vary";
+
+  private final int minimumSize;
+  private final DeflaterPool gzipDeflaters;
+  private final DeflaterPool deflateDeflaters;
+
+  @Context
+  private HttpHeaders requestHeaders;
+
+  public ContentEncodingInterceptor() {
+    this(DEFAULT_MINIMUM_SIZE, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * @param minimumSize      the minimum size of entities to compress, in bytes.
+   * @param compressionLevel the compression level, from 0 to 9, or -1 for the default level of zlib.
+   */
+  public ContentEncodingInterceptor(int minimumSize, int compressionLevel) {
+    if (minimumSize < 0) {
+      throw new IllegalArgumentException("minimumSize must not be negative: " + minimumSize);
+    }
+
+    int poolCapacity = Runtime.getRuntime().availableProcessors() * 2;
+
+    this.minimumSize = minimumSize;
+    this.gzipDeflaters = new DeflaterPool(compressionLevel, ContentEncoding.GZIP.nowrap(), poolCapacity);
+    this.deflateDeflaters = new DeflaterPool(compressionLevel, ContentEncoding.DEFLATE.nowrap(), poolCapacity);
+  }
+
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+    MultivaluedMap<String, Object> headers = context.getHeaders();
+    boolean precompressed = context.getEntity() instanceof PrecompressedEntity;
+
+    if (headers.containsKey(HttpHeaders.CONTENT_ENCODING) || !(precompressed || isCompressible(context.getMediaType()))) {
+      context.proceed();
+      return;
+    }
+
+    addVaryHeader(headers);
+
+    ContentEncoding encoding = ContentEncoding.negotiate(requestHeaders == null ? null : requestHeaders.getHeaderString(ACCEPT_ENCODING));
+    if (encoding == null) {
+      context.proceed();
+    } else if (precompressed) {
+      writePrecompressed(context, (PrecompressedEntity) context.getEntity(), encoding);
+    } else {
+      writeCompressed(context, encoding);
+    }
+  }
+
+  @Override
+  public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+    String contentEncoding = context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+
+    if (contentEncoding != null && !contentEncoding.trim().equalsIgnoreCase("identity")) {
+      ContentEncoding encoding = ContentEncoding.forToken(contentEncoding);
+      if (encoding == null) {
+        throw new NotSupportedException("Unsupported Content-Encoding: " + contentEncoding);
+      }
+
+      // Size limits of the MessageBodyReaders apply to the decompressed entity, as they read from the decompressing stream.
+      context.setInputStream(encoding.decompress(context.getInputStream()));
+      context.getHeaders().remove(HttpHeaders.CONTENT_ENCODING);
+      context.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+    }
+
+    return context.proceed();
+  }
+
+  private void writePrecompressed(WriterInterceptorContext context, PrecompressedEntity entity, ContentEncoding encoding) throws IOException {
+    if (encoding == ContentEncoding.GZIP) {
+      context.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, encoding.token());
+      context.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+      context.setEntity(entity.getGzippedBytes());
+      context.setType(byte[].class);
+      context.setGenericType(byte[].class);
+    }
+
+    // Precompressed entities are only available with gzip, clients accepting deflate only get them uncompressed.
+    context.proceed();
+  }
+
+  private void writeCompressed(WriterInterceptorContext context, ContentEncoding encoding) throws IOException {
+    DeflaterPool deflaterPool = encoding == ContentEncoding.GZIP ? gzipDeflaters : deflateDeflaters;
+    OutputStream originalStream = context.getOutputStream();
+    ThresholdCompressingOutputStream compressingStream = new ThresholdCompressingOutputStream(
+        originalStream,
+        context.getHeaders(),
+        encoding,
+        deflaterPool,
+        minimumSize
+    );
+
+    context.setOutputStream(compressingStream);
+    try {
+      context.proceed();
+      compressingStream.finish();
+    } finally {
+      compressingStream.release();
+      context.setOutputStream(originalStream);
+    }
+  }
+
+  private static void addVaryHeader(MultivaluedMap<String, Object> headers) {
+    List<Object> varyValues = headers.get(VARY);
+    if (varyValues != null) {
+      for (Object value : varyValues) {
+        if (value.toString().toLowerCase(Locale.ROOT).contains("accept-encoding")) {
+          return;
+        }
+      }
+    }
+
+    headers.add(VARY, ACCEPT_ENCODING);
+  }
+
+  /**
+   * Media types of already compressed formats, like images, are not worth compressing again.
+   */
+  private static boolean isCompressible(MediaType mediaType) {
+    if (mediaType == null) {
+      return false;
+    }
+
+    String subtype = mediaType.getSubtype().toLowerCase(Locale.ROOT);
+    return mediaType.getType().equalsIgnoreCase("text")
+        || subtype.equals("json")
+        || subtype.endsWith("+json")
+        || subtype.equals("xml")
+        || subtype.endsWith("+xml")
+        || subtype.equals("javascript")
+        || subtype.equals("x-www-form-urlencoded");
+  }
+}
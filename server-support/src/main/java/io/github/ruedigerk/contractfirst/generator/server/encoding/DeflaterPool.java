@@ -0,0 +1,38 @@
+package io.github.ruedigerk.contractfirst.generator.server.encoding;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Bounded pool of Deflaters. Creating a Deflater allocates native memory for zlib, which is only released when the Deflater is ended, so reusing them is
+ * much cheaper than creating one per response.
+ */
+final class DeflaterPool {
+
+  private final int level;
+  private final boolean nowrap;
+  private final BlockingQueue<Deflater> idleDeflaters;
+
+  DeflaterPool(int level, boolean nowrap, int capacity) {
+    this.level = level;
+    this.nowrap = nowrap;
+    this.idleDeflaters = new ArrayBlockingQueue<>(capacity);
+  }
+
+  Deflater acquire() {
+    Deflater deflater = idleDeflaters.poll();
+    return deflater != null ? deflater : new Deflater(level, nowrap);
+  }
+
+  /**
+   * Returns the Deflater to the pool, or ends it, if the pool is full.
+   */
+  void release(Deflater deflater) {
+    deflater.reset();
+
+    if (!idleDeflaters.offer(deflater)) {
+      deflater.end();
+    }
+  }
+}
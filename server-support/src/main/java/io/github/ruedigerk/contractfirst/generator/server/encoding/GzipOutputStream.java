@@ -0,0 +1,55 @@
+package io.github.ruedigerk.contractfirst.generator.server.encoding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes the GZIP format like {@link java.util.zip.GZIPOutputStream}, but with a supplied Deflater, so that Deflaters can be pooled. The Deflater has to
+ * produce raw deflate data, i.e., be created with nowrap set to true, and is not ended by this stream.
+ */
+final class GzipOutputStream extends DeflaterOutputStream {
+
+  private static final byte[] HEADER = {
+      0x1f, (byte) 0x8b, // Magic number
+      Deflater.DEFLATED, // Compression method
+      0, // Flags
+      0, 0, 0, 0, // Modification time
+      0, // Extra flags
+      (byte) 0xff // Operating system: unknown
+  };
+
+  private final CRC32 crc = new CRC32();
+  private boolean trailerWritten;
+
+  GzipOutputStream(OutputStream out, Deflater deflater) throws IOException {
+    super(out, deflater);
+    out.write(HEADER);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    super.write(b, off, len);
+    crc.update(b, off, len);
+  }
+
+  @Override
+  public void finish() throws IOException {
+    super.finish();
+
+    if (!trailerWritten) {
+      trailerWritten = true;
+      writeIntLittleEndian((int) crc.getValue());
+      writeIntLittleEndian((int) def.getBytesRead());
+    }
+  }
+
+  private void writeIntLittleEndian(int value) throws IOException {
+    out.write(value & 0xff);
+    out.write((value >> 8) & 0xff);
+    out.write((value >> 16) & 0xff);
+    out.write((value >> 24) & 0xff);
+  }
+}
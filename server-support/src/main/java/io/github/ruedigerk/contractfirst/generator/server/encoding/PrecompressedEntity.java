@@ -0,0 +1,80 @@
+package io.github.ruedigerk.contractfirst.generator.server.encoding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * An entity that is serialized and GZIP-compressed once, for responding with it many times, e.g., for hot static resources. The generated typesafe response
+ * classes have methods accepting it, whose names end with "Precompressed".
+ * <p>
+ * When the {@link ContentEncodingInterceptor} is registered and the client accepts gzip, the compressed bytes are sent as they are. Otherwise, the
+ * uncompressed bytes are sent.
+ */
+public final class PrecompressedEntity implements StreamingOutput {
+
+  private final byte[] bytes;
+  private final byte[] gzippedBytes;
+
+  private PrecompressedEntity(byte[] bytes, byte[] gzippedBytes) {
+    this.bytes = bytes;
+    this.gzippedBytes = gzippedBytes;
+  }
+
+  /**
+   * Creates an entity from the serialized form of a response entity, compressing it with the best compression level, as it is done only once.
+   */
+  public static PrecompressedEntity of(byte[] serializedEntity) {
+    byte[] bytes = serializedEntity.clone();
+    return new PrecompressedEntity(bytes, gzip(bytes));
+  }
+
+  /**
+   * Creates an entity from the serialized form of a response entity, e.g., a JSON document, which is encoded with UTF-8.
+   */
+  public static PrecompressedEntity of(String serializedEntity) {
+    return of(serializedEntity.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public void write(OutputStream output) throws IOException {
+    output.write(bytes);
+  }
+
+  /**
+   * Returns the size of the uncompressed entity.
+   */
+  public int getLength() {
+    return bytes.length;
+  }
+
+  /**
+   * Returns the size of the compressed entity.
+   */
+  public int getCompressedLength() {
+    return gzippedBytes.length;
+  }
+
+  byte[] getGzippedBytes() {
+    return gzippedBytes;
+  }
+
+  private static byte[] gzip(byte[] bytes) {
+    Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+    try {
+      ByteArrayOutputStream result = new ByteArrayOutputStream(bytes.length / 2 + 64);
+      try (GzipOutputStream gzipStream = new GzipOutputStream(result, deflater)) {
+        gzipStream.write(bytes);
+      }
+      return result.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      deflater.end();
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package io.github.ruedigerk.contractfirst.generator.server.encoding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * OutputStream that buffers the beginning of an entity, and only compresses it, when it is larger than the threshold. Smaller entities are written
+ * unchanged, as compressing them does not pay off.
+ * <p>
+ * The response headers are changed only when compression starts, which is before anything is written to the underlying stream, i.e., before the headers
+ * are committed.
+ */
+final class ThresholdCompressingOutputStream extends OutputStream {
+
+  private final OutputStream out;
+  private final MultivaluedMap<String, Object> headers;
+  private final ContentEncoding encoding;
+  private final DeflaterPool deflaterPool;
+  private final byte[] buffer;
+  private final byte[] singleByte = new byte[1];
+  private int count;
+  private Deflater deflater;
+  private DeflaterOutputStream compressingStream;
+  private boolean finished;
+
+  ThresholdCompressingOutputStream(
+      OutputStream out,
+      MultivaluedMap<String, Object> headers,
+      ContentEncoding encoding,
+      DeflaterPool deflaterPool,
+      int threshold
+  ) {
+    this.out = out;
+    this.headers = headers;
+    this.encoding = encoding;
+    this.deflaterPool = deflaterPool;
+    this.buffer = new byte[threshold];
+  }
+
+  /**
+   * Buffers single bytes directly. Otherwise, the byte is passed on in a reused array, as DeflaterOutputStream allocates an array for each single byte.
+   */
+  @Override
+  public void write(int b) throws IOException {
+    if (compressingStream == null && count < buffer.length) {
+      buffer[count++] = (byte) b;
+    } else {
+      singleByte[0] = (byte) b;
+      write(singleByte, 0, 1);
+    }
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (compressingStream != null) {
+      compressingStream.write(b, off, len);
+    } else if (count + len <= buffer.length) {
+      System.arraycopy(b, off, buffer, count, len);
+      count += len;
+    } else {
+      startCompressing();
+      compressingStream.write(b, off, len);
+    }
+  }
+
+  /**
+   * Flushing is deferred while buffering, because writing to the underlying stream would commit the headers before the encoding is decided.
+   */
+  @Override
+  public void flush() throws IOException {
+    if (compressingStream != null) {
+      compressingStream.flush();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    finish();
+    out.close();
+  }
+
+  /**
+   * Writes the remaining data, without closing the underlying stream.
+   */
+  void finish() throws IOException {
+    if (finished) {
+      return;
+    }
+    finished = true;
+
+    if (compressingStream == null) {
+      out.write(buffer, 0, count);
+    } else {
+      compressingStream.finish();
+    }
+  }
+
+  /**
+   * Returns the Deflater to the pool. Must be called after writing, whether successful or not.
+   */
+  void release() {
+    if (deflater != null) {
+      deflaterPool.release(deflater);
+      deflater = null;
+    }
+  }
+
+  private void startCompressing() throws IOException {
+    headers.putSingle(HttpHeaders.CONTENT_ENCODING, encoding.token());
+    headers.remove(HttpHeaders.CONTENT_LENGTH);
+
+    deflater = deflaterPool.acquire();
+    compressingStream = encoding.compress(out, deflater);
+    compressingStream.write(buffer, 0, count);
+  }
+}
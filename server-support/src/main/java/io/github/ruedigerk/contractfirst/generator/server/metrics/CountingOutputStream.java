@@ -0,0 +1,51 @@
+package io.github.ruedigerk.contractfirst.generator.server.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * OutputStream counting the bytes written to its delegate. Instances are reused for multiple entities, see {@link #start(OutputStream)}.
+ */
+final class CountingOutputStream extends OutputStream {
+
+  private OutputStream delegate;
+  private long count;
+
+  /**
+   * Starts counting the bytes written to the supplied delegate.
+   */
+  void start(OutputStream delegate) {
+    this.delegate = delegate;
+    this.count = 0;
+  }
+
+  /**
+   * Stops writing to the delegate, and returns the number of bytes written since the start.
+   */
+  long stop() {
+    delegate = null;
+    return count;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    delegate.write(b);
+    count++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    delegate.write(b, off, len);
+    count += len;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    delegate.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    delegate.close();
+  }
+}
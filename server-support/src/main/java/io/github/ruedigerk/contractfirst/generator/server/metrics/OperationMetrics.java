@@ -0,0 +1,134 @@
+package io.github.ruedigerk.contractfirst.generator.server.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a single operation of the contract. The counters are cumulative since the creation of the instance.
+ * <p>
+ * All counters are LongAdders, i.e., lock-free and striped over multiple cells under contention, so that concurrent requests for the same operation do
+ * not contend on a single memory location. Recording does not allocate, once the cells for the contending threads exist.
+ */
+public final class OperationMetrics {
+
+  /**
+   * The inclusive upper bounds of the buckets of the latency histogram, in milliseconds. The last bucket, for larger latencies, is unbounded.
+   */
+  static final long[] LATENCY_BUCKET_UPPER_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+  private static final long[] LATENCY_BUCKET_UPPER_BOUNDS_NANOS = new long[LATENCY_BUCKET_UPPER_BOUNDS_MILLIS.length];
+
+  static {
+    for (int i = 0; i < LATENCY_BUCKET_UPPER_BOUNDS_MILLIS.length; i++) {
+      LATENCY_BUCKET_UPPER_BOUNDS_NANOS[i] = TimeUnit.MILLISECONDS.toNanos(LATENCY_BUCKET_UPPER_BOUNDS_MILLIS[i]);
+    }
+  }
+
+  private final String operationId;
+  private final String method;
+  private final String path;
+
+  private final LongAdder requestCount = new LongAdder();
+  private final LongAdder[] statusClassCounts = newAdders(5);
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0L);
+  private final LongAdder[] latencyBucketCounts = newAdders(LATENCY_BUCKET_UPPER_BOUNDS_NANOS.length + 1);
+  private final LongAdder requestEntityBytes = new LongAdder();
+  private final LongAdder responseEntityBytes = new LongAdder();
+
+  OperationMetrics(String operationId, String method, String path) {
+    this.operationId = operationId;
+    this.method = method;
+    this.path = path;
+  }
+
+  /**
+   * Records a finished request.
+   *
+   * @param status             the HTTP status code of the response.
+   * @param latencyNanos       the time between receiving the request and producing the response, in nanoseconds.
+   * @param requestEntityBytes the size of the request entity, or 0, if there is none or its size is unknown.
+   */
+  void recordRequest(int status, long latencyNanos, long requestEntityBytes) {
+    requestCount.increment();
+
+    int statusClassIndex = status / 100 - 1;
+    if (statusClassIndex >= 0 && statusClassIndex < statusClassCounts.length) {
+      statusClassCounts[statusClassIndex].increment();
+    }
+
+    totalLatencyNanos.add(latencyNanos);
+    maxLatencyNanos.accumulate(latencyNanos);
+    latencyBucketCounts[latencyBucketIndex(latencyNanos)].increment();
+
+    if (requestEntityBytes > 0) {
+      this.requestEntityBytes.add(requestEntityBytes);
+    }
+  }
+
+  /**
+   * Records the number of bytes of a response entity written.
+   */
+  void recordResponseEntityBytes(long bytes) {
+    responseEntityBytes.add(bytes);
+  }
+
+  /**
+   * Returns the current values of the counters. As the counters are not updated atomically together, a snapshot taken during concurrent updates may
+   * reflect only parts of a request.
+   */
+  public OperationMetricsSnapshot snapshot() {
+    long[] statusClasses = new long[statusClassCounts.length];
+    for (int i = 0; i < statusClasses.length; i++) {
+      statusClasses[i] = statusClassCounts[i].sum();
+    }
+
+    long[] latencyBuckets = new long[latencyBucketCounts.length];
+    for (int i = 0; i < latencyBuckets.length; i++) {
+      latencyBuckets[i] = latencyBucketCounts[i].sum();
+    }
+
+    return new OperationMetricsSnapshot(
+        operationId,
+        method,
+        path,
+        requestCount.sum(),
+        statusClasses,
+        totalLatencyNanos.sum(),
+        maxLatencyNanos.get(),
+        latencyBuckets,
+        requestEntityBytes.sum(),
+        responseEntityBytes.sum()
+    );
+  }
+
+  public String getOperationId() {
+    return operationId;
+  }
+
+  public String getMethod() {
+    return method;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  private static int latencyBucketIndex(long latencyNanos) {
+    for (int i = 0; i < LATENCY_BUCKET_UPPER_BOUNDS_NANOS.length; i++) {
+      if (latencyNanos <= LATENCY_BUCKET_UPPER_BOUNDS_NANOS[i]) {
+        return i;
+      }
+    }
+    return LATENCY_BUCKET_UPPER_BOUNDS_NANOS.length;
+  }
+
+  private static LongAdder[] newAdders(int count) {
+    LongAdder[] adders = new LongAdder[count];
+    for (int i = 0; i < count; i++) {
+      adders[i] = new LongAdder();
+    }
+    return adders;
+  }
+}
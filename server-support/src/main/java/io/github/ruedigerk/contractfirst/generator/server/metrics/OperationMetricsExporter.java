@@ -0,0 +1,18 @@
+package io.github.ruedigerk.contractfirst.generator.server.metrics;
+
+import java.util.List;
+
+/**
+ * SPI for exporting the metrics of the operations to a monitoring system.
+ * <p>
+ * Exporters are either added to an {@link OperationMetricsRegistry} explicitly, or are discovered with the {@link java.util.ServiceLoader}, by listing
+ * their class names in a file {@code META-INF/services/io.github.ruedigerk.contractfirst.generator.server.metrics.OperationMetricsExporter}.
+ */
+public interface OperationMetricsExporter {
+
+  /**
+   * Exports the snapshots of all operations that have been requested so far. Called by {@link OperationMetricsRegistry#export()}, never concurrently
+   * for the same registry.
+   */
+  void export(List<OperationMetricsSnapshot> snapshots);
+}
@@ -0,0 +1,201 @@
+package io.github.ruedigerk.contractfirst.generator.server.metrics;
+
+import io.github.ruedigerk.contractfirst.generator.server.ContractOperation;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * JAX-RS filter and interceptor recording the metrics of the operations of the contract into an {@link OperationMetricsRegistry}.
+ * <p>
+ * Operations are identified by the {@link ContractOperation} annotation of the generated server interfaces. Requests to resource methods without it are
+ * ignored. The latency is measured from the request filter to the response filter, and does not include writing the response entity, whose size is
+ * counted by the writer interceptor. The size of request entities is taken from the Content-Length header.
+ * <p>
+ * Recording a request does not allocate in the steady state: the operation of a resource method is resolved only once, and the per-request state,
+ * including the stream counting the bytes of the response entity, is pooled per thread. Only storing the state as a request property may allocate,
+ * depending on the JAX-RS implementation.
+ * <p>
+ * Register an instance of this class with the JAX-RS application, e.g., with {@code resourceConfig.register(new OperationMetricsFilter(registry))}.
+ */
+@Provider
+public class OperationMetricsFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+  private static final String STATE_PROPERTY = OperationMetricsFilter.class.getName() + ".state";
+  private static final OperationMetrics NOT_AN_OPERATION = new OperationMetrics("", "", "");
+  private static final ThreadLocal<RequestState> IDLE_STATE = new ThreadLocal<>();
+
+  private final OperationMetricsRegistry registry;
+  private final ConcurrentMap<Method, OperationMetrics> metricsByResourceMethod = new ConcurrentHashMap<>();
+
+  @Context
+  private ResourceInfo resourceInfo;
+
+  public OperationMetricsFilter(OperationMetricsRegistry registry) {
+    this.registry = registry;
+  }
+
+  public OperationMetricsRegistry getRegistry() {
+    return registry;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    Method resourceMethod = resourceInfo == null ? null : resourceInfo.getResourceMethod();
+    if (resourceMethod == null) {
+      return;
+    }
+
+    OperationMetrics metrics = metricsFor(resourceMethod);
+    if (metrics == NOT_AN_OPERATION) {
+      return;
+    }
+
+    RequestState state = acquireState();
+    state.metrics = metrics;
+    state.startNanos = System.nanoTime();
+    requestContext.setProperty(STATE_PROPERTY, state);
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Object property = requestContext.getProperty(STATE_PROPERTY);
+    if (!(property instanceof RequestState)) {
+      return;
+    }
+
+    RequestState state = (RequestState) property;
+    long latencyNanos = System.nanoTime() - state.startNanos;
+    state.metrics.recordRequest(responseContext.getStatus(), latencyNanos, contentLength(requestContext));
+
+    // The state is still needed for counting the bytes of the entity, if there is one.
+    if (!responseContext.hasEntity()) {
+      requestContext.removeProperty(STATE_PROPERTY);
+      releaseState(state);
+    }
+  }
+
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+    Object property = context.getProperty(STATE_PROPERTY);
+    if (!(property instanceof RequestState)) {
+      context.proceed();
+      return;
+    }
+
+    RequestState state = (RequestState) property;
+    context.removeProperty(STATE_PROPERTY);
+
+    OutputStream originalStream = context.getOutputStream();
+    state.countingStream.start(originalStream);
+    context.setOutputStream(state.countingStream);
+
+    try {
+      context.proceed();
+    } finally {
+      context.setOutputStream(originalStream);
+      state.metrics.recordResponseEntityBytes(state.countingStream.stop());
+      releaseState(state);
+    }
+  }
+
+  private OperationMetrics metricsFor(Method resourceMethod) {
+    OperationMetrics metrics = metricsByResourceMethod.get(resourceMethod);
+    if (metrics != null) {
+      return metrics;
+    }
+
+    ContractOperation operation = findAnnotation(resourceMethod.getDeclaringClass(), resourceMethod.getName(), resourceMethod.getParameterTypes());
+    metrics = operation == null ? NOT_AN_OPERATION : registry.forOperation(operation.operationId(), operation.method(), operation.path());
+    metricsByResourceMethod.putIfAbsent(resourceMethod, metrics);
+    return metrics;
+  }
+
+  /**
+   * Finds the annotation on the method, or on the method it implements, as the resource method is usually the implementation of a generated interface.
+   */
+  private static ContractOperation findAnnotation(Class<?> type, String methodName, Class<?>[] parameterTypes) {
+    if (type == null) {
+      return null;
+    }
+
+    try {
+      ContractOperation annotation = type.getDeclaredMethod(methodName, parameterTypes).getAnnotation(ContractOperation.class);
+      if (annotation != null) {
+        return annotation;
+      }
+    } catch (NoSuchMethodException e) {
+      // Not declared by this type, continue with its supertypes.
+    }
+
+    for (Class<?> implementedInterface : type.getInterfaces()) {
+      ContractOperation annotation = findAnnotation(implementedInterface, methodName, parameterTypes);
+      if (annotation != null) {
+        return annotation;
+      }
+    }
+
+    return findAnnotation(type.getSuperclass(), methodName, parameterTypes);
+  }
+
+  /**
+   * Parses the Content-Length header of the request, returning 0 if it is missing or invalid.
+   */
+  private static long contentLength(ContainerRequestContext requestContext) {
+    String contentLength = requestContext.getHeaderString(HttpHeaders.CONTENT_LENGTH);
+    if (contentLength == null || contentLength.isEmpty()) {
+      return 0;
+    }
+
+    long result = 0;
+    for (int i = 0; i < contentLength.length(); i++) {
+      char c = contentLength.charAt(i);
+      if (c < '0' || c > '9') {
+        return 0;
+      }
+      result = result * 10 + (c - '0');
+    }
+    return result;
+  }
+
+  private static RequestState acquireState() {
+    RequestState state = IDLE_STATE.get();
+    if (state == null) {
+      return new RequestState();
+    }
+
+    IDLE_STATE.set(null);
+    return state;
+  }
+
+  /**
+   * Pools the state for the next request of the current thread. With asynchronous resource methods, the response can be handled by a different thread
+   * than the request, in which case the pool of that thread is used.
+   */
+  private static void releaseState(RequestState state) {
+    state.metrics = null;
+
+    if (IDLE_STATE.get() == null) {
+      IDLE_STATE.set(state);
+    }
+  }
+
+  private static final class RequestState {
+
+    private final CountingOutputStream countingStream = new CountingOutputStream();
+    private OperationMetrics metrics;
+    private long startNanos;
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.ruedigerk.contractfirst.generator.server.metrics;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the metrics of the operations of the contract, and exports them to the {@link OperationMetricsExporter}s.
+ * <p>
+ * The registry does not export on its own, the application calls {@link #export()} when needed, e.g., periodically from a scheduled executor.
+ */
+public class OperationMetricsRegistry {
+
+  private static final Comparator<OperationMetrics> BY_PATH_AND_METHOD = Comparator.comparing(OperationMetrics::getPath)
+      .thenComparing(OperationMetrics::getMethod);
+
+  private final ConcurrentMap<String, OperationMetrics> metricsByOperation = new ConcurrentHashMap<>();
+  private final List<OperationMetricsExporter> exporters = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a registry with the exporters available from the ServiceLoader of the context class loader.
+   */
+  public OperationMetricsRegistry() {
+    ServiceLoader.load(OperationMetricsExporter.class).forEach(exporters::add);
+  }
+
+  /**
+   * Adds an exporter to this registry.
+   */
+  public OperationMetricsRegistry addExporter(OperationMetricsExporter exporter) {
+    exporters.add(exporter);
+    return this;
+  }
+
+  /**
+   * Returns the metrics for the operation with the supplied method and path template, creating them, if they do not exist yet.
+   */
+  public OperationMetrics forOperation(String operationId, String method, String path) {
+    return metricsByOperation.computeIfAbsent(method + " " + path, key -> new OperationMetrics(operationId, method, path));
+  }
+
+  /**
+   * Returns snapshots of the metrics of all operations that have been requested so far, sorted by path and method.
+   */
+  public List<OperationMetricsSnapshot> snapshot() {
+    return metricsByOperation.values().stream()
+        .sorted(BY_PATH_AND_METHOD)
+        .map(OperationMetrics::snapshot)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Takes snapshots of all operations and passes them to all exporters.
+   */
+  public synchronized void export() {
+    if (exporters.isEmpty()) {
+      return;
+    }
+
+    List<OperationMetricsSnapshot> snapshots = Collections.unmodifiableList(snapshot());
+    for (OperationMetricsExporter exporter : exporters) {
+      exporter.export(snapshots);
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package io.github.ruedigerk.contractfirst.generator.server.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The values of the metrics of an operation of the contract at a point in time. All counts are cumulative.
+ */
+public final class OperationMetricsSnapshot {
+
+  private final String operationId;
+  private final String method;
+  private final String path;
+  private final long requestCount;
+  private final long[] statusClassCounts;
+  private final long totalLatencyNanos;
+  private final long maxLatencyNanos;
+  private final long[] latencyBucketCounts;
+  private final long requestEntityBytes;
+  private final long responseEntityBytes;
+
+  OperationMetricsSnapshot(
+      String operationId,
+      String method,
+      String path,
+      long requestCount,
+      long[] statusClassCounts,
+      long totalLatencyNanos,
+      long maxLatencyNanos,
+      long[] latencyBucketCounts,
+      long requestEntityBytes,
+      long responseEntityBytes
+  ) {
+    this.operationId = operationId;
+    this.method = method;
+    this.path = path;
+    this.requestCount = requestCount;
+    this.statusClassCounts = statusClassCounts;
+    this.totalLatencyNanos = totalLatencyNanos;
+    this.maxLatencyNanos = maxLatencyNanos;
+    this.latencyBucketCounts = latencyBucketCounts;
+    this.requestEntityBytes = requestEntityBytes;
+    this.responseEntityBytes = responseEntityBytes;
+  }
+
+  /**
+   * Returns the operationId of the operation, or the name of the generated method, if the contract does not specify an operationId.
+   */
+  public String getOperationId() {
+    return operationId;
+  }
+
+  /**
+   * Returns the HTTP method of the operation, in upper case.
+   */
+  public String getMethod() {
+    return method;
+  }
+
+  /**
+   * Returns the path template of the operation.
+   */
+  public String getPath() {
+    return path;
+  }
+
+  public long getRequestCount() {
+    return requestCount;
+  }
+
+  /**
+   * Returns the number of responses with a status code of the supplied class, e.g., 2 for the status codes 200 to 299.
+   *
+   * @param statusClass the status class, from 1 to 5.
+   */
+  public long getStatusClassCount(int statusClass) {
+    if (statusClass < 1 || statusClass > statusClassCounts.length) {
+      throw new IllegalArgumentException("Invalid status class: " + statusClass);
+    }
+
+    return statusClassCounts[statusClass - 1];
+  }
+
+  public long getTotalLatency(TimeUnit unit) {
+    return unit.convert(totalLatencyNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public long getMaxLatency(TimeUnit unit) {
+    return unit.convert(maxLatencyNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Returns the inclusive upper bounds of the buckets of the latency histogram, in milliseconds. There is one more bucket than bounds, for the larger
+   * latencies.
+   */
+  public long[] getLatencyBucketUpperBoundsMillis() {
+    return OperationMetrics.LATENCY_BUCKET_UPPER_BOUNDS_MILLIS.clone();
+  }
+
+  /**
+   * Returns the number of requests per bucket of the latency histogram.
+   */
+  public long[] getLatencyBucketCounts() {
+    return latencyBucketCounts.clone();
+  }
+
+  /**
+   * Returns the sum of the sizes of the request entities, as far as they are declared by a Content-Length header.
+   */
+  public long getRequestEntityBytes() {
+    return requestEntityBytes;
+  }
+
+  /**
+   * Returns the sum of the sizes of the response entities, as written by the MessageBodyWriters.
+   */
+  public long getResponseEntityBytes() {
+    return responseEntityBytes;
+  }
+
+  @Override
+  public String toString() {
+    return "OperationMetricsSnapshot{" +
+        "operationId='" + operationId + '\'' +
+        ", method='" + method + '\'' +
+        ", path='" + path + '\'' +
+        ", requestCount=" + requestCount +
+        ", totalLatencyNanos=" + totalLatencyNanos +
+        ", maxLatencyNanos=" + maxLatencyNanos +
+        ", requestEntityBytes=" + requestEntityBytes +
+        ", responseEntityBytes=" + responseEntityBytes +
+        '}';
+  }
+}
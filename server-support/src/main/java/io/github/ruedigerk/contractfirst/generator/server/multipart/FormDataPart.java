@@ -0,0 +1,111 @@
+package io.github.ruedigerk.contractfirst.generator.server.multipart;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A part of a multipart/form-data request body. Its content is either kept in memory or spooled to a temporary file, depending on its size. The temporary
+ * file is deleted, when the {@link MultipartFormData} containing the part is closed.
+ */
+public final class FormDataPart {
+
+  private final String name;
+  private final String fileName;
+  private final MediaType mediaType;
+  private final byte[] bytes;
+  private final Path file;
+  private final long size;
+
+  FormDataPart(String name, String fileName, MediaType mediaType, byte[] bytes, Path file, long size) {
+    this.name = name;
+    this.fileName = fileName;
+    this.mediaType = mediaType;
+    this.bytes = bytes;
+    this.file = file;
+    this.size = size;
+  }
+
+  /**
+   * Returns the name of the part, i.e., of the form field.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the file name of the part, or null, if it has none.
+   */
+  public String getFileName() {
+    return fileName;
+  }
+
+  /**
+   * Returns the media type of the part, which defaults to text/plain.
+   */
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  /**
+   * Returns the size of the content in bytes.
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Whether the content is kept in memory, instead of in a temporary file.
+   */
+  public boolean isInMemory() {
+    return file == null;
+  }
+
+  /**
+   * Opens a new stream for reading the content. Each call returns a stream starting at the beginning of the content.
+   */
+  public InputStream getInputStream() {
+    if (file == null) {
+      return new ByteArrayInputStream(bytes);
+    }
+
+    try {
+      return Files.newInputStream(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Returns the content decoded as text, with the charset of the part's media type, defaulting to UTF-8.
+   */
+  public String getText() {
+    try {
+      byte[] content = file == null ? bytes : Files.readAllBytes(file);
+      return new String(content, charset());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  Charset charset() {
+    String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+    try {
+      return charset == null ? StandardCharsets.UTF_8 : Charset.forName(charset);
+    } catch (IllegalArgumentException e) {
+      return StandardCharsets.UTF_8;
+    }
+  }
+
+  void delete() throws IOException {
+    if (file != null) {
+      Files.deleteIfExists(file);
+    }
+  }
+}
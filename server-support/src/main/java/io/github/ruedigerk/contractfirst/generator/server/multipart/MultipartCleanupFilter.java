@@ -0,0 +1,60 @@
+package io.github.ruedigerk.contractfirst.generator.server.multipart;
+
+import java.io.IOException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Deletes the temporary files of multipart request bodies after the response has been written, as the response entity may still read from them, e.g.,
+ * when a part is echoed.
+ */
+final class MultipartCleanupFilter implements ReaderInterceptor, ContainerResponseFilter, WriterInterceptor {
+
+  private static final String FORM_DATA_PROPERTY = MultipartCleanupFilter.class.getName() + ".formData";
+
+  @Override
+  public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException {
+    Object entity = context.proceed();
+
+    if (entity instanceof MultipartFormData) {
+      context.setProperty(FORM_DATA_PROPERTY, entity);
+    } else if (entity instanceof MultipartRequestBody) {
+      context.setProperty(FORM_DATA_PROPERTY, ((MultipartRequestBody) entity).getFormData());
+    }
+
+    return entity;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    if (!responseContext.hasEntity()) {
+      close(requestContext.getProperty(FORM_DATA_PROPERTY));
+      requestContext.removeProperty(FORM_DATA_PROPERTY);
+    }
+  }
+
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+    try {
+      context.proceed();
+    } finally {
+      close(context.getProperty(FORM_DATA_PROPERTY));
+      context.removeProperty(FORM_DATA_PROPERTY);
+    }
+  }
+
+  private static void close(Object formData) {
+    if (formData instanceof MultipartFormData) {
+      try {
+        ((MultipartFormData) formData).close();
+      } catch (IOException e) {
+        // The temporary files are left for the operating system to clean up, the response is not affected.
+      }
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.ruedigerk.contractfirst.generator.server.multipart;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The parts of a multipart/form-data request body, read by the {@link StreamingMultipartFeature}.
+ * <p>
+ * Closing it deletes the temporary files of the parts. When read as entity of a JAX-RS resource method, it is closed after the response has been written.
+ */
+public final class MultipartFormData implements Closeable {
+
+  private final List<FormDataPart> parts;
+
+  MultipartFormData(List<FormDataPart> parts) {
+    this.parts = Collections.unmodifiableList(new ArrayList<>(parts));
+  }
+
+  /**
+   * Returns all parts, in the order of the request body.
+   */
+  public List<FormDataPart> getParts() {
+    return parts;
+  }
+
+  /**
+   * Returns the first part with the supplied name, or null, if there is none.
+   */
+  public FormDataPart getPart(String name) {
+    for (FormDataPart part : parts) {
+      if (part.getName().equals(name)) {
+        return part;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns all parts with the supplied name, e.g., for a form field with multiple files.
+   */
+  public List<FormDataPart> getParts(String name) {
+    return parts.stream()
+        .filter(part -> part.getName().equals(name))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Deletes the temporary files of all parts.
+   */
+  @Override
+  public void close() throws IOException {
+    IOException failure = null;
+
+    for (FormDataPart part : parts) {
+      try {
+        part.delete();
+      } catch (IOException e) {
+        failure = e;
+      }
+    }
+
+    if (failure != null) {
+      throw failure;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package io.github.ruedigerk.contractfirst.generator.server.multipart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+
+/**
+ * JAX-RS MessageBodyReader for multipart/form-data request bodies, reading them into a {@link MultipartFormData}, or into a generated subclass of
+ * {@link MultipartRequestBody}.
+ */
+@Consumes(MediaType.MULTIPART_FORM_DATA)
+final class MultipartFormDataReader implements MessageBodyReader<Object> {
+
+  private final int memoryThreshold;
+  private final Path tempDirectory;
+  private final int maxParts;
+  private final long maxSize;
+  private final ConcurrentMap<Class<?>, Constructor<?>> requestBodyConstructors = new ConcurrentHashMap<>();
+
+  MultipartFormDataReader(int memoryThreshold, Path tempDirectory, int maxParts, long maxSize) {
+    this.memoryThreshold = memoryThreshold;
+    this.tempDirectory = tempDirectory;
+    this.maxParts = maxParts;
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return type == MultipartFormData.class || MultipartRequestBody.class.isAssignableFrom(type);
+  }
+
+  @Override
+  public Object readFrom(
+      Class<Object> type,
+      Type genericType,
+      Annotation[] annotations,
+      MediaType mediaType,
+      MultivaluedMap<String, String> httpHeaders,
+      InputStream entityStream
+  ) throws IOException, WebApplicationException {
+    String boundary = mediaType.getParameters().get("boundary");
+    if (boundary == null || boundary.isEmpty()) {
+      throw new BadRequestException("Missing boundary parameter of multipart media type");
+    }
+
+    MultipartFormData formData = new MultipartParser(entityStream, boundary, memoryThreshold, tempDirectory, maxParts, maxSize).parse();
+    if (type.equals(MultipartFormData.class)) {
+      return formData;
+    }
+
+    try {
+      return requestBodyConstructor(type).newInstance(formData);
+    } catch (InvocationTargetException e) {
+      formData.close();
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Cannot instantiate " + type.getName(), e.getCause());
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      formData.close();
+      throw new IllegalStateException("Cannot instantiate " + type.getName(), e);
+    }
+  }
+
+  private Constructor<?> requestBodyConstructor(Class<?> type) {
+    return requestBodyConstructors.computeIfAbsent(type, key -> {
+      try {
+        return key.getConstructor(MultipartFormData.class);
+      } catch (NoSuchMethodException e) {
+        throw new IllegalStateException(key.getName() + " has no public constructor with a parameter of type MultipartFormData", e);
+      }
+    });
+  }
+}
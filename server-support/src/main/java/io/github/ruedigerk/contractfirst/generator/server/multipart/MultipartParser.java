@@ -0,0 +1,321 @@
+package io.github.ruedigerk.contractfirst.generator.server.multipart;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response.Status;
+
+/**
+ * Streaming parser for multipart/form-data request bodies, see RFC 7578 and RFC 2046.
+ * <p>
+ * The body is read through a fixed size buffer. The content of each part is written to a {@link SpoolingOutputStream}, so that the heap needed does not
+ * depend on the size of large parts. Bodies with more parts or more bytes than allowed are rejected with status 413, as soon as the limit is exceeded.
+ */
+final class MultipartParser {
+
+  private static final int BUFFER_SIZE = 16384;
+  private static final int MAX_HEADERS_SIZE = 16384;
+
+  private static final OutputStream DISCARD = new OutputStream() {
+    @Override
+    public void write(int b) {
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+    }
+  };
+
+  private final InputStream in;
+  private final byte[] delimiter;
+  private final int memoryThreshold;
+  private final Path tempDirectory;
+  private final int maxParts;
+  private final long maxSize;
+  private final byte[] buffer;
+  private int start;
+  private int end;
+  private long bytesRead;
+  private boolean endOfStream;
+
+  MultipartParser(InputStream in, String boundary, int memoryThreshold, Path tempDirectory, int maxParts, long maxSize) {
+    this.in = in;
+    this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+    this.memoryThreshold = memoryThreshold;
+    this.tempDirectory = tempDirectory;
+    this.maxParts = maxParts;
+    this.maxSize = maxSize;
+    this.buffer = new byte[Math.max(BUFFER_SIZE, delimiter.length * 2)];
+
+    // The first delimiter is not preceded by a line break, unless there is a preamble. Pretending there is one allows treating all delimiters equally.
+    this.buffer[0] = '\r';
+    this.buffer[1] = '\n';
+    this.end = 2;
+  }
+
+  /**
+   * Parses all parts. On failure, the temporary files of the parts parsed so far are deleted.
+   */
+  MultipartFormData parse() throws IOException {
+    List<FormDataPart> parts = new ArrayList<>();
+
+    try {
+      // Skip the preamble.
+      readUntilDelimiter(DISCARD);
+
+      while (!isCloseDelimiter()) {
+        if (parts.size() == maxParts) {
+          throw tooLarge("Multipart body has more than " + maxParts + " parts");
+        }
+        parts.add(readPart());
+      }
+    } catch (IOException | RuntimeException e) {
+      new MultipartFormData(parts).close();
+      throw e;
+    }
+
+    return new MultipartFormData(parts);
+  }
+
+  private FormDataPart readPart() throws IOException {
+    String name = null;
+    String fileName = null;
+    MediaType mediaType = MediaType.TEXT_PLAIN_TYPE;
+
+    for (String header : readHeaders()) {
+      int colon = header.indexOf(':');
+      if (colon < 0) {
+        throw new BadRequestException("Malformed multipart body: invalid header line");
+      }
+
+      String headerName = header.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+      String headerValue = header.substring(colon + 1).trim();
+
+      if (headerName.equals("content-disposition")) {
+        name = dispositionParameter(headerValue, "name");
+        fileName = dispositionParameter(headerValue, "filename");
+      } else if (headerName.equals("content-type")) {
+        mediaType = parseMediaType(headerValue);
+      }
+    }
+
+    if (name == null) {
+      throw new BadRequestException("Malformed multipart body: part without name");
+    }
+
+    SpoolingOutputStream content = new SpoolingOutputStream(memoryThreshold, tempDirectory);
+    try {
+      readUntilDelimiter(content);
+      content.close();
+    } catch (IOException | RuntimeException e) {
+      content.discard();
+      throw e;
+    }
+
+    return new FormDataPart(name, fileName, mediaType, content.getBytes(), content.getFile(), content.getSize());
+  }
+
+  /**
+   * Checks the two bytes following a delimiter, which are "--" for the close delimiter, and otherwise the line break before the headers of the next part.
+   */
+  private boolean isCloseDelimiter() throws IOException {
+    require(2);
+    if (buffer[start] == '-' && buffer[start + 1] == '-') {
+      start += 2;
+      return true;
+    }
+
+    // Linear whitespace is allowed after a delimiter.
+    while (true) {
+      require(2);
+      if (buffer[start] == '\r' && buffer[start + 1] == '\n') {
+        start += 2;
+        return false;
+      } else if (buffer[start] == ' ' || buffer[start] == '\t') {
+        start++;
+      } else {
+        throw new BadRequestException("Malformed multipart body: invalid delimiter line");
+      }
+    }
+  }
+
+  private List<String> readHeaders() throws IOException {
+    List<String> headers = new ArrayList<>();
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int headersSize = 0;
+
+    while (true) {
+      require(2);
+      if (buffer[start] == '\r' && buffer[start + 1] == '\n') {
+        start += 2;
+        if (line.size() == 0) {
+          return headers;
+        }
+        headers.add(new String(line.toByteArray(), StandardCharsets.UTF_8));
+        line.reset();
+      } else {
+        line.write(buffer[start++]);
+        if (++headersSize > MAX_HEADERS_SIZE) {
+          throw new BadRequestException("Malformed multipart body: part headers too large");
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the data up to the next delimiter to the supplied stream, and skips the delimiter.
+   */
+  private void readUntilDelimiter(OutputStream out) throws IOException {
+    while (true) {
+      fill();
+
+      int index = indexOfDelimiter();
+      if (index >= 0) {
+        out.write(buffer, start, index - start);
+        start = index + delimiter.length;
+        return;
+      }
+
+      if (endOfStream) {
+        throw new BadRequestException("Malformed multipart body: missing close delimiter");
+      }
+
+      // Keep the bytes that could be the beginning of a delimiter.
+      int safeEnd = end - (delimiter.length - 1);
+      if (safeEnd > start) {
+        out.write(buffer, start, safeEnd - start);
+        start = safeEnd;
+      }
+    }
+  }
+
+  private int indexOfDelimiter() {
+    int last = end - delimiter.length;
+    byte first = delimiter[0];
+
+    outer:
+    for (int i = start; i <= last; i++) {
+      if (buffer[i] != first) {
+        continue;
+      }
+      for (int j = 1; j < delimiter.length; j++) {
+        if (buffer[i + j] != delimiter[j]) {
+          continue outer;
+        }
+      }
+      return i;
+    }
+
+    return -1;
+  }
+
+  /**
+   * Ensures that at least the supplied number of bytes is buffered.
+   */
+  private void require(int count) throws IOException {
+    while (end - start < count) {
+      if (endOfStream) {
+        throw new BadRequestException("Malformed multipart body: unexpected end of body");
+      }
+      fill();
+    }
+  }
+
+  /**
+   * Moves the buffered bytes to the beginning of the buffer, and reads more bytes into the remaining space.
+   */
+  private void fill() throws IOException {
+    if (start > 0) {
+      System.arraycopy(buffer, start, buffer, 0, end - start);
+      end -= start;
+      start = 0;
+    }
+
+    if (end == buffer.length || endOfStream) {
+      return;
+    }
+
+    int read = in.read(buffer, end, buffer.length - end);
+    if (read < 0) {
+      endOfStream = true;
+    } else {
+      end += read;
+      bytesRead += read;
+      if (bytesRead > maxSize) {
+        throw tooLarge("Multipart body is larger than " + maxSize + " bytes");
+      }
+    }
+  }
+
+  private static WebApplicationException tooLarge(String message) {
+    return new WebApplicationException(message, Status.REQUEST_ENTITY_TOO_LARGE);
+  }
+
+  private static MediaType parseMediaType(String value) {
+    try {
+      return MediaType.valueOf(value);
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("Malformed multipart body: invalid Content-Type of part: " + value, e);
+    }
+  }
+
+  /**
+   * Returns the value of a parameter of a Content-Disposition header, which may be a quoted string.
+   */
+  static String dispositionParameter(String disposition, String parameterName) {
+    int index = 0;
+
+    while (index < disposition.length()) {
+      int semicolon = disposition.indexOf(';', index);
+      if (semicolon < 0) {
+        return null;
+      }
+
+      int equals = disposition.indexOf('=', semicolon);
+      if (equals < 0) {
+        return null;
+      }
+
+      String name = disposition.substring(semicolon + 1, equals).trim();
+      int valueStart = equals + 1;
+      while (valueStart < disposition.length() && disposition.charAt(valueStart) == ' ') {
+        valueStart++;
+      }
+
+      StringBuilder value = new StringBuilder();
+      if (valueStart < disposition.length() && disposition.charAt(valueStart) == '"') {
+        index = valueStart + 1;
+        while (index < disposition.length() && disposition.charAt(index) != '"') {
+          char c = disposition.charAt(index);
+          if (c == '\\' && index + 1 < disposition.length()) {
+            c = disposition.charAt(++index);
+          }
+          value.append(c);
+          index++;
+        }
+        index++;
+      } else {
+        index = valueStart;
+        while (index < disposition.length() && disposition.charAt(index) != ';') {
+          value.append(disposition.charAt(index));
+          index++;
+        }
+      }
+
+      if (name.equalsIgnoreCase(parameterName)) {
+        return value.toString().trim();
+      }
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,132 @@
+package io.github.ruedigerk.contractfirst.generator.server.multipart;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import io.github.ruedigerk.contractfirst.generator.server.GsonMessageBodyHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.ws.rs.BadRequestException;
+
+/**
+ * Superclass of the request body classes generated for operations with a multipart/form-data request body. The generated subclasses have a getter for each
+ * part of the contract, converting its content to the Java type of the part.
+ * <p>
+ * Primitive parts are converted from their text, complex parts are parsed as JSON with the Gson instance of the {@link GsonMessageBodyHandler}, and
+ * attachments are returned as streams over their content.
+ */
+public abstract class MultipartRequestBody {
+
+  private final MultipartFormData formData;
+
+  /**
+   * @param formData      the parts of the request body.
+   * @param requiredParts the names of the parts required by the contract.
+   * @throws BadRequestException if a required part is missing.
+   */
+  protected MultipartRequestBody(MultipartFormData formData, String... requiredParts) {
+    this.formData = formData;
+
+    List<String> missingParts = new ArrayList<>();
+    for (String requiredPart : requiredParts) {
+      if (formData.getPart(requiredPart) == null) {
+        missingParts.add(requiredPart);
+      }
+    }
+
+    if (!missingParts.isEmpty()) {
+      throw new BadRequestException("Missing required parts of multipart request body: " + String.join(", ", missingParts));
+    }
+  }
+
+  /**
+   * Returns all parts of the request body, e.g., for accessing the file names of attachments.
+   */
+  public MultipartFormData getFormData() {
+    return formData;
+  }
+
+  /**
+   * Converts the text of a primitive part, returning null, if the part is missing or empty.
+   */
+  protected <T> T getPrimitive(String name, Type type) {
+    return convertPrimitive(formData.getPart(name), type);
+  }
+
+  /**
+   * Converts the texts of all parts with the supplied name, returning null, if there are none.
+   */
+  protected <T> List<T> getPrimitives(String name, Type elementType) {
+    List<FormDataPart> parts = formData.getParts(name);
+    return parts.isEmpty() ? null : parts.stream().map(part -> this.<T>convertPrimitive(part, elementType)).collect(Collectors.toList());
+  }
+
+  /**
+   * Parses the JSON content of a complex part, returning null, if the part is missing.
+   */
+  protected <T> T getComplex(String name, Type type) {
+    FormDataPart part = formData.getPart(name);
+    if (part == null) {
+      return null;
+    }
+
+    try (Reader reader = new InputStreamReader(part.getInputStream(), part.charset())) {
+      return gson().fromJson(reader, type);
+    } catch (JsonSyntaxException e) {
+      throw new BadRequestException("Cannot parse part '" + name + "' of multipart request body: " + e.getMessage(), e);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (JsonIOException e) {
+      throw new UncheckedIOException(new IOException(e));
+    }
+  }
+
+  /**
+   * Returns a stream over the content of an attachment part, or null, if the part is missing.
+   */
+  protected InputStream getAttachment(String name) {
+    FormDataPart part = formData.getPart(name);
+    return part == null ? null : part.getInputStream();
+  }
+
+  /**
+   * Returns streams over the contents of all attachment parts with the supplied name, or null, if there are none.
+   */
+  protected List<InputStream> getAttachments(String name) {
+    List<FormDataPart> parts = formData.getParts(name);
+    return parts.isEmpty() ? null : parts.stream().map(FormDataPart::getInputStream).collect(Collectors.toList());
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T convertPrimitive(FormDataPart part, Type type) {
+    if (part == null) {
+      return null;
+    }
+
+    String text = part.getText();
+    if (type == String.class) {
+      return (T) text;
+    } else if (text.isEmpty()) {
+      return null;
+    }
+
+    // Gson reads numbers, booleans, enums and the date and time types from JSON strings, too.
+    try {
+      return gson().fromJson(new JsonPrimitive(text), type);
+    } catch (JsonSyntaxException | NumberFormatException e) {
+      throw new BadRequestException("Invalid value of part '" + part.getName() + "' of multipart request body: " + text, e);
+    }
+  }
+
+  private static Gson gson() {
+    return GsonMessageBodyHandler.getSharedGson();
+  }
+}
@@ -0,0 +1,93 @@
+package io.github.ruedigerk.contractfirst.generator.server.multipart;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * OutputStream keeping the written data in memory up to a threshold, and spooling it to a temporary file, when the threshold is exceeded.
+ */
+final class SpoolingOutputStream extends OutputStream {
+
+  private static final int FILE_BUFFER_SIZE = 8192;
+
+  private final int memoryThreshold;
+  private final Path tempDirectory;
+  private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+  private OutputStream file;
+  private Path filePath;
+  private long size;
+
+  SpoolingOutputStream(int memoryThreshold, Path tempDirectory) {
+    this.memoryThreshold = memoryThreshold;
+    this.tempDirectory = tempDirectory;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[]{(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (file == null && memory.size() + len > memoryThreshold) {
+      spoolToFile();
+    }
+
+    if (file != null) {
+      file.write(b, off, len);
+    } else {
+      memory.write(b, off, len);
+    }
+    size += len;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (file != null) {
+      file.close();
+    }
+  }
+
+  /**
+   * Returns the data written, if it is kept in memory, or null, if it was spooled to a file.
+   */
+  byte[] getBytes() {
+    return memory == null ? null : memory.toByteArray();
+  }
+
+  /**
+   * Returns the file the data was spooled to, or null, if it is kept in memory.
+   */
+  Path getFile() {
+    return filePath;
+  }
+
+  long getSize() {
+    return size;
+  }
+
+  /**
+   * Deletes the temporary file after a failure, before the part referencing it has been created.
+   */
+  void discard() {
+    try {
+      close();
+      if (filePath != null) {
+        Files.deleteIfExists(filePath);
+      }
+    } catch (IOException e) {
+      // Nothing left to do.
+    }
+  }
+
+  private void spoolToFile() throws IOException {
+    filePath = Files.createTempFile(tempDirectory, "multipart-", ".tmp");
+    file = new BufferedOutputStream(Files.newOutputStream(filePath), FILE_BUFFER_SIZE);
+    memory.writeTo(file);
+    memory = null;
+  }
+}
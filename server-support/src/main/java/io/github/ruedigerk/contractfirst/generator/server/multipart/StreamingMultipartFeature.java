@@ -0,0 +1,79 @@
+package io.github.ruedigerk.contractfirst.generator.server.multipart;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
+
+/**
+ * JAX-RS Feature for reading multipart/form-data request bodies into {@link MultipartFormData}, or into the request body classes generated for multipart
+ * operations, without buffering them in memory.
+ * <p>
+ * The request body is parsed while it is streamed. Parts up to the memory threshold are kept in memory, larger parts are spooled to temporary files, so that
+ * uploads of any size need a constant amount of heap. The temporary files are deleted after the response has been written.
+ * <p>
+ * Request bodies with more parts, or more bytes, than allowed are rejected with status 413 (Payload Too Large), without reading them completely. By default,
+ * the number of parts is limited to {@value #DEFAULT_MAX_PARTS}, and the size is not limited.
+ */
+public class StreamingMultipartFeature implements Feature {
+
+  /**
+   * The default size in bytes up to which parts are kept in memory.
+   */
+  public static final int DEFAULT_MEMORY_THRESHOLD = 65536;
+
+  /**
+   * The default maximum number of parts of a request body.
+   */
+  public static final int DEFAULT_MAX_PARTS = 1000;
+
+  private final int memoryThreshold;
+  private final Path tempDirectory;
+  private final int maxParts;
+  private final long maxSize;
+
+  /**
+   * Creates the feature with the default memory threshold, spooling larger parts to the directory of the system property java.io.tmpdir.
+   */
+  public StreamingMultipartFeature() {
+    this(DEFAULT_MEMORY_THRESHOLD, Paths.get(System.getProperty("java.io.tmpdir")));
+  }
+
+  /**
+   * @param memoryThreshold the size in bytes up to which parts are kept in memory.
+   * @param tempDirectory   the directory for the temporary files of larger parts.
+   */
+  public StreamingMultipartFeature(int memoryThreshold, Path tempDirectory) {
+    this(memoryThreshold, tempDirectory, DEFAULT_MAX_PARTS, Long.MAX_VALUE);
+  }
+
+  /**
+   * @param memoryThreshold the size in bytes up to which parts are kept in memory.
+   * @param tempDirectory   the directory for the temporary files of larger parts.
+   * @param maxParts        the maximum number of parts of a request body.
+   * @param maxSize         the maximum size in bytes of a request body, including the headers and delimiters of the parts.
+   */
+  public StreamingMultipartFeature(int memoryThreshold, Path tempDirectory, int maxParts, long maxSize) {
+    if (memoryThreshold < 0) {
+      throw new IllegalArgumentException("memoryThreshold must not be negative: " + memoryThreshold);
+    }
+    if (maxParts < 0) {
+      throw new IllegalArgumentException("maxParts must not be negative: " + maxParts);
+    }
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+    }
+
+    this.memoryThreshold = memoryThreshold;
+    this.tempDirectory = tempDirectory;
+    this.maxParts = maxParts;
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  public boolean configure(FeatureContext context) {
+    context.register(new MultipartFormDataReader(memoryThreshold, tempDirectory, maxParts, maxSize));
+    context.register(new MultipartCleanupFilter());
+    return true;
+  }
+}
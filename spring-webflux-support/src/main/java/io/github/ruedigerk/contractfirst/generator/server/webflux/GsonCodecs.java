@@ -0,0 +1,82 @@
+package io.github.ruedigerk.contractfirst.generator.server.webflux;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ByteArrayGsonTypeAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.ByteBufferGsonTypeAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.LocalDateGsonTypeAdapter;
+import io.github.ruedigerk.contractfirst.generator.support.gson.OffsetDateTimeGsonTypeAdapter;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import org.springframework.core.codec.ByteArrayDecoder;
+import org.springframework.core.codec.ByteArrayEncoder;
+import org.springframework.core.codec.ByteBufferDecoder;
+import org.springframework.core.codec.ByteBufferEncoder;
+import org.springframework.core.codec.CharSequenceEncoder;
+import org.springframework.core.codec.DataBufferDecoder;
+import org.springframework.core.codec.DataBufferEncoder;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.http.codec.CodecConfigurer;
+
+/**
+ * Configures the codecs of Spring WebFlux for serializing and deserializing the generated data model with Gson.
+ * <p>
+ * Usage, e.g., in a WebFluxConfigurer:
+ * <pre>
+ * public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+ *   GsonCodecs.configure(configurer);
+ * }
+ * </pre>
+ */
+public final class GsonCodecs {
+
+  private GsonCodecs() {
+  }
+
+  /**
+   * Configures the codecs with a Gson instance, that has the type adapters needed by the generated data model.
+   */
+  public static void configure(CodecConfigurer configurer) {
+    configure(configurer, createGson());
+  }
+
+  /**
+   * Replaces the default codecs with Gson for JSON, and with codecs for binary data and plain text. The default codecs are not kept, as Spring would
+   * prefer Jackson over Gson for JSON, if Jackson is on the class path. The entities of the typesafe response classes are declared as Object, so the
+   * binary and plain text encoders are additionally registered to be selected by the runtime type of the entity.
+   */
+  public static void configure(CodecConfigurer configurer, Gson gson) {
+    configurer.registerDefaults(false);
+
+    CodecConfigurer.CustomCodecs customCodecs = configurer.customCodecs();
+    customCodecs.register(new ByteArrayDecoder());
+    customCodecs.register(new ByteArrayEncoder());
+    customCodecs.register(new ByteBufferDecoder());
+    customCodecs.register(new ByteBufferEncoder());
+    customCodecs.register(new DataBufferDecoder());
+    customCodecs.register(new DataBufferEncoder());
+    customCodecs.register(StringDecoder.textPlainOnly());
+    customCodecs.register(CharSequenceEncoder.textPlainOnly());
+    customCodecs.register(new GsonDecoder(gson));
+    customCodecs.register(new GsonEncoder(gson));
+    customCodecs.register(new RuntimeTypeEncoder(
+        new ByteArrayEncoder(),
+        new ByteBufferEncoder(),
+        new DataBufferEncoder(),
+        CharSequenceEncoder.textPlainOnly()
+    ));
+  }
+
+  /**
+   * Creates a Gson instance, that has the type adapters needed by the generated data model.
+   */
+  public static Gson createGson() {
+    return new GsonBuilder()
+        .registerTypeAdapter(LocalDate.class, new LocalDateGsonTypeAdapter())
+        .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeGsonTypeAdapter())
+        .registerTypeAdapter(byte[].class, new ByteArrayGsonTypeAdapter())
+        .registerTypeHierarchyAdapter(ByteBuffer.class, new ByteBufferGsonTypeAdapter())
+        .create();
+  }
+}
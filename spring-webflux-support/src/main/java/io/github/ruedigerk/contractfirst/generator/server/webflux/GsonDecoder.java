@@ -0,0 +1,122 @@
+package io.github.ruedigerk.contractfirst.generator.server.webflux;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Decoder for JSON with Gson.
+ * <p>
+ * The body is collected into a single buffer, limited by the maximum in-memory size, before it is decoded. When decoding to a Flux, the elements of a JSON
+ * array are published one by one.
+ */
+public class GsonDecoder implements Decoder<Object> {
+
+  /**
+   * The same default as the limit of the Spring codecs.
+   */
+  private static final int DEFAULT_MAX_IN_MEMORY_SIZE = 256 * 1024;
+
+  private final Gson gson;
+  private int maxInMemorySize = DEFAULT_MAX_IN_MEMORY_SIZE;
+
+  public GsonDecoder(Gson gson) {
+    this.gson = gson;
+  }
+
+  /**
+   * Sets the maximum number of bytes of a body, that can be decoded. Use -1 for no limit.
+   */
+  public void setMaxInMemorySize(int byteCount) {
+    this.maxInMemorySize = byteCount;
+  }
+
+  public int getMaxInMemorySize() {
+    return maxInMemorySize;
+  }
+
+  @Override
+  public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+    return elementType.resolve() != null && GsonEncoder.isJson(mimeType);
+  }
+
+  @Override
+  public List<MimeType> getDecodableMimeTypes() {
+    return GsonEncoder.JSON_MIME_TYPES;
+  }
+
+  @Override
+  public Flux<Object> decode(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+    return DataBufferUtils.join(input, maxInMemorySize)
+        .flatMapIterable(buffer -> decodeElements(buffer, elementType, mimeType));
+  }
+
+  @Override
+  public Mono<Object> decodeToMono(Publisher<DataBuffer> input, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+    return DataBufferUtils.join(input, maxInMemorySize)
+        .flatMap(buffer -> Mono.justOrEmpty(decode(buffer, elementType, mimeType, hints)));
+  }
+
+  @Override
+  public Object decode(DataBuffer buffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints) throws DecodingException {
+    try (JsonReader reader = newJsonReader(buffer, mimeType)) {
+      return gson.getAdapter(TypeToken.get(targetType.getType())).read(reader);
+    } catch (IOException | JsonParseException | IllegalStateException e) {
+      throw new DecodingException("Cannot parse request entity: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Decodes the elements of a JSON array, or a single value, if the JSON is not an array.
+   */
+  private List<Object> decodeElements(DataBuffer buffer, ResolvableType elementType, MimeType mimeType) {
+    TypeAdapter<?> elementAdapter = gson.getAdapter(TypeToken.get(elementType.getType()));
+
+    try (JsonReader reader = newJsonReader(buffer, mimeType)) {
+      if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+        return Collections.singletonList(elementAdapter.read(reader));
+      }
+
+      List<Object> elements = new ArrayList<>();
+      reader.beginArray();
+      while (reader.hasNext()) {
+        elements.add(elementAdapter.read(reader));
+      }
+      reader.endArray();
+      return elements;
+    } catch (IOException | JsonParseException | IllegalStateException e) {
+      throw new DecodingException("Cannot parse request entity: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * The returned reader releases the buffer, when it is closed.
+   */
+  private static JsonReader newJsonReader(DataBuffer buffer, MimeType mimeType) {
+    return new JsonReader(new InputStreamReader(buffer.asInputStream(true), charsetOf(mimeType)));
+  }
+
+  private static Charset charsetOf(MimeType mimeType) {
+    return mimeType != null && mimeType.getCharset() != null ? mimeType.getCharset() : StandardCharsets.UTF_8;
+  }
+}
@@ -0,0 +1,107 @@
+package io.github.ruedigerk.contractfirst.generator.server.webflux;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Encoder for JSON with Gson.
+ * <p>
+ * A Flux is written as a JSON array while it is being published, one buffer per element, so that large arrays do not have to be collected first.
+ */
+public class GsonEncoder implements Encoder<Object> {
+
+  static final List<MimeType> JSON_MIME_TYPES = Collections.unmodifiableList(Arrays.asList(
+      new MimeType("application", "json"),
+      new MimeType("application", "*+json")
+  ));
+
+  private final Gson gson;
+
+  public GsonEncoder(Gson gson) {
+    this.gson = gson;
+  }
+
+  @Override
+  public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+    return isJson(mimeType);
+  }
+
+  @Override
+  public List<MimeType> getEncodableMimeTypes() {
+    return JSON_MIME_TYPES;
+  }
+
+  @Override
+  public Flux<DataBuffer> encode(
+      Publisher<?> input,
+      DataBufferFactory bufferFactory,
+      ResolvableType elementType,
+      MimeType mimeType,
+      Map<String, Object> hints
+  ) {
+    if (input instanceof Mono) {
+      return Mono.from(input).map(value -> encode(value, bufferFactory, mimeType, "")).flux();
+    }
+
+    return Flux.from(input)
+        .index()
+        .map(indexed -> encode(indexed.getT2(), bufferFactory, mimeType, indexed.getT1() == 0 ? "[" : ","))
+        .switchIfEmpty(Mono.fromSupplier(() -> write(bufferFactory, mimeType, "[")))
+        .concatWith(Mono.fromSupplier(() -> write(bufferFactory, mimeType, "]")));
+  }
+
+  @Override
+  public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType, MimeType mimeType, Map<String, Object> hints) {
+    return encode(value, bufferFactory, mimeType, "");
+  }
+
+  private DataBuffer encode(Object value, DataBufferFactory bufferFactory, MimeType mimeType, String prefix) {
+    DataBuffer buffer = bufferFactory.allocateBuffer();
+    boolean release = true;
+
+    try (Writer writer = new OutputStreamWriter(buffer.asOutputStream(), charsetOf(mimeType))) {
+      writer.write(prefix);
+      gson.toJson(value, writer);
+      release = false;
+    } catch (IOException | JsonIOException e) {
+      throw new EncodingException("Cannot write response entity: " + e.getMessage(), e);
+    } finally {
+      if (release) {
+        DataBufferUtils.release(buffer);
+      }
+    }
+
+    return buffer;
+  }
+
+  private static DataBuffer write(DataBufferFactory bufferFactory, MimeType mimeType, String text) {
+    return bufferFactory.wrap(text.getBytes(charsetOf(mimeType)));
+  }
+
+  static boolean isJson(MimeType mimeType) {
+    return mimeType == null || JSON_MIME_TYPES.stream().anyMatch(jsonMimeType -> jsonMimeType.isCompatibleWith(mimeType));
+  }
+
+  private static Charset charsetOf(MimeType mimeType) {
+    return mimeType != null && mimeType.getCharset() != null ? mimeType.getCharset() : StandardCharsets.UTF_8;
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.ruedigerk.contractfirst.generator.server.webflux;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+/**
+ * Spring Encoder that selects one of its delegates by the runtime type of each value, instead of by the declared element type.
+ * <p>
+ * The generated typesafe response classes declare their entity as Object, so that Spring only selects encoders that accept Object, like the GsonEncoder.
+ * This encoder makes the encoders for binary data and plain text available for these entities.
+ */
+class RuntimeTypeEncoder implements Encoder<Object> {
+
+  private final List<Encoder<?>> delegates;
+  private final List<MimeType> mimeTypes;
+
+  RuntimeTypeEncoder(Encoder<?>... delegates) {
+    this.delegates = Collections.unmodifiableList(Arrays.asList(delegates));
+    this.mimeTypes = Collections.unmodifiableList(this.delegates.stream()
+        .flatMap(delegate -> delegate.getEncodableMimeTypes().stream())
+        .distinct()
+        .collect(Collectors.toList()));
+  }
+
+  @Override
+  public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+    Class<?> elementClass = elementType.resolve(Object.class);
+    return elementClass == Object.class && (mimeType == null || mimeTypes.stream().anyMatch(supported -> supported.isCompatibleWith(mimeType)));
+  }
+
+  @Override
+  public List<MimeType> getEncodableMimeTypes() {
+    return mimeTypes;
+  }
+
+  @Override
+  public Flux<DataBuffer> encode(
+      Publisher<?> input,
+      DataBufferFactory bufferFactory,
+      ResolvableType elementType,
+      MimeType mimeType,
+      Map<String, Object> hints
+  ) {
+    return Flux.from(input).map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType, MimeType mimeType, Map<String, Object> hints) {
+    ResolvableType runtimeType = ResolvableType.forInstance(value);
+
+    Encoder<Object> delegate = (Encoder<Object>) delegates.stream()
+        .filter(encoder -> encoder.canEncode(runtimeType, mimeType))
+        .findFirst()
+        .orElseThrow(() -> new EncodingException("No encoder for " + value.getClass().getName() + " and " + Objects.toString(mimeType)));
+
+    return delegate.encodeValue(value, bufferFactory, runtimeType, mimeType, hints);
+  }
+}